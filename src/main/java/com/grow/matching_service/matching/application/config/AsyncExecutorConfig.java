@@ -0,0 +1,45 @@
+package com.grow.matching_service.matching.application.config;
+
+import com.grow.matching_service.matching.application.executor.BoundedStageExecutor;
+import com.grow.matching_service.matching.application.executor.StripedOrderedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 매칭 이벤트 파이프라인의 단계별 비동기 실행기 설정.
+ * 단계마다 {@code matching.executor.{단계}.*} 속성으로 조정합니다.
+ *
+ * <ul>
+ *     <li>matchingEventExecutor: 매칭 재계산 (후보 조회 + 알림 전송), 회원별 순서를 보장하는 스트라이프 실행기
+ *     ({@code lanes}: 레인 수, 기본 CPU 코어 수 / {@code lane-queue-capacity}: 레인별 큐 크기).
+ *     인메모리 이벤트와 아웃박스 릴레이가 함께 사용하며, 포화 시 인메모리 이벤트는 아웃박스로 넘기고(병합기 스레드를 막지 않음)
+ *     릴레이는 자리가 날 때까지 대기합니다. (선점 속도 조절)</li>
+ *     <li>notificationQueueExecutor: 실패 알림 재시도 큐 기록 ({@code @Async},
+ *     {@code core-size / max-size / queue-capacity}, 포화 시 호출 스레드에서 실행)</li>
+ * </ul>
+ *
+ * @see BoundedStageExecutor
+ * @see StripedOrderedExecutor
+ */
+@Configuration
+public class AsyncExecutorConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    public StripedOrderedExecutor matchingEventExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${matching.executor.matching-event.lanes:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int lanes,
+            @Value("${matching.executor.matching-event.lane-queue-capacity:100}") int laneQueueCapacity) {
+        return new StripedOrderedExecutor("matching-event", lanes, laneQueueCapacity, meterRegistry);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public BoundedStageExecutor notificationQueueExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${matching.executor.notification-queue.core-size:2}") int coreSize,
+            @Value("${matching.executor.notification-queue.max-size:4}") int maxSize,
+            @Value("${matching.executor.notification-queue.queue-capacity:1000}") int queueCapacity) {
+        return new BoundedStageExecutor("notification-queue", coreSize, maxSize, queueCapacity, meterRegistry);
+    }
+}
@@ -0,0 +1,99 @@
+package com.grow.matching_service.matching.application.config;
+
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 매칭 이벤트 Kafka 전송 설정. ({@code matching.event.transport=kafka} 일 때만 활성화)
+ * <p>
+ * 매칭 저장 이벤트를 memberId 를 키로 {@code matching.event.kafka.topic}(기본 matching.saved)에 발행하므로
+ * 같은 회원의 이벤트는 같은 파티션에 순서대로 쌓이고, 컨슈머 그룹의 여러 파드가 파티션을 나누어 처리합니다.
+ *
+ * <ul>
+ *     <li>프로듀서: acks=all, 멱등성 활성화 (재시도 시 중복 · 순서 뒤바뀜 방지)</li>
+ *     <li>컨슈머: 레코드 단위 커밋, 처리 실패 시 1초 간격 2회 재시도 후 로그를 남기고 건너뜀</li>
+ * </ul>
+ *
+ * @see com.grow.matching_service.matching.application.event.MatchingKafkaPublisher
+ * @see com.grow.matching_service.matching.application.event.MatchingKafkaConsumer
+ */
+@Configuration
+@ConditionalOnProperty(name = "matching.event.transport", havingValue = "kafka")
+public class MatchingKafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Bean
+    public NewTopic matchingSavedTopic(
+            @Value("${matching.event.kafka.topic:matching.saved}") String topic,
+            @Value("${matching.event.kafka.partitions:12}") int partitions,
+            @Value("${matching.event.kafka.replicas:1}") int replicas) {
+        return TopicBuilder.name(topic).partitions(partitions).replicas(replicas).build();
+    }
+
+    @Bean
+    public ProducerFactory<String, MatchingQueryDto> matchingProducerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        return new DefaultKafkaProducerFactory<>(props);
+    }
+
+    @Bean
+    public KafkaTemplate<String, MatchingQueryDto> matchingKafkaTemplate(
+            ProducerFactory<String, MatchingQueryDto> matchingProducerFactory) {
+        return new KafkaTemplate<>(matchingProducerFactory);
+    }
+
+    @Bean
+    public ConsumerFactory<String, MatchingQueryDto> matchingConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // 역직렬화 실패 메시지가 파티션을 막지 않도록 ErrorHandlingDeserializer 로 감쌈
+        JsonDeserializer<MatchingQueryDto> valueDeserializer = new JsonDeserializer<>(MatchingQueryDto.class, false);
+        return new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(), new ErrorHandlingDeserializer<>(valueDeserializer));
+    }
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, MatchingQueryDto> matchingKafkaListenerContainerFactory(
+            ConsumerFactory<String, MatchingQueryDto> matchingConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, MatchingQueryDto> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(matchingConsumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.RECORD);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, 2L)));
+        return factory;
+    }
+}
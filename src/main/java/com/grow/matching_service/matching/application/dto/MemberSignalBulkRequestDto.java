@@ -0,0 +1,22 @@
+package com.grow.matching_service.matching.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 회원 서비스에 신뢰도 점수 · 구독 여부를 일괄 요청하기 위한 DTO 클래스.
+ * 한 번의 매칭 조회에서 캐시에 없는 회원 ID 를 모아 한 번에 전송합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSignalBulkRequestDto {
+
+    /**
+     * 조회할 회원 ID 목록.
+     */
+    private List<Long> memberIds;
+}
@@ -0,0 +1,32 @@
+package com.grow.matching_service.matching.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 서비스가 반환하는 회원별 신뢰도 점수 · 구독 여부 DTO 클래스.
+ * 회원 서비스에 존재하지 않는 회원은 응답 목록에서 제외됩니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberSignalResponseDto {
+
+    /**
+     * 회원 ID.
+     */
+    private Long memberId;
+
+    /**
+     * 신뢰도 점수 (없으면 null).
+     */
+    private Double trustScore;
+
+    /**
+     * 구독 여부 (없으면 null).
+     */
+    private Boolean subscribed;
+}
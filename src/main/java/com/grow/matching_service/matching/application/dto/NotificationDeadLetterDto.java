@@ -0,0 +1,32 @@
+package com.grow.matching_service.matching.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 재시도 한도를 넘어 데드레터로 보관된 알림 DTO 클래스.
+ * 관리자 조회 및 재처리에 사용됩니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationDeadLetterDto {
+
+    /**
+     * 보관된 알림 요청 (재시도 횟수 포함).
+     */
+    private NotificationRequestDto request;
+
+    /**
+     * 보관 사유.
+     */
+    private String reason;
+
+    /**
+     * 보관 시각 (epoch ms).
+     */
+    private long deadAt;
+}
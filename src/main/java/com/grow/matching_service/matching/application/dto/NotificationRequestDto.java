@@ -78,4 +78,12 @@ public class NotificationRequestDto {
     public void increaseRetryCount() {
         this.retryCount++;  // 재시도 횟수 증가
     }
+
+    /**
+     * 재시도 횟수를 초기화합니다.
+     * 재시도 한도를 넘어 보관된 알림을 관리자가 다시 처리할 때 사용됩니다.
+     */
+    public void resetRetryCount() {
+        this.retryCount = 0;
+    }
 }
@@ -0,0 +1,40 @@
+package com.grow.matching_service.matching.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 일괄 전송 시 알림 서비스가 반환하는 항목별 처리 결과 DTO 클래스.
+ * 요청 항목과는 {@link NotificationRequestDto#getUuid()}로 대응됩니다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationResultDto {
+
+    /**
+     * 요청 알림의 고유 ID (UUID).
+     */
+    private String uuid;
+
+    /**
+     * 처리 결과.
+     */
+    private Status status;
+
+    /**
+     * 실패 사유 (성공 시 null).
+     */
+    private String reason;
+
+    /**
+     * 항목별 처리 결과 상태
+     */
+    public enum Status {
+        DELIVERED, // 전송 완료
+        FAILED     // 전송 실패 (호출 측에서 재시도 큐에 저장)
+    }
+}
@@ -1,17 +1,19 @@
 package com.grow.matching_service.matching.application.event;
 
 import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.executor.StripedOrderedExecutor;
 import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
 import com.grow.matching_service.matching.infra.dto.MatchingResult;
 import com.grow.matching_service.matching.domain.dto.event.MatchingSavedEvent;
+import com.grow.matching_service.matching.infra.repository.MatchingOutboxRepository;
 import com.grow.matching_service.matching.infra.repository.MatchingQueryRepository;
-import com.grow.matching_service.matching.presentation.client.NotificationServiceClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -24,7 +26,7 @@ import java.util.List;
  * @since 1.0
  * @see MatchingSavedEvent
  * @see MatchingQueryRepository
- * @see NotificationServiceClient
+ * @see MatchingNotificationFanout
  */
 
 @Slf4j
@@ -39,11 +41,52 @@ public class MatchingEventHandler {
      */
     private final MatchingQueryRepository queryRepository;
     /**
-     * 알림 서비스 클라이언트.
+     * 매칭 알림 팬아웃.
      * <p>
-     * 매칭 성공 시 사용자에게 알림을 전송하는 Feign 클라이언트입니다.
+     * 매칭 성공 시 본인과 상대방 알림을 이벤트당 한 번의 일괄 요청으로 전송하고, 실패한 알림만 재시도 큐에 저장합니다.
      */
-    private final NotificationServiceClient notificationService;
+    private final MatchingNotificationFanout notificationFanout;
+    /**
+     * 매칭 알림 다이제스트.
+     * <p>
+     * 상대방에게 보내는 알림을 수신자별로 일정 시간 모아 한 건의 요약 알림으로 발송합니다.
+     */
+    private final MatchingNotificationDigester notificationDigester;
+    /**
+     * 매칭 쌍 알림 중복 제거기.
+     * <p>
+     * 일정 시간 안에 이미 알림을 보낸 (회원, 상대, 카테고리) 쌍의 반복 알림을 생략합니다.
+     */
+    private final MatchingPairDeduplicator pairDeduplicator;
+    /**
+     * 매칭 재계산 병합기.
+     * <p>
+     * 같은 회원 · 카테고리의 연속 저장을 대기 시간 동안 모아 최신 요청만 처리합니다.
+     */
+    private final MatchingRecomputeCoalescer recomputeCoalescer;
+    /**
+     * 매칭 재계산 전용 실행기.
+     * <p>
+     * memberId 별 레인에서 실행하여 같은 회원의 재계산이 저장 순서대로 처리되도록 보장합니다.
+     * 레인 큐 크기가 제한되어 있으며, 포화 시 대기하지 않고 재계산 요청을 아웃박스로 넘깁니다.
+     * (아웃박스 기록을 끈 설정에서도 릴레이가 아웃박스를 비우므로 넘겨진 요청은 처리됨)
+     */
+    private final StripedOrderedExecutor matchingEventExecutor;
+    /**
+     * 매칭 저장 이벤트 아웃박스.
+     * <p>
+     * 재계산 실행기 포화 시 요청을 기록해 두었다가 릴레이가 나중에 처리합니다.
+     */
+    private final MatchingOutboxRepository outboxRepository;
+
+    /**
+     * 매칭 이벤트 전송 방식 (in-process | kafka).
+     * <p>
+     * kafka 모드에서는 {@link MatchingKafkaPublisher}가 이벤트를 토픽으로 발행하고,
+     * {@link MatchingKafkaConsumer}가 받아 {@link #process}를 호출하므로 이 핸들러는 이벤트를 직접 처리하지 않습니다.
+     */
+    @Value("${matching.event.transport:in-process}")
+    private String transport = "in-process";
 
     /**
      * 매칭 저장 이벤트를 비동기적으로 처리합니다.
@@ -51,17 +94,46 @@ public class MatchingEventHandler {
      * 이벤트에서 받은 {@link MatchingQueryDto}를 기반으로 매칭 사용자 목록을 조회하고,
      * 본인과 상대방에게 각각 알림을 전송합니다. 매칭 대상이 없을 경우 로그를 남기고 종료합니다.
      * <p>
-     * 이 메서드는 Spring의 {@link EventListener}를 통해 이벤트 구독을 처리하며,
-     * {@link Async}로 비동기 실행됩니다.
+     * 이 메서드는 Spring의 {@link EventListener}를 통해 이벤트 구독을 처리합니다.
+     * 연속 저장은 {@link MatchingRecomputeCoalescer}로 병합되고, 재계산은 {@code matchingEventExecutor}에서
+     * 비동기 실행됩니다. (kafka 전송 모드에서는 처리하지 않음)
      *
      * @param event 매칭 저장 이벤트 객체 ({@link MatchingSavedEvent})
      * @see MatchingSavedEvent
      * @see MatchingQueryRepository#findMatchingUsers(MatchingQueryDto)
      */
-    @Async
     @EventListener
     public void handleMatchingSaved(MatchingSavedEvent event) {
-        MatchingQueryDto reference = event.getDto();
+        if (MatchingKafkaPublisher.TRANSPORT.equals(transport)) {
+            return; // 토픽으로 발행되어 컨슈머 그룹에서 처리
+        }
+        recomputeCoalescer.submit(event.getDto(), this::dispatch);
+    }
+
+    /**
+     * 재계산을 회원 레인에 제출합니다. 레인 포화 시 아웃박스에 기록합니다.
+     * <p>
+     * 병합기 스케줄러 스레드에서 호출되므로 레인에 자리가 날 때까지 대기하지 않습니다.
+     * (한 레인의 포화가 모든 키의 병합 대기를 멈추지 않도록)
+     *
+     * @param reference 본인 매칭 쿼리 DTO ({@link MatchingQueryDto})
+     */
+    private void dispatch(MatchingQueryDto reference) {
+        if (!matchingEventExecutor.offer(reference.getMemberId(), () -> process(reference))) {
+            outboxRepository.append(reference); // 릴레이가 같은 회원 레인에서 처리
+        }
+    }
+
+    /**
+     * 매칭 대상을 조회하고 알림을 전송합니다. (호출 스레드에서 동기 실행)
+     * <p>
+     * 아웃박스 릴레이는 처리 완료 후 아웃박스 행을 삭제해야 하므로 {@link #handleMatchingSaved} 대신
+     * 이 메서드를 직접 호출합니다. kafka 전송 모드에서는 {@link MatchingKafkaConsumer}가 호출합니다.
+     *
+     * @param reference 본인 매칭 쿼리 DTO ({@link MatchingQueryDto})
+     * @see com.grow.matching_service.matching.application.event.MatchingOutboxRelay
+     */
+    public void process(MatchingQueryDto reference) {
         List<MatchingResult> matchingUsers = queryRepository.findMatchingUsers(reference);
 
         // 빈 리스트 추출 시 예외 처리
@@ -73,50 +145,74 @@ public class MatchingEventHandler {
         log.info("[MATCH] 매칭 대상이 있습니다. memberId: {}, 인원 수: {}",
                 reference.getMemberId(), matchingUsers.size());
 
-        sendNotificationOwn(reference, matchingUsers);
-
+        // horizon 이내에 이미 알린 쌍은 알림 생략
+        List<MatchingResult> newMatches = new ArrayList<>(matchingUsers.size());
         for (MatchingResult matchingUser : matchingUsers) {
             logging(matchingUser, reference);
-            sendNotificationOthers(matchingUser, reference);
+            if (pairDeduplicator.firstNotification(reference.getMemberId(), matchingUser.getMemberId(),
+                    reference.getCategory())) {
+                newMatches.add(matchingUser);
+            }
+        }
+        if (newMatches.isEmpty()) {
+            log.info("[MATCH] 모든 매칭 대상이 이미 알림을 받은 쌍입니다. memberId: {}", reference.getMemberId());
+            return;
+        }
+
+        List<NotificationRequestDto> notifications = new ArrayList<>(newMatches.size() + 1);
+        notifications.add(notificationOwn(reference, matchingUsers));
+        for (MatchingResult matchingUser : newMatches) {
+            // 상대방 알림은 수신자별 다이제스트로 모아 발송 (비활성화 또는 버퍼 포화 시 바로 발송)
+            if (!notificationDigester.offer(matchingUser.getMemberId(), reference.getMemberId(), matchingUser.getScore())) {
+                notifications.add(notificationOthers(matchingUser, reference));
+            }
+        }
+
+        long failed = notificationFanout.send(notifications).stream()
+                .filter(outcome -> !outcome.isSuccess())
+                .count();
+        if (failed > 0) {
+            log.warn("[MATCH] 알림 {}건 중 {}건 전송 실패 (재시도 큐 저장) - memberId: {}",
+                    notifications.size(), failed, reference.getMemberId());
         }
     }
 
     /**
-     * 매칭 성공 시 본인에게 알림을 전송합니다.
+     * 매칭 성공 시 본인에게 보낼 알림을 생성합니다.
      * <p>
-     * 매칭된 사용자 수를 요약하여 "MATCH_SUCCESS" 타입의 알림을 보냅니다.
+     * 매칭된 사용자 수를 요약한 "MATCH_SUCCESS" 타입의 알림입니다.
      *
      * @param reference 본인 매칭 쿼리 DTO ({@link MatchingQueryDto})
      * @param matchingUsers 매칭된 사용자 목록 ({@link List}<{@link MatchingResult}>)
-     * @see NotificationServiceClient#sendNotification(NotificationRequestDto)
+     * @return 본인 알림 요청
      */
-    private void sendNotificationOwn(MatchingQueryDto reference,
-                                     List<MatchingResult> matchingUsers) {
+    private NotificationRequestDto notificationOwn(MatchingQueryDto reference,
+                                                   List<MatchingResult> matchingUsers) {
         // 매칭 성공 시 본인에게 알림 전송 (매칭 목록 요약)
-        notificationService.sendNotification(NotificationRequestDto.builder()
+        return NotificationRequestDto.builder()
                 .memberId(reference.getMemberId())
                 .content("매칭 성공! " + matchingUsers.size() + "명의 사용자와 매칭되었습니다.")
                 .notificationType("MATCH_SUCCESS")
-                .build());
+                .build();
     }
 
     /**
-     * 매칭 성공 시 각 상대방에게 알림을 전송합니다.
+     * 매칭 성공 시 상대방에게 보낼 알림을 생성합니다.
      * <p>
-     * 본인 ID와 유사도 점수를 포함한 "MATCH_SUCCESS" 타입의 알림을 보냅니다.
+     * 본인 ID와 유사도 점수를 포함한 "MATCH_SUCCESS" 타입의 알림입니다.
      *
      * @param matchingUser 매칭된 상대방 결과 DTO ({@link MatchingResult})
      * @param reference 본인 매칭 쿼리 DTO ({@link MatchingQueryDto})
-     * @see NotificationServiceClient#sendNotification(NotificationRequestDto)
+     * @return 상대방 알림 요청
      */
-    private void sendNotificationOthers(MatchingResult matchingUser,
-                                        MatchingQueryDto reference) {
-        notificationService.sendNotification(NotificationRequestDto.builder()
+    private NotificationRequestDto notificationOthers(MatchingResult matchingUser,
+                                                      MatchingQueryDto reference) {
+        return NotificationRequestDto.builder()
                 .memberId(matchingUser.getMemberId())
                 .content("새로운 매칭! 사용자 " + reference.getMemberId() + "와 매칭되었습니다. " +
                         "유사도: " + matchingUser.getScore() + "점")
                 .notificationType("MATCH_SUCCESS")
-                .build());
+                .build();
     }
 
     /**
@@ -0,0 +1,45 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 매칭 저장 이벤트 Kafka 컨슈머. ({@code matching.event.transport=kafka} 일 때만 등록)
+ * <p>
+ * 컨슈머 그룹({@code matching.event.kafka.group-id}, 기본 matching-service)으로 파티션을 나누어 받아
+ * {@link MatchingEventHandler#process}를 호출합니다. 파티션 하나는 한 스레드가 순서대로 처리하므로
+ * 같은 회원의 이벤트는 발행 순서대로 처리됩니다. 파드당 처리 스레드 수는 {@code matching.event.kafka.concurrency}(기본 3)입니다.
+ * 처리 실패 시 재시도는 컨테이너의 오류 처리기가 담당합니다.
+ *
+ * @see MatchingKafkaPublisher
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "matching.event.transport", havingValue = "kafka")
+public class MatchingKafkaConsumer {
+
+    private final MatchingEventHandler matchingEventHandler;
+    private final Counter consumedCounter;
+
+    public MatchingKafkaConsumer(MatchingEventHandler matchingEventHandler, MeterRegistry meterRegistry) {
+        this.matchingEventHandler = matchingEventHandler;
+        this.consumedCounter = meterRegistry.counter("matching.event.kafka.consumed");
+    }
+
+    @KafkaListener(topics = "${matching.event.kafka.topic:matching.saved}",
+            groupId = "${matching.event.kafka.group-id:matching-service}",
+            concurrency = "${matching.event.kafka.concurrency:3}",
+            containerFactory = "matchingKafkaListenerContainerFactory")
+    public void consume(ConsumerRecord<String, MatchingQueryDto> record) {
+        log.debug("[Matching-Kafka] 매칭 이벤트 수신 - memberId: {}, partition: {}, offset: {}",
+                record.key(), record.partition(), record.offset());
+        matchingEventHandler.process(record.value());
+        consumedCounter.increment();
+    }
+}
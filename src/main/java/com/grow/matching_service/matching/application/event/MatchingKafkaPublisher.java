@@ -0,0 +1,97 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.domain.dto.event.MatchingSavedEvent;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.KafkaException;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 매칭 저장 이벤트 Kafka 발행기. ({@code matching.event.transport=kafka} 일 때만 등록)
+ * <p>
+ * 이벤트를 memberId 를 키로 발행하여 같은 회원의 이벤트가 같은 파티션에 순서대로 쌓이도록 하고,
+ * 처리는 컨슈머 그룹({@link MatchingKafkaConsumer})의 파드들이 나누어 맡습니다.
+ * <ul>
+ *     <li>아웃박스 경로: {@link MatchingOutboxRelay}가 {@link #publish}로 발행하고 브로커 확인 후 아웃박스 행을 삭제</li>
+ *     <li>아웃박스 비활성화 경로: 트랜잭션 커밋 후 {@link MatchingSavedEvent}를 받아 비동기 발행</li>
+ * </ul>
+ * 발행 결과는 {@code matching.event.kafka.published}(result=success|failure) 메트릭으로 기록합니다.
+ *
+ * @see com.grow.matching_service.matching.application.config.MatchingKafkaConfig
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "matching.event.transport", havingValue = "kafka")
+public class MatchingKafkaPublisher {
+
+    public static final String TRANSPORT = "kafka";
+
+    private final KafkaTemplate<String, MatchingQueryDto> matchingKafkaTemplate;
+    private final Counter successCounter;
+    private final Counter failureCounter;
+
+    @Value("${matching.event.kafka.topic:matching.saved}")
+    private String topic = "matching.saved";
+
+    @Value("${matching.event.kafka.send-timeout-ms:5000}")
+    private long sendTimeoutMillis = 5000;
+
+    public MatchingKafkaPublisher(KafkaTemplate<String, MatchingQueryDto> matchingKafkaTemplate,
+                                  MeterRegistry meterRegistry) {
+        this.matchingKafkaTemplate = matchingKafkaTemplate;
+        this.successCounter = meterRegistry.counter("matching.event.kafka.published", "result", "success");
+        this.failureCounter = meterRegistry.counter("matching.event.kafka.published", "result", "failure");
+    }
+
+    /**
+     * 이벤트를 발행하고 브로커 확인까지 대기합니다.
+     *
+     * @param dto 매칭 조회 조건
+     * @throws KafkaException 발행 실패 또는 시간 초과 시
+     */
+    public void publish(MatchingQueryDto dto) {
+        try {
+            matchingKafkaTemplate.send(topic, key(dto), dto).get(sendTimeoutMillis, TimeUnit.MILLISECONDS);
+            successCounter.increment();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failureCounter.increment();
+            throw new KafkaException("매칭 이벤트 발행 중 인터럽트", e);
+        } catch (ExecutionException | TimeoutException e) {
+            failureCounter.increment();
+            throw new KafkaException("매칭 이벤트 발행 실패 - memberId: " + dto.getMemberId(), e);
+        }
+    }
+
+    /**
+     * 아웃박스를 사용하지 않을 때, 커밋된 매칭 저장 이벤트를 비동기로 발행합니다.
+     *
+     * @param event 매칭 저장 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleMatchingSaved(MatchingSavedEvent event) {
+        MatchingQueryDto dto = event.getDto();
+        matchingKafkaTemplate.send(topic, key(dto), dto).whenComplete((result, e) -> {
+            if (e == null) {
+                successCounter.increment();
+                return;
+            }
+            failureCounter.increment();
+            log.error("[Matching-Kafka] 매칭 이벤트 발행 실패 - memberId: {}, 원인: {}", dto.getMemberId(), e.getMessage());
+        });
+    }
+
+    private static String key(MatchingQueryDto dto) {
+        return String.valueOf(dto.getMemberId());
+    }
+}
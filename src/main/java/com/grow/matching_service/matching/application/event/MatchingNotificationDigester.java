@@ -0,0 +1,220 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.infra.cache.NotificationDigestStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매칭 알림 다이제스트 단계.
+ * <p>
+ * 인기 있는 조건의 회원은 비슷한 회원이 매칭을 저장할 때마다 "새로운 매칭!" 알림을 받으므로,
+ * 상대방에게 보내는 MATCH_SUCCESS 알림을 수신자별로 {@code matching.notification.digest.window-ms}(기본 60초) 동안 모아
+ * 한 건의 요약 알림으로 발송합니다. (같은 상대는 한 번만 집계, 최신 유사도 사용)
+ * <p>
+ * 버퍼는 노드 메모리에 두며, 여러 노드로 배포할 때는 {@code matching.notification.digest.redis-spill.enabled=true}로
+ * 매 주기마다 버퍼를 {@link NotificationDigestStore}(Redis)로 넘겨 수신자별로 합치고, 발송 시각이 지난 수신자를
+ * 한 노드만 선점하여 발송합니다. 메모리 모드에서 버퍼 수신자 수가 {@code max-buffered-recipients}를 넘으면
+ * 새 수신자의 알림은 모으지 않고 바로 발송합니다.
+ * <p>
+ * 메트릭:
+ * <ul>
+ *     <li>matching.notification.digest (result=buffered|bypassed): 다이제스트에 모인 / 모으지 않고 바로 보낸 알림 수</li>
+ *     <li>matching.notification.digest.sent: 발송한 요약 알림 수 (buffered / sent 가 트래픽 감소 비율)</li>
+ *     <li>matching.notification.digest.pending: 노드 버퍼의 수신자 수</li>
+ * </ul>
+ *
+ * @see MatchingNotificationFanout
+ */
+@Slf4j
+@Component
+public class MatchingNotificationDigester {
+
+    private final MatchingNotificationFanout notificationFanout;
+    private final NotificationDigestStore digestStore;
+    private final Map<Long, Digest> buffer = new ConcurrentHashMap<>();
+    private final Counter bufferedCounter;
+    private final Counter bypassedCounter;
+    private final Counter sentCounter;
+
+    @Value("${matching.notification.digest.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${matching.notification.digest.window-ms:60000}")
+    private long windowMillis = 60_000; // 수신자별 첫 알림부터 발송까지 모으는 시간
+
+    @Value("${matching.notification.digest.max-buffered-recipients:10000}")
+    private int maxBufferedRecipients = 10_000;
+
+    @Value("${matching.notification.digest.redis-spill.enabled:false}")
+    private boolean redisSpill = false;
+
+    @Value("${matching.notification.digest.claim-size:500}")
+    private int claimSize = 500; // Redis 에서 한 번에 선점할 최대 수신자 수
+
+    public MatchingNotificationDigester(MatchingNotificationFanout notificationFanout,
+                                        NotificationDigestStore digestStore,
+                                        MeterRegistry meterRegistry) {
+        this.notificationFanout = notificationFanout;
+        this.digestStore = digestStore;
+        this.bufferedCounter = meterRegistry.counter("matching.notification.digest", "result", "buffered");
+        this.bypassedCounter = meterRegistry.counter("matching.notification.digest", "result", "bypassed");
+        this.sentCounter = meterRegistry.counter("matching.notification.digest.sent");
+        meterRegistry.gauge("matching.notification.digest.pending", buffer, Map::size);
+    }
+
+    /**
+     * 상대방 매칭 알림을 다이제스트에 추가합니다.
+     *
+     * @param recipientId     알림을 받을 회원 ID
+     * @param matchedMemberId 매칭을 저장한 회원 ID
+     * @param score           유사도 점수
+     * @return 다이제스트에 추가되었으면 true, 바로 발송해야 하면 false (비활성화 또는 버퍼 포화)
+     */
+    public boolean offer(Long recipientId, Long matchedMemberId, Integer score) {
+        if (!enabled) {
+            return false;
+        }
+        if (!redisSpill && buffer.size() >= maxBufferedRecipients && !buffer.containsKey(recipientId)) {
+            bypassedCounter.increment();
+            return false;
+        }
+        buffer.compute(recipientId, (id, digest) -> {
+            Digest target = digest != null ? digest : new Digest(System.currentTimeMillis());
+            target.matches().put(matchedMemberId, score);
+            return target;
+        });
+        bufferedCounter.increment();
+        return true;
+    }
+
+    /**
+     * 모으는 시간이 지난 수신자에게 요약 알림을 발송합니다.
+     * Redis spill 모드에서는 노드 버퍼를 모두 Redis 로 넘긴 뒤, 발송 시각이 지난 수신자를 선점하여 발송합니다.
+     *
+     * @return 발송한 요약 알림 수
+     */
+    @Scheduled(fixedDelayString = "${matching.notification.digest.flush-interval-ms:1000}")
+    public int flush() {
+        long now = System.currentTimeMillis();
+        try {
+            if (redisSpill) {
+                spill(drain(Long.MAX_VALUE));
+                return send(digestStore.claimDue(now, claimSize));
+            }
+            return send(matchesOf(drain(now - windowMillis)));
+        } catch (Exception e) {
+            log.error("[MATCH] 알림 다이제스트 발송 실패: {}", e.getMessage(), e);
+            return 0;
+        }
+    }
+
+    // 첫 알림 시각이 기준 이전인 수신자를 버퍼에서 꺼냄
+    private Map<Long, Digest> drain(long firstBefore) {
+        Map<Long, Digest> drained = new HashMap<>();
+        for (Long recipientId : buffer.keySet()) {
+            Digest digest = buffer.get(recipientId);
+            if (digest != null && digest.firstAt() <= firstBefore && buffer.remove(recipientId, digest)) {
+                drained.put(recipientId, digest);
+            }
+        }
+        return drained;
+    }
+
+    private void spill(Map<Long, Digest> drained) {
+        Map<Long, Long> dueAt = new HashMap<>(drained.size() * 2);
+        drained.forEach((recipientId, digest) -> dueAt.put(recipientId, digest.firstAt() + windowMillis));
+        digestStore.spill(matchesOf(drained), dueAt);
+    }
+
+    private int send(Map<Long, Map<Long, Integer>> digests) {
+        if (digests.isEmpty()) {
+            return 0;
+        }
+        List<NotificationRequestDto> notifications = new ArrayList<>(digests.size());
+        digests.forEach((recipientId, matches) -> {
+            if (!matches.isEmpty()) {
+                notifications.add(digestNotification(recipientId, matches));
+            }
+        });
+        notificationFanout.send(notifications);
+        sentCounter.increment(notifications.size());
+        return notifications.size();
+    }
+
+    /**
+     * 수신자에게 보낼 요약 알림을 생성합니다.
+     * <p>
+     * 상대가 한 명이면 기존 "새로운 매칭!" 알림과 같은 문구를, 여러 명이면 인원 수와 최고 유사도를 요약합니다.
+     *
+     * @param recipientId 알림을 받을 회원 ID
+     * @param matches     상대 회원 ID → 유사도 점수
+     * @return 요약 알림 요청
+     */
+    private NotificationRequestDto digestNotification(Long recipientId, Map<Long, Integer> matches) {
+        Map.Entry<Long, Integer> best = matches.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .orElseThrow();
+        String content = matches.size() == 1
+                ? "새로운 매칭! 사용자 " + best.getKey() + "와 매칭되었습니다. 유사도: " + best.getValue() + "점"
+                : "새로운 매칭! " + matches.size() + "명의 사용자와 매칭되었습니다. " +
+                "최고 유사도: " + best.getValue() + "점 (사용자 " + best.getKey() + ")";
+        return NotificationRequestDto.builder()
+                .memberId(recipientId)
+                .content(content)
+                .notificationType("MATCH_SUCCESS")
+                .build();
+    }
+
+    private static Map<Long, Map<Long, Integer>> matchesOf(Map<Long, Digest> digests) {
+        Map<Long, Map<Long, Integer>> matches = new HashMap<>(digests.size() * 2);
+        digests.forEach((recipientId, digest) -> matches.put(recipientId, digest.matches()));
+        return matches;
+    }
+
+    /**
+     * 종료 시 버퍼에 남은 알림을 처리합니다. (메모리 모드는 즉시 발송, spill 모드는 Redis 로 넘겨 다른 노드가 발송)
+     */
+    @PreDestroy
+    public void shutdown() {
+        Map<Long, Digest> remaining = drain(Long.MAX_VALUE);
+        if (remaining.isEmpty()) {
+            return;
+        }
+        log.info("[MATCH] 종료 시 남은 알림 다이제스트 {}건 처리", remaining.size());
+        try {
+            if (redisSpill) {
+                spill(remaining);
+            } else {
+                send(matchesOf(remaining));
+            }
+        } catch (Exception e) {
+            log.error("[MATCH] 종료 시 알림 다이제스트 처리 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 수신자별 누적 알림.
+     *
+     * @param firstAt 첫 알림 시각 (epoch ms)
+     * @param matches 상대 회원 ID → 유사도 점수 (compute 안에서만 수정)
+     */
+    private record Digest(long firstAt, Map<Long, Integer> matches) {
+
+        private Digest(long firstAt) {
+            this(firstAt, new LinkedHashMap<>());
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.dto.NotificationResultDto;
+import com.grow.matching_service.matching.application.service.queue.QueueService;
+import com.grow.matching_service.matching.presentation.client.NotificationServiceClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 매칭 알림 팬아웃 단계.
+ * <p>
+ * 매칭 재계산 한 건에서 발생하는 알림(본인 1건 + 상대방 최대 20건)을 건별로 전송하면 요청 수와 지연이 그대로 누적되므로,
+ * 기본적으로 이벤트당 한 번의 일괄 요청({@link NotificationServiceClient#sendNotifications(String, List)})으로 전송합니다.
+ * 일괄 요청에는 항목 uuid 로 만든 멱등 키를 함께 보내 재시도된 요청이 중복 전송되지 않도록 합니다.
+ * {@code matching.notification.batch.enabled=false}이면 수신자마다 가상 스레드에서 동시에 건별 전송하며,
+ * 이벤트당 동시 전송 수는 {@code matching.notification.fanout.concurrency}(기본 8)로 제한하여
+ * 한 이벤트가 알림 서비스 연결을 독점하지 않도록 합니다.
+ * <p>
+ * 수신자별 결과를 수집하여 실패한 알림만 {@link QueueService}에 저장하고,
+ * 재시도는 {@link com.grow.matching_service.matching.application.service.NotificationRetryService}가 담당합니다.
+ * 성공 / 실패 건수는 {@code matching.notification.fanout}(result=success|failure) 메트릭으로 기록합니다.
+ *
+ * @see NotificationServiceClient#sendNotification(NotificationRequestDto)
+ * @see NotificationServiceClient#sendNotifications(String, List)
+ */
+@Slf4j
+@Component
+public class MatchingNotificationFanout {
+
+    private final NotificationServiceClient notificationService;
+    private final QueueService queueService;
+    private final ExecutorService virtualExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("notification-fanout-", 1).factory());
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Timer fanoutTimer;
+
+    @Value("${matching.notification.fanout.concurrency:8}")
+    private int concurrency = 8;
+
+    @Value("${matching.notification.batch.enabled:true}")
+    private boolean batchEnabled = true;
+
+    public MatchingNotificationFanout(NotificationServiceClient notificationService,
+                                      QueueService queueService,
+                                      MeterRegistry meterRegistry) {
+        this.notificationService = notificationService;
+        this.queueService = queueService;
+        this.successCounter = meterRegistry.counter("matching.notification.fanout", "result", "success");
+        this.failureCounter = meterRegistry.counter("matching.notification.fanout", "result", "failure");
+        this.fanoutTimer = meterRegistry.timer("matching.notification.fanout.duration");
+    }
+
+    /**
+     * 알림을 전송하고, 모든 전송이 끝날 때까지 대기합니다. 실패한 알림은 재시도 큐에 저장합니다.
+     *
+     * @param requests 전송할 알림 목록
+     * @return 수신자별 전송 결과 (요청 순서 유지)
+     */
+    public List<Outcome> send(List<NotificationRequestDto> requests) {
+        if (requests.isEmpty()) {
+            return List.of();
+        }
+        return fanoutTimer.record(() -> batchEnabled ? sendBatch(requests) : sendEach(requests));
+    }
+
+    // 한 번의 일괄 요청으로 전송하고 항목별 결과를 요청 순서대로 대응
+    private List<Outcome> sendBatch(List<NotificationRequestDto> requests) {
+        Map<String, NotificationResultDto> results;
+        try {
+            results = notificationService.sendNotifications(idempotencyKey(requests), requests).stream()
+                    .collect(Collectors.toMap(NotificationResultDto::getUuid, Function.identity(), (a, b) -> b));
+        } catch (Exception e) {
+            log.warn("[MATCH] 일괄 알림 전송 실패, {}건을 재시도 큐에 저장 - 원인: {}", requests.size(), e.getMessage());
+            results = Map.of();
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        for (NotificationRequestDto request : requests) {
+            NotificationResultDto result = results.get(request.getUuid());
+            if (result != null && result.getStatus() == NotificationResultDto.Status.DELIVERED) {
+                successCounter.increment();
+                outcomes.add(new Outcome(request, null));
+                continue;
+            }
+            failureCounter.increment();
+            // FAILED 이거나 응답에 누락된 항목
+            queueService.enqueueNotification(request);
+            outcomes.add(new Outcome(request, result != null ? reasonOf(result) : "응답 누락"));
+        }
+        return outcomes;
+    }
+
+    // 같은 항목 묶음이면 같은 키 (재시도된 요청을 알림 서비스가 한 번만 처리하도록)
+    private static String idempotencyKey(List<NotificationRequestDto> requests) {
+        String uuids = requests.stream().map(NotificationRequestDto::getUuid).collect(Collectors.joining(","));
+        return UUID.nameUUIDFromBytes(uuids.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    private static String reasonOf(NotificationResultDto result) {
+        return result.getReason() != null ? result.getReason() : String.valueOf(result.getStatus());
+    }
+
+    // 수신자마다 가상 스레드에서 건별 전송 (이벤트당 동시 전송 수 제한)
+    private List<Outcome> sendEach(List<NotificationRequestDto> requests) {
+        Semaphore permits = new Semaphore(Math.max(1, concurrency)); // 이벤트 단위 동시 전송 제한
+        List<Future<Outcome>> futures = new ArrayList<>(requests.size());
+        for (NotificationRequestDto request : requests) {
+            futures.add(virtualExecutor.submit(() -> deliver(request, permits)));
+        }
+
+        List<Outcome> outcomes = new ArrayList<>(requests.size());
+        for (int i = 0; i < futures.size(); i++) {
+            outcomes.add(await(futures.get(i), requests.get(i)));
+        }
+
+        outcomes.stream()
+                .filter(outcome -> !outcome.isSuccess())
+                .forEach(outcome -> queueService.enqueueNotification(outcome.request()));
+        return outcomes;
+    }
+
+    private Outcome deliver(NotificationRequestDto request, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            notificationService.sendNotification(request);
+            successCounter.increment();
+            return new Outcome(request, null);
+        } catch (Exception e) {
+            failureCounter.increment();
+            log.warn("[MATCH] 알림 전송 실패, 재시도 큐에 저장 - memberId: {}, 원인: {}",
+                    request.getMemberId(), e.getMessage());
+            return new Outcome(request, String.valueOf(e));
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 대기 중 인터럽트되면 남은 전송은 취소하고 실패로 처리 (재시도 큐로 이관)
+    private Outcome await(Future<Outcome> future, NotificationRequestDto request) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            failureCounter.increment();
+            return new Outcome(request, "전송 대기 중 인터럽트");
+        } catch (ExecutionException e) {
+            failureCounter.increment();
+            return new Outcome(request, String.valueOf(e.getCause()));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        virtualExecutor.close(); // 진행 중인 전송이 끝날 때까지 대기
+    }
+
+    /**
+     * 수신자별 알림 전송 결과.
+     *
+     * @param request 알림 요청
+     * @param failure 실패 사유 (성공 시 null)
+     */
+    public record Outcome(NotificationRequestDto request, String failure) {
+
+        public boolean isSuccess() {
+            return failure == null;
+        }
+    }
+}
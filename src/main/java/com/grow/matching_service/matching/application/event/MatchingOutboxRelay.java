@@ -0,0 +1,193 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.application.executor.StripedOrderedExecutor;
+import com.grow.matching_service.matching.infra.dto.MatchingOutboxMessage;
+import com.grow.matching_service.matching.infra.repository.MatchingOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 매칭 저장 이벤트 아웃박스 릴레이.
+ * <p>
+ * 아웃박스에 커밋된 이벤트를 배치 단위로 선점하여 {@link MatchingEventHandler#process}로 처리하고
+ * (kafka 전송 모드에서는 {@link MatchingKafkaPublisher}로 발행하고 브로커 확인까지 대기), 처리에 성공한 행은 삭제합니다. 실패한 행은
+ * {@code matching.event.outbox.backoff.base-ms}(기본 30초)부터 두 배씩 늘어나 {@code max-ms}(기본 30분)에서 멈추는
+ * 대기 시간 뒤에 다시 선점되도록 되돌리며, 최대 시도 횟수({@code matching.event.outbox.max-attempts}, 기본 5회)를 넘기면
+ * FAILED 로 남깁니다. (장애 복구 후 {@link #requeueFailed()}로 재처리)
+ * <p>
+ * {@code matching.event.outbox.enabled=false}이어도 재계산 실행기 포화 시(SHED) 아웃박스로 넘겨진 이벤트가 있을 수 있으므로
+ * 릴레이는 설정과 관계없이 항상 아웃박스를 비웁니다. (설정은 매칭 저장 시 아웃박스 기록 여부만 결정)
+ * <p>
+ * 같은 (회원, 카테고리)의 연속 저장은 병합 대기 시간 이후 최신 이벤트만 처리합니다.
+ * (병합되어 삭제된 이벤트 수: {@code matching.recompute.coalesced}, source=outbox)
+ * <p>
+ * 배치 내 이벤트는 인메모리 경로와 같은 {@code matchingEventExecutor}의 회원별 레인에서 처리하므로
+ * 같은 회원의 이벤트는 기록 순서대로 끝나고, 다른 회원의 이벤트는 레인 수만큼 병렬로 처리됩니다.
+ * (레인 포화 시 릴레이 스레드가 대기하여 선점 속도를 늦춤)
+ * <p>
+ * 선점은 {@code SKIP LOCKED}로 이루어지므로 여러 파드에서 동시에 실행해도 같은 이벤트를 중복 처리하지 않습니다.
+ * (리스 만료로 다시 선점되는 경우를 제외하면 최소 1회 처리)
+ * <p>
+ * 메트릭:
+ * <ul>
+ *     <li>matching.outbox.relayed (result=success|failure): 처리 건수 (처리량)</li>
+ *     <li>matching.outbox.lag: 아웃박스 기록부터 처리 완료까지의 지연 (병합 대기 시간 포함)</li>
+ *     <li>matching.outbox.pending: 마지막 폴링 시점의 대기 건수</li>
+ *     <li>matching.outbox.failed: 마지막 폴링 시점의 FAILED 건수 (재처리 필요)</li>
+ * </ul>
+ *
+ * @see MatchingOutboxRepository
+ */
+@Slf4j
+@Component
+public class MatchingOutboxRelay {
+
+    private final MatchingOutboxRepository outboxRepository;
+    private final MatchingEventHandler matchingEventHandler;
+    private final MatchingKafkaPublisher kafkaPublisher; // kafka 전송 모드가 아니면 null
+
+    private final StripedOrderedExecutor matchingEventExecutor; // 회원별 레인에서 처리 (같은 회원은 기록 순서대로)
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter coalescedCounter;
+    private final Timer lagTimer;
+
+    @Value("${matching.event.outbox.batch-size:100}")
+    private int batchSize = 100; // 한 번에 선점할 최대 건수
+
+    @Value("${matching.event.outbox.lease-ms:60000}")
+    private long leaseMillis = 60_000; // 선점 유지 시간
+
+    @Value("${matching.event.outbox.max-attempts:5}")
+    private int maxAttempts = 5;
+
+    @Value("${matching.event.outbox.backoff.base-ms:30000}")
+    private long backoffBaseMillis = 30_000; // 첫 실패 후 재선점 대기 시간
+
+    @Value("${matching.event.outbox.backoff.max-ms:1800000}")
+    private long backoffMaxMillis = 1_800_000; // 최대 재선점 대기 시간
+
+    @Value("${matching.event.coalesce.quiet-window-ms:2000}")
+    private long quietWindowMillis = 2000; // 같은 회원 · 카테고리 이벤트 병합 대기 시간
+
+    public MatchingOutboxRelay(MatchingOutboxRepository outboxRepository,
+                               MatchingEventHandler matchingEventHandler,
+                               ObjectProvider<MatchingKafkaPublisher> kafkaPublisher,
+                               StripedOrderedExecutor matchingEventExecutor,
+                               MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.matchingEventHandler = matchingEventHandler;
+        this.kafkaPublisher = kafkaPublisher.getIfAvailable();
+        this.matchingEventExecutor = matchingEventExecutor;
+        this.successCounter = meterRegistry.counter("matching.outbox.relayed", "result", "success");
+        this.failureCounter = meterRegistry.counter("matching.outbox.relayed", "result", "failure");
+        this.coalescedCounter = meterRegistry.counter("matching.recompute.coalesced", "source", "outbox");
+        this.lagTimer = Timer.builder("matching.outbox.lag")
+                .description("아웃박스 기록부터 처리 완료까지의 지연")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        Gauge.builder("matching.outbox.pending", pending, AtomicLong::get)
+                .description("마지막 폴링 시점의 아웃박스 대기 건수")
+                .register(meterRegistry);
+        Gauge.builder("matching.outbox.failed", failed, AtomicLong::get)
+                .description("마지막 폴링 시점의 최대 시도 횟수 초과 건수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 대기 중인 아웃박스 이벤트를 처리합니다.
+     * 선점한 배치가 가득 차 있으면 대기 이벤트가 남아 있는 것으로 보고 이어서 선점합니다.
+     *
+     * @return 처리에 성공한 이벤트 수
+     */
+    @Scheduled(fixedDelayString = "${matching.event.outbox.poll-interval-ms:1000}")
+    public int relay() {
+        int relayed = 0;
+        try {
+            List<MatchingOutboxMessage> batch;
+            do {
+                batch = outboxRepository.claim(batchSize, Duration.ofMillis(leaseMillis),
+                        Duration.ofMillis(Math.max(quietWindowMillis, 0)));
+                relayed += dispatch(batch);
+            } while (batch.size() == batchSize);
+            pending.set(outboxRepository.countPending());
+            failed.set(outboxRepository.countFailed());
+        } catch (Exception e) {
+            log.error("[Matching-Outbox] 아웃박스 릴레이 실패: {}", e.getMessage(), e);
+        }
+        return relayed;
+    }
+
+    /**
+     * 최대 시도 횟수를 넘겨 FAILED 로 남은 이벤트를 다시 대기 상태로 되돌립니다. (다음 폴링부터 처리)
+     *
+     * @return 대기 상태로 되돌린 이벤트 수
+     */
+    public int requeueFailed() {
+        int requeued = outboxRepository.requeueFailed();
+        failed.set(0);
+        log.info("[Matching-Outbox] FAILED 이벤트 {}건을 다시 대기 상태로 되돌림", requeued);
+        return requeued;
+    }
+
+    // 배치를 회원 레인에서 처리하고 결과를 아웃박스에 반영
+    private int dispatch(List<MatchingOutboxMessage> batch) {
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(batch.size());
+        for (MatchingOutboxMessage message : batch) {
+            futures.add(matchingEventExecutor.submit(message.getDto().getMemberId(), () -> {
+                if (kafkaPublisher != null) {
+                    kafkaPublisher.publish(message.getDto());
+                } else {
+                    matchingEventHandler.process(message.getDto());
+                }
+                return null;
+            }));
+        }
+
+        List<MatchingOutboxMessage> succeeded = new ArrayList<>(batch.size());
+        List<MatchingOutboxMessage> failures = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            MatchingOutboxMessage message = batch.get(i);
+            try {
+                futures.get(i).get();
+                succeeded.add(message);
+                lagTimer.record(Duration.between(message.getCreatedAt(), LocalDateTime.now()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failures.add(message);
+            } catch (Exception e) {
+                failures.add(message);
+                log.warn("[Matching-Outbox] 이벤트 처리 실패 - outboxId: {}, memberId: {}, 시도: {}회, 원인: {}",
+                        message.getOutboxId(), message.getDto().getMemberId(), message.getAttempts() + 1,
+                        e.getMessage());
+            }
+        }
+
+        coalescedCounter.increment(outboxRepository.complete(succeeded));
+        outboxRepository.release(failures, maxAttempts,
+                Duration.ofMillis(backoffBaseMillis), Duration.ofMillis(backoffMaxMillis));
+        successCounter.increment(succeeded.size());
+        failureCounter.increment(failures.size());
+        return succeeded.size();
+    }
+}
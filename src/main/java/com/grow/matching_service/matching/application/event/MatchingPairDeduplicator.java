@@ -0,0 +1,80 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.domain.enums.Category;
+import com.grow.matching_service.matching.infra.cache.TimeDecayingBloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 매칭 쌍 알림 중복 제거기.
+ * <p>
+ * 두 회원 중 누가 매칭을 수정하든 같은 쌍이 다시 매칭되면 알림이 반복되므로, 알림을 보낸
+ * (회원 A, 회원 B, 카테고리) 쌍을 {@link TimeDecayingBloomFilter}에 기록하고
+ * {@code matching.notification.dedupe.horizon-ms}(기본 24시간) 이내의 반복 알림을 생략합니다.
+ * 쌍은 방향과 무관하게 (작은 ID, 큰 ID) 순으로 기록합니다.
+ * <p>
+ * 필터 메모리는 {@code expected-pairs}(horizon 동안 예상 쌍 수)와 {@code fpp}(오탐률, 기본 1%)로 고정되며,
+ * 오탐 시에는 새 쌍의 알림이 생략될 수 있습니다. (미탐 없음)
+ * <p>
+ * 메트릭:
+ * <ul>
+ *     <li>matching.notification.dedupe (result=hit|miss): 중복으로 생략 / 새 쌍으로 발송한 알림 수</li>
+ *     <li>matching.notification.dedupe.memory: 필터 비트 배열 크기 (bytes)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MatchingPairDeduplicator {
+
+    private final boolean enabled;
+    private final TimeDecayingBloomFilter filter;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public MatchingPairDeduplicator(
+            MeterRegistry meterRegistry,
+            @Value("${matching.notification.dedupe.enabled:true}") boolean enabled,
+            @Value("${matching.notification.dedupe.horizon-ms:86400000}") long horizonMillis,
+            @Value("${matching.notification.dedupe.expected-pairs:1000000}") long expectedPairs,
+            @Value("${matching.notification.dedupe.fpp:0.01}") double fpp,
+            @Value("${matching.notification.dedupe.generations:4}") int generations) {
+        this.enabled = enabled;
+        this.filter = new TimeDecayingBloomFilter(expectedPairs, fpp, Duration.ofMillis(horizonMillis),
+                generations, System::currentTimeMillis);
+        this.hitCounter = meterRegistry.counter("matching.notification.dedupe", "result", "hit");
+        this.missCounter = meterRegistry.counter("matching.notification.dedupe", "result", "miss");
+        Gauge.builder("matching.notification.dedupe.memory", filter, TimeDecayingBloomFilter::memoryBytes)
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        log.info("[MATCH] 매칭 쌍 중복 제거 필터 - horizon: {}ms, 예상 쌍: {}, 오탐률: {}, 메모리: {}bytes",
+                horizonMillis, expectedPairs, fpp, filter.memoryBytes());
+    }
+
+    /**
+     * 쌍에 대한 알림이 horizon 이내 첫 알림인지 확인하고 기록합니다.
+     *
+     * @param memberId        회원 ID
+     * @param matchedMemberId 매칭된 상대 회원 ID
+     * @param category        매칭 카테고리
+     * @return 알림을 보내야 하면 true, horizon 이내에 이미 알린 쌍이면 false
+     */
+    public boolean firstNotification(Long memberId, Long matchedMemberId, Category category) {
+        if (!enabled) {
+            return true;
+        }
+        long low = Math.min(memberId, matchedMemberId);
+        long high = Math.max(memberId, matchedMemberId);
+        if (filter.putIfAbsent(low, high, category.ordinal())) {
+            missCounter.increment();
+            return true;
+        }
+        hitCounter.increment();
+        return false;
+    }
+}
@@ -0,0 +1,96 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.domain.enums.Category;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 매칭 재계산 병합기.
+ * <p>
+ * 같은 회원이 같은 카테고리의 매칭을 연달아 수정하면 저장마다 매칭 조회와 알림 전송이 반복되므로,
+ * (memberId, category) 별로 마지막 요청 이후 대기 시간({@code matching.event.coalesce.quiet-window-ms}, 기본 2초)
+ * 동안 새 요청이 없을 때 가장 최근의 {@link MatchingQueryDto}만 처리합니다. (디바운스)
+ * 대기 시간을 0 이하로 설정하면 병합하지 않고 즉시 처리합니다.
+ * <p>
+ * 인메모리 이벤트 경로에서 사용하며, 아웃박스 경로는
+ * {@link com.grow.matching_service.matching.infra.repository.MatchingOutboxRepository}에서 같은 규칙으로 병합합니다.
+ * 병합되어 생략된 요청 수는 {@code matching.recompute.coalesced}(source=memory) 메트릭으로 기록합니다.
+ */
+@Slf4j
+@Component
+public class MatchingRecomputeCoalescer {
+
+    private final Map<CoalesceKey, MatchingQueryDto> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("matching-coalescer").daemon().factory());
+    private final Counter coalescedCounter;
+
+    @Value("${matching.event.coalesce.quiet-window-ms:2000}")
+    private long quietWindowMillis = 2000;
+
+    public MatchingRecomputeCoalescer(MeterRegistry meterRegistry) {
+        this.coalescedCounter = meterRegistry.counter("matching.recompute.coalesced", "source", "memory");
+    }
+
+    /**
+     * 재계산 요청을 등록합니다. 대기 시간 안에 같은 키의 요청이 다시 들어오면 이전 요청은 버려집니다.
+     *
+     * @param dto       매칭 조회 조건
+     * @param processor 대기 시간이 끝난 뒤 최신 요청을 넘겨받을 작업 (단일 스케줄러 스레드에서 호출되므로 대기 없이 실행기에 제출만 할 것)
+     */
+    public void submit(MatchingQueryDto dto, Consumer<MatchingQueryDto> processor) {
+        if (quietWindowMillis <= 0) {
+            processor.accept(dto);
+            return;
+        }
+
+        CoalesceKey key = new CoalesceKey(dto.getMemberId(), dto.getCategory());
+        if (pending.put(key, dto) != null) {
+            coalescedCounter.increment();
+            log.debug("[MATCH] 매칭 재계산 병합 - memberId: {}, category: {}", dto.getMemberId(), dto.getCategory());
+        }
+        scheduler.schedule(() -> fire(key, dto, processor), quietWindowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * @return 대기 중인 재계산 수
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    // 이 요청이 여전히 최신이면(이후 요청이 없으면) 처리
+    private void fire(CoalesceKey key, MatchingQueryDto dto, Consumer<MatchingQueryDto> processor) {
+        if (!pending.remove(key, dto)) {
+            return; // 더 최근 요청이 있음 (해당 요청의 예약 작업이 처리)
+        }
+        try {
+            processor.accept(dto);
+        } catch (Exception e) {
+            log.error("[MATCH] 매칭 재계산 제출 실패 - memberId: {}, 원인: {}", dto.getMemberId(), e.getMessage(), e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!pending.isEmpty()) {
+            log.warn("[MATCH] 종료 시 처리되지 않은 매칭 재계산 {}건", pending.size());
+        }
+        scheduler.shutdownNow();
+    }
+
+    private record CoalesceKey(Long memberId, Category category) {
+    }
+}
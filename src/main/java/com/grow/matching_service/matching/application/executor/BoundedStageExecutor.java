@@ -0,0 +1,131 @@
+package com.grow.matching_service.matching.application.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>이름이 있는 유한 크기 비동기 단계 실행기</h2>
+ *
+ * <p>Spring 기본 실행기는 큐 크기 제한이 없어 트래픽 급증 시 작업이 끝없이 쌓이고 적체가 드러나지 않으므로,
+ * 파이프라인 단계마다 스레드 수와 큐 크기가 제한된 실행기를 사용합니다.
+ * 큐가 가득 차면 호출 스레드에서 실행하여 제출 측 속도를 늦춥니다. (배압)</p>
+ *
+ * <p>Micrometer {@link ExecutorServiceMetrics}로 아래 메트릭을 {@code name} 태그와 함께 등록합니다. (actuator metrics)</p>
+ * <ul>
+ *     <li>executor.queued: 큐 대기 작업 수</li>
+ *     <li>executor.active: 실행 중인 스레드 수</li>
+ *     <li>executor.idle: 큐 대기 시간 / executor: 작업 실행 시간</li>
+ *     <li>matching.executor.rejected (policy=caller_runs): 포화로 호출 스레드에서 실행된 작업 수</li>
+ * </ul>
+ *
+ * <p>{@link Executor}를 구현하므로 {@code @Async("이름")}의 실행기로도 사용할 수 있습니다.</p>
+ */
+@Slf4j
+public class BoundedStageExecutor implements Executor {
+
+    @Getter
+    private final String name;
+    private final ThreadPoolExecutor threadPool;
+    private final ExecutorService timedExecutor; // 대기 · 실행 시간 측정용 래퍼
+    private final Counter callerRunsCounter;
+
+    public BoundedStageExecutor(String name,
+                                int coreSize,
+                                int maxSize,
+                                int queueCapacity,
+                                MeterRegistry meterRegistry) {
+        this.name = name;
+        this.threadPool = new ThreadPoolExecutor(
+                coreSize,
+                Math.max(coreSize, maxSize),
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name(name + "-", 1).factory(),
+                new ThreadPoolExecutor.AbortPolicy() // 거부 처리는 execute() / submit() 에서 수행
+        );
+        this.timedExecutor = ExecutorServiceMetrics.monitor(meterRegistry, threadPool, name, Tags.empty());
+        this.callerRunsCounter = meterRegistry.counter("matching.executor.rejected", "name", name, "policy", "caller_runs");
+    }
+
+    /**
+     * 작업을 실행합니다. 포화 시 호출 스레드에서 실행합니다.
+     *
+     * @param task 실행할 작업
+     */
+    @Override
+    public void execute(Runnable task) {
+        Runnable guarded = () -> {
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("[Executor] {} 작업 실패: {}", name, e.getMessage(), e);
+            }
+        };
+        try {
+            timedExecutor.execute(guarded);
+        } catch (RejectedExecutionException e) {
+            callerRunsCounter.increment();
+            guarded.run();
+        }
+    }
+
+    /**
+     * 결과가 필요한 작업을 제출합니다. 포화 시 호출 스레드에서 실행하고 완료된 {@link Future}를 반환합니다.
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public <T> Future<T> submit(Callable<T> task) {
+        try {
+            return timedExecutor.submit(task);
+        } catch (RejectedExecutionException e) {
+            callerRunsCounter.increment();
+            try {
+                return CompletableFuture.completedFuture(task.call());
+            } catch (Exception failure) {
+                return CompletableFuture.failedFuture(failure);
+            }
+        }
+    }
+
+    /**
+     * @return 큐 대기 작업 수
+     */
+    public int getQueueSize() {
+        return threadPool.getQueue().size();
+    }
+
+    /**
+     * @return 실행 중인 스레드 수
+     */
+    public int getActiveCount() {
+        return threadPool.getActiveCount();
+    }
+
+    public void shutdown() {
+        threadPool.shutdown();
+        try {
+            if (!threadPool.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("[Executor] {} 종료 대기 시간 초과, 남은 작업 {}건", name, threadPool.getQueue().size());
+                threadPool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            threadPool.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.grow.matching_service.matching.application.executor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <h2>키 단위 순서 보장 스트라이프 실행기</h2>
+ *
+ * <p>일반 스레드 풀에서는 같은 회원의 이벤트가 동시에 실행되어 먼저 들어온 이벤트가 나중에 끝날 수 있으므로
+ * (이전 프로필 기준 알림이 최신 알림 뒤에 도착), 키(memberId)의 해시로 N개의 단일 스레드 레인 중 하나를 골라 실행합니다.
+ * 같은 키의 작업은 항상 같은 레인에서 제출 순서대로 실행되고, 서로 다른 키는 레인 수만큼 병렬로 실행됩니다. (전역 락 없음)</p>
+ *
+ * <p>레인 큐가 가득 찼을 때의 처리는 제출 방식으로 고릅니다. 호출 스레드에서 실행하면 같은 레인의 앞선 작업과 순서가 뒤바뀌므로
+ * 호출 스레드 실행은 지원하지 않습니다.</p>
+ * <ul>
+ *     <li>{@link #offer}: 대기하지 않고 false 를 반환하여 호출 측이 대체 경로를 택함 (예: 병합기 스케줄러 → 아웃박스)</li>
+ *     <li>{@link #submit}: 레인 큐에 자리가 날 때까지 호출 스레드를 대기시킴 (배압, 예: 아웃박스 릴레이)</li>
+ * </ul>
+ *
+ * <p>메트릭 (name 태그 포함):</p>
+ * <ul>
+ *     <li>executor.queued / executor.active: 전체 레인의 큐 대기 작업 수 / 실행 중인 레인 수
+ *     ({@link BoundedStageExecutor}의 단계 메트릭과 같은 이름)</li>
+ *     <li>executor.idle: 큐 대기 시간 / executor: 작업 실행 시간</li>
+ *     <li>matching.executor.lane.queued (lane): 레인별 큐 대기 작업 수</li>
+ *     <li>matching.executor.lane.tasks (lane): 레인별 처리 작업 수</li>
+ *     <li>matching.executor.lane.imbalance: 가장 바쁜 레인의 처리 수 / 레인 평균 처리 수 (1.0 이면 균등, 레인 수 조정 지표)</li>
+ *     <li>matching.executor.rejected (policy=caller_runs|shed): 포화로 대기한({@link #submit}) · 대체 경로로 넘긴({@link #offer}) 작업 수</li>
+ * </ul>
+ */
+@Slf4j
+public class StripedOrderedExecutor {
+
+    @Getter
+    private final String name;
+    private final ThreadPoolExecutor[] lanes;
+    private final Counter[] laneTasks;
+    private final Timer idleTimer;
+    private final Timer executionTimer;
+    private final Counter callerRunsCounter;
+    private final Counter shedCounter;
+
+    public StripedOrderedExecutor(String name,
+                                  int laneCount,
+                                  int laneQueueCapacity,
+                                  MeterRegistry meterRegistry) {
+        this.name = name;
+        this.lanes = new ThreadPoolExecutor[Math.max(1, laneCount)];
+        this.laneTasks = new Counter[lanes.length];
+        for (int lane = 0; lane < lanes.length; lane++) {
+            lanes[lane] = new ThreadPoolExecutor(
+                    1, 1,
+                    0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(Math.max(1, laneQueueCapacity)),
+                    Thread.ofPlatform().name(name + "-lane-" + lane).factory(),
+                    new ThreadPoolExecutor.AbortPolicy() // 거부 처리는 offer() / submit() 에서 수행
+            );
+            String laneTag = String.valueOf(lane);
+            Gauge.builder("matching.executor.lane.queued", lanes[lane], executor -> executor.getQueue().size())
+                    .tags("name", name, "lane", laneTag)
+                    .register(meterRegistry);
+            laneTasks[lane] = meterRegistry.counter("matching.executor.lane.tasks", "name", name, "lane", laneTag);
+        }
+        Gauge.builder("matching.executor.lane.imbalance", this, StripedOrderedExecutor::imbalance)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.queued", this, StripedOrderedExecutor::getQueueSize)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("executor.active", this, StripedOrderedExecutor::getActiveCount)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.idleTimer = Timer.builder("executor.idle").tag("name", name).register(meterRegistry);
+        this.executionTimer = Timer.builder("executor").tag("name", name).register(meterRegistry);
+        this.callerRunsCounter = meterRegistry.counter("matching.executor.rejected", "name", name, "policy", "caller_runs");
+        this.shedCounter = meterRegistry.counter("matching.executor.rejected", "name", name, "policy", "shed");
+    }
+
+    /**
+     * 키에 해당하는 레인에 작업을 제출하되, 레인이 포화 상태면 대기하지 않고 false 를 반환합니다.
+     *
+     * @param stripeKey 순서를 보장할 키 (예: memberId)
+     * @param task      실행할 작업
+     * @return 제출 성공 여부 (false 이면 호출 측에서 대체 경로로 처리)
+     */
+    public boolean offer(Object stripeKey, Runnable task) {
+        int lane = laneOf(stripeKey);
+        try {
+            lanes[lane].execute(guard(lane, task));
+            return true;
+        } catch (RejectedExecutionException e) {
+            if (lanes[lane].isShutdown()) {
+                log.warn("[Executor] {} 종료 중, 작업을 처리하지 않습니다. (레인 {})", name, lane);
+            } else {
+                shedCounter.increment();
+                log.warn("[Executor] {} 레인 {} 포화, 대체 경로로 넘깁니다.", name, lane);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * 결과가 필요한 작업을 키에 해당하는 레인에 제출합니다.
+     * 같은 키의 다른 작업과 제출 순서대로 실행되며, 레인 포화 시 자리가 날 때까지 대기합니다. (배압)
+     *
+     * @param stripeKey 순서를 보장할 키 (예: memberId)
+     * @param task      실행할 작업
+     * @return 작업 결과 (종료 중이거나 대기 중 인터럽트되면 취소된 Future)
+     */
+    public <T> Future<T> submit(Object stripeKey, Callable<T> task) {
+        int lane = laneOf(stripeKey);
+        FutureTask<T> future = new FutureTask<>(task); // 작업 예외는 Future 로 전달
+        Runnable guarded = guard(lane, future);
+        try {
+            lanes[lane].execute(guarded);
+        } catch (RejectedExecutionException e) {
+            if (lanes[lane].isShutdown() || !enqueueBlocking(lane, guarded)) {
+                future.cancel(false);
+            } else {
+                callerRunsCounter.increment();
+            }
+        }
+        return future;
+    }
+
+    // 예외를 기록하고 큐 대기 · 실행 시간을 측정하는 래퍼
+    private Runnable guard(int lane, Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        return () -> {
+            long startedAt = System.nanoTime();
+            idleTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("[Executor] {} 레인 {} 작업 실패: {}", name, lane, e.getMessage(), e);
+            } finally {
+                executionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                laneTasks[lane].increment();
+            }
+        };
+    }
+
+    // 순서 보장을 위해 호출 스레드에서 실행하지 않고 레인 큐에 자리가 날 때까지 대기
+    private boolean enqueueBlocking(int lane, Runnable guarded) {
+        try {
+            lanes[lane].getQueue().put(guarded);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[Executor] {} 레인 {} 대기 중 인터럽트", name, lane);
+            return false;
+        }
+    }
+
+    /**
+     * @param stripeKey 순서를 보장할 키
+     * @return 키가 배정되는 레인 번호
+     */
+    public int laneOf(Object stripeKey) {
+        int hash = Objects.hashCode(stripeKey);
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    /**
+     * @return 레인 수
+     */
+    public int getLaneCount() {
+        return lanes.length;
+    }
+
+    /**
+     * @return 전체 레인의 큐 대기 작업 수
+     */
+    public int getQueueSize() {
+        return Arrays.stream(lanes).mapToInt(lane -> lane.getQueue().size()).sum();
+    }
+
+    /**
+     * @return 작업을 실행 중인 레인 수
+     */
+    public int getActiveCount() {
+        return Arrays.stream(lanes).mapToInt(ThreadPoolExecutor::getActiveCount).sum();
+    }
+
+    /**
+     * @return 가장 바쁜 레인의 처리 수 / 레인 평균 처리 수 (처리 이력이 없으면 1.0)
+     */
+    public double imbalance() {
+        double total = 0;
+        double max = 0;
+        for (Counter counter : laneTasks) {
+            total += counter.count();
+            max = Math.max(max, counter.count());
+        }
+        return total == 0 ? 1.0 : max / (total / laneTasks.length);
+    }
+
+    public void shutdown() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        try {
+            for (ThreadPoolExecutor lane : lanes) {
+                if (!lane.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.warn("[Executor] {} 종료 대기 시간 초과, 남은 작업 {}건", name, lane.getQueue().size());
+                    lane.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            Arrays.stream(lanes).forEach(ThreadPoolExecutor::shutdownNow);
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.grow.matching_service.matching.application.service;
+
+import com.grow.matching_service.matching.application.dto.NotificationDeadLetterDto;
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.service.queue.NotificationDeadLetterStore;
+import com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 알림 데드레터 관리 서비스 클래스.
+ * 재시도 한도를 넘은 알림을 {@link NotificationDeadLetterStore}에 보관하고, 관리자 조회 · 재처리를 제공합니다.
+ *
+ * <p>재처리는 조건(알림 타입, 보관 시각 범위)에 맞는 데드레터를 오래된 순으로 최대
+ * {@code notification.dead-letter.replay.max-count}(기본 1,000)건 골라, 재시도 횟수를 초기화한 뒤
+ * {@link NotificationDelayQueue}에 초당 지정한 속도(최대 {@code max-rate}, 기본 100건) 간격의 시도 시각으로 예약합니다.
+ * 10분 주기로 한꺼번에 소진되는 재시도 큐를 거치지 않으므로, 복구 직후의 알림 서비스에 실제로 지정한 속도로만 전송됩니다.
+ * 여러 파드가 같은 데드레터를 중복 재처리하지 않도록 Redis 잠금({@code notification:dead-letter:replay-lock})을
+ * 획득한 파드에서 한 번에 하나의 재처리만 실행됩니다.
+ * 잠금은 예약을 마치면 풀리지만 예약한 시도는 그 뒤로도 이어지므로, 마지막으로 예약한 시도 다음 시각
+ * ({@code notification:dead-letter:replay-until})을 기록해 두고 다음 재처리는 그 시각부터 예약하여
+ * 여러 재처리가 겹쳐도 전송 속도가 {@code max-rate}를 넘지 않습니다.</p>
+ *
+ * <p>메트릭:
+ * <ul>
+ *     <li>matching.notification.dead-letter (result=added|evicted|replayed): 보관 / 한도 초과 제거 / 재처리 수</li>
+ *     <li>matching.notification.dead-letter.size: 보관 중인 데드레터 수</li>
+ * </ul>
+ * </p>
+ *
+ * @see NotificationDeadLetterStore
+ * @see NotificationDelayQueue
+ */
+@Slf4j
+@Service
+public class NotificationDeadLetterService {
+
+    public static final String REPLAY_LOCK_KEY = "notification:dead-letter:replay-lock";
+    public static final String REPLAY_UNTIL_KEY = "notification:dead-letter:replay-until"; // 다음 재처리가 시작할 수 있는 시도 시각
+
+    private static final int REPLAY_CHUNK_SIZE = 100;
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = releaseLockScript();
+
+    private final NotificationDeadLetterStore deadLetterStore;
+    private final NotificationDelayQueue delayQueue;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final Counter addedCounter;
+    private final Counter evictedCounter;
+    private final Counter replayedCounter;
+    private volatile ReplayProgress lastReplay;
+
+    @Value("${notification.dead-letter.replay.max-count:1000}")
+    private int maxReplayCount = 1000;
+
+    @Value("${notification.dead-letter.replay.max-rate:100}")
+    private int maxReplayRate = 100;
+
+    @Value("${notification.dead-letter.replay.lock-ttl-ms:60000}")
+    private long replayLockTtlMillis = 60_000; // 재처리 잠금 만료 시간 (잠금을 쥔 파드가 종료되어도 풀리도록)
+
+    public NotificationDeadLetterService(NotificationDeadLetterStore deadLetterStore,
+                                         NotificationDelayQueue delayQueue,
+                                         RedisTemplate<String, String> stringRedisTemplate,
+                                         MeterRegistry meterRegistry) {
+        this.deadLetterStore = deadLetterStore;
+        this.delayQueue = delayQueue;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.addedCounter = meterRegistry.counter("matching.notification.dead-letter", "result", "added");
+        this.evictedCounter = meterRegistry.counter("matching.notification.dead-letter", "result", "evicted");
+        this.replayedCounter = meterRegistry.counter("matching.notification.dead-letter", "result", "replayed");
+        Gauge.builder("matching.notification.dead-letter.size", deadLetterStore, store -> store.count(null))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림을 데드레터로 보관합니다.
+     *
+     * @param requests 재시도 한도를 넘은 알림 요청 목록
+     * @param reason   보관 사유
+     * @return 보관에 성공하면 true (실패 시 호출 측에서 원본을 확정하지 않아야 함)
+     */
+    public boolean deadLetter(List<NotificationRequestDto> requests, String reason) {
+        if (requests.isEmpty()) {
+            return true;
+        }
+        try {
+            long evicted = deadLetterStore.add(requests, reason, System.currentTimeMillis());
+            addedCounter.increment(requests.size());
+            evictedCounter.increment(evicted);
+            log.warn("[Notification-DLQ] 데드레터 보관: {}건 (사유: {}, 한도 초과 제거: {}건)", requests.size(), reason, evicted);
+            return true;
+        } catch (Exception e) {
+            log.error("[Notification-DLQ] 데드레터 보관 실패 ({}건): {}", requests.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 최근 보관된 순으로 데드레터를 페이지 조회합니다.
+     *
+     * @param notificationType 알림 타입 (null 이면 전체)
+     * @param page             페이지 번호 (0부터)
+     * @param size             페이지 크기
+     * @return 데드레터 페이지
+     */
+    public DeadLetterPage getDeadLetters(String notificationType, int page, int size) {
+        List<NotificationDeadLetterDto> content = deadLetterStore.page(notificationType, (long) page * size, size);
+        return DeadLetterPage.builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(deadLetterStore.count(notificationType))
+                .build();
+    }
+
+    /**
+     * @return 알림 타입 → 보관 건수
+     */
+    public Map<String, Long> countByType() {
+        return deadLetterStore.countByType();
+    }
+
+    /**
+     * 조건에 맞는 데드레터를 지정한 속도 간격으로 지연 재시도 큐에 예약하는 재처리를 시작합니다.
+     *
+     * @param notificationType 알림 타입 (null 이면 전체)
+     * @param since            보관 시각 하한 (epoch ms, null 이면 제한 없음)
+     * @param until            보관 시각 상한 (epoch ms, null 이면 현재)
+     * @param limit            최대 재처리 수 (null 이면 max-count, 최대 max-count)
+     * @param ratePerSecond    초당 재처리 수 (null 이면 max-rate, 최대 max-rate)
+     * @return 시작한 재처리 상태, 이미 (다른 파드에서라도) 재처리가 진행 중이면 empty
+     */
+    public Optional<ReplayStatus> replay(String notificationType, Long since, Long until, Integer limit, Integer ratePerSecond) {
+        String lockToken = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue()
+                .setIfAbsent(REPLAY_LOCK_KEY, lockToken, Duration.ofMillis(replayLockTtlMillis));
+        if (!Boolean.TRUE.equals(locked)) {
+            return Optional.empty();
+        }
+        try {
+            int count = Math.min(limit != null ? limit : maxReplayCount, maxReplayCount);
+            int rate = Math.max(1, Math.min(ratePerSecond != null ? ratePerSecond : maxReplayRate, maxReplayRate));
+            List<NotificationDeadLetterDto> targets = deadLetterStore.find(notificationType,
+                    since != null ? since : 0L,
+                    until != null ? until : System.currentTimeMillis(),
+                    Math.max(0, count));
+
+            ReplayProgress progress = new ReplayProgress(notificationType, targets.size(), rate);
+            lastReplay = progress;
+            log.info("[Notification-DLQ] 데드레터 재처리 시작 - 타입: {}, 대상: {}건, 속도: {}건/초",
+                    notificationType, targets.size(), rate);
+            Thread.ofVirtual().name("dead-letter-replay").start(() -> runReplay(targets, progress, lockToken));
+            return Optional.of(progress.snapshot());
+        } catch (RuntimeException e) {
+            releaseLock(lockToken);
+            throw e;
+        }
+    }
+
+    /**
+     * @return 마지막(또는 진행 중인) 재처리 상태, 재처리 이력이 없으면 empty
+     */
+    public Optional<ReplayStatus> getReplayStatus() {
+        ReplayProgress progress = lastReplay;
+        return progress == null ? Optional.empty() : Optional.of(progress.snapshot());
+    }
+
+    /**
+     * 추가가 없어도 보관 기한이 지난 데드레터가 남지 않도록 주기적으로 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${notification.dead-letter.trim-interval-ms:3600000}")
+    public void trim() {
+        try {
+            long evicted = deadLetterStore.trim(System.currentTimeMillis());
+            if (evicted > 0) {
+                evictedCounter.increment(evicted);
+                log.info("[Notification-DLQ] 보관 기한이 지난 데드레터 {}건 제거", evicted);
+            }
+        } catch (Exception e) {
+            log.error("[Notification-DLQ] 데드레터 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    // 초당 rate 건 간격의 시도 시각으로 지연 재시도 큐에 묶음 단위로 예약하고, 예약한 묶음은 데드레터에서 제거
+    private void runReplay(List<NotificationDeadLetterDto> targets, ReplayProgress progress, String lockToken) {
+        long startAt = System.currentTimeMillis();
+        try {
+            startAt = Math.max(startAt, scheduledUntil()); // 이전 재처리의 예약이 끝난 뒤부터 이어서 예약
+            for (int from = 0; from < targets.size(); from += REPLAY_CHUNK_SIZE) {
+                List<NotificationDeadLetterDto> chunk = targets.subList(from, Math.min(from + REPLAY_CHUNK_SIZE, targets.size()));
+                Map<String, Long> attemptAt = new HashMap<>(chunk.size() * 2);
+                List<NotificationRequestDto> requests = new ArrayList<>(chunk.size());
+                for (int i = 0; i < chunk.size(); i++) {
+                    NotificationRequestDto request = chunk.get(i).getRequest();
+                    request.resetRetryCount();
+                    attemptAt.put(request.getUuid(), startAt + (from + i) * 1000L / progress.ratePerSecond);
+                    requests.add(request);
+                }
+
+                delayQueue.schedule(requests, request -> attemptAt.get(request.getUuid()));
+                deadLetterStore.remove(requests.stream().map(NotificationRequestDto::getUuid).toList());
+                progress.replayed.addAndGet(requests.size());
+                replayedCounter.increment(requests.size());
+                markScheduledUntil(startAt + (from + chunk.size()) * 1000L / progress.ratePerSecond);
+            }
+        } catch (Exception e) {
+            log.error("[Notification-DLQ] 데드레터 재처리 중단 ({}/{}건): {}",
+                    progress.replayed.get(), progress.requested, e.getMessage());
+        } finally {
+            progress.finishedAt = LocalDateTime.now();
+            releaseLock(lockToken);
+            log.info("[Notification-DLQ] 데드레터 재처리 종료 - {}/{}건 예약 (마지막 시도 예정: {}초 후)", progress.replayed.get(),
+                    progress.requested, Math.max(0L, scheduledUntil() - System.currentTimeMillis()) / 1000);
+        }
+    }
+
+    // 이전 재처리가 예약한 마지막 시도의 다음 시각 (없거나 조회 실패 시 0)
+    private long scheduledUntil() {
+        try {
+            String until = stringRedisTemplate.opsForValue().get(REPLAY_UNTIL_KEY);
+            return until != null ? Long.parseLong(until) : 0L;
+        } catch (Exception e) {
+            log.warn("[Notification-DLQ] 재처리 예약 종료 시각 조회 실패: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
+    // 잠금을 쥔 재처리만 기록하며, 기록한 시각이 지나면 만료됨
+    private void markScheduledUntil(long until) {
+        long ttlMillis = until - System.currentTimeMillis();
+        if (ttlMillis > 0) {
+            stringRedisTemplate.opsForValue().set(REPLAY_UNTIL_KEY, String.valueOf(until), Duration.ofMillis(ttlMillis));
+        }
+    }
+
+    private void releaseLock(String lockToken) {
+        try {
+            stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(REPLAY_LOCK_KEY), lockToken);
+        } catch (Exception e) {
+            // 해제하지 못한 잠금은 lock-ttl-ms 이후 만료됨
+            log.warn("[Notification-DLQ] 재처리 잠금 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static RedisScript<Long> releaseLockScript() {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("redis/release-lock.lua")));
+        script.setResultType(Long.class);
+        return script;
+    }
+
+    // 진행 중인 재처리 상태 (재처리 스레드만 갱신)
+    private static class ReplayProgress {
+        private final String notificationType;
+        private final int requested;
+        private final int ratePerSecond;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger replayed = new AtomicInteger();
+        private volatile LocalDateTime finishedAt;
+
+        private ReplayProgress(String notificationType, int requested, int ratePerSecond) {
+            this.notificationType = notificationType;
+            this.requested = requested;
+            this.ratePerSecond = ratePerSecond;
+        }
+
+        private ReplayStatus snapshot() {
+            return ReplayStatus.builder()
+                    .running(finishedAt == null)
+                    .notificationType(notificationType)
+                    .requested(requested)
+                    .replayed(replayed.get())
+                    .ratePerSecond(ratePerSecond)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class DeadLetterPage {
+        private final List<NotificationDeadLetterDto> content;
+        private final int page;
+        private final int size;
+        private final long totalElements;
+    }
+
+    @Getter
+    @Builder
+    public static class ReplayStatus {
+        private final boolean running;
+        private final String notificationType; // null 이면 전체
+        private final int requested;           // 재처리 대상 수
+        private final int replayed;            // 지연 재시도 큐에 예약한 수
+        private final int ratePerSecond;
+        private final LocalDateTime startedAt;
+        private final LocalDateTime finishedAt;
+    }
+}
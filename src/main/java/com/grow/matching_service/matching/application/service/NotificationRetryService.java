@@ -1,24 +1,69 @@
 package com.grow.matching_service.matching.application.service;
 
 import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue;
 import com.grow.matching_service.matching.application.service.queue.QueueService;
 import com.grow.matching_service.matching.presentation.client.NotificationServiceClient;
-import lombok.RequiredArgsConstructor;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 /**
  * 알림 재전송을 위한 스케줄링 서비스 클래스.
  * Redis 큐에 저장된 알림 요청을 주기적으로 dequeue하여 재전송을 시도합니다.
  * 이는 Notification 서비스의 장애 시 fallback으로 저장된 요청을 처리하기 위한 목적으로 사용됩니다.
  *
  * <p>이 서비스는 Spring의 {@link Scheduled} 어노테이션을 사용하여 주기적으로 실행되며,
- * 큐에서 요청을 꺼내 재전송을 시도합니다. 재시도 횟수가 초과된 경우 경고 로그를 남기고 스킵합니다.</p>
+ * 큐에서 요청을 꺼내 재전송을 시도합니다. 재시도 횟수가 초과된 경우 경고 로그를 남기고 데드레터로 보관합니다.</p>
+ *
+ * <p>기본적으로 배치 모드로 동작합니다. 한 번의 왕복으로 {@code notification.retry.batch-size}(기본 100)건을 꺼내고,
+ * 가상 스레드에서 최대 {@code notification.retry.concurrency}(기본 8)건씩 동시에 재전송한 뒤,
+ * 성공 건은 한 번에 확정하고 실패 건은 한 번에 지연 재시도를 예약합니다. 장시간 장애 후 적체된 요청을 건별 동기 전송보다 빠르게 소진합니다.
+ * {@code notification.retry.batch.enabled=false}이면 기존처럼 한 건씩 꺼내 동기 전송합니다.</p>
+ *
+ * <p>재전송에 실패한 요청은 큐에 곧바로 다시 넣지 않고 {@link NotificationDelayQueue}에 다음 시도 시각으로 예약합니다.
+ * 시도 간격은 재시도 횟수에 따라 {@code notification.retry.backoff.base-ms}(기본 30초)부터 두 배씩 늘어나
+ * {@code max-ms}(기본 30분)에서 멈추고, {@code jitter}(기본 0.5) 비율만큼 무작위로 앞당겨 같은 시각에 실패한 요청이
+ * 한꺼번에 재시도되지 않도록 분산합니다. 예약된 요청은 {@link #retryDue()}가 {@code notification.retry.delay.poll-ms}
+ * (기본 1초)마다 시각이 지난 것만 선점하여 전용 스레드에서 재전송합니다.</p>
+ *
+ * <p>한 회차에 보내는 수는 {@link NotificationRetryThrottle}이 서킷 브레이커 상태에 따라 정합니다.
+ * OPEN 이면 소진을 멈추고, HALF_OPEN 이면 시험 호출 수만큼만 보내며, CLOSED 로 돌아오면 점차 배치 크기까지 늘립니다.
+ * 서킷 브레이커가 호출을 차단한 요청은 실제로 전송을 시도하지 않았으므로 재시도 횟수를 올리지 않고 그대로 되돌립니다.</p>
+ *
+ * <p>메트릭:
+ * <ul>
+ *     <li>matching.notification.retry (result=success|failure|dropped|rejected): 재전송 성공 / 실패(지연 재시도 예약) / 재시도 한도 초과 데드레터 보관 / 서킷 브레이커 차단 수 (소진 속도)</li>
+ *     <li>matching.notification.retry.backlog: 재시도 큐 적체 수</li>
+ *     <li>matching.notification.retry.delayed: 지연 재시도 예약 수</li>
+ *     <li>matching.notification.retry.drain.duration: 회차별 소진 소요 시간</li>
+ * </ul>
+ * </p>
  *
  * <p>의존성:
  * <ul>
  *     <li>{@link QueueService}: Redis 큐 관리를 위한 서비스</li>
+ *     <li>{@link NotificationDelayQueue}: 실패한 요청의 지연 재시도 예약</li>
+ *     <li>{@link NotificationDeadLetterService}: 재시도 한도를 넘은 요청의 데드레터 보관</li>
+ *     <li>{@link NotificationRetryThrottle}: 서킷 브레이커 상태에 따른 소진 속도 조절</li>
  *     <li>{@link NotificationServiceClient}: 알림 전송을 위한 Feign 클라이언트</li>
  * </ul>
  * </p>
@@ -30,49 +75,371 @@ import org.springframework.stereotype.Service;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NotificationRetryService {
 
+    private static final String DEAD_LETTER_REASON = "재시도 횟수 초과";
+
     private final QueueService queueService;
+    private final NotificationDelayQueue delayQueue;
+    private final NotificationDeadLetterService deadLetterService;
+    private final NotificationRetryThrottle throttle;
     private final NotificationServiceClient notificationServiceClient;
+    private final ExecutorService virtualExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("notification-retry-", 1).factory());
+    // 적체 소진은 외부 호출이 길어 공용 스케줄러 스레드(아웃박스 릴레이, 지연 재시도 선점 등)를 붙잡지 않도록 별도 스레드에서 수행
+    private final ExecutorService drainExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("notification-retry-drain").factory());
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // 지연 재시도 재전송도 외부 호출을 기다리므로 공용 스케줄러 스레드 대신 전용 스레드에서 수행
+    private final ExecutorService dueExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("notification-retry-due").factory());
+    private final AtomicBoolean pollingDue = new AtomicBoolean();
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter droppedCounter;
+    private final Counter rejectedCounter;
+    private final Timer drainTimer;
+
+    @Value("${notification.retry.batch.enabled:true}")
+    private boolean batchEnabled = true;
+
+    @Value("${notification.retry.batch-size:100}")
+    private int batchSize = 100;
+
+    @Value("${notification.retry.concurrency:8}")
+    private int concurrency = 8;
+
+    @Value("${notification.retry.backoff.base-ms:30000}")
+    private long backoffBaseMillis = 30_000;
+
+    @Value("${notification.retry.backoff.max-ms:1800000}")
+    private long backoffMaxMillis = 1_800_000;
+
+    @Value("${notification.retry.backoff.jitter:0.5}")
+    private double backoffJitter = 0.5;
+
+    @Value("${notification.retry.delay.lease-ms:60000}")
+    private long leaseMillis = 60_000;
+
+    public NotificationRetryService(QueueService queueService,
+                                    NotificationDelayQueue delayQueue,
+                                    NotificationDeadLetterService deadLetterService,
+                                    NotificationRetryThrottle throttle,
+                                    NotificationServiceClient notificationServiceClient,
+                                    MeterRegistry meterRegistry) {
+        this.queueService = queueService;
+        this.delayQueue = delayQueue;
+        this.deadLetterService = deadLetterService;
+        this.throttle = throttle;
+        this.notificationServiceClient = notificationServiceClient;
+        this.successCounter = meterRegistry.counter("matching.notification.retry", "result", "success");
+        this.failureCounter = meterRegistry.counter("matching.notification.retry", "result", "failure");
+        this.droppedCounter = meterRegistry.counter("matching.notification.retry", "result", "dropped");
+        this.rejectedCounter = meterRegistry.counter("matching.notification.retry", "result", "rejected");
+        this.drainTimer = meterRegistry.timer("matching.notification.retry.drain.duration");
+        Gauge.builder("matching.notification.retry.backlog", queueService, QueueService::size)
+                .register(meterRegistry);
+        Gauge.builder("matching.notification.retry.delayed", delayQueue, NotificationDelayQueue::size)
+                .register(meterRegistry);
+    }
 
     /**
      * Redis 큐에 저장된 알림 요청을 10분마다 재전송 시도하는 스케줄링 메서드.
      *
-     * <p>이 메서드는 {@link Scheduled} 어노테이션에 의해 fixedRate(고정 간격)로 실행됩니다.
+     * <p>이 메서드는 {@link Scheduled} 어노테이션에 의해 fixedRate(고정 간격)로 실행되며,
+     * 소진은 전용 스레드({@code notification-retry-drain})에 넘기고 곧바로 반환합니다. 이전 회차가 아직 진행 중이면 이번 회차는 건너뜁니다.
      * 큐에서 요청을 dequeue하여 {@link NotificationServiceClient#sendNotification(NotificationRequestDto)}를 호출합니다.
-     * 성공 시 로그를 남기고 루프를 종료합니다. 실패 시 재시도 횟수를 증가시키고 큐에 다시 enqueue 합니다.</p>
+     * 성공 시 로그를 남기고 루프를 종료합니다. 실패 시 재시도 횟수를 증가시키고 백오프 후 시각으로 지연 재시도를 예약합니다.</p>
      *
      * <p>동작 순서:
      * <ol>
-     *     <li>큐가 비어 있을 때까지 while 루프로 dequeue를 반복합니다.</li>
-     *     <li>재시도 횟수가 3회 이상이면 경고 로그를 남기고 스킵합니다.</li>
-     *     <li>전송 시도 중 예외 발생 시 큐에 다시 추가합니다.</li>
+     *     <li>큐가 비어 있을 때까지 while 루프로 dequeue를 반복합니다. (배치 모드는 회차 시작 시점의 적체 수만큼만 처리)</li>
+     *     <li>재시도 횟수가 3회 이상이면 경고 로그를 남기고 데드레터로 보관합니다.</li>
+     *     <li>전송 성공 또는 데드레터 보관 시 처리를 확정(acknowledge)합니다. 확정하지 않은 요청은 다른 인스턴스가 회수할 수 있습니다.</li>
+     *     <li>전송 시도 중 예외 발생 시 지연 재시도 큐에 예약합니다. (예약에 실패하면 큐에 다시 추가)</li>
      * </ol>
      * </p>
      *
      * @see org.springframework.scheduling.annotation.Scheduled#fixedRate()
-     * @see QueueService#dequeueNotification()
-     * @see QueueService#enqueueNotification(NotificationRequestDto)
+     * @see QueueService#dequeueNotifications(int)
+     * @see QueueService#acknowledgeAll(List)
+     * @see NotificationDelayQueue#schedule
      * @see NotificationServiceClient#sendNotification(NotificationRequestDto)
      */
     @Scheduled(fixedRate = 60000 * 10) // 10분마다 실행
     public void retryNotifications() {
+        if (!draining.compareAndSet(false, true)) {
+            log.info("[Notification] 이전 재시도 큐 소진이 진행 중이므로 이번 회차를 건너뜁니다.");
+            return;
+        }
+        try {
+            drainExecutor.execute(() -> {
+                try {
+                    drain();
+                } finally {
+                    draining.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            draining.set(false); // 종료 중
+        }
+    }
+
+    // 재시도 큐 소진 (소진 전용 스레드에서 실행)
+    void drain() {
+        if (batchEnabled) {
+            drainTimer.record(this::drainBatches);
+        } else {
+            drainTimer.record(this::drainEach);
+        }
+    }
+
+    // 배치 단위 소진: 회차 중에 새로 들어온 요청을 계속 쫓아가지 않도록 시작 시점의 적체 수까지만 처리
+    private void drainBatches() {
+        long budget = backlog();
+        long drained = 0;
+        while (drained < budget) {
+            int permitted = throttle.permits((int) Math.min(Math.max(1, batchSize), budget - drained));
+            if (permitted == 0) {
+                log.info("[Notification] 서킷 브레이커 OPEN - 재시도 큐 소진 중지 (남은 적체: {}건)", budget - drained);
+                break;
+            }
+            List<NotificationRequestDto> batch = queueService.dequeueNotifications(permitted);
+            if (batch.isEmpty()) {
+                break;
+            }
+            drained += batch.size();
+            retryBatch(batch, false);
+        }
+        if (drained > 0) {
+            log.info("[Notification] 재시도 큐 소진 완료 - 처리: {}건, 남은 적체: {}건", drained, backlog());
+        }
+    }
+
+    /**
+     * 지연 재시도 큐에서 시도 시각이 지난 요청을 선점하여 재전송합니다.
+     * 재전송은 전용 스레드({@code notification-retry-due})에 넘기고 곧바로 반환하며, 이전 회차가 아직 진행 중이면 건너뜁니다.
+     *
+     * @see NotificationDelayQueue#claimDue(long, int, long)
+     */
+    @Scheduled(fixedDelayString = "${notification.retry.delay.poll-ms:1000}")
+    public void retryDue() {
+        if (!pollingDue.compareAndSet(false, true)) {
+            return; // 이전 회차 진행 중
+        }
+        try {
+            dueExecutor.execute(() -> {
+                try {
+                    drainDue();
+                } finally {
+                    pollingDue.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pollingDue.set(false); // 종료 중
+        }
+    }
+
+    // 시각이 지난 지연 재시도 요청 재전송 (전용 스레드에서 실행)
+    // 선점한 요청 수가 허용 수에 닿으면 남은 요청이 있을 수 있으므로 이어서 선점
+    void drainDue() {
+        int limit;
+        List<NotificationRequestDto> due;
+        do {
+            limit = throttle.permits(Math.max(1, batchSize));
+            if (limit == 0) {
+                return; // 서킷 브레이커 OPEN: 시각이 지난 요청은 닫힐 때까지 대기
+            }
+            try {
+                due = delayQueue.claimDue(System.currentTimeMillis(), limit, leaseMillis);
+            } catch (Exception e) {
+                log.error("[Notification] 지연 재시도 선점 실패: {}", e.getMessage());
+                return;
+            }
+            if (!due.isEmpty()) {
+                retryBatch(due, true);
+            }
+        } while (due.size() == limit);
+    }
+
+    /**
+     * 다음 시도 시각을 계산합니다. (지수 백오프 + 지터)
+     * 간격은 base × 2^(재시도 횟수 - 1), 최대 max 이며, 그중 jitter 비율 구간에서 무작위로 앞당깁니다.
+     *
+     * @param request 재시도 횟수를 올린 알림 요청
+     * @param now     현재 시각 (epoch ms)
+     * @return 다음 시도 시각 (epoch ms)
+     */
+    long nextAttemptAt(NotificationRequestDto request, long now) {
+        int exponent = Math.min(Math.max(0, request.getRetryCount() - 1), 30);
+        long delay = Math.min(backoffMaxMillis, backoffBaseMillis << exponent);
+        long jitterSpan = (long) (delay * Math.min(1.0, Math.max(0.0, backoffJitter)));
+        long jitter = jitterSpan > 0 ? ThreadLocalRandom.current().nextLong(jitterSpan + 1) : 0L;
+        return now + delay - jitter;
+    }
+
+    private void retryBatch(List<NotificationRequestDto> batch, boolean delayed) {
+        List<NotificationRequestDto> exhausted = new ArrayList<>();
+        List<NotificationRequestDto> sendable = new ArrayList<>(batch.size());
+        for (NotificationRequestDto request : batch) {
+            (checkRetryCount(request) ? exhausted : sendable).add(request);
+        }
+
+        // 재전송은 가상 스레드에서 동시에 수행 (동시 전송 수 제한)
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        List<Future<Outcome>> futures = new ArrayList<>(sendable.size());
+        for (NotificationRequestDto request : sendable) {
+            futures.add(virtualExecutor.submit(() -> resend(request, permits)));
+        }
+
+        List<NotificationRequestDto> delivered = new ArrayList<>(sendable.size());
+        List<NotificationRequestDto> failed = new ArrayList<>();
+        List<NotificationRequestDto> rejected = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            switch (await(futures.get(i))) {
+                case DELIVERED -> delivered.add(sendable.get(i));
+                case FAILED -> failed.add(sendable.get(i));
+                case REJECTED -> rejected.add(sendable.get(i));
+            }
+        }
+        throttle.record(delivered.size(), failed.size());
+
+        // 실패 건은 재시도 횟수를 올려 지연 재시도를 예약하고, 한도 초과 건은 데드레터로 보관한 뒤 성공 건과 함께 한 번에 확정
+        failed.forEach(NotificationRequestDto::increaseRetryCount);
+        boolean scheduled = scheduleRetries(failed);
+        int succeeded = delivered.size();
+        boolean deadLettered = deadLetterService.deadLetter(exhausted, DEAD_LETTER_REASON);
+        if (deadLettered) {
+            delivered.addAll(exhausted);
+        } else if (!delayed) {
+            queueService.requeueAll(exhausted); // 보관하지 못한 건은 확정하지 않고 큐에 다시 추가
+        }
+        settle(delivered, failed, scheduled, delayed);
+        if (!delayed && !rejected.isEmpty()) {
+            // 차단된 건은 시도하지 않았으므로 재시도 횟수 그대로 큐에 되돌림 (지연 재시도 건은 임대 만료 후 다시 선점)
+            queueService.requeueAll(rejected);
+        }
+
+        successCounter.increment(succeeded);
+        failureCounter.increment(failed.size());
+        rejectedCounter.increment(rejected.size());
+        if (deadLettered) {
+            droppedCounter.increment(exhausted.size());
+        }
+        log.info("[Notification] 재전송 배치 - 성공: {}, 실패: {}, 차단: {}, 데드레터: {}",
+                succeeded, failed.size(), rejected.size(), deadLettered ? exhausted.size() : 0);
+    }
+
+    private Outcome resend(NotificationRequestDto request, Semaphore permits) throws InterruptedException {
+        permits.acquire();
+        try {
+            notificationServiceClient.sendNotification(request);
+            return Outcome.DELIVERED;
+        } catch (CallNotPermittedException e) {
+            return Outcome.REJECTED; // 배치 도중 서킷 브레이커가 열림
+        } catch (Exception e) {
+            log.warn("[Notification] 재전송 실패 - memberId: {}, 원인: {}", request.getMemberId(), e.getMessage());
+            return Outcome.FAILED;
+        } finally {
+            permits.release();
+        }
+    }
+
+    // 예약 후 확정하므로 중간에 종료되어도 유실 없이 최소 한 번 재시도됨
+    private boolean scheduleRetries(List<NotificationRequestDto> failed) {
+        if (failed.isEmpty()) {
+            return true;
+        }
+        try {
+            long now = System.currentTimeMillis();
+            delayQueue.schedule(failed, request -> nextAttemptAt(request, now));
+            return true;
+        } catch (Exception e) {
+            log.error("[Notification] 지연 재시도 예약 실패 ({}건): {}", failed.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private void settle(List<NotificationRequestDto> done,
+                        List<NotificationRequestDto> failed,
+                        boolean scheduled,
+                        boolean delayed) {
+        if (delayed) {
+            // 실패 건은 예약 시 시각이 갱신되었고, 예약에 실패해도 임대 만료 후 다시 선점됨
+            try {
+                delayQueue.remove(done);
+            } catch (Exception e) {
+                log.error("[Notification] 지연 재시도 확정 실패 ({}건): {}", done.size(), e.getMessage());
+            }
+            return;
+        }
+        if (scheduled) {
+            List<NotificationRequestDto> settled = new ArrayList<>(done);
+            settled.addAll(failed);
+            queueService.acknowledgeAll(settled);
+        } else {
+            queueService.acknowledgeAll(done);
+            queueService.requeueAll(failed); // 예약하지 못한 실패 건은 큐에 다시 추가
+        }
+    }
+
+    // 대기 중 인터럽트되면 남은 전송은 취소하고 실패로 처리 (지연 재시도 예약)
+    private Outcome await(Future<Outcome> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return Outcome.FAILED;
+        } catch (ExecutionException e) {
+            return Outcome.FAILED;
+        }
+    }
+
+    // 건별 동기 소진 (notification.retry.batch.enabled=false)
+    private void drainEach() {
         NotificationRequestDto request;
-        while ((request = queueService.dequeueNotification()) != null) {
-            if (checkRetryCount(request)) continue;
+        while (throttle.permits(1) > 0 && (request = queueService.dequeueNotification()) != null) {
+            if (checkRetryCount(request)) {
+                // 재시도 한도 초과 요청은 데드레터로 보관 후 확정 (보관 실패 시 큐에 다시 추가하고 이번 회차 종료)
+                if (!deadLetterService.deadLetter(List.of(request), DEAD_LETTER_REASON)) {
+                    queueService.requeue(request);
+                    return;
+                }
+                queueService.acknowledge(request);
+                droppedCounter.increment();
+                continue;
+            }
             log.info("Redis 큐에서 알림 재전송 중: {}", request.getContent());
             try {
                 notificationServiceClient.sendNotification(request);
+                queueService.acknowledge(request); // 재전송 성공 확정
+                successCounter.increment();
+                throttle.record(1, 0);
                 log.info("[Notification] Redis 큐에서 알림 재전송 성공: {}", request.getContent());
+            } catch (CallNotPermittedException e) {
+                queueService.requeue(request); // 차단된 요청은 재시도 횟수 그대로 되돌리고 이번 회차 종료
+                rejectedCounter.increment();
+                return;
             } catch (Exception e) {
-                log.error("[Notification] 재전송 실패, 큐에 다시 추가");
+                log.error("[Notification] 재전송 실패, 지연 재시도 예약");
                 request.increaseRetryCount(); // 재시도 횟수 증가
-                queueService.enqueueNotification(request); // 재전송 실패시 큐에 다시 추가
+                settle(List.of(), List.of(request), scheduleRetries(List.of(request)), false);
+                failureCounter.increment();
+                throttle.record(0, 1);
             }
         }
     }
 
+    private long backlog() {
+        try {
+            return queueService.size();
+        } catch (Exception e) {
+            log.error("[Notification] 재시도 큐 크기 조회 실패: {}", e.getMessage());
+            return 0L;
+        }
+    }
+
     private boolean checkRetryCount(NotificationRequestDto request) {
         if (request.getRetryCount() >= 3) { // 최대 3회 제한
             log.warn("[Notification] 재시도 횟수 초과: {}", request.getContent());
@@ -80,4 +447,17 @@ public class NotificationRetryService {
         }
         return false;
     }
+
+    private enum Outcome {
+        DELIVERED, // 전송 성공
+        FAILED,    // 전송 실패 (재시도 횟수 증가)
+        REJECTED   // 서킷 브레이커 차단 (전송 시도 안 함)
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        drainExecutor.shutdownNow(); // 소진 중이면 인터럽트 (남은 전송은 실패로 처리되어 지연 재시도 예약)
+        dueExecutor.shutdownNow();
+        virtualExecutor.close(); // 진행 중인 재전송이 끝날 때까지 대기
+    }
 }
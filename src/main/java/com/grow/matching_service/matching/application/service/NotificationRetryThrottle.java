@@ -0,0 +1,95 @@
+package com.grow.matching_service.matching.application.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 서비스 서킷 브레이커 상태에 따라 재시도 소진 속도를 조절하는 클래스.
+ *
+ * <p>{@code notificationCircuitBreaker}가 OPEN 이면 보내 봐야 호출이 차단(또는 fallback 으로 큐에 재저장)될 뿐이므로
+ * 소진을 멈추고, HALF_OPEN 이면 서킷 브레이커가 허용하는 시험 호출 수만큼만 보냅니다.
+ * CLOSED 로 돌아오면 시험 호출 수부터 시작해 실패 없이 처리한 회차마다 두 배씩 늘려 배치 크기까지 회복하고,
+ * 실패가 섞이면 절반으로 줄입니다. (복구 직후의 알림 서비스에 적체 요청이 한꺼번에 몰리지 않도록)</p>
+ *
+ * <p>메트릭:
+ * <ul>
+ *     <li>matching.notification.retry.window: 현재 회차당 재전송 허용 수</li>
+ * </ul>
+ * </p>
+ *
+ * @see NotificationRetryService
+ */
+@Slf4j
+@Component
+public class NotificationRetryThrottle {
+
+    public static final String CIRCUIT_BREAKER_NAME = "notificationCircuitBreaker";
+
+    private final CircuitBreaker circuitBreaker;
+    private final int probeSize;
+    private final int maxWindow;
+    private volatile int window;
+
+    public NotificationRetryThrottle(
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retry.batch-size:100}") int batchSize) {
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.probeSize = Math.max(1, circuitBreaker.getCircuitBreakerConfig().getPermittedNumberOfCallsInHalfOpenState());
+        this.maxWindow = Math.max(probeSize, batchSize);
+        this.window = maxWindow;
+        circuitBreaker.getEventPublisher().onStateTransition(event -> onTransition(event.getStateTransition().getToState()));
+        Gauge.builder("matching.notification.retry.window", this, throttle -> throttle.permits(throttle.maxWindow))
+                .register(meterRegistry);
+    }
+
+    /**
+     * 이번 회차에 재전송할 수 있는 요청 수를 반환합니다.
+     *
+     * @param requested 보내려는 요청 수
+     * @return 허용 수 (0 이면 소진 일시 중지)
+     */
+    public int permits(int requested) {
+        return switch (circuitBreaker.getState()) {
+            case OPEN, FORCED_OPEN -> 0;
+            case HALF_OPEN -> Math.min(requested, probeSize);
+            case CLOSED -> Math.min(requested, window);
+            default -> requested; // DISABLED, METRICS_ONLY: 호출이 차단되지 않음
+        };
+    }
+
+    /**
+     * 재전송 회차 결과를 반영하여 허용 수를 조절합니다. (CLOSED 상태에서만)
+     *
+     * @param succeeded 성공 수
+     * @param failed    실패 수
+     */
+    public synchronized void record(int succeeded, int failed) {
+        if (circuitBreaker.getState() != CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        if (failed > 0) {
+            window = Math.max(probeSize, window / 2);
+        } else if (succeeded > 0 && window < maxWindow) {
+            window = Math.min(maxWindow, window * 2);
+            log.info("[Notification] 재시도 소진 속도 회복 중 - 회차당 {}건", window);
+        }
+    }
+
+    private synchronized void onTransition(CircuitBreaker.State state) {
+        switch (state) {
+            case OPEN, FORCED_OPEN -> log.warn("[Notification] 서킷 브레이커 OPEN - 재시도 소진 일시 중지");
+            case HALF_OPEN -> log.info("[Notification] 서킷 브레이커 HALF_OPEN - 시험 재전송 {}건 허용", probeSize);
+            case CLOSED -> {
+                window = probeSize; // 시험 호출 수부터 다시 늘려 감
+                log.info("[Notification] 서킷 브레이커 CLOSED - 재시도 소진 재개 (회차당 {}건부터)", window);
+            }
+            default -> window = maxWindow;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.grow.matching_service.matching.application.service.queue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.matching_service.matching.application.dto.NotificationDeadLetterDto;
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 재시도 한도를 넘은 알림의 데드레터 저장소.
+ * <p>
+ * 재시도 한도를 넘은 알림을 버리지 않고 보관하여 장시간 장애 후에도 관리자가 조회 · 재처리할 수 있도록 합니다.
+ * 저장 공간은 {@code notification.dead-letter.max-size}(기본 10,000건)와 {@code max-age-ms}(기본 7일)로 제한되며,
+ * 추가할 때마다(redis/add-dead-letters.lua) 기한이 지난 항목과 개수를 넘는 가장 오래된 항목을 함께 제거합니다.
+ * <ul>
+ *     <li>notification:{dead}:index (ZSET): uuid → 보관 시각 (epoch ms)</li>
+ *     <li>notification:{dead}:index:{알림 타입} (ZSET): 타입별 인덱스 (타입 필터 조회 · 건수 집계용)</li>
+ *     <li>notification:{dead}:types (SET): 보관 중인 알림 타입</li>
+ *     <li>notification:{dead}:payloads (HASH): uuid → {@link NotificationDeadLetterDto} JSON</li>
+ * </ul>
+ * 스크립트는 타입별 인덱스 키를 보관 중인 타입 목록(SET)을 읽은 뒤에야 알 수 있어 KEYS 로 미리 넘길 수 없으므로,
+ * 모든 키에 해시 태그 {dead}를 붙여 Redis Cluster 에서도 같은 슬롯에 둡니다.
+ */
+@Slf4j
+@Component
+public class NotificationDeadLetterStore {
+
+    public static final String INDEX_KEY = "notification:{dead}:index";
+    public static final String TYPE_INDEX_KEY = "notification:{dead}:index:";
+    public static final String TYPES_KEY = "notification:{dead}:types";
+    public static final String PAYLOAD_KEY = "notification:{dead}:payloads";
+    public static final String UNKNOWN_TYPE = "UNKNOWN";
+
+    private static final List<String> KEYS = List.of(INDEX_KEY, PAYLOAD_KEY, TYPES_KEY);
+    private static final RedisScript<Long> ADD_SCRIPT = script("redis/add-dead-letters.lua");
+    private static final RedisScript<Long> REMOVE_SCRIPT = script("redis/remove-dead-letters.lua");
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    @Getter
+    private final long maxSize;
+    @Getter
+    private final Duration maxAge;
+
+    public NotificationDeadLetterStore(
+            RedisTemplate<String, String> stringRedisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${notification.dead-letter.max-size:10000}") long maxSize,
+            @Value("${notification.dead-letter.max-age-ms:604800000}") long maxAgeMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.maxSize = Math.max(1, maxSize);
+        this.maxAge = Duration.ofMillis(maxAgeMillis);
+    }
+
+    /**
+     * 알림을 데드레터로 보관하고, 보관 한도를 넘는 항목을 제거합니다. (스크립트 1회)
+     *
+     * @param requests 보관할 알림 요청 목록
+     * @param reason   보관 사유
+     * @param now      현재 시각 (epoch ms)
+     * @return 한도를 넘어 제거된 항목 수
+     */
+    public long add(List<NotificationRequestDto> requests, String reason, long now) {
+        List<String> args = new ArrayList<>(3 + requests.size() * 4);
+        args.add(TYPE_INDEX_KEY);
+        args.add(String.valueOf(maxSize));
+        args.add(String.valueOf(now - maxAge.toMillis()));
+        for (NotificationRequestDto request : requests) {
+            NotificationDeadLetterDto deadLetter = NotificationDeadLetterDto.builder()
+                    .request(request)
+                    .reason(reason)
+                    .deadAt(now)
+                    .build();
+            try {
+                String payload = objectMapper.writeValueAsString(deadLetter);
+                args.add(request.getUuid());
+                args.add(String.valueOf(now));
+                args.add(typeOf(request));
+                args.add(payload);
+            } catch (JsonProcessingException e) {
+                log.error("[Notification-DLQ] 데드레터 직렬화 실패: {} ({})", e.getMessage(), request.getUuid());
+            }
+        }
+        Long evicted = stringRedisTemplate.execute(ADD_SCRIPT, KEYS, args.toArray());
+        return evicted != null ? evicted : 0L;
+    }
+
+    /**
+     * 보관 기한이 지나거나 최대 개수를 넘는 항목을 제거합니다.
+     *
+     * @param now 현재 시각 (epoch ms)
+     * @return 제거된 항목 수
+     */
+    public long trim(long now) {
+        return add(List.of(), null, now);
+    }
+
+    /**
+     * 최근 보관된 순으로 데드레터를 조회합니다.
+     *
+     * @param notificationType 알림 타입 (null 이면 전체)
+     * @param offset           건너뛸 항목 수
+     * @param size             조회할 항목 수
+     * @return 데드레터 목록 (최신순)
+     */
+    public List<NotificationDeadLetterDto> page(String notificationType, long offset, int size) {
+        Set<String> uuids = stringRedisTemplate.opsForZSet()
+                .reverseRange(indexKey(notificationType), offset, offset + size - 1);
+        return load(uuids);
+    }
+
+    /**
+     * 보관 시각 범위의 데드레터를 오래된 순으로 조회합니다. (재처리 대상 선정용)
+     *
+     * @param notificationType 알림 타입 (null 이면 전체)
+     * @param since            보관 시각 하한 (epoch ms, 포함)
+     * @param until            보관 시각 상한 (epoch ms, 포함)
+     * @param limit            최대 개수
+     * @return 데드레터 목록 (오래된 순)
+     */
+    public List<NotificationDeadLetterDto> find(String notificationType, long since, long until, int limit) {
+        Set<String> uuids = stringRedisTemplate.opsForZSet()
+                .rangeByScore(indexKey(notificationType), since, until, 0, limit);
+        return load(uuids);
+    }
+
+    /**
+     * @param notificationType 알림 타입 (null 이면 전체)
+     * @return 보관 중인 데드레터 수
+     */
+    public long count(String notificationType) {
+        Long count = stringRedisTemplate.opsForZSet().zCard(indexKey(notificationType));
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 알림 타입별 보관 건수를 집계합니다. (파이프라인 1회)
+     *
+     * @return 알림 타입 → 보관 건수 (타입 이름순)
+     */
+    public Map<String, Long> countByType() {
+        Set<String> members = stringRedisTemplate.opsForSet().members(TYPES_KEY);
+        if (members == null || members.isEmpty()) {
+            return Map.of();
+        }
+        List<String> types = new ArrayList<>(members);
+        List<Object> counts = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                types.forEach(type -> ops.opsForZSet().zCard(TYPE_INDEX_KEY + type));
+                return null;
+            }
+        });
+        Map<String, Long> result = new TreeMap<>();
+        for (int i = 0; i < types.size(); i++) {
+            long count = ((Number) counts.get(i)).longValue();
+            if (count > 0) {
+                result.put(types.get(i), count);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 재처리한 항목을 제거합니다. (스크립트 1회)
+     *
+     * @param uuids 제거할 알림 uuid 목록
+     * @return 제거된 항목 수
+     */
+    public long remove(List<String> uuids) {
+        if (uuids.isEmpty()) {
+            return 0L;
+        }
+        List<String> args = new ArrayList<>(uuids.size() + 1);
+        args.add(TYPE_INDEX_KEY);
+        args.addAll(uuids);
+        Long removed = stringRedisTemplate.execute(REMOVE_SCRIPT, KEYS, args.toArray());
+        return removed != null ? removed : 0L;
+    }
+
+    private List<NotificationDeadLetterDto> load(Set<String> uuids) {
+        if (uuids == null || uuids.isEmpty()) {
+            return List.of();
+        }
+        List<Object> payloads = stringRedisTemplate.opsForHash().multiGet(PAYLOAD_KEY, new ArrayList<>(uuids));
+        List<NotificationDeadLetterDto> deadLetters = new ArrayList<>(payloads.size());
+        for (Object payload : payloads) {
+            if (payload == null) {
+                continue; // 조회 사이에 제거된 항목
+            }
+            try {
+                deadLetters.add(objectMapper.readValue(payload.toString(), NotificationDeadLetterDto.class));
+            } catch (JsonProcessingException e) {
+                log.error("[Notification-DLQ] 데드레터 역직렬화 실패: {}", e.getMessage());
+            }
+        }
+        return deadLetters;
+    }
+
+    private static String indexKey(String notificationType) {
+        return notificationType == null ? INDEX_KEY : TYPE_INDEX_KEY + notificationType;
+    }
+
+    private static String typeOf(NotificationRequestDto request) {
+        return Objects.requireNonNullElse(request.getNotificationType(), UNKNOWN_TYPE);
+    }
+
+    private static RedisScript<Long> script(String path) {
+        DefaultRedisScript<Long> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(Long.class);
+        return script;
+    }
+}
@@ -0,0 +1,172 @@
+package com.grow.matching_service.matching.application.service.queue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * 재전송 실패 알림의 지연 재시도 큐.
+ * <p>
+ * 실패한 알림을 곧바로 재시도 큐에 다시 넣으면 같은 회차에 다시 꺼내져 장애 중인 알림 서비스로 반복 전송되므로,
+ * 요청별 다음 시도 시각을 점수로 하는 ZSET 에 예약하고 시각이 지난 요청만 선점하여 재전송합니다.
+ * <ul>
+ *     <li>notification:retry:delayed (ZSET): uuid → 다음 시도 시각 (epoch ms)</li>
+ *     <li>{notification:retry:delayed}:payloads (HASH): uuid → 알림 요청 JSON</li>
+ * </ul>
+ * 스크립트는 두 키를 함께 다루므로, 내용 HASH 키는 ZSET 키 이름 전체를 해시 태그로 붙여 Redis Cluster 에서도 같은 슬롯에 둡니다.
+ * 이전 내용 키(notification:retry:payloads)에 남은 항목은 {@link #drainLegacyPayloads()}가 옮깁니다.
+ * 선점(redis/claim-due-retries.lua)은 항목을 삭제하지 않고 임대 만료 시각으로 미뤄 두므로, 선점한 노드가
+ * {@link #remove} 또는 {@link #schedule} 로 확정하지 못하고 종료되어도 임대 만료 후 다시 선점됩니다. (최소 한 번 보장)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationDelayQueue {
+
+    public static final String DELAYED_KEY = "notification:retry:delayed";
+    public static final String PAYLOAD_KEY = "{notification:retry:delayed}:payloads"; // DELAYED_KEY 와 같은 슬롯
+    public static final String LEGACY_PAYLOAD_KEY = "notification:retry:payloads"; // 해시 태그 적용 전 내용 키
+
+    private static final RedisScript<Long> SCHEDULE_SCRIPT = script("redis/schedule-retries.lua", Long.class);
+    private static final RedisScript<List> CLAIM_SCRIPT = script("redis/claim-due-retries.lua", List.class);
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 알림 요청을 지정한 시각에 재시도하도록 예약합니다. 이미 예약(또는 선점)된 uuid 는 시각과 내용을 갱신합니다. (스크립트 1회)
+     *
+     * @param requests  예약할 알림 요청 목록
+     * @param attemptAt 요청별 다음 시도 시각 (epoch ms)
+     */
+    public void schedule(List<NotificationRequestDto> requests, ToLongFunction<NotificationRequestDto> attemptAt) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(requests.size() * 3);
+        for (NotificationRequestDto request : requests) {
+            try {
+                String payload = objectMapper.writeValueAsString(request);
+                args.add(request.getUuid());
+                args.add(String.valueOf(attemptAt.applyAsLong(request)));
+                args.add(payload);
+            } catch (JsonProcessingException e) {
+                log.error("[Notification-Retry] 알림 요청 직렬화 실패, 재시도 예약 생략: {} ({})", e.getMessage(), request.getUuid());
+            }
+        }
+        stringRedisTemplate.execute(SCHEDULE_SCRIPT, List.of(DELAYED_KEY, PAYLOAD_KEY), args.toArray());
+    }
+
+    /**
+     * 시도 시각이 지난 요청을 선점합니다. 선점한 요청은 leaseMillis 동안 다른 노드가 선점하지 않습니다.
+     *
+     * @param now         현재 시각 (epoch ms)
+     * @param limit       최대 선점 수
+     * @param leaseMillis 임대 시간 (이 시간 안에 확정하지 않으면 다시 선점 대상이 됨)
+     * @return 선점한 알림 요청 목록 (시도 시각 순)
+     */
+    public List<NotificationRequestDto> claimDue(long now, int limit, long leaseMillis) {
+        List<?> reply = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(DELAYED_KEY, PAYLOAD_KEY),
+                String.valueOf(now), String.valueOf(limit), String.valueOf(now + leaseMillis));
+        if (reply == null || reply.isEmpty()) {
+            return List.of();
+        }
+        List<NotificationRequestDto> claimed = new ArrayList<>(reply.size() / 2);
+        List<Object> poisoned = new ArrayList<>();
+        for (int i = 0; i + 1 < reply.size(); i += 2) {
+            String uuid = String.valueOf(reply.get(i));
+            try {
+                claimed.add(objectMapper.readValue(String.valueOf(reply.get(i + 1)), NotificationRequestDto.class));
+            } catch (JsonProcessingException e) {
+                // 역직렬화할 수 없는 항목은 임대 만료 후에도 계속 실패하므로 제거
+                log.error("[Notification-Retry] 지연 재시도 항목 역직렬화 실패, 항목 제거: {} ({})", e.getMessage(), uuid);
+                poisoned.add(uuid);
+            }
+        }
+        if (!poisoned.isEmpty()) {
+            removeUuids(poisoned.toArray());
+        }
+        return claimed;
+    }
+
+    /**
+     * 처리가 끝난(성공 또는 폐기) 요청을 제거합니다. (파이프라인 1회)
+     *
+     * @param requests 선점한 알림 요청 목록
+     */
+    public void remove(List<NotificationRequestDto> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        removeUuids(requests.stream().map(NotificationRequestDto::getUuid).toArray());
+    }
+
+    private void removeUuids(Object[] uuids) {
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                // 내용을 먼저 지워 중간에 실패해도 ZSET 에만 남은 항목은 선점 시 정리됨
+                ops.opsForHash().delete(PAYLOAD_KEY, uuids);
+                ops.opsForZSet().remove(DELAYED_KEY, uuids);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 해시 태그 적용 전 내용 키에 남은 항목을 현재 내용 키로 옮깁니다.
+     * 이전 버전 파드가 남아 있는 배포 중에도 계속 옮기며, 옮긴 필드만 지워 그 사이 추가된 항목은 다음 회차에 옮깁니다.
+     *
+     * @return 옮긴 항목 수
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${notification.retry.delay.legacy-drain-interval-ms:60000}")
+    public int drainLegacyPayloads() {
+        try {
+            Map<Object, Object> legacy = stringRedisTemplate.opsForHash().entries(LEGACY_PAYLOAD_KEY);
+            if (legacy.isEmpty()) {
+                return 0;
+            }
+            stringRedisTemplate.opsForHash().putAll(PAYLOAD_KEY, legacy);
+            stringRedisTemplate.opsForHash().delete(LEGACY_PAYLOAD_KEY, legacy.keySet().toArray());
+            log.info("[Notification-Retry] 이전 내용 키의 지연 재시도 항목 {}건을 옮김", legacy.size());
+            return legacy.size();
+        } catch (Exception e) {
+            log.error("[Notification-Retry] 이전 내용 키 이전 실패: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * @return 예약된 재시도 요청 수 (선점되어 처리 중인 요청 포함)
+     */
+    public long size() {
+        Long size = stringRedisTemplate.opsForZSet().zCard(DELAYED_KEY);
+        return size != null ? size : 0L;
+    }
+
+    private static <T> RedisScript<T> script(String path, Class<T> resultType) {
+        DefaultRedisScript<T> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(resultType);
+        return script;
+    }
+}
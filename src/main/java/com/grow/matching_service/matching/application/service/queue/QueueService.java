@@ -2,7 +2,66 @@ package com.grow.matching_service.matching.application.service.queue;
 
 import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
 
+import java.util.ArrayList;
+import java.util.List;
+
 public interface QueueService {
     void enqueueNotification(NotificationRequestDto request);
     NotificationRequestDto dequeueNotification();
+
+    /**
+     * @return 큐에 적체된 알림 요청 수 (꺼낸 뒤 확정되지 않은 요청 포함 여부는 구현에 따름)
+     */
+    long size();
+
+    /**
+     * 큐에서 알림 요청을 최대 count 건 꺼냅니다.
+     *
+     * @param count 최대 개수
+     * @return 꺼낸 알림 요청 목록 (비어 있으면 빈 목록)
+     */
+    default List<NotificationRequestDto> dequeueNotifications(int count) {
+        List<NotificationRequestDto> requests = new ArrayList<>(count);
+        NotificationRequestDto request;
+        while (requests.size() < count && (request = dequeueNotification()) != null) {
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    /**
+     * 꺼낸 알림 요청의 처리(재전송 성공 또는 폐기)를 확정합니다.
+     * 확정하지 않은 요청은 구현에 따라 다른 소비자에게 다시 전달될 수 있습니다. (꺼낼 때 제거하는 구현은 아무 일도 하지 않음)
+     *
+     * @param request 꺼낸 알림 요청
+     */
+    default void acknowledge(NotificationRequestDto request) {
+    }
+
+    /**
+     * 꺼낸 알림 요청 여러 건의 처리를 한 번에 확정합니다.
+     *
+     * @param requests 꺼낸 알림 요청 목록
+     */
+    default void acknowledgeAll(List<NotificationRequestDto> requests) {
+        requests.forEach(this::acknowledge);
+    }
+
+    /**
+     * 꺼낸 알림 요청을 처리 완료하지 않고 큐에 다시 넣습니다. (재전송 실패 시)
+     *
+     * @param request 꺼낸 알림 요청
+     */
+    default void requeue(NotificationRequestDto request) {
+        enqueueNotification(request);
+    }
+
+    /**
+     * 꺼낸 알림 요청 여러 건을 한 번에 큐에 다시 넣습니다.
+     *
+     * @param requests 꺼낸 알림 요청 목록
+     */
+    default void requeueAll(List<NotificationRequestDto> requests) {
+        requests.forEach(this::requeue);
+    }
 }
@@ -3,11 +3,13 @@ package com.grow.matching_service.matching.application.service.queue;
 import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -24,6 +26,8 @@ import java.util.Objects;
  * </ul>
  * </p>
  *
+ * <p>{@code notification.retry-queue.type=list} 일 때만 사용되며, 기본값은 {@link RedisStreamQueueService}입니다.</p>
+ *
  * @see RedisTemplate
  * @see org.springframework.scheduling.annotation.Async
  */
@@ -31,6 +35,7 @@ import java.util.Objects;
 @Slf4j
 @Service
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "notification.retry-queue.type", havingValue = "list")
 public class QueueServiceImpl implements QueueService {
 
     private final RedisTemplate<String, NotificationRequestDto> dtoRedisTemplate;
@@ -58,7 +63,7 @@ public class QueueServiceImpl implements QueueService {
      * @see org.springframework.scheduling.annotation.Async
      * @see RedisTemplate#opsForList()
      */
-    @Async // 비동기로 메시지를 저장
+    @Async("notificationQueueExecutor") // 비동기로 메시지를 저장 (큐 크기가 제한된 전용 실행기)
     @Override
     @Transactional  // Spring 트랜잭션으로 Redis 작업을 atomic 하게 처리
     public void enqueueNotification(NotificationRequestDto request) {
@@ -120,4 +125,36 @@ public class QueueServiceImpl implements QueueService {
             return null;
         }
     }
+
+    /**
+     * Redis 큐에서 알림 요청을 최대 count 건 한 번에 꺼냅니다. (RPOP count, Redis 6.2 이상)
+     *
+     * @param count 최대 개수
+     * @return 꺼낸 알림 요청 목록, 큐가 비어 있거나 실패 시 빈 목록
+     */
+    @Override
+    public List<NotificationRequestDto> dequeueNotifications(int count) {
+        try {
+            List<NotificationRequestDto> requests = dtoRedisTemplate.opsForList().rightPop(QUEUE_KEY, count);
+            if (requests == null || requests.isEmpty()) {
+                return List.of();
+            }
+
+            // set 에서 한 번에 제거
+            stringRedisTemplate.opsForSet().remove(SET_KEY, requests.stream()
+                    .map(NotificationRequestDto::getUuid)
+                    .toArray());
+            log.info("[Notification-Retry] Redis 큐에서 알림 요청 {}건 꺼냄", requests.size());
+            return requests;
+        } catch (Exception e) {
+            log.error("Redis 큐에서 일괄 제거 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    @Override
+    public long size() {
+        Long size = dtoRedisTemplate.opsForList().size(QUEUE_KEY);
+        return size != null ? size : 0L;
+    }
 }
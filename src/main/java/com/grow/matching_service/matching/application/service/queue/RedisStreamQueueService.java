@@ -0,0 +1,379 @@
+package com.grow.matching_service.matching.application.service.queue;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Streams 소비 그룹 기반 알림 재전송 큐.
+ * <p>
+ * LIST + SET 구현은 중복 체크(SADD)와 추가(LPUSH), 꺼내기(RPOP)와 Set 제거(SREM)가 각각 별도 명령이라
+ * 중간에 장애가 나면 메시지가 유실되거나 Set 에 고아 uuid 가 남고, 한 번에 한 소비자만 꺼낼 수 있습니다.
+ * 이 구현은 다음과 같이 동작합니다.
+ * <ul>
+ *     <li>추가: uuid 중복 체크와 XADD 를 Lua 스크립트(redis/enqueue-notification.lua)로 원자적으로 수행</li>
+ *     <li>꺼내기: 소비 그룹(XREADGROUP)으로 읽어 여러 파드가 나누어 처리, 읽은 레코드는 확정 전까지 대기(pending) 상태로 유지</li>
+ *     <li>확정: {@link #acknowledge} / {@link #requeue} 시 XACK · XDEL · SREM(또는 재추가)을
+ *     Lua 스크립트(redis/settle-notification.lua)로 원자적으로 수행 (여러 건은 파이프라인 1회)</li>
+ *     <li>회수: {@code reclaim-idle-ms} 이상 확정되지 않은 대기 레코드(처리 중 종료된 파드의 몫)는 다른 소비자가 XCLAIM 으로 가져옴</li>
+ * </ul>
+ * 따라서 재전송은 최소 한 번(at-least-once) 보장됩니다.
+ * <p>
+ * 스크립트는 스트림과 중복 체크 Set 을 함께 다루므로, Set 키는 스트림 키 이름 전체를 해시 태그로 붙여
+ * Redis Cluster 에서도 스트림과 같은 슬롯에 둡니다. (스트림 키 이름은 기존 레코드를 유지하도록 그대로 사용)
+ * <p>
+ * 이전 LIST 구현({@link QueueServiceImpl})의 {@code notification:queue} 에 남은 요청은
+ * {@code legacy-drain-interval-ms}(기본 1분)마다 LIST 에서 꺼내 스트림으로 옮기고, 옮긴 uuid 는 LIST 구현의 Set 에서 제거합니다.
+ * (LIST 구현을 쓰는 파드가 남아 있는 배포 중에도 계속 옮김)
+ * <p>
+ * {@code notification.retry-queue.type} 이 {@code stream}(기본값)일 때 사용됩니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "notification.retry-queue.type", havingValue = "stream", matchIfMissing = true)
+public class RedisStreamQueueService implements QueueService {
+
+    public static final String STREAM_KEY = "notification:stream";  // Stream 키
+    public static final String SET_KEY = "{notification:stream}:in_queue"; // Set 키 (중복 체크용, 스트림과 같은 슬롯)
+    public static final String GROUP = "notification-retry";        // 소비 그룹
+    public static final String LEGACY_QUEUE_KEY = "notification:queue"; // 이전 LIST 구현의 List 키
+    public static final String LEGACY_SET_KEY = "notification:in_queue"; // 이전 LIST 구현의 Set 키
+
+    private static final int LEGACY_DRAIN_CHUNK_SIZE = 100;
+
+    private static final RedisScript<String> ENQUEUE_SCRIPT = script("redis/enqueue-notification.lua");
+    private static final RedisScript<String> SETTLE_SCRIPT = script("redis/settle-notification.lua");
+    private static final RedisScript<String> MIGRATE_SCRIPT = script("redis/migrate-notification.lua");
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisTemplate<String, NotificationRequestDto> dtoRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final String consumer;
+    private final Duration reclaimIdle;
+
+    // 이 소비자가 꺼낸 뒤 아직 확정하지 않은 요청 (uuid → 레코드 ID)
+    private final Map<String, RecordId> inFlight = new ConcurrentHashMap<>();
+    private volatile boolean groupReady;
+
+    public RedisStreamQueueService(
+            RedisTemplate<String, String> stringRedisTemplate,
+            RedisTemplate<String, NotificationRequestDto> dtoRedisTemplate,
+            ObjectMapper objectMapper,
+            @Value("${notification.retry-queue.consumer:}") String consumer,
+            @Value("${notification.retry-queue.reclaim-idle-ms:300000}") long reclaimIdleMillis) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.dtoRedisTemplate = dtoRedisTemplate;
+        this.objectMapper = objectMapper;
+        // 기본 소비자 이름: pid@hostname (파드마다 고유)
+        this.consumer = StringUtils.hasText(consumer) ? consumer : ManagementFactory.getRuntimeMXBean().getName();
+        this.reclaimIdle = Duration.ofMillis(reclaimIdleMillis);
+    }
+
+    /**
+     * 알림 요청을 스트림에 비동기적으로 추가합니다. 같은 uuid 가 이미 대기 중이면 추가하지 않습니다.
+     *
+     * @param request 큐에 추가할 알림 요청 DTO (null 불가)
+     */
+    @Async("notificationQueueExecutor") // 비동기로 메시지를 저장 (큐 크기가 제한된 전용 실행기)
+    @Override
+    public void enqueueNotification(NotificationRequestDto request) {
+        try {
+            String requestId = Objects.requireNonNull(request).getUuid();
+            String recordId = stringRedisTemplate.execute(ENQUEUE_SCRIPT, List.of(STREAM_KEY, SET_KEY),
+                    requestId, objectMapper.writeValueAsString(request));
+            if (recordId == null) {
+                log.warn("[Notification-Retry] Redis Set 중복 키 발생: {}", requestId);
+                return;
+            }
+            log.info("알림 요청을 Redis 스트림에 추가: {} ({})", request.getContent(), recordId);
+        } catch (Exception e) {
+            log.error("[Notification-Retry] Redis 스트림 추가 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스트림에서 알림 요청을 한 건 꺼냅니다. 꺼낸 요청은 {@link #acknowledge} 또는 {@link #requeue} 로 확정해야 합니다.
+     *
+     * @return 꺼낸 알림 요청, 없거나 실패 시 null
+     */
+    @Override
+    public NotificationRequestDto dequeueNotification() {
+        List<NotificationRequestDto> requests = dequeueNotifications(1);
+        return requests.isEmpty() ? null : requests.get(0);
+    }
+
+    /**
+     * 오래 확정되지 않은 대기 레코드를 먼저 회수하고, 남은 개수만큼 새 레코드를 읽습니다. (각 왕복 1회)
+     *
+     * @param count 최대 개수
+     * @return 꺼낸 알림 요청 목록
+     */
+    @Override
+    public List<NotificationRequestDto> dequeueNotifications(int count) {
+        try {
+            ensureGroup();
+            StreamOperations<String, String, String> ops = stringRedisTemplate.opsForStream();
+
+            List<MapRecord<String, String, String>> records = new ArrayList<>(reclaim(ops, count));
+            if (records.size() < count) {
+                List<MapRecord<String, String, String>> fresh = ops.read(
+                        Consumer.from(GROUP, consumer),
+                        StreamReadOptions.empty().count(count - records.size()),
+                        StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed()));
+                if (fresh != null) {
+                    records.addAll(fresh);
+                }
+            }
+
+            List<NotificationRequestDto> requests = new ArrayList<>(records.size());
+            for (MapRecord<String, String, String> record : records) {
+                NotificationRequestDto request = toRequest(record);
+                if (request != null) {
+                    inFlight.put(request.getUuid(), record.getId());
+                    requests.add(request);
+                }
+            }
+            if (!requests.isEmpty()) {
+                log.info("[Notification-Retry] Redis 스트림에서 알림 요청 {}건 꺼냄 (소비자: {})", requests.size(), consumer);
+            }
+            return requests;
+        } catch (Exception e) {
+            log.error("[Notification-Retry] Redis 스트림 읽기 실패: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 처리를 확정하고 스트림과 중복 체크 Set 에서 제거합니다.
+     *
+     * @param request 꺼낸 알림 요청
+     */
+    @Override
+    public void acknowledge(NotificationRequestDto request) {
+        acknowledgeAll(List.of(request));
+    }
+
+    /**
+     * 여러 건의 처리를 파이프라인 1회로 확정합니다.
+     *
+     * @param requests 꺼낸 알림 요청 목록
+     */
+    @Override
+    public void acknowledgeAll(List<NotificationRequestDto> requests) {
+        settleAll(requests, false);
+    }
+
+    /**
+     * 기존 레코드를 확정하고 같은 uuid 로 스트림 끝에 다시 추가합니다. (재시도 횟수 등 변경 내용 반영)
+     *
+     * @param request 꺼낸 알림 요청
+     */
+    @Override
+    public void requeue(NotificationRequestDto request) {
+        requeueAll(List.of(request));
+    }
+
+    /**
+     * 여러 건을 파이프라인 1회로 다시 추가합니다.
+     *
+     * @param requests 꺼낸 알림 요청 목록
+     */
+    @Override
+    public void requeueAll(List<NotificationRequestDto> requests) {
+        settleAll(requests, true);
+    }
+
+    /**
+     * @return 스트림 길이 (다른 소비자가 꺼낸 뒤 확정하지 않은 레코드 포함)
+     */
+    @Override
+    public long size() {
+        Long size = stringRedisTemplate.opsForStream().size(STREAM_KEY);
+        return size != null ? size : 0L;
+    }
+
+    /**
+     * 이전 LIST 구현의 큐에 남은 요청을 스트림으로 옮깁니다.
+     * <p>
+     * 꺼내기(RPOP)가 원자적이므로 여러 파드가 동시에 실행해도 한 요청은 한 번만 옮겨지며,
+     * 스트림 추가에 실패한 묶음은 LIST 끝에 되돌려 다음 회차에 다시 시도합니다.
+     *
+     * @return 옮긴 요청 수
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${notification.retry-queue.legacy-drain-interval-ms:60000}")
+    public int drainLegacyQueue() {
+        int migrated = 0;
+        try {
+            List<NotificationRequestDto> requests;
+            do {
+                requests = dtoRedisTemplate.opsForList().rightPop(LEGACY_QUEUE_KEY, LEGACY_DRAIN_CHUNK_SIZE);
+                if (requests == null || requests.isEmpty()) {
+                    break;
+                }
+                migrate(requests);
+                migrated += requests.size();
+            } while (requests.size() == LEGACY_DRAIN_CHUNK_SIZE);
+        } catch (Exception e) {
+            log.error("[Notification-Retry] 이전 LIST 큐 이전 실패: {}", e.getMessage());
+        }
+        if (migrated > 0) {
+            log.info("[Notification-Retry] 이전 LIST 큐의 알림 요청 {}건을 스트림으로 이전", migrated);
+        }
+        return migrated;
+    }
+
+    private void migrate(List<NotificationRequestDto> requests) {
+        try {
+            List<List<String>> arguments = new ArrayList<>(requests.size());
+            for (NotificationRequestDto request : requests) {
+                arguments.add(List.of(request.getUuid(), objectMapper.writeValueAsString(request)));
+            }
+            List<String> keys = List.of(STREAM_KEY, SET_KEY);
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    arguments.forEach(args -> ops.execute(MIGRATE_SCRIPT, keys, args.toArray()));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 꺼낸 순서(오래된 순) 그대로 LIST 끝에 되돌림
+            dtoRedisTemplate.opsForList().rightPushAll(LEGACY_QUEUE_KEY, requests.reversed());
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+        // 다른 슬롯에 있을 수 있으므로 스크립트 밖에서 제거 (실패해도 중복 체크용 uuid 만 남음)
+        stringRedisTemplate.opsForSet().remove(LEGACY_SET_KEY,
+                requests.stream().map(NotificationRequestDto::getUuid).toArray());
+    }
+
+    private void settleAll(List<NotificationRequestDto> requests, boolean requeue) {
+        List<List<String>> arguments = new ArrayList<>(requests.size());
+        for (NotificationRequestDto request : requests) {
+            RecordId recordId = inFlight.remove(request.getUuid());
+            if (recordId == null) {
+                log.warn("[Notification-Retry] 꺼낸 기록이 없는 알림 요청입니다. uuid: {}", request.getUuid());
+                continue;
+            }
+            try {
+                arguments.add(requeue
+                        ? List.of(GROUP, recordId.getValue(), request.getUuid(), objectMapper.writeValueAsString(request))
+                        : List.of(GROUP, recordId.getValue(), request.getUuid()));
+            } catch (JsonProcessingException e) {
+                // 직렬화할 수 없는 요청은 대기 상태로 남겨 두고 회수 시 역직렬화 실패로 정리
+                log.error("[Notification-Retry] 알림 요청 직렬화 실패: {} ({})", e.getMessage(), recordId);
+            }
+        }
+        if (arguments.isEmpty()) {
+            return;
+        }
+        try {
+            List<String> keys = List.of(STREAM_KEY, SET_KEY);
+            stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                    arguments.forEach(args -> ops.execute(SETTLE_SCRIPT, keys, args.toArray()));
+                    return null;
+                }
+            });
+        } catch (Exception e) {
+            // 확정하지 못한 레코드는 대기 상태로 남아 reclaim-idle-ms 이후 다시 전달됨
+            log.error("[Notification-Retry] Redis 스트림 확정 실패 ({}건): {}", arguments.size(), e.getMessage());
+        }
+    }
+
+    // 처리 중 종료된 소비자의 대기 레코드 회수
+    private List<MapRecord<String, String, String>> reclaim(StreamOperations<String, String, String> ops, int count) {
+        PendingMessages pending = ops.pending(STREAM_KEY, GROUP, Range.unbounded(), count);
+        if (pending == null || pending.isEmpty()) {
+            return List.of();
+        }
+        RecordId[] idle = pending.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(reclaimIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idle.length == 0) {
+            return List.of();
+        }
+        List<MapRecord<String, String, String>> claimed = ops.claim(STREAM_KEY, GROUP, consumer, reclaimIdle, idle);
+        if (!claimed.isEmpty()) {
+            log.warn("[Notification-Retry] 확정되지 않은 대기 레코드 {}건 회수 (소비자: {})", claimed.size(), consumer);
+        }
+        return claimed;
+    }
+
+    private NotificationRequestDto toRequest(MapRecord<String, String, String> record) {
+        try {
+            return objectMapper.readValue(record.getValue().get("payload"), NotificationRequestDto.class);
+        } catch (Exception e) {
+            // 역직렬화할 수 없는 레코드는 재시도해도 실패하므로 확정하여 제거
+            log.error("[Notification-Retry] 알림 요청 역직렬화 실패, 레코드 제거: {} ({})", e.getMessage(), record.getId());
+            stringRedisTemplate.execute(SETTLE_SCRIPT, List.of(STREAM_KEY, SET_KEY),
+                    GROUP, record.getId().getValue(), String.valueOf(record.getValue().get("uuid")));
+            return null;
+        }
+    }
+
+    // 소비 그룹 생성 (스트림이 없으면 함께 생성, 이미 있으면 무시)
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (Exception e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private static RedisScript<String> script(String path) {
+        DefaultRedisScript<String> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource(path)));
+        script.setResultType(String.class);
+        return script;
+    }
+}
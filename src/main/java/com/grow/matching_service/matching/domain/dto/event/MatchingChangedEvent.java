@@ -0,0 +1,23 @@
+package com.grow.matching_service.matching.domain.dto.event;
+
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 매칭 엔티티 상태 변경 이벤트 (저장, 수정, 삭제 모두 발행)
+ * <p>
+ * {@link MatchingSavedEvent}와 달리 상태와 관계없이 발행되며, 인메모리 인덱스 동기화에 사용됩니다.
+ */
+public class MatchingChangedEvent extends ApplicationEvent {
+
+    private final MatchingSnapshotDto snapshot;
+
+    public MatchingChangedEvent(MatchingSnapshotDto snapshot) {
+        super(snapshot);
+        this.snapshot = snapshot;
+    }
+
+    public MatchingSnapshotDto getSnapshot() {
+        return snapshot;
+    }
+}
@@ -0,0 +1,77 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_BITMAP_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_MIGRATED_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_KEY;
+
+/**
+ * <h2>Redis 서버 측 후보 재정렬 스크립트</h2>
+ *
+ * <p>후보의 신뢰도 점수와 구독 여부를 JVM 으로 가져오지 않고, Lua 스크립트(redis/rank-candidates.lua)가
+ * Redis 에서 직접 읽어 정렬한 뒤 상위 후보의 위치만 반환합니다. (왕복 1회, 응답 크기 O(limit))</p>
+ *
+ * <p>정렬 규칙은 {@code MatchingCandidateRanker}와 동일합니다.
+ * (신뢰도 점수 내림차순 → 구독 여부 내림차순 → 입력 순서, 캐시 미스 시 0.0 / false)
+ * 신호는 {@link MemberSignalStore}와 같은 저장 구조({@code matching.signal.layout})에서 같은 규칙으로 읽습니다.
+ * (BUCKETED · DUAL 은 버킷 해시와 구독 비트맵, DUAL 은 이관 비트맵으로 기존 키 확인 여부 결정)
+ * 스크립트는 EVALSHA 로 실행되며, 서버에 캐싱되지 않은 경우 EVAL 로 재시도됩니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class MemberRankingScript {
+
+    private static final RedisScript<List> RANK_SCRIPT = rankScript();
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final MemberSignalStore memberSignalStore;
+
+    /**
+     * 후보 회원 목록을 서버 측에서 재정렬하고 상위 {@code limit}명의 입력 위치를 반환합니다.
+     * (동일 회원이 여러 번 포함될 수 있으므로 회원 ID 대신 위치를 반환)
+     *
+     * @param memberIds 후보 회원 ID 목록 (입력 순서가 동점 시 우선순위)
+     * @param limit     반환할 최대 인원
+     * @return 상위 후보의 입력 위치 목록 (0부터 시작, 순위순)
+     */
+    public List<Integer> rankTop(List<Long> memberIds, int limit) {
+        List<String> keys = new ArrayList<>(memberIds.size() * 3 + 2);
+        memberIds.forEach(memberId -> keys.add(TRUST_KEY + memberId));
+        memberIds.forEach(memberId -> keys.add(SUB_KEY + memberId));
+        memberIds.forEach(memberId -> keys.add(memberSignalStore.trustBucketKey(memberId)));
+        keys.add(SUB_BITMAP_KEY);
+        keys.add(SUB_MIGRATED_KEY);
+
+        List<String> args = new ArrayList<>(memberIds.size() + 3);
+        args.add(String.valueOf(limit));
+        args.add(memberSignalStore.getLayout().name());
+        args.add(String.valueOf(memberSignalStore.getBucketSize()));
+        memberIds.forEach(memberId -> args.add(String.valueOf(memberId)));
+
+        List<?> positions = stringRedisTemplate.execute(RANK_SCRIPT, keys, args.toArray());
+        if (positions == null) {
+            return List.of();
+        }
+        return positions.stream()
+                .map(position -> ((Number) position).intValue())
+                .toList();
+    }
+
+    private static RedisScript<List> rankScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("redis/rank-candidates.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+}
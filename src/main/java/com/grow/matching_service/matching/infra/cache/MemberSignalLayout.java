@@ -0,0 +1,10 @@
+package com.grow.matching_service.matching.infra.cache;
+
+/**
+ * 회원 신호(신뢰도 점수 · 구독 여부)의 Redis 저장 구조.
+ */
+public enum MemberSignalLayout {
+    KEY,      // 회원별 문자열 키 (member:trust:score:{id}, member:subscription:{id})
+    BUCKETED, // memberId / N 단위 해시 + 구독 비트맵
+    DUAL      // 이관 중: BUCKETED 우선 조회, 없으면 KEY 조회
+}
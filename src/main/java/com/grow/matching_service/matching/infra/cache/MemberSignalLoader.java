@@ -0,0 +1,172 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import com.grow.matching_service.matching.application.dto.MemberSignalBulkRequestDto;
+import com.grow.matching_service.matching.application.dto.MemberSignalResponseDto;
+import com.grow.matching_service.matching.presentation.client.MemberSignalClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h2>회원 신호 read-through 로더</h2>
+ *
+ * <p>{@link MemberSignalStore}(Redis)에서 신뢰도 점수와 구독 여부를 조회하고,
+ * 캐시에 없는 회원은 한 번의 조회에서 모두 모아 {@link MemberSignalClient}(회원 서비스) 일괄 요청 1회로 채웁니다.
+ * 조회 결과는 Redis 에 다시 기록하고, 회원 서비스에도 없는 회원은 잠시(기본 60초) 로컬에 음수 캐싱하여
+ * 같은 회원에 대한 반복 요청을 막습니다.</p>
+ *
+ * <p>캐시 미스는 회원별 로그 대신 아래 메트릭으로 집계합니다.</p>
+ * <ul>
+ *     <li>matching.signal.cache.miss: Redis 에 없는 회원 수</li>
+ *     <li>matching.signal.upstream.loaded: 회원 서비스에서 채운 회원 수</li>
+ *     <li>matching.signal.upstream.unknown: 회원 서비스에도 없어 음수 캐싱한 회원 수</li>
+ *     <li>matching.signal.negative.hit: 음수 캐시로 요청을 생략한 회원 수</li>
+ *     <li>matching.signal.upstream.failure: 회원 서비스 일괄 요청 실패 횟수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MemberSignalLoader {
+
+    private static final int NEGATIVE_CACHE_PURGE_THRESHOLD = 10_000; // 만료 항목 정리 기준 크기
+
+    private final MemberSignalStore memberSignalStore;
+    private final MemberSignalClient memberSignalClient;
+
+    private final Map<Long, Long> negativeCache = new ConcurrentHashMap<>(); // 회원 ID -> 만료 시각
+    private final Counter cacheMissCounter;
+    private final Counter upstreamLoadedCounter;
+    private final Counter upstreamUnknownCounter;
+    private final Counter negativeHitCounter;
+    private final Counter upstreamFailureCounter;
+
+    @Value("${matching.signal.loader.enabled:true}")
+    private boolean upstreamEnabled = true; // 회원 서비스 조회 사용 여부
+
+    @Value("${matching.signal.loader.negative-ttl-ms:60000}")
+    private long negativeTtlMillis = 60_000; // 음수 캐시 유지 시간
+
+    public MemberSignalLoader(MemberSignalStore memberSignalStore,
+                              MemberSignalClient memberSignalClient,
+                              MeterRegistry meterRegistry) {
+        this.memberSignalStore = memberSignalStore;
+        this.memberSignalClient = memberSignalClient;
+        this.cacheMissCounter = meterRegistry.counter("matching.signal.cache.miss");
+        this.upstreamLoadedCounter = meterRegistry.counter("matching.signal.upstream.loaded");
+        this.upstreamUnknownCounter = meterRegistry.counter("matching.signal.upstream.unknown");
+        this.negativeHitCounter = meterRegistry.counter("matching.signal.negative.hit");
+        this.upstreamFailureCounter = meterRegistry.counter("matching.signal.upstream.failure");
+    }
+
+    /**
+     * 회원들의 신뢰도 점수와 구독 여부를 조회합니다. (Redis → 회원 서비스 순)
+     *
+     * @param memberIds 조회할 회원 ID 목록 (중복 없음)
+     * @return 조회된 신호 (끝내 찾지 못한 회원은 제외)
+     */
+    public MemberSignals load(Collection<Long> memberIds) {
+        Map<Long, Double> trustScores = new HashMap<>(memberSignalStore.getTrustScores(memberIds));
+        Map<Long, Boolean> subscriptions = new HashMap<>(memberSignalStore.getSubscriptions(memberIds));
+
+        long now = System.currentTimeMillis();
+        List<Long> misses = memberIds.stream()
+                .filter(memberId -> !trustScores.containsKey(memberId) || !subscriptions.containsKey(memberId))
+                .toList();
+        if (misses.isEmpty()) {
+            return new MemberSignals(trustScores, subscriptions);
+        }
+        cacheMissCounter.increment(misses.size());
+
+        List<Long> toLoad = misses.stream()
+                .filter(memberId -> !isNegativelyCached(memberId, now))
+                .toList();
+        negativeHitCounter.increment(misses.size() - toLoad.size());
+        if (!upstreamEnabled || toLoad.isEmpty()) {
+            return new MemberSignals(trustScores, subscriptions);
+        }
+
+        loadFromUpstream(toLoad, trustScores, subscriptions, now);
+        return new MemberSignals(trustScores, subscriptions);
+    }
+
+    // 캐시 미스 회원을 회원 서비스에 일괄 요청하고 Redis 에 기록
+    private void loadFromUpstream(List<Long> toLoad,
+                                  Map<Long, Double> trustScores,
+                                  Map<Long, Boolean> subscriptions,
+                                  long now) {
+        List<MemberSignalResponseDto> responses;
+        try {
+            responses = memberSignalClient.getSignals(new MemberSignalBulkRequestDto(toLoad));
+        } catch (Exception e) {
+            upstreamFailureCounter.increment();
+            log.warn("[Member-Signal] 회원 서비스 일괄 조회 실패 ({}명): {}", toLoad.size(), e.getMessage());
+            return;
+        }
+
+        Map<Long, Double> loadedTrust = new HashMap<>();
+        Map<Long, Boolean> loadedSubscriptions = new HashMap<>();
+        for (MemberSignalResponseDto response : responses) {
+            if (response.getTrustScore() != null && !trustScores.containsKey(response.getMemberId())) {
+                loadedTrust.put(response.getMemberId(), response.getTrustScore());
+            }
+            if (response.getSubscribed() != null && !subscriptions.containsKey(response.getMemberId())) {
+                loadedSubscriptions.put(response.getMemberId(), response.getSubscribed());
+            }
+        }
+        trustScores.putAll(loadedTrust);
+        subscriptions.putAll(loadedSubscriptions);
+
+        // 회원 서비스에도 없는 회원은 음수 캐싱
+        long unknown = toLoad.stream()
+                .filter(memberId -> !trustScores.containsKey(memberId) || !subscriptions.containsKey(memberId))
+                .peek(memberId -> negativeCache.put(memberId, now + negativeTtlMillis))
+                .count();
+        upstreamLoadedCounter.increment(toLoad.size() - unknown);
+        upstreamUnknownCounter.increment(unknown);
+        purgeExpired(now);
+
+        try {
+            memberSignalStore.putSignals(loadedTrust, loadedSubscriptions);
+        } catch (Exception e) {
+            log.warn("[Member-Signal] 회원 신호 Redis 기록 실패 ({}명): {}", loadedTrust.size(), e.getMessage());
+        }
+    }
+
+    private boolean isNegativelyCached(Long memberId, long now) {
+        Long expiresAt = negativeCache.get(memberId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (expiresAt <= now) {
+            negativeCache.remove(memberId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void purgeExpired(long now) {
+        if (negativeCache.size() > NEGATIVE_CACHE_PURGE_THRESHOLD) {
+            negativeCache.values().removeIf(expiresAt -> expiresAt <= now);
+        }
+    }
+
+    /**
+     * 조회된 회원 신호.
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class MemberSignals {
+        private final Map<Long, Double> trustScores;     // 회원 ID -> 신뢰도 점수
+        private final Map<Long, Boolean> subscriptions;  // 회원 ID -> 구독 여부
+    }
+}
@@ -0,0 +1,140 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_BITMAP_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_MIGRATED_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_KEY;
+
+/**
+ * <h2>회원 신호 저장 구조 이관 도구</h2>
+ *
+ * <p>회원별 문자열 키(KEY 구조)를 버킷 해시 + 구독 비트맵(BUCKETED 구조)으로 복사합니다.
+ * 기존 키는 삭제하지 않으므로, 이관 기간 동안 {@code matching.signal.layout=DUAL}로 두 구조를 함께 읽다가
+ * 이관과 검증이 끝나면 BUCKETED 로 전환한 뒤 기존 키를 정리합니다.</p>
+ *
+ * <ol>
+ *     <li>SCAN 으로 기존 키를 1,000건씩 읽고 MGET 으로 값을 조회</li>
+ *     <li>배치마다 HSET / SETBIT 를 파이프라인으로 기록 (여러 번 실행해도 결과 동일)</li>
+ * </ol>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSignalMigrator {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final MemberSignalStore memberSignalStore;
+
+    /**
+     * 기존 KEY 구조의 신뢰도 점수와 구독 여부를 BUCKETED 구조로 복사합니다.
+     *
+     * @return 이관 결과 (이관 건수, 건너뛴 건수, 소요 시간)
+     */
+    public MigrationResult migrate() {
+        long startedAt = System.currentTimeMillis();
+        log.info("[Member-Signal] 저장 구조 이관 시작 (버킷 크기: {})", memberSignalStore.getBucketSize());
+
+        int[] trust = migrate(TRUST_KEY, (ops, memberId, value) -> {
+            Double.parseDouble(value); // 형식 검증
+            ops.opsForHash().put(
+                    memberSignalStore.trustBucketKey(memberId),
+                    memberSignalStore.trustBucketField(memberId),
+                    value
+            );
+        });
+        int[] subscription = migrate(SUB_KEY, (ops, memberId, value) -> {
+            ops.opsForValue().setBit(SUB_BITMAP_KEY, memberId, Boolean.parseBoolean(value));
+            ops.opsForValue().setBit(SUB_MIGRATED_KEY, memberId, true); // 비트맵 값이 확정된 회원
+        });
+
+        MigrationResult result = MigrationResult.builder()
+                .trustScores(trust[0])
+                .subscriptions(subscription[0])
+                .skipped(trust[1] + subscription[1])
+                .elapsedMillis(System.currentTimeMillis() - startedAt)
+                .build();
+        log.info("[Member-Signal] 저장 구조 이관 완료: 신뢰도 {}건, 구독 {}건, 건너뜀 {}건, {}ms",
+                result.getTrustScores(), result.getSubscriptions(), result.getSkipped(), result.getElapsedMillis());
+        return result;
+    }
+
+    // prefix 로 시작하는 기존 키를 배치 단위로 이관하고 [이관 건수, 건너뛴 건수]를 반환
+    private int[] migrate(String prefix, SignalWriter writer) {
+        int[] counts = new int[2];
+        List<String> keys = new ArrayList<>(BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(BATCH_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == BATCH_SIZE) {
+                    writeBatch(prefix, keys, writer, counts);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            writeBatch(prefix, keys, writer, counts);
+        }
+        return counts;
+    }
+
+    private void writeBatch(String prefix, List<String> keys, SignalWriter writer, int[] counts) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (int i = 0; i < keys.size(); i++) {
+                    String value = values.get(i);
+                    if (value == null) {
+                        continue; // SCAN 이후 삭제된 키
+                    }
+                    try {
+                        writer.write(ops, Long.parseLong(keys.get(i).substring(prefix.length())), value);
+                        counts[0]++;
+                    } catch (NumberFormatException e) {
+                        counts[1]++;
+                        log.warn("[Member-Signal] 잘못된 신호 키/값 건너뜀: {}={}", keys.get(i), value);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface SignalWriter {
+        void write(RedisOperations<String, String> ops, long memberId, String value);
+    }
+
+    @Getter
+    @Builder
+    public static class MigrationResult {
+        private final int trustScores;   // 이관된 신뢰도 점수 수
+        private final int subscriptions; // 이관된 구독 여부 수
+        private final int skipped;       // 형식 오류로 건너뛴 수
+        private final long elapsedMillis;
+    }
+}
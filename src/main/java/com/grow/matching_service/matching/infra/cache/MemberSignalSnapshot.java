@@ -0,0 +1,431 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_BITMAP_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_MIGRATED_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_BUCKET_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_KEY;
+
+/**
+ * <h2>회원 신호 로컬 스냅샷</h2>
+ *
+ * <p>Redis 의 신뢰도 점수 · 구독 여부 키 전체를 {@link MemberSignalTable}(원시 타입 배열)로 복제해 두고,
+ * 후보 재정렬 시 네트워크 I/O 와 박싱 없이 조회할 수 있도록 합니다.
+ * {@code matching.signal.snapshot.enabled=true} 인 경우에만 동작합니다.</p>
+ *
+ * <ol>
+ *     <li>기동 시 SCAN + MGET 으로 전체 적재 (BUCKETED 구조는 버킷 해시 HGETALL + 구독 비트맵 GET)</li>
+ *     <li>키 이벤트 알림(__keyevent@*__:set/del/expired/evicted/hset)으로 변경분만 반영
+ *         (Redis 서버에 {@code notify-keyspace-events "E$ghxe"} 설정 필요,
+ *         버킷 필드 삭제와 구독 비트맵 변경은 재동기화 시 반영)</li>
+ *     <li>알림 유실에 대비해 주기적으로 전체 재동기화 (기본 10분)</li>
+ * </ol>
+ *
+ * <p>마지막 전체 동기화 이후 경과 시간을 staleness 로 보고하며,
+ * 허용치(기본 30분)를 넘거나 아직 적재 전이면 {@link #isAvailable()}이 false 가 되어 Redis 조회로 대체됩니다.
+ * 신뢰도 점수는 Redis 조회 결과와 같은 double 정밀도로 저장하므로 스냅샷 적중 여부와 관계없이 정렬 기준이 같습니다.</p>
+ *
+ * <ul>
+ *     <li>matching.signal.snapshot.staleness (초): 마지막 전체 동기화 이후 경과 시간</li>
+ *     <li>matching.signal.snapshot.size: 스냅샷에 적재된 회원 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MemberSignalSnapshot {
+
+    private static final int SCAN_BATCH_SIZE = 1000;
+    private static final List<String> KEY_EVENTS = List.of("set", "del", "expired", "evicted", "hset");
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final MemberSignalStore memberSignalStore; // 저장 구조 · 버킷 크기
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Set<String> changedDuringSync = ConcurrentHashMap.newKeySet(); // 전체 동기화 중 변경된 키
+    private MemberSignalTable table = new MemberSignalTable(0);
+    private volatile boolean syncing = false;
+    private volatile long lastSyncedAt = 0L; // 마지막 전체 동기화 완료 시각 (0: 적재 전)
+    private volatile boolean completeSubscriptions = false; // 구독 비트맵 전체 적재 여부 (미설정 = false)
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Value("${matching.signal.snapshot.enabled:false}")
+    private boolean enabled; // 로컬 스냅샷 사용 여부
+
+    @Value("${matching.signal.snapshot.max-staleness:1800000}")
+    private long maxStalenessMillis; // 허용 staleness (기본 30분)
+
+    public MemberSignalSnapshot(RedisTemplate<String, String> stringRedisTemplate,
+                                RedisConnectionFactory connectionFactory,
+                                MemberSignalStore memberSignalStore,
+                                MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.memberSignalStore = memberSignalStore;
+
+        Gauge.builder("matching.signal.snapshot.staleness", this, snapshot -> snapshot.staleness().toMillis() / 1000.0)
+                .description("마지막 전체 동기화 이후 경과 시간 (초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("matching.signal.snapshot.size", this, MemberSignalSnapshot::size)
+                .description("스냅샷에 적재된 회원 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 키 이벤트를 구독하고 전체 적재합니다.
+     * (구독을 먼저 시작해 적재 중 변경분도 놓치지 않음)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        subscribeKeyEvents();
+        resync();
+    }
+
+    /**
+     * 키 이벤트 유실에 대비한 주기적 전체 재동기화.
+     */
+    @Scheduled(fixedDelayString = "${matching.signal.snapshot.resync-interval:600000}",
+            initialDelayString = "${matching.signal.snapshot.resync-interval:600000}")
+    public void resync() {
+        if (!enabled) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        syncing = true;
+        try {
+            MemberSignalLayout layout = memberSignalStore.getLayout();
+            MemberSignalTable loaded = new MemberSignalTable(Math.max(size(), SCAN_BATCH_SIZE));
+            int trustCount = 0;
+            int subCount = 0;
+            if (layout != MemberSignalLayout.BUCKETED) {
+                trustCount += scanInto(TRUST_KEY, (memberId, value) -> loaded.putTrustScore(memberId, Double.parseDouble(value)));
+                subCount += scanInto(SUB_KEY, (memberId, value) -> loaded.putSubscription(memberId, Boolean.parseBoolean(value)));
+            }
+            if (layout != MemberSignalLayout.KEY) { // DUAL 이면 버킷 구조가 기존 키를 덮어씀
+                trustCount += loadTrustBuckets(loaded);
+                subCount += loadSubscriptionBitmap(loaded);
+            }
+
+            lock.writeLock().lock();
+            try {
+                table = loaded;
+                completeSubscriptions = layout == MemberSignalLayout.BUCKETED;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            syncing = false;
+
+            // 적재 중 변경된 키는 새 테이블에 다시 반영
+            List<String> changed = new ArrayList<>(changedDuringSync);
+            changedDuringSync.clear();
+            changed.forEach(this::refreshKey);
+
+            lastSyncedAt = startedAt;
+            log.info("[Member-Signal] 스냅샷 동기화 완료: 신뢰도 {}건, 구독 {}건, 재반영 {}건, {}ms",
+                    trustCount, subCount, changed.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("[Member-Signal] 스냅샷 동기화 실패 (기존 스냅샷 유지): {}", e.getMessage(), e);
+        } finally {
+            syncing = false;
+        }
+    }
+
+    /**
+     * @return 스냅샷 사용 가능 여부 (활성화 + 적재 완료 + staleness 허용치 이내)
+     */
+    public boolean isAvailable() {
+        return enabled && lastSyncedAt > 0 && staleness().toMillis() <= maxStalenessMillis;
+    }
+
+    /**
+     * @return 마지막 전체 동기화 이후 경과 시간 (적재 전이면 {@link Duration#ZERO})
+     */
+    public Duration staleness() {
+        return lastSyncedAt == 0 ? Duration.ZERO : Duration.ofMillis(System.currentTimeMillis() - lastSyncedAt);
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @return 신뢰도 점수 (스냅샷에 없으면 {@link Double#NaN})
+     */
+    public double trustScore(long memberId) {
+        lock.readLock().lock();
+        try {
+            return table.trustScore(memberId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @return 구독 여부 (스냅샷에 없으면 {@link MemberSignalTable#UNKNOWN}, false 0, true 1)
+     */
+    public int subscription(long memberId) {
+        lock.readLock().lock();
+        try {
+            int subscription = table.subscription(memberId);
+            return subscription == MemberSignalTable.UNKNOWN && completeSubscriptions ? 0 : subscription;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Redis 에서 조회한 값을 스냅샷에 반영합니다. (스냅샷 미스 후 Redis 조회 결과 보정용)
+     *
+     * @param trustScores   회원 ID -> 신뢰도 점수
+     * @param subscriptions 회원 ID -> 구독 여부
+     */
+    public void putAll(Map<Long, Double> trustScores, Map<Long, Boolean> subscriptions) {
+        if (!enabled || (trustScores.isEmpty() && subscriptions.isEmpty())) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            trustScores.forEach((memberId, trustScore) -> table.putTrustScore(memberId, trustScore));
+            subscriptions.forEach(table::putSubscription);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return table.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void subscribeKeyEvents() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(connectionFactory);
+        listenerContainer.addMessageListener(this::onKeyEvent,
+                KEY_EVENTS.stream().map(event -> new PatternTopic("__keyevent@*__:" + event)).toList());
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    private void onKeyEvent(Message message, byte[] pattern) {
+        String key = new String(message.getBody());
+        if (!key.startsWith(TRUST_KEY) && !key.startsWith(SUB_KEY) && !key.startsWith(TRUST_BUCKET_KEY)) {
+            return;
+        }
+        if (syncing) {
+            changedDuringSync.add(key);
+        }
+        refreshKey(key);
+    }
+
+    // 키의 현재 값을 Redis 에서 읽어 스냅샷에 반영 (값이 없으면 제거)
+    private void refreshKey(String key) {
+        if (key.startsWith(TRUST_BUCKET_KEY)) {
+            refreshTrustBucket(key);
+            return;
+        }
+        try {
+            String value = stringRedisTemplate.opsForValue().get(key);
+            boolean trust = key.startsWith(TRUST_KEY);
+            long memberId = Long.parseLong(key.substring((trust ? TRUST_KEY : SUB_KEY).length()));
+
+            lock.writeLock().lock();
+            try {
+                if (trust) {
+                    if (value == null) {
+                        table.removeTrustScore(memberId);
+                    } else {
+                        table.putTrustScore(memberId, Double.parseDouble(value));
+                    }
+                } else {
+                    if (value == null) {
+                        table.removeSubscription(memberId);
+                    } else {
+                        table.putSubscription(memberId, Boolean.parseBoolean(value));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("[Member-Signal] 스냅샷 변경분 반영 실패: key={}, {}", key, e.getMessage());
+        }
+    }
+
+    // 버킷 해시의 현재 필드를 스냅샷에 반영
+    private void refreshTrustBucket(String bucketKey) {
+        try {
+            Map<Object, Object> fields = stringRedisTemplate.opsForHash().entries(bucketKey);
+            long bucket = Long.parseLong(bucketKey.substring(TRUST_BUCKET_KEY.length()));
+
+            lock.writeLock().lock();
+            try {
+                putBucket(table, bucket, fields);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (Exception e) {
+            log.warn("[Member-Signal] 스냅샷 변경분 반영 실패: key={}, {}", bucketKey, e.getMessage());
+        }
+    }
+
+    // 버킷 해시를 SCAN 하며 HGETALL 을 배치 단위 파이프라인으로 적재
+    private int loadTrustBuckets(MemberSignalTable target) {
+        int count = 0;
+        List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(TRUST_BUCKET_KEY + "*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE) {
+                    count += loadBucketBatch(target, keys);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            count += loadBucketBatch(target, keys);
+        }
+        return count;
+    }
+
+    @SuppressWarnings("unchecked")
+    private int loadBucketBatch(MemberSignalTable target, List<String> bucketKeys) {
+        List<Object> replies = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            bucketKeys.forEach(key -> connection.hashCommands().hGetAll(key.getBytes()));
+            return null;
+        });
+        int count = 0;
+        for (int i = 0; i < bucketKeys.size(); i++) {
+            try {
+                long bucket = Long.parseLong(bucketKeys.get(i).substring(TRUST_BUCKET_KEY.length()));
+                count += putBucket(target, bucket, (Map<Object, Object>) replies.get(i));
+            } catch (NumberFormatException e) {
+                log.warn("[Member-Signal] 잘못된 버킷 키 무시: {}", bucketKeys.get(i));
+            }
+        }
+        return count;
+    }
+
+    private int putBucket(MemberSignalTable target, long bucket, Map<Object, Object> fields) {
+        long bucketSize = memberSignalStore.getBucketSize();
+        fields.forEach((field, value) -> target.putTrustScore(
+                bucket * bucketSize + Long.parseLong(field.toString()),
+                Double.parseDouble(value.toString())
+        ));
+        return fields.size();
+    }
+
+    // 구독 비트맵 전체를 읽어 설정된 비트(구독 회원)를 적재하고, 이관 비트맵에만 설정된 회원은 false 로 확정
+    // (비트 0 = 첫 바이트의 최상위 비트, DUAL 에서 기존 키의 true 가 남아 있어도 비트맵 값이 우선)
+    private int loadSubscriptionBitmap(MemberSignalTable target) {
+        byte[] bitmap = readBitmap(SUB_BITMAP_KEY);
+        byte[] migrated = readBitmap(SUB_MIGRATED_KEY);
+        int count = 0;
+        for (int i = 0; i < Math.max(bitmap.length, migrated.length); i++) {
+            int bits = i < bitmap.length ? bitmap[i] & 0xFF : 0;
+            int migratedBits = i < migrated.length ? migrated[i] & 0xFF : 0;
+            for (int bit = 0; (bits | migratedBits) != 0 && bit < 8; bit++) {
+                int mask = 0x80 >>> bit;
+                if ((bits & mask) != 0) {
+                    target.putSubscription((long) i * 8 + bit, true);
+                    count++;
+                } else if ((migratedBits & mask) != 0) {
+                    target.putSubscription((long) i * 8 + bit, false);
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    private byte[] readBitmap(String key) {
+        byte[] bitmap = stringRedisTemplate.execute((RedisCallback<byte[]>) connection ->
+                connection.stringCommands().get(key.getBytes()));
+        return bitmap == null ? new byte[0] : bitmap;
+    }
+
+    // prefix 로 시작하는 키를 SCAN 하며 MGET 으로 값을 읽어 전달
+    private int scanInto(String prefix, SignalConsumer consumer) {
+        int count = 0;
+        List<String> keys = new ArrayList<>(SCAN_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(SCAN_BATCH_SIZE).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                keys.add(cursor.next());
+                if (keys.size() == SCAN_BATCH_SIZE) {
+                    count += loadBatch(prefix, keys, consumer);
+                    keys.clear();
+                }
+            }
+        }
+        if (!keys.isEmpty()) {
+            count += loadBatch(prefix, keys, consumer);
+        }
+        return count;
+    }
+
+    private int loadBatch(String prefix, List<String> keys, SignalConsumer consumer) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return 0;
+        }
+        int count = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            String value = values.get(i);
+            if (value == null) {
+                continue; // SCAN 이후 삭제된 키
+            }
+            try {
+                consumer.accept(Long.parseLong(keys.get(i).substring(prefix.length())), value);
+                count++;
+            } catch (NumberFormatException e) {
+                log.warn("[Member-Signal] 잘못된 신호 키/값 무시: {}={}", keys.get(i), value);
+            }
+        }
+        return count;
+    }
+
+    @FunctionalInterface
+    private interface SignalConsumer {
+        void accept(long memberId, String value);
+    }
+}
@@ -0,0 +1,277 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.BitFieldSubCommands;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.redis.connection.BitFieldSubCommands.BitFieldType.unsigned;
+
+/**
+ * <h2>회원 신호(신뢰도 점수 · 구독 여부) 일괄 조회 저장소</h2>
+ *
+ * <p>후보 재정렬 시 회원마다 GET 을 두 번씩 호출하면 후보 수에 비례해 Redis 왕복이 발생하므로,
+ * 회원 ID 묶음을 한 번의 왕복으로 조회합니다. (후보 수와 관계없이 신호 종류당 왕복 1회)</p>
+ *
+ * <p>저장 구조는 {@code matching.signal.layout}으로 선택합니다. ({@link MemberSignalLayout})</p>
+ * <ul>
+ *     <li>KEY (기본): "member:trust:score:{memberId}" (Double), "member:subscription:{memberId}" (Boolean) - MGET</li>
+ *     <li>BUCKETED: "member:trust:bucket:{memberId / N}" 해시의 필드 {memberId % N} - 버킷별 HMGET 파이프라인,
+ *         구독 여부는 "member:subscriptions:bitmap" 비트맵의 memberId 번째 비트 - BITFIELD GET 한 번</li>
+ *     <li>DUAL: BUCKETED 를 먼저 조회하고, 값이 없는 회원만 KEY 구조에서 조회 (이관 기간용)</li>
+ * </ul>
+ *
+ * <p>구독 비트맵은 미설정과 false 를 구분하지 않으므로, 비트맵에 기록된 회원은
+ * "member:subscriptions:migrated" 비트맵의 memberId 번째 비트도 함께 설정합니다.
+ * DUAL 구조는 이 비트가 설정된 회원의 구독 여부를 비트맵 값으로 확정하고, 설정되지 않은 회원만 기존 키를 확인합니다.
+ * (구독 해지로 비트가 0 이 된 회원이 남아 있는 기존 키의 true 로 읽히지 않도록)</p>
+ *
+ * <p>버킷 해시 · 비트맵과 TTL 이 없는 KEY 구조 키는 회원 서비스(원본)가 변경 시 갱신하는 구조입니다.
+ * read-through 로더가 회원 서비스에서 채운 값은 구조와 관계없이 KEY 구조 키에
+ * {@code matching.signal.cache-ttl-ms}(기본 10분) TTL 로 기록하여 원본 변경을 놓쳐도 그 안에 다시 조회되도록 하고,
+ * BUCKETED 구조도 버킷에 없는 회원의 신뢰도 점수는 이 키에서 조회합니다. (필드 · 비트 단위 만료가 없으므로)</p>
+ *
+ * <p>버킷 크기 N(기본 100)은 해시가 listpack 인코딩을 유지하도록
+ * Redis {@code hash-max-listpack-entries}(기본 128) 이하로 설정해야 합니다.</p>
+ *
+ * <p>반환 Map 에는 값이 존재하는 회원만 포함됩니다. (캐시 미스 기본값은 호출 측에서 결정)
+ * 단, BUCKETED 구조의 구독 비트맵은 미설정과 false 를 구분하지 않으므로 모든 회원이 포함됩니다.</p>
+ *
+ * @see MemberSignalMigrator
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MemberSignalStore {
+
+    private final RedisTemplate<String, Boolean> booleanRedisTemplate; // 구독 여부 캐싱
+    private final RedisTemplate<String, Double> doubleRedisTemplate; // 신뢰도 점수 캐싱
+    private final RedisTemplate<String, String> stringRedisTemplate; // 버킷 해시 · 비트맵 조회
+
+    public static final String TRUST_KEY = "member:trust:score:";
+    public static final String SUB_KEY = "member:subscription:";
+    public static final String TRUST_BUCKET_KEY = "member:trust:bucket:";
+    public static final String SUB_BITMAP_KEY = "member:subscriptions:bitmap";
+    public static final String SUB_MIGRATED_KEY = "member:subscriptions:migrated";
+
+    @Value("${matching.signal.layout:KEY}")
+    private MemberSignalLayout layout = MemberSignalLayout.KEY; // 저장 구조
+
+    @Value("${matching.signal.bucket-size:100}")
+    private int bucketSize = 100; // 버킷 해시당 회원 수 (N)
+
+    @Value("${matching.signal.cache-ttl-ms:600000}")
+    private long cacheTtlMillis = 600_000; // read-through 로더가 채운 값의 유지 시간
+
+    /**
+     * 회원들의 신뢰도 점수를 일괄 조회합니다.
+     *
+     * @param memberIds 조회할 회원 ID 목록
+     * @return 회원 ID -> 신뢰도 점수 (값이 없는 회원은 제외)
+     */
+    public Map<Long, Double> getTrustScores(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return switch (layout) {
+            case KEY -> multiGet(doubleRedisTemplate, TRUST_KEY, memberIds);
+            case BUCKETED, DUAL -> {
+                Map<Long, Double> trustScores = bucketedTrustScores(memberIds);
+                List<Long> misses = memberIds.stream().filter(id -> !trustScores.containsKey(id)).toList();
+                trustScores.putAll(multiGet(doubleRedisTemplate, TRUST_KEY, misses)); // 미이관 또는 로더가 채운 회원
+                yield trustScores;
+            }
+        };
+    }
+
+    /**
+     * 회원들의 구독 여부를 일괄 조회합니다.
+     *
+     * @param memberIds 조회할 회원 ID 목록
+     * @return 회원 ID -> 구독 여부 (값이 없는 회원은 제외)
+     */
+    public Map<Long, Boolean> getSubscriptions(Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+        return switch (layout) {
+            case KEY -> multiGet(booleanRedisTemplate, SUB_KEY, memberIds);
+            case BUCKETED -> bitmapSubscriptions(memberIds, SUB_BITMAP_KEY);
+            case DUAL -> {
+                // 구독 비트맵과 이관 비트맵을 함께 조회하고, 이관되지 않은 회원만 기존 키를 확인
+                List<Long> ids = memberIds.stream().distinct().toList();
+                List<Object> replies = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                        BitFieldSubCommands commands = bitFieldGets(ids);
+                        ops.opsForValue().bitField(SUB_BITMAP_KEY, commands);
+                        ops.opsForValue().bitField(SUB_MIGRATED_KEY, commands);
+                        return null;
+                    }
+                });
+                Map<Long, Boolean> subscribed = toBits(ids, replies.get(0));
+                Map<Long, Boolean> migrated = toBits(ids, replies.get(1));
+
+                Map<Long, Boolean> subscriptions = new HashMap<>(ids.size() * 2);
+                List<Long> unmigrated = new ArrayList<>();
+                for (Long memberId : ids) {
+                    if (migrated.get(memberId)) {
+                        subscriptions.put(memberId, subscribed.get(memberId));
+                    } else {
+                        unmigrated.add(memberId);
+                    }
+                }
+                Map<Long, Boolean> legacy = multiGet(booleanRedisTemplate, SUB_KEY, unmigrated);
+                unmigrated.forEach(memberId -> subscriptions.put(memberId,
+                        subscribed.get(memberId) || legacy.getOrDefault(memberId, false)));
+                yield subscriptions;
+            }
+        };
+    }
+
+    /**
+     * read-through 로더가 회원 서비스에서 채운 신뢰도 점수와 구독 여부를 KEY 구조 키에 TTL 과 함께 기록합니다.
+     * 신호 종류별로 SET PX 파이프라인 1회씩 기록합니다.
+     *
+     * @param trustScores   회원 ID -> 신뢰도 점수
+     * @param subscriptions 회원 ID -> 구독 여부
+     */
+    public void putSignals(Map<Long, Double> trustScores, Map<Long, Boolean> subscriptions) {
+        Duration ttl = Duration.ofMillis(cacheTtlMillis);
+        setWithTtl(doubleRedisTemplate, TRUST_KEY, trustScores, ttl);
+        setWithTtl(booleanRedisTemplate, SUB_KEY, subscriptions, ttl);
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @return 회원이 속한 신뢰도 버킷 해시 키
+     */
+    public String trustBucketKey(long memberId) {
+        return TRUST_BUCKET_KEY + (memberId / bucketSize);
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @return 버킷 해시 내 필드명
+     */
+    public String trustBucketField(long memberId) {
+        return String.valueOf(memberId % bucketSize);
+    }
+
+    public MemberSignalLayout getLayout() {
+        return layout;
+    }
+
+    public int getBucketSize() {
+        return bucketSize;
+    }
+
+    private <V> void setWithTtl(RedisTemplate<String, V> template, String prefix, Map<Long, V> values, Duration ttl) {
+        if (values.isEmpty()) {
+            return;
+        }
+        template.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, T> Object execute(RedisOperations<K, T> operations) throws DataAccessException {
+                RedisOperations<String, V> ops = (RedisOperations<String, V>) operations;
+                values.forEach((memberId, value) -> ops.opsForValue().set(prefix + memberId, value, ttl));
+                return null;
+            }
+        });
+    }
+
+    private <V> Map<Long, V> multiGet(RedisTemplate<String, V> template, String prefix, Collection<Long> memberIds) {
+        if (memberIds.isEmpty()) {
+            return Map.of();
+        }
+
+        List<Long> ids = List.copyOf(memberIds);
+        List<V> values = template
+                .opsForValue()
+                .multiGet(ids.stream().map(id -> prefix + id).toList());
+        if (values == null) { // 파이프라인/트랜잭션 내부 호출 시 null 반환
+            log.warn("[Member-Signal] MGET 결과 없음: prefix={}, size={}", prefix, ids.size());
+            return Map.of();
+        }
+
+        Map<Long, V> result = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            V value = values.get(i);
+            if (value != null) {
+                result.put(ids.get(i), value);
+            }
+        }
+        return result;
+    }
+
+    // 버킷별 HMGET 을 파이프라인으로 묶어 왕복 1회로 조회
+    private Map<Long, Double> bucketedTrustScores(Collection<Long> memberIds) {
+        Map<String, List<Long>> byBucket = new LinkedHashMap<>();
+        memberIds.stream().distinct().forEach(memberId ->
+                byBucket.computeIfAbsent(trustBucketKey(memberId), key -> new ArrayList<>()).add(memberId));
+
+        List<Object> replies = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                byBucket.forEach((bucketKey, ids) -> ops.opsForHash().multiGet(bucketKey,
+                        ids.stream().map(id -> (Object) trustBucketField(id)).toList()));
+                return null;
+            }
+        });
+
+        Map<Long, Double> result = new HashMap<>(memberIds.size() * 2);
+        int bucket = 0;
+        for (List<Long> ids : byBucket.values()) {
+            List<?> values = (List<?>) replies.get(bucket++);
+            for (int i = 0; i < ids.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    result.put(ids.get(i), Double.valueOf(value.toString()));
+                }
+            }
+        }
+        return result;
+    }
+
+    // BITFIELD 의 u1 GET 서브커맨드를 묶어 GETBIT 여러 번을 왕복 1회로 조회
+    private Map<Long, Boolean> bitmapSubscriptions(Collection<Long> memberIds, String bitmapKey) {
+        List<Long> ids = memberIds.stream().distinct().toList();
+        return toBits(ids, stringRedisTemplate.opsForValue().bitField(bitmapKey, bitFieldGets(ids)));
+    }
+
+    private BitFieldSubCommands bitFieldGets(List<Long> ids) {
+        BitFieldSubCommands commands = BitFieldSubCommands.create();
+        for (Long memberId : ids) {
+            commands = commands.get(unsigned(1)).valueAt(memberId);
+        }
+        return commands;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Boolean> toBits(List<Long> ids, Object reply) {
+        List<Long> bits = (List<Long>) reply;
+        Map<Long, Boolean> result = new HashMap<>(ids.size() * 2);
+        for (int i = 0; i < ids.size(); i++) {
+            result.put(ids.get(i), bits != null && bits.get(i) != null && bits.get(i) == 1L);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,181 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import java.util.Arrays;
+
+/**
+ * <h2>회원 신호 원시 타입 해시 테이블</h2>
+ *
+ * <p>memberId(long) → 신뢰도 점수(double) 오픈 어드레싱(선형 탐사) 테이블에,
+ * 같은 슬롯 번호를 사용하는 비트셋으로 구독 여부를 함께 저장합니다.
+ * 박싱된 {@code Long}/{@code Double}/{@code Boolean} 객체 없이 배열 몇 개로 유지되므로
+ * 회원 수가 많아도 GC 부담이 거의 없습니다.</p>
+ *
+ * <ul>
+ *     <li>신뢰도 점수가 없는 회원은 {@link Double#NaN}을 반환합니다.</li>
+ *     <li>구독 여부는 알 수 없음(-1) / false(0) / true(1)로 반환합니다.</li>
+ *     <li>키 삭제 시 슬롯은 유지하고 값만 비웁니다. (전체 동기화 시 새 테이블로 교체)</li>
+ * </ul>
+ *
+ * <p>동기화되지 않은 클래스이므로 호출 측에서 잠금을 관리해야 합니다.</p>
+ */
+public class MemberSignalTable {
+
+    public static final int UNKNOWN = -1;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] memberIds;
+    private double[] trustScores;
+    private long[] used;          // 슬롯 사용 여부
+    private long[] subscriptionKnown; // 구독 여부 존재 여부
+    private long[] subscribed;    // 구독 여부 값
+    private int mask;
+    private int size = 0;
+
+    public MemberSignalTable(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @return 신뢰도 점수 (없으면 {@link Double#NaN})
+     */
+    public double trustScore(long memberId) {
+        int slot = find(memberId);
+        return slot < 0 ? Double.NaN : trustScores[slot];
+    }
+
+    /**
+     * @param memberId 회원 ID
+     * @return 구독 여부 (알 수 없음 {@link #UNKNOWN}, false 0, true 1)
+     */
+    public int subscription(long memberId) {
+        int slot = find(memberId);
+        if (slot < 0 || !isSet(subscriptionKnown, slot)) {
+            return UNKNOWN;
+        }
+        return isSet(subscribed, slot) ? 1 : 0;
+    }
+
+    public void putTrustScore(long memberId, double trustScore) {
+        int slot = slotFor(memberId); // 확장으로 배열이 교체될 수 있으므로 슬롯을 먼저 확보
+        trustScores[slot] = trustScore;
+    }
+
+    public void removeTrustScore(long memberId) {
+        int slot = find(memberId);
+        if (slot >= 0) {
+            trustScores[slot] = Double.NaN;
+        }
+    }
+
+    public void putSubscription(long memberId, boolean isSubscribed) {
+        int slot = slotFor(memberId);
+        set(subscriptionKnown, slot, true);
+        set(subscribed, slot, isSubscribed);
+    }
+
+    public void removeSubscription(long memberId) {
+        int slot = find(memberId);
+        if (slot >= 0) {
+            set(subscriptionKnown, slot, false);
+            set(subscribed, slot, false);
+        }
+    }
+
+    /**
+     * @return 신호가 한 번이라도 저장된 회원 수
+     */
+    public int size() {
+        return size;
+    }
+
+    // 회원의 슬롯을 찾거나 새로 할당 (필요 시 확장)
+    private int slotFor(long memberId) {
+        int slot = find(memberId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size + 1 > (int) ((mask + 1) * LOAD_FACTOR)) {
+            resize();
+        }
+        slot = hash(memberId) & mask;
+        while (isSet(used, slot)) {
+            slot = (slot + 1) & mask;
+        }
+        set(used, slot, true);
+        memberIds[slot] = memberId;
+        trustScores[slot] = Double.NaN;
+        size++;
+        return slot;
+    }
+
+    private int find(long memberId) {
+        int slot = hash(memberId) & mask;
+        while (isSet(used, slot)) {
+            if (memberIds[slot] == memberId) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private void resize() {
+        long[] oldMemberIds = memberIds;
+        double[] oldTrustScores = trustScores;
+        long[] oldUsed = used;
+        long[] oldKnown = subscriptionKnown;
+        long[] oldSubscribed = subscribed;
+        int oldCapacity = mask + 1;
+
+        allocate(oldCapacity << 1);
+        for (int old = 0; old < oldCapacity; old++) {
+            if (!isSet(oldUsed, old)) {
+                continue;
+            }
+            int slot = hash(oldMemberIds[old]) & mask;
+            while (isSet(used, slot)) {
+                slot = (slot + 1) & mask;
+            }
+            set(used, slot, true);
+            memberIds[slot] = oldMemberIds[old];
+            trustScores[slot] = oldTrustScores[old];
+            set(subscriptionKnown, slot, isSet(oldKnown, old));
+            set(subscribed, slot, isSet(oldSubscribed, old));
+        }
+    }
+
+    private void allocate(int capacity) {
+        memberIds = new long[capacity];
+        trustScores = new double[capacity];
+        Arrays.fill(trustScores, Double.NaN);
+        int words = (capacity + 63) >>> 6;
+        used = new long[words];
+        subscriptionKnown = new long[words];
+        subscribed = new long[words];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int required = (int) Math.ceil(Math.max(expectedSize, 16) / LOAD_FACTOR);
+        return Integer.highestOneBit(required - 1) << 1;
+    }
+
+    private static int hash(long memberId) {
+        long h = memberId * 0x9E3779B97F4A7C15L; // 연속된 ID 도 고르게 분산
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static boolean isSet(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+
+    private static void set(long[] bits, int index, boolean value) {
+        if (value) {
+            bits[index >>> 6] |= 1L << index;
+        } else {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scripting.support.ResourceScriptSource;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <h2>알림 다이제스트 Redis 저장소</h2>
+ *
+ * <p>여러 노드가 같은 수신자의 매칭 알림을 각자 모으면 노드 수만큼 다이제스트가 발송되므로,
+ * 노드별 메모리 버퍼를 주기적으로 Redis 로 넘겨(spill) 수신자별로 합치고, 발송 시각이 지난 수신자는
+ * Lua 스크립트(redis/claim-digests.lua)로 한 노드만 선점하여 발송합니다.</p>
+ *
+ * <ul>
+ *     <li>notification:{digest}:due (ZSET): 수신자 ID → 발송 시각 (첫 항목 기준, 이후 항목은 시각을 늦추지 않음)</li>
+ *     <li>notification:{digest}:entries:{수신자 ID} (HASH): 상대 회원 ID → 유사도 점수</li>
+ * </ul>
+ *
+ * <p>선점 스크립트는 수신자를 ZSET 에서 꺼낸 뒤에야 항목 해시 키를 알 수 있어 KEYS 로 미리 넘길 수 없으므로,
+ * 모든 키에 해시 태그 {digest}를 붙여 Redis Cluster 에서도 같은 슬롯에 두고 스크립트가 접근하도록 합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestStore {
+
+    public static final String DUE_KEY = "notification:{digest}:due";
+    public static final String ENTRIES_KEY = "notification:{digest}:entries:"; // DUE_KEY 와 같은 해시 태그 (같은 슬롯)
+    private static final Duration ENTRIES_TTL = Duration.ofDays(1); // 선점되지 않은 항목의 안전 만료
+
+    private static final RedisScript<List> CLAIM_SCRIPT = claimScript();
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+
+    /**
+     * 노드 버퍼의 항목을 Redis 에 합칩니다. (파이프라인 1회)
+     *
+     * @param entries 수신자 ID → (상대 회원 ID → 유사도 점수)
+     * @param dueAt   수신자 ID → 발송 시각 (epoch ms, 이미 대기 중인 수신자는 기존 시각 유지)
+     */
+    public void spill(Map<Long, Map<Long, Integer>> entries, Map<Long, Long> dueAt) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                entries.forEach((recipientId, matches) -> {
+                    Map<String, String> fields = new HashMap<>(matches.size() * 2);
+                    matches.forEach((matchedId, score) -> fields.put(String.valueOf(matchedId), String.valueOf(score)));
+                    ops.opsForHash().putAll(ENTRIES_KEY + recipientId, fields);
+                    ops.expire(ENTRIES_KEY + recipientId, ENTRIES_TTL);
+                    ops.opsForZSet().addIfAbsent(DUE_KEY, String.valueOf(recipientId), dueAt.get(recipientId));
+                });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 발송 시각이 지난 수신자를 선점하고 누적 항목을 꺼냅니다. 선점된 수신자는 Redis 에서 제거됩니다.
+     *
+     * @param now   현재 시각 (epoch ms)
+     * @param limit 최대 선점 수신자 수
+     * @return 수신자 ID → (상대 회원 ID → 유사도 점수)
+     */
+    public Map<Long, Map<Long, Integer>> claimDue(long now, int limit) {
+        List<?> reply = stringRedisTemplate.execute(CLAIM_SCRIPT, List.of(DUE_KEY),
+                String.valueOf(now), String.valueOf(limit), ENTRIES_KEY);
+
+        Map<Long, Map<Long, Integer>> claimed = new LinkedHashMap<>();
+        if (reply == null) {
+            return claimed;
+        }
+        int i = 0;
+        while (i < reply.size()) {
+            long recipientId = Long.parseLong(String.valueOf(reply.get(i++)));
+            int count = Integer.parseInt(String.valueOf(reply.get(i++)));
+            Map<Long, Integer> matches = new LinkedHashMap<>(count * 2);
+            for (int n = 0; n < count; n++) {
+                matches.put(Long.parseLong(String.valueOf(reply.get(i++))),
+                        Integer.parseInt(String.valueOf(reply.get(i++))));
+            }
+            claimed.put(recipientId, matches);
+        }
+        return claimed;
+    }
+
+    private static RedisScript<List> claimScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setScriptSource(new ResourceScriptSource(new ClassPathResource("redis/claim-digests.lua")));
+        script.setResultType(List.class);
+        return script;
+    }
+}
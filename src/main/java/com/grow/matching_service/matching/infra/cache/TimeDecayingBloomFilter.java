@@ -0,0 +1,183 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * <h2>시간 감쇠 블룸 필터</h2>
+ *
+ * <p>세대(generation) 블룸 필터 여러 개를 링으로 두고, 일정 간격마다 가장 오래된 세대를 비워 새 세대로 사용합니다.
+ * 삽입은 현재 세대에만 기록하고 조회는 모든 세대를 확인하므로, 키는 최소 {@code horizon}, 최대
+ * {@code horizon × G / (G - 1)} 동안 유지된 뒤 자연스럽게 잊혀집니다. (G: 세대 수)</p>
+ *
+ * <ul>
+ *     <li>메모리: 세대당 {@code -n·ln(p) / (ln 2)²} 비트로 고정 (n: 회전 간격당 예상 삽입 수, p: 세대별 오탐률)</li>
+ *     <li>오탐률: 세대별 오탐률을 {@code fpp / G}로 잡아 전체 세대를 조회해도 설정한 오탐률 이하로 유지</li>
+ *     <li>미탐(false negative) 없음: horizon 이내에 삽입된 키는 항상 존재로 판정</li>
+ * </ul>
+ *
+ * <p>비트 설정은 {@link AtomicLongArray} 로 원자적으로 수행되어 여러 스레드에서 잠금 없이 사용할 수 있으며,
+ * 세대 회전만 짧게 동기화합니다.</p>
+ */
+public class TimeDecayingBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final int generations;
+    private final long rotationMillis;
+    private final long bitsPerGeneration;
+    private final int hashCount;
+    private final LongSupplier clock;
+
+    private volatile AtomicLongArray[] ring; // [0] 현재 세대, 뒤로 갈수록 오래된 세대
+    private volatile long nextRotationAt;
+
+    /**
+     * @param expectedInsertions horizon 동안 예상되는 삽입 수
+     * @param fpp                목표 오탐률 (0 ~ 1)
+     * @param horizon            키를 기억해야 하는 최소 시간
+     * @param generations        세대 수 (2 이상, 클수록 만료 시각이 정밀해지고 메모리는 조금 늘어남)
+     * @param clock              현재 시각 (epoch ms)
+     */
+    public TimeDecayingBloomFilter(long expectedInsertions,
+                                   double fpp,
+                                   Duration horizon,
+                                   int generations,
+                                   LongSupplier clock) {
+        if (fpp <= 0 || fpp >= 1) {
+            throw new IllegalArgumentException("fpp 는 0 과 1 사이여야 합니다: " + fpp);
+        }
+        this.generations = Math.max(2, generations);
+        this.rotationMillis = Math.max(1, horizon.toMillis() / (this.generations - 1));
+        this.clock = clock;
+
+        long perGeneration = Math.max(1, (expectedInsertions + this.generations - 2) / (this.generations - 1));
+        double generationFpp = fpp / this.generations;
+        this.bitsPerGeneration = Math.max(64, (long) Math.ceil(-perGeneration * Math.log(generationFpp) / (LN2 * LN2)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitsPerGeneration / perGeneration * LN2));
+
+        AtomicLongArray[] initial = new AtomicLongArray[this.generations];
+        for (int i = 0; i < initial.length; i++) {
+            initial[i] = newGeneration();
+        }
+        this.ring = initial;
+        this.nextRotationAt = clock.getAsLong() + rotationMillis;
+    }
+
+    /**
+     * 키가 없으면 기록합니다.
+     *
+     * @param keyParts 키를 구성하는 값들 (순서 포함)
+     * @return 처음 본 키이면 true, horizon 이내에 이미 기록된 키(또는 오탐)이면 false
+     */
+    public boolean putIfAbsent(long... keyParts) {
+        rotateIfNeeded();
+        long h1 = hash(keyParts, 0x9E3779B97F4A7C15L);
+        long h2 = hash(keyParts, 0xC2B2AE3D27D4EB4FL) | 1L; // 홀수로 만들어 모든 비트 위치를 순회
+
+        AtomicLongArray[] snapshot = ring;
+        for (int g = 1; g < snapshot.length; g++) {
+            if (contains(snapshot[g], h1, h2)) {
+                return false;
+            }
+        }
+
+        boolean changed = false;
+        AtomicLongArray current = snapshot[0];
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerGeneration);
+            long mask = 1L << (bit & 63);
+            long previous = current.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+            changed |= (previous & mask) == 0;
+        }
+        return changed;
+    }
+
+    /**
+     * 키가 horizon 이내에 기록되었는지 확인합니다. (기록하지 않음)
+     *
+     * @param keyParts 키를 구성하는 값들 (순서 포함)
+     * @return 기록된 키(또는 오탐)이면 true
+     */
+    public boolean mightContain(long... keyParts) {
+        rotateIfNeeded();
+        long h1 = hash(keyParts, 0x9E3779B97F4A7C15L);
+        long h2 = hash(keyParts, 0xC2B2AE3D27D4EB4FL) | 1L;
+        for (AtomicLongArray generation : ring) {
+            if (contains(generation, h1, h2)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 전체 세대의 비트 배열 크기 (바이트)
+     */
+    public long memoryBytes() {
+        return (long) generations * wordsPerGeneration() * Long.BYTES;
+    }
+
+    /**
+     * @return 세대당 해시 함수 수
+     */
+    public int getHashCount() {
+        return hashCount;
+    }
+
+    private boolean contains(AtomicLongArray generation, long h1, long h2) {
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(h1 + i * h2, bitsPerGeneration);
+            if ((generation.get((int) (bit >>> 6)) & (1L << (bit & 63))) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rotateIfNeeded() {
+        long now = clock.getAsLong();
+        if (now < nextRotationAt) {
+            return;
+        }
+        synchronized (this) {
+            if (now < nextRotationAt) {
+                return;
+            }
+            long elapsed = (now - nextRotationAt) / rotationMillis + 1; // 밀린 회전 수
+            AtomicLongArray[] rotated = new AtomicLongArray[generations];
+            for (int i = 0; i < generations; i++) {
+                rotated[i] = i < elapsed ? newGeneration() : ring[(int) (i - elapsed)];
+            }
+            ring = rotated;
+            nextRotationAt += elapsed * rotationMillis;
+        }
+    }
+
+    private AtomicLongArray newGeneration() {
+        return new AtomicLongArray(wordsPerGeneration());
+    }
+
+    private int wordsPerGeneration() {
+        return (int) ((bitsPerGeneration + 63) >>> 6);
+    }
+
+    // 키 값들을 섞어 64비트 해시 생성 (MurmurHash3 fmix64)
+    private static long hash(long[] keyParts, long seed) {
+        long h = seed;
+        for (long part : keyParts) {
+            h = fmix64(h ^ fmix64(part + seed));
+        }
+        return h;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xFF51AFD7ED558CCDL;
+        k ^= k >>> 33;
+        k *= 0xC4CEB9FE1A85EC53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
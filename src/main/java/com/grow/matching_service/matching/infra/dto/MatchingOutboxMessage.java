@@ -0,0 +1,18 @@
+package com.grow.matching_service.matching.infra.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아웃박스에서 선점한 매칭 저장 이벤트 DTO 클래스
+ */
+@Getter
+@Builder
+public class MatchingOutboxMessage {
+    private Long outboxId;
+    private MatchingQueryDto dto;
+    private int attempts;
+    private LocalDateTime createdAt;
+}
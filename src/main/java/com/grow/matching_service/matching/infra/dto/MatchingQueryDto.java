@@ -6,12 +6,15 @@ import com.grow.matching_service.matching.domain.enums.Level;
 import com.grow.matching_service.matching.domain.enums.MostActiveTime;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 /**
  * 이벤트 발행 후 DTO 객체로 변경한 후 쿼리를 실행하기 위한 DTO 클래스
+ * (Kafka 전송 모드에서는 메시지 본문으로 JSON 직렬화됩니다)
  */
 @Getter
 @Builder
+@Jacksonized
 public class MatchingQueryDto {
     private Long memberId;
     private Category category;
@@ -7,6 +7,7 @@ import lombok.Getter;
 @Getter
 @AllArgsConstructor
 public class MatchingResult {
+    private Long matchingId;
     private Long memberId;
     private Category category;
     private MostActiveTime mostActiveTime;
@@ -0,0 +1,23 @@
+package com.grow.matching_service.matching.infra.dto;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 매칭 엔티티의 저장/수정/삭제 시점 상태를 담는 DTO 클래스 (인메모리 인덱스 동기화용)
+ * introduction 은 인덱스에 필요하지 않으므로 제외합니다.
+ */
+@Getter
+@Builder
+public class MatchingSnapshotDto {
+    private Long matchingId;
+    private Long memberId;
+    private Category category;
+    private MostActiveTime mostActiveTime;
+    private Level level;
+    private Age age;
+    private Boolean isAttending;
+    private MatchingStatus status;
+    private Long version;
+}
@@ -53,4 +53,41 @@ public class MatchingJpaEntity {
 
 	@Version
 	private Long version; // Optimistic Lock 처리를 위한 버전 관리
+
+	@Transient
+	@Getter(AccessLevel.NONE)
+	private ScoringAttributes loadedScoring; // 마지막으로 조회 또는 반영된 시점의 점수 계산 속성 (변경 감지용)
+
+	/**
+	 * 현재 점수 계산 속성을 변경 감지 기준으로 기록합니다.
+	 * 조회 직후와 저장 이벤트 처리 후에 호출됩니다.
+	 */
+	@PostLoad
+	public void captureScoringAttributes() {
+		this.loadedScoring = currentScoring();
+	}
+
+	/**
+	 * 매칭 점수 계산 속성(category, mostActiveTime, level, age, isAttending) 또는 활성 상태가
+	 * 기준 시점 이후 바뀌었는지 확인합니다. 새로 저장된 엔티티는 항상 변경된 것으로 봅니다.
+	 * introduction 수정이나 버전 증가만 있는 경우에는 false 를 반환합니다.
+	 *
+	 * @return 점수 계산 속성 변경 여부
+	 */
+	public boolean isScoringChanged() {
+		return loadedScoring == null || !loadedScoring.equals(currentScoring());
+	}
+
+	private ScoringAttributes currentScoring() {
+		return new ScoringAttributes(category, mostActiveTime, level, age, isAttending, status);
+	}
+
+	// 비활성 → 활성 전환 시에도 다시 매칭해야 하므로 상태를 함께 비교
+	private record ScoringAttributes(Category category,
+									 MostActiveTime mostActiveTime,
+									 Level level,
+									 Age age,
+									 Boolean isAttending,
+									 MatchingStatus status) {
+	}
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.grow.matching_service.matching.infra.entity;
+
+import com.grow.matching_service.matching.domain.enums.Age;
+import com.grow.matching_service.matching.domain.enums.Category;
+import com.grow.matching_service.matching.domain.enums.Level;
+import com.grow.matching_service.matching.domain.enums.MostActiveTime;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매칭 저장 이벤트 아웃박스 테이블.
+ * 매칭 엔티티와 같은 트랜잭션에서 기록되며, 읽기/쓰기는
+ * {@link com.grow.matching_service.matching.infra.repository.MatchingOutboxRepository}(JDBC)에서 처리합니다.
+ */
+@Entity
+@Getter
+@Builder
+@Table(name = "matching_outbox",
+		indexes = {
+				@Index(name = "idx_matching_outbox_status", columnList = "status, outbox_id"),
+				@Index(name = "idx_matching_outbox_key", columnList = "member_id, category, outbox_id") // 병합 판단
+		})
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MatchingOutboxJpaEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long outboxId;
+
+	@Column(nullable = false)
+	private Long memberId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false)
+	private Category category;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private MostActiveTime mostActiveTime;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private Level level;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private Age age;
+
+	@Column(nullable = false)
+	private Boolean isAttending;
+
+	@Column(nullable = false)
+	@Enumerated(EnumType.STRING)
+	private Status status; // 처리 상태 (PENDING, CLAIMED, FAILED)
+
+	@Column(nullable = false)
+	private Integer attempts; // 처리 시도 횟수
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt; // 기록 시각 (지연 측정 기준)
+
+	private LocalDateTime claimedAt; // 마지막 선점 시각 (리스 만료 판단 기준)
+
+	private LocalDateTime nextAttemptAt; // 실패 후 다음 선점 가능 시각 (지수 백오프, null 이면 즉시)
+
+	public enum Status {
+		PENDING, // 처리 대기
+		CLAIMED, // 릴레이가 선점 (리스 만료 시 다시 선점 가능)
+		FAILED   // 최대 시도 횟수 초과
+	}
+}
@@ -1,29 +1,59 @@
 package com.grow.matching_service.matching.infra.event;
 
+import com.grow.matching_service.matching.domain.dto.event.MatchingChangedEvent;
 import com.grow.matching_service.matching.domain.dto.event.MatchingSavedEvent;
 import com.grow.matching_service.matching.domain.enums.MatchingStatus;
 import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
 import com.grow.matching_service.matching.infra.entity.MatchingJpaEntity;
+import com.grow.matching_service.matching.infra.repository.MatchingOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
 import jakarta.persistence.PostUpdate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 
 /**
  * JPA 엔티티의 저장 또는 수정 후 이벤트를 수집하고 새로운 이벤트를 발행하기 위한 클래스 (쿼리 실행)
+ * <p>
+ * {@code matching.event.outbox.enabled=true}(기본)이면 매칭 저장 이벤트를 즉시 발행하지 않고
+ * 같은 트랜잭션에서 아웃박스에 기록합니다. (커밋 이후 {@code MatchingOutboxRelay}가 처리)
+ * <p>
+ * 점수 계산 속성(category, mostActiveTime, level, age, isAttending)이 바뀌지 않은 수정
+ * (소개글 수정, 버전 증가 등)은 매칭 결과가 같으므로 매칭 저장 이벤트를 발행하지 않습니다.
+ * 발행/생략 건수는 {@code matching.event.saved}(result=published|suppressed) 메트릭으로 기록합니다.
  */
+@Slf4j
 @Component
 public class MatchingEntityListener {
 
     private final ApplicationEventPublisher publisher;
+    private final MatchingOutboxRepository outboxRepository;
+    private final boolean outboxEnabled; // 아웃박스 사용 여부
+    private final Counter publishedCounter;
+    private final Counter suppressedCounter;
 
-    public MatchingEntityListener(ApplicationEventPublisher publisher) {
+    public MatchingEntityListener(ApplicationEventPublisher publisher,
+                                  MatchingOutboxRepository outboxRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${matching.event.outbox.enabled:true}") boolean outboxEnabled) {
         this.publisher = publisher;
+        this.outboxRepository = outboxRepository;
+        this.outboxEnabled = outboxEnabled;
+        this.publishedCounter = meterRegistry.counter("matching.event.saved", "result", "published");
+        this.suppressedCounter = meterRegistry.counter("matching.event.saved", "result", "suppressed");
     }
 
     @PostPersist // 저장 후
     @PostUpdate // 수정 후
     public void onAfterSave(MatchingJpaEntity entity) {
+        // 인메모리 인덱스 동기화용 이벤트는 상태와 관계없이 발행 (삭제/비활성화 시 인덱스에서 제거)
+        publisher.publishEvent(new MatchingChangedEvent(toSnapshot(entity, entity.getStatus())));
+
         // DTO 생성 (matchingId와 introduction 제외 -> 쿼리에 필요하지 않음)
         MatchingQueryDto dto = MatchingQueryDto.builder()
                 .memberId(entity.getMemberId())
@@ -34,11 +64,45 @@ public class MatchingEntityListener {
                 .isAttending(entity.getIsAttending())
                 .build();
 
+        boolean scoringChanged = entity.isScoringChanged();
+        entity.captureScoringAttributes(); // 같은 트랜잭션에서 다시 수정될 경우의 비교 기준 갱신
+
         if (entity.getStatus() == MatchingStatus.DELETED || entity.getStatus() == MatchingStatus.INACTIVE) {
             return; // 삭제 또는 비활성화 상태일 경우는 이벤트 발행하지 않음
         }
 
+        if (!scoringChanged) {
+            suppressedCounter.increment(); // 점수 계산 속성이 같으면 매칭 결과도 같으므로 재계산 생략
+            log.debug("[MATCH] 점수 계산 속성 변경 없음, 매칭 저장 이벤트 생략 - matchingId: {}", entity.getMatchingId());
+            return;
+        }
+        publishedCounter.increment();
+
+        if (outboxEnabled) {
+            outboxRepository.append(dto); // 매칭 저장과 같은 트랜잭션에서 기록 (커밋 후 릴레이가 처리)
+            return;
+        }
+
         // DTO를 포함한 이벤트 발행
         publisher.publishEvent(new MatchingSavedEvent(dto));
     }
+
+    @PostRemove // 물리 삭제 후
+    public void onAfterRemove(MatchingJpaEntity entity) {
+        publisher.publishEvent(new MatchingChangedEvent(toSnapshot(entity, MatchingStatus.DELETED)));
+    }
+
+    private MatchingSnapshotDto toSnapshot(MatchingJpaEntity entity, MatchingStatus status) {
+        return MatchingSnapshotDto.builder()
+                .matchingId(entity.getMatchingId())
+                .memberId(entity.getMemberId())
+                .category(entity.getCategory())
+                .mostActiveTime(entity.getMostActiveTime())
+                .level(entity.getLevel())
+                .age(entity.getAge())
+                .isAttending(entity.getIsAttending())
+                .status(status)
+                .version(entity.getVersion())
+                .build();
+    }
 }
@@ -0,0 +1,414 @@
+package com.grow.matching_service.matching.infra.index;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h2>카테고리별 비트셋 역색인 (Inverted Index)</h2>
+ *
+ * <p>ACTIVE 상태의 매칭을 카테고리마다 밀집 슬롯(dense slot)에 배치하고,
+ * 속성 값(mostActiveTime · level · age · isAttending)마다 슬롯 비트셋을 유지합니다.
+ * 검색 시에는 기준 사용자의 속성 값에 해당하는 비트셋 4개를 64비트 워드 단위로 더해(bit-sliced adder)
+ * 1~4점 점수 구간을 한 번에 계산하므로, DB의 CASE 식 풀 스캔 없이 후보를 선별할 수 있습니다.</p>
+ *
+ * <p>점수 규칙은 {@code MatchingQueryRepositoryImpl#buildScoreExpression}과 동일합니다.</p>
+ * <ul>
+ *     <li>기준 age 가 NONE 이 아니면 동일 age 슬롯만 후보로 사용</li>
+ *     <li>본인(memberId 동일)의 매칭은 제외</li>
+ *     <li>점수 내림차순 (같은 점수 내에서는 슬롯 순서)</li>
+ * </ul>
+ *
+ * <p>동시성: 카테고리별 {@link ReentrantReadWriteLock}으로 갱신과 조회를 분리하고,
+ * 반영 · 적재 · 제거는 인덱스 단위 잠금 하나로 직렬화하여 버전 비교(제거 버전 포함)와 카테고리 이동을 한 번에 수행합니다.
+ * 반환되는 {@link MatchingResult}에는 introduction 이 포함되지 않으므로 호출 측에서 필요한 만큼만 채워야 합니다.</p>
+ */
+public class MatchingBitsetIndex implements MatchingCandidateIndex {
+
+    private static final int INITIAL_SLOTS = 1024;
+    private static final int MAX_TOMBSTONES = 100_000;
+
+    private final Map<Category, CategoryIndex> categories = new EnumMap<>(Category.class);
+    private final Map<Long, Category> categoryByMatchingId = new ConcurrentHashMap<>(); // 매칭 ID -> 소속 카테고리
+    private final ReentrantLock writeLock = new ReentrantLock(); // 반영 · 적재 · 제거 직렬화 (버전 비교와 변경을 한 번에)
+
+    // 제거된 매칭 ID -> 제거 시점 버전 (오래된 스냅샷이 제거된 매칭을 되살리지 않도록, 최근 MAX_TOMBSTONES 건만 유지)
+    private final Map<Long, Long> tombstones = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_TOMBSTONES;
+        }
+    };
+
+    public MatchingBitsetIndex() {
+        for (Category category : Category.values()) {
+            categories.put(category, new CategoryIndex(category));
+        }
+    }
+
+    /**
+     * 스냅샷을 인덱스에 반영합니다.
+     * ACTIVE 상태면 추가/갱신하고, 그 외 상태(INACTIVE, DELETED)면 인덱스에서 제거한 뒤 제거 버전을 기록합니다.
+     * 저장된(또는 제거된) 버전보다 오래된 스냅샷은 무시합니다.
+     *
+     * @param snapshot 매칭 스냅샷
+     */
+    @Override
+    public void apply(MatchingSnapshotDto snapshot) {
+        writeLock.lock();
+        try {
+            if (isStale(snapshot)) {
+                return;
+            }
+            if (snapshot.getStatus() != MatchingStatus.ACTIVE) {
+                removeLocked(snapshot.getMatchingId());
+                tombstones.merge(snapshot.getMatchingId(), versionOf(snapshot), Math::max);
+                return;
+            }
+            upsertLocked(snapshot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 초기 적재용 반영 메서드. 이미 인덱스에 존재하는 매칭(이벤트로 먼저 반영된 최신 상태)은 덮어쓰지 않고,
+     * 적재 중 이벤트로 제거된 매칭은 제거 버전 이하의 스냅샷으로 되살리지 않습니다.
+     *
+     * @param snapshot ACTIVE 상태의 매칭 스냅샷
+     */
+    @Override
+    public void load(MatchingSnapshotDto snapshot) {
+        if (snapshot.getStatus() != MatchingStatus.ACTIVE) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (!categoryByMatchingId.containsKey(snapshot.getMatchingId()) && !isStale(snapshot)) {
+                upsertLocked(snapshot);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * 매칭을 인덱스에서 제거합니다. 존재하지 않으면 아무 작업도 하지 않습니다.
+     * 제거 시점의 버전을 기록하여 같은 버전 이하의 스냅샷이 다시 추가되지 않도록 합니다.
+     *
+     * @param matchingId 제거할 매칭 ID
+     */
+    @Override
+    public void remove(Long matchingId) {
+        writeLock.lock();
+        try {
+            Long version = removeLocked(matchingId);
+            if (version != null) {
+                tombstones.merge(matchingId, version, Math::max);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 저장된 버전보다 오래된 스냅샷, 또는 제거 버전 이하의 ACTIVE 스냅샷인지 확인 (writeLock 보유 상태에서 호출)
+    // 물리 삭제 스냅샷은 마지막 수정과 같은 버전을 가지므로 저장된 버전과 같으면 제거를 반영
+    private boolean isStale(MatchingSnapshotDto snapshot) {
+        long version = versionOf(snapshot);
+        Category category = categoryByMatchingId.get(snapshot.getMatchingId());
+        if (category != null) {
+            return version < categories.get(category).version(snapshot.getMatchingId());
+        }
+        Long removed = tombstones.get(snapshot.getMatchingId());
+        return snapshot.getStatus() == MatchingStatus.ACTIVE && removed != null && version <= removed;
+    }
+
+    // 다른 카테고리에 있던 매칭은 옮긴 뒤 갱신 (writeLock 보유 상태에서 호출)
+    private void upsertLocked(MatchingSnapshotDto snapshot) {
+        Category previous = categoryByMatchingId.put(snapshot.getMatchingId(), snapshot.getCategory());
+        if (previous != null && previous != snapshot.getCategory()) {
+            categories.get(previous).remove(snapshot.getMatchingId());
+        }
+        tombstones.remove(snapshot.getMatchingId());
+        categories.get(snapshot.getCategory()).upsert(snapshot, versionOf(snapshot));
+    }
+
+    // 제거한 매칭의 버전, 없으면 null (writeLock 보유 상태에서 호출)
+    private Long removeLocked(Long matchingId) {
+        Category category = categoryByMatchingId.remove(matchingId);
+        return category != null ? categories.get(category).remove(matchingId) : null;
+    }
+
+    private static long versionOf(MatchingSnapshotDto snapshot) {
+        return snapshot.getVersion() == null ? 0L : snapshot.getVersion();
+    }
+
+    /**
+     * 기준 사용자와 유사도 점수 1점 이상인 후보를 점수 내림차순으로 반환합니다.
+     *
+     * @param reference 기준 매칭 쿼리 DTO
+     * @return introduction 이 비어 있는 후보 목록 (점수 내림차순)
+     */
+    @Override
+    public List<MatchingResult> search(MatchingQueryDto reference) {
+        return categories.get(reference.getCategory()).search(reference);
+    }
+
+    /**
+     * @return 인덱스에 등록된 전체 매칭 수
+     */
+    @Override
+    public int size() {
+        return categoryByMatchingId.size();
+    }
+
+    /**
+     * @return 인덱스에 등록된 매칭 ID 복사본 (재동기화 시 DB 에 없는 매칭 확인용)
+     */
+    @Override
+    public Set<Long> matchingIds() {
+        return new HashSet<>(categoryByMatchingId.keySet());
+    }
+
+    /**
+     * 단일 카테고리에 대한 슬롯 저장소와 속성 값별 비트셋.
+     */
+    private static final class CategoryIndex {
+
+        private static final MostActiveTime[] TIMES = MostActiveTime.values();
+        private static final Level[] LEVELS = Level.values();
+        private static final Age[] AGES = Age.values();
+
+        private final Category category;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Map<Long, Integer> slotByMatchingId = new HashMap<>();
+
+        private int[] freeSlots = new int[16];
+        private int freeCount = 0;
+        private int nextSlot = 0;
+
+        // 슬롯별 속성 (MatchingResult 복원용)
+        private long[] matchingIds = new long[INITIAL_SLOTS];
+        private long[] memberIds = new long[INITIAL_SLOTS];
+        private long[] versions = new long[INITIAL_SLOTS];
+        private byte[] times = new byte[INITIAL_SLOTS];
+        private byte[] levels = new byte[INITIAL_SLOTS];
+        private byte[] ages = new byte[INITIAL_SLOTS];
+
+        // 속성 값별 비트셋 (64 슬롯 = 1 워드)
+        private long[] live = new long[INITIAL_SLOTS >>> 6];
+        private final long[][] byTime = new long[TIMES.length][INITIAL_SLOTS >>> 6];
+        private final long[][] byLevel = new long[LEVELS.length][INITIAL_SLOTS >>> 6];
+        private final long[][] byAge = new long[AGES.length][INITIAL_SLOTS >>> 6];
+        private final long[][] byAttending = new long[2][INITIAL_SLOTS >>> 6]; // 0: false, 1: true
+
+        private CategoryIndex(Category category) {
+            this.category = category;
+        }
+
+        // 버전 비교는 호출 측(writeLock)에서 끝난 상태
+        private void upsert(MatchingSnapshotDto snapshot, long version) {
+            lock.writeLock().lock();
+            try {
+                Integer existing = slotByMatchingId.get(snapshot.getMatchingId());
+                int slot;
+                if (existing != null) {
+                    slot = existing;
+                    clearBits(slot);
+                } else {
+                    slot = allocateSlot();
+                    slotByMatchingId.put(snapshot.getMatchingId(), slot);
+                }
+
+                matchingIds[slot] = snapshot.getMatchingId();
+                memberIds[slot] = snapshot.getMemberId();
+                versions[slot] = version;
+                times[slot] = (byte) snapshot.getMostActiveTime().ordinal();
+                levels[slot] = (byte) snapshot.getLevel().ordinal();
+                ages[slot] = (byte) snapshot.getAge().ordinal();
+
+                setBit(live, slot);
+                setBit(byTime[times[slot]], slot);
+                setBit(byLevel[levels[slot]], slot);
+                setBit(byAge[ages[slot]], slot);
+                setBit(byAttending[Boolean.TRUE.equals(snapshot.getIsAttending()) ? 1 : 0], slot);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 제거한 매칭의 버전, 없으면 null
+        private Long remove(Long matchingId) {
+            lock.writeLock().lock();
+            try {
+                Integer slot = slotByMatchingId.remove(matchingId);
+                if (slot == null) {
+                    return null;
+                }
+                clearBits(slot);
+                if (freeCount == freeSlots.length) {
+                    freeSlots = Arrays.copyOf(freeSlots, freeCount << 1);
+                }
+                freeSlots[freeCount++] = slot; // 빈 슬롯 재사용으로 비트셋을 밀집 상태로 유지
+                return versions[slot];
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 저장된 버전, 없으면 null (갱신은 모두 MatchingBitsetIndex#writeLock 아래에서 일어나므로 그 안에서 호출)
+        private Long version(Long matchingId) {
+            Integer slot = slotByMatchingId.get(matchingId);
+            return slot != null ? versions[slot] : null;
+        }
+
+        private List<MatchingResult> search(MatchingQueryDto ref) {
+            lock.readLock().lock();
+            try {
+                int words = (nextSlot + 63) >>> 6;
+                long[] time = byTime[ref.getMostActiveTime().ordinal()];
+                long[] level = byLevel[ref.getLevel().ordinal()];
+                long[] age = byAge[ref.getAge().ordinal()];
+                long[] attending = byAttending[Boolean.TRUE.equals(ref.getIsAttending()) ? 1 : 0];
+                boolean ageFilter = ref.getAge() != Age.NONE; // NONE 이면 나이 조건 무시
+
+                // tiers[score] = 해당 점수를 가진 슬롯의 비트셋
+                long[][] tiers = new long[5][words];
+                for (int w = 0; w < words; w++) {
+                    long base = ageFilter ? live[w] & age[w] : live[w];
+                    if (base == 0L) {
+                        continue;
+                    }
+                    long a = time[w] & base;
+                    long b = level[w] & base;
+                    long c = age[w] & base;
+                    long d = attending[w] & base;
+
+                    // 4개 비트의 합을 3비트(bit2 bit1 bit0)로 계산
+                    long abSum = a ^ b;
+                    long abCarry = a & b;
+                    long cdSum = c ^ d;
+                    long cdCarry = c & d;
+                    long bit0 = abSum ^ cdSum;
+                    long carry0 = abSum & cdSum;
+                    long bit1 = abCarry ^ cdCarry ^ carry0;
+                    long bit2 = (abCarry & cdCarry) | (carry0 & (abCarry ^ cdCarry));
+
+                    tiers[4][w] = bit2;
+                    tiers[3][w] = ~bit2 & bit1 & bit0;
+                    tiers[2][w] = ~bit2 & bit1 & ~bit0;
+                    tiers[1][w] = ~bit2 & ~bit1 & bit0;
+                }
+
+                int total = 0;
+                for (int score = 4; score >= 1; score--) {
+                    for (long word : tiers[score]) {
+                        total += Long.bitCount(word);
+                    }
+                }
+
+                List<MatchingResult> results = new ArrayList<>(total);
+                for (int score = 4; score >= 1; score--) {
+                    long[] tier = tiers[score];
+                    for (int w = 0; w < words; w++) {
+                        long word = tier[w];
+                        while (word != 0L) {
+                            int slot = (w << 6) + Long.numberOfTrailingZeros(word);
+                            word &= word - 1;
+                            if (memberIds[slot] == ref.getMemberId()) {
+                                continue; // 본인 제외
+                            }
+                            results.add(toResult(slot, score));
+                        }
+                    }
+                }
+                return results;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private MatchingResult toResult(int slot, int score) {
+            return new MatchingResult(
+                    matchingIds[slot],
+                    memberIds[slot],
+                    category,
+                    TIMES[times[slot]],
+                    LEVELS[levels[slot]],
+                    AGES[ages[slot]],
+                    isSet(byAttending[1], slot),
+                    null, // introduction 은 호출 측에서 채움
+                    MatchingStatus.ACTIVE,
+                    score
+            );
+        }
+
+        private int allocateSlot() {
+            if (freeCount > 0) {
+                return freeSlots[--freeCount];
+            }
+            int slot = nextSlot++;
+            if (slot >= matchingIds.length) {
+                grow(matchingIds.length << 1);
+            }
+            return slot;
+        }
+
+        private void grow(int slots) {
+            matchingIds = Arrays.copyOf(matchingIds, slots);
+            memberIds = Arrays.copyOf(memberIds, slots);
+            versions = Arrays.copyOf(versions, slots);
+            times = Arrays.copyOf(times, slots);
+            levels = Arrays.copyOf(levels, slots);
+            ages = Arrays.copyOf(ages, slots);
+
+            int words = slots >>> 6;
+            live = Arrays.copyOf(live, words);
+            growAll(byTime, words);
+            growAll(byLevel, words);
+            growAll(byAge, words);
+            growAll(byAttending, words);
+        }
+
+        private void clearBits(int slot) {
+            clearBit(live, slot);
+            clearBit(byTime[times[slot]], slot);
+            clearBit(byLevel[levels[slot]], slot);
+            clearBit(byAge[ages[slot]], slot);
+            clearBit(byAttending[0], slot);
+            clearBit(byAttending[1], slot);
+        }
+
+        private static void growAll(long[][] bitsets, int words) {
+            for (int i = 0; i < bitsets.length; i++) {
+                bitsets[i] = Arrays.copyOf(bitsets[i], words);
+            }
+        }
+
+        private static void setBit(long[] bits, int slot) {
+            bits[slot >>> 6] |= 1L << slot;
+        }
+
+        private static void clearBit(long[] bits, int slot) {
+            bits[slot >>> 6] &= ~(1L << slot);
+        }
+
+        private static boolean isSet(long[] bits, int slot) {
+            return (bits[slot >>> 6] & (1L << slot)) != 0L;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.grow.matching_service.matching.infra.index;
+
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ACTIVE 매칭을 메모리에 유지하며 유사도 점수 후보를 계산하는 인덱스 공통 인터페이스.
+ * 점수 규칙은 {@code MatchingQueryRepositoryImpl#buildScoreExpression}과 동일해야 합니다.
+ *
+ * @see MatchingBitsetIndex
+ * @see MatchingProfileBucketIndex
+ */
+public interface MatchingCandidateIndex {
+
+    // 저장/수정/삭제 이벤트 반영 (ACTIVE 가 아니면 제거 후 제거 버전 기록, 오래된 버전은 무시)
+    void apply(MatchingSnapshotDto snapshot);
+
+    // 초기 적재 (이미 존재하는 매칭은 덮어쓰지 않고, 제거 버전 이하의 스냅샷은 무시)
+    void load(MatchingSnapshotDto snapshot);
+
+    // 제거 후 제거 버전 기록
+    void remove(Long matchingId);
+
+    // 점수(1~4점) 내림차순 후보 목록, introduction 은 비어 있음
+    List<MatchingResult> search(MatchingQueryDto reference);
+
+    int size();
+
+    // 등록된 매칭 ID (재동기화용 복사본)
+    Set<Long> matchingIds();
+}
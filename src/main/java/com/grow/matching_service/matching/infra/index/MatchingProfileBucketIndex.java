@@ -0,0 +1,371 @@
+package com.grow.matching_service.matching.infra.index;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * <h2>카테고리별 프로필 버킷 인덱스</h2>
+ *
+ * <p>유사도 점수는 매칭의 프로필(mostActiveTime · level · age · isAttending)에만 의존하므로,
+ * 카테고리마다 4 × 5 × 7 × 2 = 280개의 프로필 버킷으로 ACTIVE 매칭을 묶어 둡니다.
+ * 조회 시 버킷 280개의 점수만 계산한 뒤 4점 → 1점 순서로 버킷을 방문하고,
+ * 필요한 인원을 채운 점수 구간에서 방문을 종료합니다. 따라서 조회 비용은 전체 행 수가 아니라
+ * O(버킷 수 + 반환 인원)이 됩니다.</p>
+ *
+ * <p>점수 규칙은 {@code MatchingQueryRepositoryImpl#buildScoreExpression}과 동일합니다.
+ * (age 가 NONE 이 아니면 동일 age 버킷만 방문, 본인 매칭 제외)</p>
+ *
+ * <p>동시성: 반영 · 적재 · 제거는 인덱스 단위 잠금 하나로 직렬화하여 버전 비교(제거 버전 포함) 후에
+ * 카테고리 매핑과 버킷을 변경하고, 카테고리별 {@link ReentrantReadWriteLock}으로 조회와 분리합니다.</p>
+ */
+public class MatchingProfileBucketIndex implements MatchingCandidateIndex {
+
+    private static final MostActiveTime[] TIMES = MostActiveTime.values();
+    private static final Level[] LEVELS = Level.values();
+    private static final Age[] AGES = Age.values();
+    private static final int PROFILE_COUNT = TIMES.length * LEVELS.length * AGES.length * 2;
+
+    private static final int MAX_TOMBSTONES = 100_000;
+
+    private final Map<Category, CategoryBuckets> categories = new EnumMap<>(Category.class);
+    private final Map<Long, Category> categoryByMatchingId = new ConcurrentHashMap<>(); // 매칭 ID -> 소속 카테고리
+    private final ReentrantLock writeLock = new ReentrantLock(); // 반영 · 적재 · 제거 직렬화 (버전 비교와 변경을 한 번에)
+
+    // 제거된 매칭 ID -> 제거 시점 버전 (오래된 스냅샷이 제거된 매칭을 되살리지 않도록, 최근 MAX_TOMBSTONES 건만 유지)
+    private final Map<Long, Long> tombstones = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Long> eldest) {
+            return size() > MAX_TOMBSTONES;
+        }
+    };
+
+    public MatchingProfileBucketIndex() {
+        for (Category category : Category.values()) {
+            categories.put(category, new CategoryBuckets(category));
+        }
+    }
+
+    // 버전을 먼저 비교한 뒤 카테고리 매핑과 버킷을 함께 변경
+    @Override
+    public void apply(MatchingSnapshotDto snapshot) {
+        writeLock.lock();
+        try {
+            if (isStale(snapshot)) {
+                return;
+            }
+            if (snapshot.getStatus() != MatchingStatus.ACTIVE) {
+                removeLocked(snapshot.getMatchingId());
+                tombstones.merge(snapshot.getMatchingId(), versionOf(snapshot), Math::max);
+                return;
+            }
+            upsertLocked(snapshot);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // 이미 존재하는 매칭은 덮어쓰지 않고, 제거 버전 이하의 스냅샷으로 되살리지 않음
+    @Override
+    public void load(MatchingSnapshotDto snapshot) {
+        if (snapshot.getStatus() != MatchingStatus.ACTIVE) {
+            return;
+        }
+        writeLock.lock();
+        try {
+            if (!categoryByMatchingId.containsKey(snapshot.getMatchingId()) && !isStale(snapshot)) {
+                upsertLocked(snapshot);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long matchingId) {
+        writeLock.lock();
+        try {
+            Long version = removeLocked(matchingId);
+            if (version != null) {
+                tombstones.merge(matchingId, version, Math::max);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public List<MatchingResult> search(MatchingQueryDto reference) {
+        List<MatchingResult> results = new ArrayList<>();
+        searchTiers(reference, Integer.MAX_VALUE).forEach(results::addAll);
+        return results;
+    }
+
+    /**
+     * 점수 구간(4점 → 1점) 단위로 후보를 수집하고, 누적 인원이 {@code limit} 이상이 되는 구간까지만 방문합니다.
+     * 마지막으로 반환되는 구간은 경계 구간으로, 호출 측에서 구간 내 재정렬 후 잘라내야 합니다.
+     *
+     * @param reference 기준 매칭 쿼리 DTO
+     * @param limit     필요한 최대 인원 (예: 20)
+     * @return 점수 내림차순 구간 목록 (빈 구간은 제외)
+     */
+    public List<List<MatchingResult>> searchTiers(MatchingQueryDto reference, int limit) {
+        return categories.get(reference.getCategory()).searchTiers(reference, limit);
+    }
+
+    @Override
+    public int size() {
+        return categoryByMatchingId.size();
+    }
+
+    /**
+     * @return 인덱스에 등록된 매칭 ID 복사본 (재동기화 시 DB 에 없는 매칭 확인용)
+     */
+    @Override
+    public Set<Long> matchingIds() {
+        return new HashSet<>(categoryByMatchingId.keySet());
+    }
+
+    // 저장된 버전보다 오래된 스냅샷, 또는 제거 버전 이하의 ACTIVE 스냅샷인지 확인 (writeLock 보유 상태에서 호출)
+    // 물리 삭제 스냅샷은 마지막 수정과 같은 버전을 가지므로 저장된 버전과 같으면 제거를 반영
+    private boolean isStale(MatchingSnapshotDto snapshot) {
+        long version = versionOf(snapshot);
+        Category category = categoryByMatchingId.get(snapshot.getMatchingId());
+        if (category != null) {
+            return version < categories.get(category).version(snapshot.getMatchingId());
+        }
+        Long removed = tombstones.get(snapshot.getMatchingId());
+        return snapshot.getStatus() == MatchingStatus.ACTIVE && removed != null && version <= removed;
+    }
+
+    // 다른 카테고리에 있던 매칭은 옮긴 뒤 갱신 (writeLock 보유 상태에서 호출)
+    private void upsertLocked(MatchingSnapshotDto snapshot) {
+        Category previous = categoryByMatchingId.put(snapshot.getMatchingId(), snapshot.getCategory());
+        if (previous != null && previous != snapshot.getCategory()) {
+            categories.get(previous).remove(snapshot.getMatchingId());
+        }
+        tombstones.remove(snapshot.getMatchingId());
+        categories.get(snapshot.getCategory()).upsert(snapshot, versionOf(snapshot));
+    }
+
+    // 제거한 매칭의 버전, 없으면 null (writeLock 보유 상태에서 호출)
+    private Long removeLocked(Long matchingId) {
+        Category category = categoryByMatchingId.remove(matchingId);
+        return category != null ? categories.get(category).remove(matchingId) : null;
+    }
+
+    private static long versionOf(MatchingSnapshotDto snapshot) {
+        return snapshot.getVersion() == null ? 0L : snapshot.getVersion();
+    }
+
+    private static int profileOf(MostActiveTime time, Level level, Age age, boolean attending) {
+        return ((time.ordinal() * LEVELS.length + level.ordinal()) * AGES.length + age.ordinal()) * 2
+                + (attending ? 1 : 0);
+    }
+
+    /**
+     * 단일 카테고리의 프로필 버킷 저장소.
+     * 버킷 내 삭제는 마지막 원소와 자리를 바꾸는 방식(swap-remove)으로 O(1)에 처리합니다.
+     */
+    private static final class CategoryBuckets {
+
+        private final Category category;
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final Bucket[] buckets = new Bucket[PROFILE_COUNT];
+        private final Map<Long, Location> locationByMatchingId = new HashMap<>();
+
+        private CategoryBuckets(Category category) {
+            this.category = category;
+            for (int profile = 0; profile < PROFILE_COUNT; profile++) {
+                buckets[profile] = new Bucket();
+            }
+        }
+
+        // 버전 비교는 호출 측(writeLock)에서 끝난 상태
+        private void upsert(MatchingSnapshotDto snapshot, long version) {
+            lock.writeLock().lock();
+            try {
+                Location existing = locationByMatchingId.get(snapshot.getMatchingId());
+                if (existing != null) {
+                    removeAt(existing);
+                }
+
+                int profile = profileOf(snapshot.getMostActiveTime(), snapshot.getLevel(), snapshot.getAge(),
+                        Boolean.TRUE.equals(snapshot.getIsAttending()));
+                Bucket bucket = buckets[profile];
+                int position = bucket.add(snapshot.getMatchingId(), snapshot.getMemberId());
+                locationByMatchingId.put(snapshot.getMatchingId(), new Location(profile, position, version));
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 제거한 매칭의 버전, 없으면 null
+        private Long remove(Long matchingId) {
+            lock.writeLock().lock();
+            try {
+                Location location = locationByMatchingId.remove(matchingId);
+                if (location == null) {
+                    return null;
+                }
+                removeAt(location);
+                return location.version;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        // 저장된 버전, 없으면 null (갱신은 모두 MatchingProfileBucketIndex#writeLock 아래에서 일어나므로 그 안에서 호출)
+        private Long version(Long matchingId) {
+            Location location = locationByMatchingId.get(matchingId);
+            return location != null ? location.version : null;
+        }
+
+        private void removeAt(Location location) {
+            Bucket bucket = buckets[location.profile];
+            long moved = bucket.removeAt(location.position);
+            if (moved != Bucket.NONE) {
+                locationByMatchingId.get(moved).position = location.position; // 자리를 옮긴 매칭 위치 갱신
+            }
+        }
+
+        private List<List<MatchingResult>> searchTiers(MatchingQueryDto ref, int limit) {
+            boolean ageFilter = ref.getAge() != Age.NONE; // NONE 이면 나이 조건 무시
+            boolean attending = Boolean.TRUE.equals(ref.getIsAttending());
+
+            lock.readLock().lock();
+            try {
+                // 점수별 방문할 버킷 목록 (버킷 280개만 점수 계산)
+                int[][] profilesByScore = new int[5][PROFILE_COUNT];
+                int[] profileCounts = new int[5];
+                for (MostActiveTime time : TIMES) {
+                    for (Level level : LEVELS) {
+                        for (Age age : AGES) {
+                            if (ageFilter && age != ref.getAge()) {
+                                continue;
+                            }
+                            for (int att = 0; att < 2; att++) {
+                                int profile = profileOf(time, level, age, att == 1);
+                                if (buckets[profile].size == 0) {
+                                    continue;
+                                }
+                                int score = (time == ref.getMostActiveTime() ? 1 : 0)
+                                        + (level == ref.getLevel() ? 1 : 0)
+                                        + (age == ref.getAge() ? 1 : 0)
+                                        + ((att == 1) == attending ? 1 : 0);
+                                profilesByScore[score][profileCounts[score]++] = profile;
+                            }
+                        }
+                    }
+                }
+
+                List<List<MatchingResult>> tiers = new ArrayList<>();
+                int collected = 0;
+                for (int score = 4; score >= 1 && collected < limit; score--) {
+                    List<MatchingResult> tier = new ArrayList<>();
+                    for (int i = 0; i < profileCounts[score]; i++) {
+                        int profile = profilesByScore[score][i];
+                        Bucket bucket = buckets[profile];
+                        for (int position = 0; position < bucket.size; position++) {
+                            if (bucket.memberIds[position] == ref.getMemberId()) {
+                                continue; // 본인 제외
+                            }
+                            tier.add(toResult(bucket.matchingIds[position], bucket.memberIds[position], profile, score));
+                        }
+                    }
+                    if (!tier.isEmpty()) {
+                        tiers.add(tier);
+                        collected += tier.size(); // 누적 인원이 limit 이상이면 다음 점수 구간은 방문하지 않음
+                    }
+                }
+                return tiers;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private MatchingResult toResult(long matchingId, long memberId, int profile, int score) {
+            boolean attending = (profile & 1) == 1;
+            int rest = profile >>> 1;
+            Age age = AGES[rest % AGES.length];
+            rest /= AGES.length;
+            Level level = LEVELS[rest % LEVELS.length];
+            MostActiveTime time = TIMES[rest / LEVELS.length];
+
+            return new MatchingResult(
+                    matchingId,
+                    memberId,
+                    category,
+                    time,
+                    level,
+                    age,
+                    attending,
+                    null, // introduction 은 호출 측에서 채움
+                    MatchingStatus.ACTIVE,
+                    score
+            );
+        }
+    }
+
+    /**
+     * 동일 프로필 매칭을 담는 가변 배열 버킷.
+     */
+    private static final class Bucket {
+
+        private static final long NONE = -1L;
+
+        private long[] matchingIds = new long[8];
+        private long[] memberIds = new long[8];
+        private int size = 0;
+
+        private int add(long matchingId, long memberId) {
+            if (size == matchingIds.length) {
+                matchingIds = Arrays.copyOf(matchingIds, size << 1);
+                memberIds = Arrays.copyOf(memberIds, size << 1);
+            }
+            matchingIds[size] = matchingId;
+            memberIds[size] = memberId;
+            return size++;
+        }
+
+        // 마지막 원소를 삭제 위치로 옮기고, 옮겨진 매칭 ID를 반환 (옮겨지지 않았으면 NONE)
+        private long removeAt(int position) {
+            int last = --size;
+            if (position == last) {
+                return NONE;
+            }
+            matchingIds[position] = matchingIds[last];
+            memberIds[position] = memberIds[last];
+            return matchingIds[position];
+        }
+    }
+
+    /**
+     * 매칭의 버킷 내 위치.
+     */
+    private static final class Location {
+        private final int profile;
+        private int position;
+        private final long version;
+
+        private Location(int profile, int position, long version) {
+            this.profile = profile;
+            this.position = position;
+            this.version = version;
+        }
+    }
+}
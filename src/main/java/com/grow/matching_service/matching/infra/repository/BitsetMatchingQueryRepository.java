@@ -0,0 +1,46 @@
+package com.grow.matching_service.matching.infra.repository;
+
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.index.MatchingBitsetIndex;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.grow.matching_service.matching.infra.repository.MatchingCandidateRanker.RANKING_LIMIT;
+
+/**
+ * <h2>인메모리 비트셋 역색인 기반 매칭 레포지토리</h2>
+ *
+ * <p>{@code matching.query.engine=bitset} 설정 시 {@link MatchingQueryRepositoryImpl} 대신 사용되는 구현체.
+ * 후보 선별과 점수 계산은 {@link MatchingBitsetIndex}에서 수행하고, DB에는 최종 후보의 introduction 만 조회합니다.
+ * 1점 이상 전체 후보를 재정렬하므로 SQL 경로와 동일한 결과를 반환합니다.</p>
+ */
+@Slf4j
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "matching.query", name = "engine", havingValue = "bitset")
+public class BitsetMatchingQueryRepository extends IndexedMatchingQueryRepository<MatchingBitsetIndex> {
+
+    public BitsetMatchingQueryRepository(JPAQueryFactory factory,
+                                         MatchingCandidateRanker candidateRanker,
+                                         MatchingQueryRepositoryImpl sqlRepository) {
+        super(factory, candidateRanker, sqlRepository, new MatchingBitsetIndex());
+    }
+
+    @Override
+    protected List<MatchingResult> findCandidates(MatchingQueryDto reference) {
+        List<MatchingResult> candidates = index().search(reference);
+
+        // 20명 초과 시 redis 기반으로 정렬
+        if (candidates.size() > RANKING_LIMIT) {
+            log.info("[Matching-Index] 20명 이상의 유사도 점수가 있는 사용자가 존재합니다. Redis 캐시를 조회합니다.");
+            candidates = candidateRanker.selectTop(candidates, RANKING_LIMIT); // 상위 20명 추출
+        }
+        return candidates;
+    }
+}
@@ -0,0 +1,237 @@
+package com.grow.matching_service.matching.infra.repository;
+
+import com.grow.matching_service.matching.domain.dto.event.MatchingChangedEvent;
+import com.grow.matching_service.matching.domain.enums.MatchingStatus;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
+import com.grow.matching_service.matching.infra.entity.QMatchingJpaEntity;
+import com.grow.matching_service.matching.infra.index.MatchingCandidateIndex;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * <h2>인메모리 인덱스 기반 매칭 레포지토리 공통 클래스</h2>
+ *
+ * <p>{@link MatchingCandidateIndex}의 적재와 동기화, 최종 후보의 introduction 조회를 담당하며,
+ * 인덱스에서 후보를 선별하는 방법은 하위 클래스가 {@link #findCandidates(MatchingQueryDto)}로 정의합니다.</p>
+ *
+ * <ul>
+ *     <li>애플리케이션 기동 후 ACTIVE 매칭을 matchingId 기준 keyset 페이지로 적재</li>
+ *     <li>적재 이후에는 {@link MatchingChangedEvent}(저장/수정/삭제)를 커밋 시점에 반영</li>
+ *     <li>이벤트는 이 인스턴스에서 발생한 변경만 전달되므로, 다른 인스턴스의 변경은
+ *         {@code matching.index.resync-interval-ms} 주기의 재동기화로 DB 와 맞춤</li>
+ *     <li>적재 완료 전에는 SQL 경로({@link MatchingQueryRepositoryImpl})로 위임</li>
+ * </ul>
+ *
+ * @param <I> 사용하는 인덱스 구현 타입
+ * @see BitsetMatchingQueryRepository
+ * @see ProfileBucketMatchingQueryRepository
+ */
+@Slf4j
+public abstract class IndexedMatchingQueryRepository<I extends MatchingCandidateIndex> implements MatchingQueryRepository {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    protected final JPAQueryFactory factory;
+    protected final MatchingCandidateRanker candidateRanker;
+    private final MatchingQueryRepositoryImpl sqlRepository; // 적재 전 fallback
+    private final I index;
+
+    private volatile boolean ready = false;
+
+    protected IndexedMatchingQueryRepository(JPAQueryFactory factory,
+                                             MatchingCandidateRanker candidateRanker,
+                                             MatchingQueryRepositoryImpl sqlRepository,
+                                             I index) {
+        this.factory = factory;
+        this.candidateRanker = candidateRanker;
+        this.sqlRepository = sqlRepository;
+        this.index = index;
+    }
+
+    /**
+     * 기준 사용자와 유사한 사용자 목록을 인덱스에서 조회한다.
+     *
+     * @param reference 기준 매칭 쿼리 DTO
+     * @return 유사도 점수(1 ~ 4점)와 함께 정렬된 결과 (최대 20명)
+     */
+    @Override
+    public List<MatchingResult> findMatchingUsers(MatchingQueryDto reference) {
+        if (!ready) {
+            log.info("[Matching-Index] 인덱스 적재 전이므로 SQL 경로로 조회합니다.");
+            return sqlRepository.findMatchingUsers(reference);
+        }
+
+        return hydrateIntroductions(findCandidates(reference));
+    }
+
+    /**
+     * 인덱스에서 최종 후보(최대 20명)를 선별합니다. introduction 은 비어 있어도 됩니다.
+     *
+     * @param reference 기준 매칭 쿼리 DTO
+     * @return 최종 후보 목록
+     */
+    protected abstract List<MatchingResult> findCandidates(MatchingQueryDto reference);
+
+    protected I index() {
+        return index;
+    }
+
+    /**
+     * 매칭 변경 이벤트를 트랜잭션 커밋 이후 인덱스에 반영합니다.
+     * 트랜잭션 밖에서 발행된 이벤트는 즉시 반영합니다.
+     *
+     * @param event 매칭 변경 이벤트
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchingChanged(MatchingChangedEvent event) {
+        index.apply(event.getSnapshot());
+    }
+
+    /**
+     * 애플리케이션 기동 완료 후 ACTIVE 매칭 전체를 인덱스에 적재합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long started = System.currentTimeMillis();
+
+        scanActive(index::load);
+
+        ready = true;
+        log.info("[Matching-Index] {} 적재 완료 - 매칭 수: {}, 소요 시간: {}ms",
+                index.getClass().getSimpleName(), index.size(), System.currentTimeMillis() - started);
+    }
+
+    /**
+     * 다른 인스턴스의 변경 등 이벤트로 전달되지 않은 변경을 DB 기준으로 다시 맞춥니다.
+     * <p>
+     * ACTIVE 매칭은 버전 비교를 거쳐 반영하고(오래된 스냅샷은 무시),
+     * 재동기화 시작 시점에 인덱스에 있었지만 ACTIVE 로 조회되지 않은 매칭(비활성화 · 삭제)은 제거합니다.
+     * 재동기화 도중 이벤트로 추가된 매칭은 시작 시점 목록에 없으므로 제거되지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${matching.index.resync-interval-ms:300000}",
+            initialDelayString = "${matching.index.resync-interval-ms:300000}")
+    public void resyncIndex() {
+        if (!ready) {
+            return;
+        }
+        long started = System.currentTimeMillis();
+        try {
+            Set<Long> missing = index.matchingIds();
+            int applied = scanActive(snapshot -> {
+                missing.remove(snapshot.getMatchingId());
+                index.apply(snapshot);
+            });
+            missing.forEach(index::remove);
+
+            log.info("[Matching-Index] {} 재동기화 완료 - ACTIVE: {}, 제거: {}, 소요 시간: {}ms",
+                    index.getClass().getSimpleName(), applied, missing.size(), System.currentTimeMillis() - started);
+        } catch (Exception e) {
+            log.error("[Matching-Index] 재동기화 실패 (기존 인덱스 유지): {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * ACTIVE 매칭을 matchingId 기준 keyset 페이지로 조회하여 스냅샷으로 전달합니다.
+     *
+     * @param consumer 스냅샷 처리 함수
+     * @return 조회한 매칭 수
+     */
+    private int scanActive(Consumer<MatchingSnapshotDto> consumer) {
+        QMatchingJpaEntity target = QMatchingJpaEntity.matchingJpaEntity;
+        long lastId = 0L;
+        int count = 0;
+
+        while (true) {
+            List<Tuple> page = factory
+                    .select(target.matchingId, target.memberId, target.category, target.mostActiveTime,
+                            target.level, target.age, target.isAttending, target.version)
+                    .from(target)
+                    .where(
+                            target.matchingId.gt(lastId),               // keyset 페이지네이션
+                            target.status.eq(MatchingStatus.ACTIVE)
+                    )
+                    .orderBy(target.matchingId.asc())
+                    .limit(LOAD_PAGE_SIZE)
+                    .fetch();
+
+            for (Tuple row : page) {
+                consumer.accept(MatchingSnapshotDto.builder()
+                        .matchingId(row.get(target.matchingId))
+                        .memberId(row.get(target.memberId))
+                        .category(row.get(target.category))
+                        .mostActiveTime(row.get(target.mostActiveTime))
+                        .level(row.get(target.level))
+                        .age(row.get(target.age))
+                        .isAttending(row.get(target.isAttending))
+                        .status(MatchingStatus.ACTIVE)
+                        .version(row.get(target.version))
+                        .build());
+            }
+            count += page.size();
+
+            if (page.size() < LOAD_PAGE_SIZE) {
+                return count;
+            }
+            lastId = page.getLast().get(target.matchingId);
+        }
+    }
+
+    /**
+     * 최종 후보의 introduction 을 matchingId IN 조회로 채웁니다.
+     * 인덱스 반영 이전에 삭제 · 비활성화된 매칭은 SQL 경로와 같이 제외합니다.
+     *
+     * @param candidates introduction 이 비어 있는 후보 목록
+     * @return introduction 이 채워진 후보 목록 (순서 유지, ACTIVE 인 매칭만)
+     */
+    private List<MatchingResult> hydrateIntroductions(List<MatchingResult> candidates) {
+        if (candidates.isEmpty()) {
+            return candidates;
+        }
+
+        QMatchingJpaEntity target = QMatchingJpaEntity.matchingJpaEntity;
+        List<Long> matchingIds = candidates.stream()
+                .map(MatchingResult::getMatchingId)
+                .toList();
+
+        Map<Long, String> introductions = new HashMap<>();
+        for (Tuple row : factory
+                .select(target.matchingId, target.introduction)
+                .from(target)
+                .where(
+                        target.matchingId.in(matchingIds),
+                        target.status.eq(MatchingStatus.ACTIVE) // 인덱스 반영 전에 비활성화된 매칭 제외
+                )
+                .fetch()) {
+            introductions.put(row.get(target.matchingId), row.get(target.introduction));
+        }
+
+        return candidates.stream()
+                .filter(candidate -> introductions.containsKey(candidate.getMatchingId())) // 삭제 · 비활성화된 매칭 제외
+                .map(candidate -> new MatchingResult(
+                        candidate.getMatchingId(),
+                        candidate.getMemberId(),
+                        candidate.getCategory(),
+                        candidate.getMostActiveTime(),
+                        candidate.getLevel(),
+                        candidate.getAge(),
+                        candidate.getIsAttending(),
+                        introductions.get(candidate.getMatchingId()),
+                        candidate.getStatus(),
+                        candidate.getScore()
+                ))
+                .toList();
+    }
+}
@@ -0,0 +1,437 @@
+package com.grow.matching_service.matching.infra.repository;
+
+import com.grow.matching_service.matching.infra.cache.MemberRankingScript;
+import com.grow.matching_service.matching.infra.cache.MemberSignalLoader;
+import com.grow.matching_service.matching.infra.cache.MemberSignalLoader.MemberSignals;
+import com.grow.matching_service.matching.infra.cache.MemberSignalSnapshot;
+import com.grow.matching_service.matching.infra.cache.MemberSignalTable;
+import com.grow.matching_service.matching.infra.cache.MemberSignalStore;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * 유사도 점수로 1차 선별된 매칭 후보를 Redis 신뢰도 점수와 구독 여부로 재정렬하는 컴포넌트.
+ *
+ * <p>{@link MatchingQueryRepositoryImpl}(SQL 경로)과 {@link IndexedMatchingQueryRepository}(인메모리 인덱스 경로)가
+ * 동일한 재정렬 규칙을 공유하기 위해 분리했습니다.</p>
+ *
+ * <p>신뢰도 점수와 구독 여부는 {@link MemberSignalLoader}로 후보 묶음 단위 일괄 조회합니다.
+ * ({@link MemberSignalStore}에 없는 회원은 회원 서비스에서 일괄 조회해 채움)
+ * {@code matching.query.ranking.server-side.enabled=true} 인 경우 {@link #selectTop(List, int)}는
+ * {@link MemberRankingScript}(Lua)로 Redis 에서 정렬하고, 실패 시 JVM 정렬로 대체합니다.</p>
+ *
+ * <p>{@link MemberSignalSnapshot}(로컬 스냅샷)을 사용할 수 있으면 스냅샷에서 먼저 조회하고,
+ * 스냅샷에 없는 회원만 Redis 에서 조회합니다.</p>
+ *
+ * <p>Redis 조회는 지연 예산({@code matching.query.ranking.budget-ms}, 기본 200ms) 안에서만 기다립니다.
+ * 예산을 넘기거나 Redis 오류가 발생하면 예외 없이 유사도 점수 순서(입력 순서) 그대로 상위 후보를 반환하고
+ * {@code matching.ranking.degraded}(reason=timeout|error|cooldown) 메트릭을 기록합니다.
+ * 장애가 이어지는 동안 매 요청이 예산만큼 대기하지 않도록, 실패 후 {@code matching.query.ranking.cooldown-ms}
+ * (기본 1초) 동안은 Redis 조회를 건너뜁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingCandidateRanker {
+
+    private final MemberSignalLoader memberSignalLoader; // 신뢰도 점수 + 구독 여부 일괄 조회 (read-through)
+    private final MemberRankingScript memberRankingScript; // 서버 측 재정렬 스크립트
+    private final MemberSignalSnapshot memberSignalSnapshot; // 로컬 스냅샷 (사용 가능 시 우선 조회)
+    private final MeterRegistry meterRegistry;
+
+    // Redis 조회 전용 (예산 초과 시 호출 스레드는 즉시 반환하고 조회 스레드만 정리)
+    private final ExecutorService signalExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile long skipEnrichmentUntil = 0L; // 실패 후 Redis 조회를 건너뛰는 시각
+
+    @Value("${matching.query.ranking.server-side.enabled:false}")
+    private boolean serverSideRankingEnabled; // Redis Lua 스크립트 재정렬 사용 여부
+
+    @Value("${matching.query.ranking.budget-ms:200}")
+    private long budgetMillis = 200; // 신뢰도/구독 조회 지연 예산
+
+    @Value("${matching.query.ranking.cooldown-ms:1000}")
+    private long cooldownMillis = 1000; // 실패 후 Redis 조회 생략 시간
+
+    public static final int RANKING_LIMIT = 20; // 재정렬 후 반환하는 최대 인원
+
+    // matching.ranking.degraded 메트릭 reason 태그
+    private static final String REASON_TIMEOUT = "timeout";
+    private static final String REASON_ERROR = "error";
+    private static final String REASON_COOLDOWN = "cooldown";
+
+    /**
+     * 재정렬 순서: 신뢰도 점수 내림차순 → 구독 여부 내림차순 → 입력 순서 (안정 정렬과 동일한 결과 보장)
+     */
+    private static final Comparator<CandidateWithScore> RANK_ORDER =
+            Comparator.comparingDouble(CandidateWithScore::getTrustScore)
+                    .reversed() // 1차 정렬: 신뢰도 점수 내림차순 (높은 점수 우선)
+                    .thenComparing(
+                            CandidateWithScore::isSubscribed,
+                            Comparator.reverseOrder()
+                    ) // 2차 정렬: 구독 여부 내림차순 (true가 false보다 우선)
+                    .thenComparingLong(CandidateWithScore::getSequence); // 3차 정렬: 입력 순서 (점수 내림차순 유지)
+
+    /**
+     * Redis 캐시에서 각 후보의 신뢰도 점수(trust score)와 구독 여부(subscription status)를 조회하여,
+     * 후보 목록을 정렬합니다. 정렬 기준은 다음과 같습니다:
+     * <ul>
+     *     <li>신뢰도 점수 내림차순 (높은 점수가 우선)</li>
+     *     <li>신뢰도 점수가 동일할 경우, 구독 여부 내림차순 (구독한 사용자(true)가 우선)</li>
+     * </ul>
+     * 캐시 미스(값이 없을 경우) 신뢰도 점수는 0.0으로, 구독 여부는 false로 기본 처리합니다.
+     * Redis 조회가 지연 예산을 넘기거나 실패하면 입력 순서(유사도 점수 순) 그대로 반환합니다.
+     *
+     * @param candidates 정렬할 MatchingResult 후보 목록 (각 항목에 memberId가 포함되어 있어야 함)
+     * @return 정렬된 MatchingResult 목록 (원본 목록과 동일한 타입)
+     * @see MatchingResult MatchingResult DTO 클래스
+     * @see CandidateWithScore 내부 헬퍼 클래스 (정렬을 위한 임시 wrapper)
+     */
+    public List<MatchingResult> sortCandidatesByTrustAndSubscription(List<MatchingResult> candidates) {
+        try {
+            return sortBySignals(candidates, deadline());
+        } catch (EnrichmentDegradedException e) {
+            return degrade(e, candidates, candidates.size());
+        }
+    }
+
+    /**
+     * 후보 전체를 신뢰도/구독 순으로 재정렬하고 상위 {@code limit}명을 반환합니다.
+     * 서버 측 재정렬이 활성화된 경우 Redis 에서 정렬된 위치만 받아오며,
+     * 스크립트 실행 실패 시 {@link #sortCandidatesByTrustAndSubscription(List)}로 대체합니다.
+     *
+     * @param candidates 재정렬할 후보 목록
+     * @param limit      반환할 최대 인원
+     * @return 신뢰도/구독 순 상위 후보 목록
+     */
+    public List<MatchingResult> selectTop(List<MatchingResult> candidates, int limit) {
+        long deadline = deadline();
+        try {
+            if (serverSideRankingEnabled) {
+                try {
+                    List<Long> memberIds = candidates.stream().map(MatchingResult::getMemberId).toList();
+                    return withinBudget(() -> memberRankingScript.rankTop(memberIds, limit), deadline)
+                            .stream()
+                            .map(candidates::get)
+                            .toList();
+                } catch (EnrichmentDegradedException e) {
+                    if (!REASON_ERROR.equals(e.getReason())) {
+                        throw e;
+                    }
+                    log.warn("[Matching-Query] Redis 재정렬 스크립트 실행 실패, JVM 정렬로 대체합니다: {}",
+                            e.getCause().getMessage());
+                }
+            }
+
+            List<MatchingResult> sorted = sortBySignals(candidates, deadline);
+            return sorted.subList(0, Math.min(limit, sorted.size()));
+        } catch (EnrichmentDegradedException e) {
+            return degrade(e, candidates, limit);
+        }
+    }
+
+    /**
+     * 점수 구간별로 나뉜 후보에서 점수 우선으로 상위 {@code limit}명을 선별합니다.
+     * <p>
+     * 상위 구간은 그대로 포함하고, 누적 인원이 {@code limit}을 넘는 경계 구간만
+     * {@link TopCandidateSelector}(크기 제한 힙)로 남은 자리만큼 선별합니다.
+     * (전체 후보를 신뢰도 순으로 재정렬하는 기존 방식과 달리 유사도 점수가 1차 기준이 됩니다.)
+     *
+     * @param tiers 점수 내림차순으로 정렬된 구간 목록
+     * @param limit 선별할 최대 인원
+     * @return 점수 우선, 경계 구간 내에서는 신뢰도/구독 순으로 정렬된 후보 목록
+     */
+    public List<MatchingResult> selectTopByScoreTier(List<List<MatchingResult>> tiers, int limit) {
+        List<MatchingResult> selected = new ArrayList<>(limit);
+        for (List<MatchingResult> tier : tiers) {
+            int remaining = limit - selected.size();
+            if (remaining <= 0) {
+                break;
+            }
+            if (tier.size() <= remaining) {
+                selected.addAll(tier); // 구간 전체가 들어가면 재정렬 불필요
+            } else {
+                TopCandidateSelector selector = topSelector(remaining); // 경계 구간
+                selector.offer(tier);
+                selected.addAll(selector.result());
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 신뢰도/구독 순 상위 {@code limit}명만 유지하는 선별기를 생성합니다.
+     * 후보를 여러 번에 나눠 전달할 수 있으므로, 경계 구간을 페이지 단위로 조회할 때 메모리를 O(limit)로 유지합니다.
+     *
+     * @param limit 유지할 최대 인원
+     * @return 새 선별기
+     */
+    public TopCandidateSelector topSelector(int limit) {
+        return new TopCandidateSelector(limit, deadline());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        signalExecutor.shutdownNow();
+    }
+
+    private List<MatchingResult> sortBySignals(List<MatchingResult> candidates, long deadline) {
+        Signals signals = fetchSignals(candidates, deadline); // 후보 전체를 일괄 조회
+        return IntStream.range(0, candidates.size())
+                .mapToObj(i -> signals.withScore(candidates.get(i), i)) // 임시 wrapper 로 신뢰도와 구독 정보를 함께 묶음
+                .sorted(RANK_ORDER)
+                .map(CandidateWithScore::getCandidate) // 정렬 후 원본 MatchingResult만 추출 (wrapper 제거)
+                .toList(); // 최종 리스트로 변환
+    }
+
+    private long deadline() {
+        return System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    /**
+     * Redis 조회를 별도 스레드에서 실행하고 남은 예산만큼만 기다립니다.
+     *
+     * @param call     Redis 조회
+     * @param deadline 예산 만료 시각 ({@link System#nanoTime()} 기준)
+     * @return 조회 결과
+     * @throws EnrichmentDegradedException 예산 초과, Redis 오류, 또는 실패 후 조회 생략 기간인 경우
+     */
+    private <T> T withinBudget(Supplier<T> call, long deadline) {
+        if (System.currentTimeMillis() < skipEnrichmentUntil) {
+            throw new EnrichmentDegradedException(REASON_COOLDOWN, null);
+        }
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            throw new EnrichmentDegradedException(REASON_TIMEOUT, null);
+        }
+
+        Future<T> future = signalExecutor.submit(call::get);
+        try {
+            return future.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new EnrichmentDegradedException(REASON_TIMEOUT, e);
+        } catch (ExecutionException e) {
+            throw new EnrichmentDegradedException(REASON_ERROR, e.getCause());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new EnrichmentDegradedException(REASON_TIMEOUT, e);
+        }
+    }
+
+    /**
+     * 신뢰도/구독 조회 실패 시 유사도 점수 순서 그대로 상위 후보를 반환하고 메트릭을 기록합니다.
+     *
+     * @param e            실패 원인
+     * @param scoreOrdered 유사도 점수 순 후보 목록
+     * @param limit        반환할 최대 인원
+     * @return 점수 순 상위 후보 목록
+     */
+    private List<MatchingResult> degrade(EnrichmentDegradedException e, List<MatchingResult> scoreOrdered, int limit) {
+        recordDegraded(e);
+        return scoreOrdered.subList(0, Math.min(limit, scoreOrdered.size()));
+    }
+
+    private void recordDegraded(EnrichmentDegradedException e) {
+        meterRegistry.counter("matching.ranking.degraded", "reason", e.getReason()).increment();
+        if (REASON_COOLDOWN.equals(e.getReason())) {
+            return;
+        }
+        skipEnrichmentUntil = System.currentTimeMillis() + cooldownMillis;
+        log.warn("[Matching-Query] 신뢰도/구독 조회 실패({}), 유사도 점수 순으로 반환합니다. {}ms 동안 Redis 조회 생략: {}",
+                e.getReason(), cooldownMillis, e.getCause() == null ? "-" : e.getCause().getMessage());
+    }
+
+    /**
+     * 후보 묶음의 신뢰도 점수와 구독 여부를 일괄 조회합니다. (신호 종류당 Redis 왕복 최대 1회)
+     * 로컬 스냅샷을 사용할 수 있으면 스냅샷에 없는 회원만 Redis 에서 조회하고, 조회 결과를 스냅샷에 반영합니다.
+     *
+     * @param candidates 후보 묶음
+     * @param deadline   예산 만료 시각
+     * @return 조회된 신호
+     * @throws EnrichmentDegradedException 예산 초과 또는 Redis 오류
+     */
+    private Signals fetchSignals(List<MatchingResult> candidates, long deadline) {
+        List<Long> memberIds = candidates.stream()
+                .map(MatchingResult::getMemberId)
+                .distinct()
+                .toList();
+
+        if (!memberSignalSnapshot.isAvailable()) {
+            MemberSignals loaded = withinBudget(() -> memberSignalLoader.load(memberIds), deadline);
+            return new Signals(null, loaded.getTrustScores(), loaded.getSubscriptions());
+        }
+
+        List<Long> misses = memberIds.stream()
+                .filter(memberId -> Double.isNaN(memberSignalSnapshot.trustScore(memberId))
+                        || memberSignalSnapshot.subscription(memberId) == MemberSignalTable.UNKNOWN)
+                .toList();
+
+        if (misses.isEmpty()) {
+            return new Signals(memberSignalSnapshot, Map.of(), Map.of()); // Redis 조회 없음
+        }
+
+        MemberSignals loaded = withinBudget(() -> memberSignalLoader.load(misses), deadline);
+        memberSignalSnapshot.putAll(loaded.getTrustScores(), loaded.getSubscriptions()); // 스냅샷 미스 보정
+        return new Signals(memberSignalSnapshot, loaded.getTrustScores(), loaded.getSubscriptions());
+    }
+
+    /**
+     * 크기가 제한된 힙으로 신뢰도/구독 순 상위 후보만 유지하는 선별기.
+     * 힙의 루트에는 현재 보관 중인 후보 중 가장 순위가 낮은 후보가 위치합니다.
+     * 선별기 생성 시점부터 지연 예산이 적용되며, 조회에 실패하면 먼저 전달된 {@code limit}명(점수 순)을 반환합니다.
+     */
+    public final class TopCandidateSelector {
+
+        private final int limit;
+        private final long deadline;
+        private final PriorityQueue<CandidateWithScore> heap;
+        private final List<MatchingResult> scoreOrdered; // 조회 실패 시 반환할 먼저 전달된 후보
+        private boolean degraded = false;
+        private long sequence = 0;
+
+        private TopCandidateSelector(int limit, long deadline) {
+            this.limit = limit;
+            this.deadline = deadline;
+            this.heap = new PriorityQueue<>(Math.max(1, limit), RANK_ORDER.reversed());
+            this.scoreOrdered = new ArrayList<>(Math.max(0, limit));
+        }
+
+        /**
+         * 후보 묶음을 선별기에 전달합니다. 전달 순서가 동점 시 우선순위가 됩니다.
+         *
+         * @param candidates 후보 묶음
+         */
+        public void offer(List<MatchingResult> candidates) {
+            if (limit <= 0) {
+                return;
+            }
+            for (int i = 0; i < candidates.size() && scoreOrdered.size() < limit; i++) {
+                scoreOrdered.add(candidates.get(i));
+            }
+            if (degraded) {
+                return;
+            }
+
+            Signals signals;
+            try {
+                signals = fetchSignals(candidates, deadline); // 묶음 단위 일괄 조회
+            } catch (EnrichmentDegradedException e) {
+                recordDegraded(e);
+                degraded = true;
+                return;
+            }
+            for (MatchingResult candidate : candidates) {
+                CandidateWithScore scored = signals.withScore(candidate, sequence++);
+                if (heap.size() < limit) {
+                    heap.add(scored);
+                } else if (RANK_ORDER.compare(scored, heap.peek()) < 0) {
+                    heap.poll(); // 가장 순위가 낮은 후보 제거
+                    heap.add(scored);
+                }
+            }
+        }
+
+        /**
+         * @return 선별된 후보 목록 (신뢰도/구독 순, 조회 실패 시 전달 순)
+         */
+        public List<MatchingResult> result() {
+            if (degraded) {
+                return List.copyOf(scoreOrdered);
+            }
+            return heap.stream()
+                    .sorted(RANK_ORDER)
+                    .map(CandidateWithScore::getCandidate)
+                    .toList();
+        }
+    }
+
+    /**
+     * 일괄 조회한 후보 묶음의 신뢰도 점수와 구독 여부.
+     * 스냅샷이 있으면 스냅샷을 먼저 보고, 없는 회원만 Redis 조회 결과를 사용합니다.
+     */
+    @RequiredArgsConstructor
+    private static class Signals {
+        private final MemberSignalSnapshot snapshot; // null 이면 Redis 조회 결과만 사용
+        private final Map<Long, Double> trustScores;
+        private final Map<Long, Boolean> subscriptions;
+
+        /**
+         * 후보의 신뢰도 점수와 구독 여부를 정렬용 wrapper 로 감쌉니다.
+         *
+         * @param candidate 후보
+         * @param sequence  입력 순서 (동점 시 순서 유지용)
+         * @return 정렬용 wrapper
+         */
+        private CandidateWithScore withScore(MatchingResult candidate, long sequence) {
+            Long memberId = candidate.getMemberId();
+
+            // 신뢰도 점수 (없으면 0으로 기본값 설정, 미스는 MemberSignalLoader 메트릭으로 집계)
+            double trustScore = snapshot == null ? Double.NaN : snapshot.trustScore(memberId);
+            if (Double.isNaN(trustScore)) {
+                Double cached = trustScores.get(memberId);
+                trustScore = cached == null ? 0.0 : cached; // 스냅샷과 같은 double 정밀도
+            }
+
+            // 구독 여부 (없으면 false)
+            int subscription = snapshot == null ? MemberSignalTable.UNKNOWN : snapshot.subscription(memberId);
+            boolean isSubscribed;
+            if (subscription != MemberSignalTable.UNKNOWN) {
+                isSubscribed = subscription == 1;
+            } else {
+                isSubscribed = Boolean.TRUE.equals(subscriptions.get(memberId));
+            }
+
+            return new CandidateWithScore(candidate, trustScore, isSubscribed, sequence);
+        }
+    }
+
+    /**
+     * 신뢰도/구독 조회를 포기하고 유사도 점수 순으로 대체해야 함을 나타내는 내부 예외.
+     */
+    @Getter
+    private static class EnrichmentDegradedException extends RuntimeException {
+        private final String reason; // timeout | error | cooldown
+
+        private EnrichmentDegradedException(String reason, Throwable cause) {
+            super(reason, cause, false, false);
+            this.reason = reason;
+        }
+    }
+
+    /**
+     * 정렬을 위한 임시 wrapper 클래스. MatchingResult에 신뢰도 점수와 구독 여부를 추가로 저장합니다.
+     * 이 클래스는 재정렬 로직 내에서만 사용되며, 메모리 효율을 위해 static으로 정의.
+     *
+     * @see MatchingResult 원본 DTO
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class CandidateWithScore {
+        private final MatchingResult candidate;
+        private final double trustScore;
+        private final boolean isSubscribed;
+        private final long sequence;
+    }
+}
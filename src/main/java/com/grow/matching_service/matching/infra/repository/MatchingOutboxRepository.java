@@ -0,0 +1,260 @@
+package com.grow.matching_service.matching.infra.repository;
+
+import com.grow.matching_service.matching.domain.enums.Age;
+import com.grow.matching_service.matching.domain.enums.Category;
+import com.grow.matching_service.matching.domain.enums.Level;
+import com.grow.matching_service.matching.domain.enums.MostActiveTime;
+import com.grow.matching_service.matching.infra.dto.MatchingOutboxMessage;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.entity.MatchingOutboxJpaEntity;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static com.grow.matching_service.matching.infra.entity.MatchingOutboxJpaEntity.Status.*;
+
+/**
+ * 매칭 저장 이벤트 아웃박스 저장소 ({@link MatchingOutboxJpaEntity}).
+ *
+ * <p>기록은 JPA flush 도중({@code @PostPersist/@PostUpdate})에 호출되므로 영속성 컨텍스트를 건드리지 않도록
+ * JDBC 로 처리합니다. JDBC 연결은 진행 중인 JPA 트랜잭션의 연결을 그대로 사용하므로
+ * 매칭 저장과 아웃박스 기록은 함께 커밋되거나 함께 롤백됩니다.</p>
+ *
+ * <p>선점은 {@code SELECT ... FOR UPDATE SKIP LOCKED}(MySQL 8 · MariaDB · PostgreSQL)로 여러 파드가 서로 다른 행을
+ * 가져가도록 하고, 지원하지 않는 DB(H2 등)에서는 {@code FOR UPDATE}로 선점 트랜잭션 동안만 직렬화합니다.
+ * 선점한 행은 CLAIMED 로 표시한 뒤 즉시 커밋하므로 처리 중에는 잠금을 유지하지 않으며,
+ * 리스 시간 안에 처리 결과가 기록되지 않은 행(파드 종료 등)은 다시 선점됩니다.</p>
+ *
+ * <p>같은 (회원, 카테고리)의 연속 저장은 병합합니다. 마지막 기록 이후 대기 시간이 지난 최신 이벤트만 선점하고,
+ * 처리 완료 시 같은 키의 이전 이벤트를 함께 삭제합니다.
+ * ({@link com.grow.matching_service.matching.application.event.MatchingRecomputeCoalescer}와 같은 규칙)</p>
+ *
+ * <p>처리에 실패한 이벤트는 시도 횟수에 따라 두 배씩 늘어나는 대기 시간(next_attempt_at)이 지난 뒤에 다시 선점되므로
+ * 짧은 장애 동안 최대 시도 횟수를 모두 소진하지 않습니다. 최대 시도 횟수를 넘겨 FAILED 로 남은 이벤트는
+ * {@link #requeueFailed()}로 다시 대기 상태로 되돌릴 수 있습니다.</p>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class MatchingOutboxRepository {
+
+    private static final Set<String> SKIP_LOCKED_PRODUCTS = Set.of("MySQL", "MariaDB", "PostgreSQL");
+
+    private static final String INSERT_SQL = """
+            INSERT INTO matching_outbox
+                (member_id, category, most_active_time, level, age, is_attending, status, attempts, created_at)
+            VALUES
+                (:memberId, :category, :mostActiveTime, :level, :age, :isAttending, 'PENDING', 0, :createdAt)
+            """;
+
+    // 같은 (회원, 카테고리)의 더 최근 이벤트가 있으면 선점하지 않음 (최신 이벤트 처리 시 함께 삭제)
+    private static final String CLAIM_SQL = """
+            SELECT o.outbox_id, o.member_id, o.category, o.most_active_time, o.level, o.age, o.is_attending,
+                   o.attempts, o.created_at
+            FROM matching_outbox o
+            WHERE ((o.status = 'PENDING' AND (o.next_attempt_at IS NULL OR o.next_attempt_at <= :now))
+                   OR (o.status = 'CLAIMED' AND o.claimed_at < :leaseExpiredBefore))
+              AND o.created_at <= :quietBefore
+              AND NOT EXISTS (
+                  SELECT 1 FROM matching_outbox n
+                  WHERE n.member_id = o.member_id AND n.category = o.category AND n.outbox_id > o.outbox_id
+              )
+            ORDER BY o.outbox_id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<MatchingOutboxMessage> MESSAGE_MAPPER = (rs, rowNum) ->
+            MatchingOutboxMessage.builder()
+                    .outboxId(rs.getLong("outbox_id"))
+                    .dto(MatchingQueryDto.builder()
+                            .memberId(rs.getLong("member_id"))
+                            .category(Category.valueOf(rs.getString("category")))
+                            .mostActiveTime(MostActiveTime.valueOf(rs.getString("most_active_time")))
+                            .level(Level.valueOf(rs.getString("level")))
+                            .age(Age.valueOf(rs.getString("age")))
+                            .isAttending(rs.getBoolean("is_attending"))
+                            .build())
+                    .attempts(rs.getInt("attempts"))
+                    .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                    .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private volatile String lockClause; // 선점 잠금 구문 (최초 선점 시 DB 종류로 결정)
+
+    /**
+     * 매칭 저장 이벤트를 아웃박스에 기록합니다. (호출 측 트랜잭션에 참여)
+     *
+     * @param dto 매칭 조회 조건
+     */
+    public void append(MatchingQueryDto dto) {
+        jdbcTemplate.update(INSERT_SQL, new MapSqlParameterSource()
+                .addValue("memberId", dto.getMemberId())
+                .addValue("category", dto.getCategory().name())
+                .addValue("mostActiveTime", dto.getMostActiveTime().name())
+                .addValue("level", dto.getLevel().name())
+                .addValue("age", dto.getAge().name())
+                .addValue("isAttending", dto.getIsAttending())
+                .addValue("createdAt", Timestamp.valueOf(LocalDateTime.now())));
+    }
+
+    /**
+     * 처리 대기 중이거나 리스가 만료된 이벤트를 최대 {@code limit}건 선점합니다. (별도 트랜잭션)
+     * 같은 (회원, 카테고리)의 최신 이벤트이면서 기록 후 {@code quietWindow}가 지난 이벤트만 선점합니다.
+     *
+     * @param limit       선점할 최대 건수
+     * @param lease       선점 유지 시간 (경과 후 다른 릴레이가 다시 선점 가능)
+     * @param quietWindow 병합 대기 시간
+     * @return 선점한 이벤트 목록 (기록 순)
+     */
+    public List<MatchingOutboxMessage> claim(int limit, Duration lease, Duration quietWindow) {
+        String sql = CLAIM_SQL + lockClause();
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<MatchingOutboxMessage> messages = jdbcTemplate.query(sql, new MapSqlParameterSource()
+                    .addValue("now", Timestamp.valueOf(now))
+                    .addValue("leaseExpiredBefore", Timestamp.valueOf(now.minus(lease)))
+                    .addValue("quietBefore", Timestamp.valueOf(now.minus(quietWindow)))
+                    .addValue("limit", limit), MESSAGE_MAPPER);
+            if (!messages.isEmpty()) {
+                jdbcTemplate.update("""
+                        UPDATE matching_outbox SET status = 'CLAIMED', claimed_at = :claimedAt
+                        WHERE outbox_id IN (:outboxIds)
+                        """, new MapSqlParameterSource()
+                        .addValue("claimedAt", Timestamp.valueOf(now))
+                        .addValue("outboxIds", outboxIds(messages)));
+            }
+            return messages;
+        });
+    }
+
+    /**
+     * 처리 완료된 이벤트와, 같은 (회원, 카테고리)의 이전 이벤트(병합 대상)를 삭제합니다.
+     *
+     * @param messages 처리 완료된 이벤트
+     * @return 병합되어 처리 없이 삭제된 이전 이벤트 수
+     */
+    public int complete(List<MatchingOutboxMessage> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+        SqlParameterSource[] params = messages.stream()
+                .map(message -> new MapSqlParameterSource()
+                        .addValue("memberId", message.getDto().getMemberId())
+                        .addValue("category", message.getDto().getCategory().name())
+                        .addValue("outboxId", message.getOutboxId()))
+                .toArray(SqlParameterSource[]::new);
+        int[] deleted = jdbcTemplate.batchUpdate("""
+                DELETE FROM matching_outbox
+                WHERE member_id = :memberId AND category = :category AND outbox_id <= :outboxId
+                """, params);
+        int superseded = 0;
+        for (int count : deleted) {
+            superseded += Math.max(count - 1, 0); // 처리한 이벤트 자신은 제외
+        }
+        return superseded;
+    }
+
+    /**
+     * 처리에 실패한 이벤트를 다시 대기 상태로 되돌리고, 다음 선점 가능 시각을 지수 백오프로 미룹니다.
+     * 대기 시간은 {@code backoffBase} × 2^(이전 시도 횟수)이며 {@code backoffMax}를 넘지 않습니다.
+     * 시도 횟수가 {@code maxAttempts}에 도달한 이벤트는 FAILED 로 남깁니다.
+     *
+     * @param messages    처리에 실패한 이벤트
+     * @param maxAttempts 최대 시도 횟수
+     * @param backoffBase 첫 실패 후 대기 시간
+     * @param backoffMax  최대 대기 시간
+     */
+    public void release(List<MatchingOutboxMessage> messages, int maxAttempts, Duration backoffBase, Duration backoffMax) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        SqlParameterSource[] params = messages.stream()
+                .map(message -> new MapSqlParameterSource()
+                        .addValue("maxAttempts", maxAttempts)
+                        .addValue("failed", FAILED.name())
+                        .addValue("pending", PENDING.name())
+                        .addValue("nextAttemptAt", Timestamp.valueOf(
+                                now.plus(backoff(message.getAttempts(), backoffBase, backoffMax))))
+                        .addValue("outboxId", message.getOutboxId()))
+                .toArray(SqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate("""
+                UPDATE matching_outbox
+                SET status = CASE WHEN attempts + 1 >= :maxAttempts THEN :failed ELSE :pending END,
+                    attempts = attempts + 1,
+                    next_attempt_at = :nextAttemptAt
+                WHERE outbox_id = :outboxId
+                """, params);
+    }
+
+    /**
+     * 최대 시도 횟수를 넘겨 FAILED 로 남은 이벤트를 시도 횟수를 초기화하여 다시 대기 상태로 되돌립니다.
+     * (장애 복구 후 관리자 재처리용)
+     *
+     * @return 대기 상태로 되돌린 이벤트 수
+     */
+    public int requeueFailed() {
+        return jdbcTemplate.update("""
+                UPDATE matching_outbox
+                SET status = :pending, attempts = 0, next_attempt_at = NULL
+                WHERE status = :failed
+                """, new MapSqlParameterSource()
+                .addValue("pending", PENDING.name())
+                .addValue("failed", FAILED.name()));
+    }
+
+    /**
+     * @return 최대 시도 횟수를 넘겨 FAILED 로 남은 이벤트 수
+     */
+    public long countFailed() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM matching_outbox WHERE status = :status",
+                new MapSqlParameterSource("status", FAILED.name()),
+                Long.class);
+        return count == null ? 0L : count;
+    }
+
+    /**
+     * @return 처리 대기 중인 이벤트 수 (CLAIMED 포함)
+     */
+    public long countPending() {
+        Long count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM matching_outbox WHERE status IN (:statuses)",
+                new MapSqlParameterSource("statuses", List.of(PENDING.name(), CLAIMED.name())),
+                Long.class);
+        return count == null ? 0L : count;
+    }
+
+    private String lockClause() {
+        if (lockClause == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            lockClause = SKIP_LOCKED_PRODUCTS.contains(product) ? " FOR UPDATE SKIP LOCKED" : " FOR UPDATE";
+            log.info("[Matching-Outbox] 선점 잠금 구문: {} (DB: {})", lockClause.trim(), product);
+        }
+        return lockClause;
+    }
+
+    // base × 2^attempts, 최대 max
+    private static Duration backoff(int attempts, Duration base, Duration max) {
+        long delayMillis = base.toMillis() << Math.min(Math.max(attempts, 0), 30);
+        return Duration.ofMillis(Math.min(Math.max(delayMillis, 0L), max.toMillis()));
+    }
+
+    private static List<Long> outboxIds(List<MatchingOutboxMessage> messages) {
+        return messages.stream().map(MatchingOutboxMessage::getOutboxId).toList();
+    }
+}
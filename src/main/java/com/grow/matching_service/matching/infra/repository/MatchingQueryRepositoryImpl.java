@@ -6,20 +6,27 @@ import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
 import com.grow.matching_service.matching.infra.dto.MatchingResult;
 import com.grow.matching_service.matching.infra.entity.MatchingJpaEntity;
 import com.grow.matching_service.matching.infra.entity.QMatchingJpaEntity;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
-import lombok.AllArgsConstructor;
-import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
-import java.util.Comparator;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.grow.matching_service.matching.infra.repository.MatchingCandidateRanker.RANKING_LIMIT;
 
 /**
  * <h2>사용자 매칭 전용 QueryDSL 레포지토리</h2>
@@ -42,6 +49,13 @@ import java.util.List;
  *   </li>
  * </ol>
  *
+ * <p>후보 조회는 2단계로 수행함. 1단계에서는 (matchingId, memberId, 점수)만 조회해 재정렬하고,
+ * 2단계에서 최종 20명만 matchingId IN 조회로 introduction 등 전체 컬럼을 채움.</p>
+ *
+ * <p>{@code matching.query.top-k.enabled=true} 인 경우 점수 구간별 LIMIT 조회로 상위 20명만 선별함
+ * ({@link #findTopMatchingUsers(MatchingQueryDto, int)} 참고).</p>
+ *
+ * @see MatchingCandidateRanker
  * @since 2025.07.15
  */
 @Slf4j
@@ -50,61 +64,241 @@ import java.util.List;
 public class MatchingQueryRepositoryImpl implements MatchingQueryRepository {
 
     private final JPAQueryFactory factory;
-    private final RedisTemplate<String, Boolean> booleanRedisTemplate; // 구독 여부 캐싱
-    private final RedisTemplate<String, Double> doubleRedisTemplate; // 신뢰도 점수 캐싱
+    private final MatchingCandidateRanker candidateRanker; // 신뢰도 점수 + 구독 여부 기반 재정렬
 
-    public static final String TRUST_KEY = "member:trust:score:";
-    public static final String SUB_KEY = "member:subscription:";
+    private static final int BOUNDARY_PAGE_SIZE = 500; // 경계 점수 구간 페이지 크기
+
+    @Value("${matching.query.top-k.enabled:false}")
+    private boolean topKEnabled; // 점수 구간별 LIMIT 조회 모드 사용 여부
 
     /**
      * 기준 엔티티와 유사한 사용자 목록을 조회한다.
+     * {@code matching.query.top-k.enabled=true} 인 경우 {@link #findTopMatchingUsers(MatchingQueryDto, int)}로 위임한다.
      *
      * @param reference 기준이 되는 {@link MatchingJpaEntity}
-     * @return 유사도 점수(1 ~ 4점)와 함께 정렬된 결과
+     * @return 유사도 점수(1 ~ 4점)와 함께 정렬된 결과
      */
     @Override
     public List<MatchingResult> findMatchingUsers(MatchingQueryDto reference) {
-        QMatchingJpaEntity target = QMatchingJpaEntity.matchingJpaEntity;
+        if (topKEnabled) {
+            return findTopMatchingUsers(reference, RANKING_LIMIT);
+        }
 
-        // 동적 age 조건 생성
-        BooleanExpression ageCondition = (reference.getAge() == Age.NONE)
-                ? null // NONE 이면 조건 무시
-                : target.age.eq(reference.getAge()); // NONE이 아니면 같은 age만 필터링
+        QMatchingJpaEntity target = QMatchingJpaEntity.matchingJpaEntity;
 
         // 0~4점 범위의 동적 점수 계산 (CaseBuilder 사용)
         NumberExpression<Integer> score = buildScoreExpression(reference, target);
 
+        // 1단계: introduction 등 넓은 컬럼 없이 (matchingId, memberId, 점수)만 조회
         List<MatchingResult> candidates = factory
-                .select(Projections.constructor(MatchingResult.class,
-                        target.memberId,
-                        target.category,
-                        target.mostActiveTime,
-                        target.level,
-                        target.age,
-                        target.isAttending,
-                        target.introduction,
-                        target.status,
-                        score
-                ))
+                .select(target.matchingId, target.memberId, score)
                 .from(target)
-                .where(
-                        target.memberId.ne(reference.getMemberId()),    // 본인 제외
-                        target.category.eq(reference.getCategory()),    // 카테고리 강제 일치
-                        ageCondition,                                   // age 강제 일치
-                        score.goe(1),                             // 1점 이상
-                        target.status.eq(MatchingStatus.ACTIVE)         // 활성화된 유저만 조회
-                )
+                .where(candidateConditions(reference, target, score.goe(1))) // 1점 이상
                 .orderBy(score.desc()) // 점수 내림차순 정렬 (높은 순서부터)
-                .fetch();
+                .fetch()
+                .stream()
+                .map(row -> narrowResult(
+                        row.get(target.matchingId),
+                        row.get(target.memberId),
+                        reference,
+                        row.get(score)
+                ))
+                .toList();
 
         // 20명 이상일 경우 redis 기반으로 정렬
-        if (candidates.size() > 20) {
+        if (candidates.size() > RANKING_LIMIT) {
             log.info("[Matching-Query] 20명 이상의 유사도 점수가 있는 사용자가 존재합니다. Redis 캐시를 조회합니다.");
-            candidates = sortCandidatesByTrustAndSubscription(candidates);
-            candidates = candidates.subList(0, Math.min(20, candidates.size())); // 상위 20명 추출
+            candidates = candidateRanker.selectTop(candidates, RANKING_LIMIT); // 상위 20명 추출
+        }
+
+        // 2단계: 최종 후보만 전체 컬럼 조회 (IN 조회)
+        return hydrate(candidates, target, score);
+    }
+
+    /**
+     * 점수 구간(4점 → 1점)별로 LIMIT 조회하여 상위 {@code limit}명만 선별한다.
+     * <p>
+     * 각 구간은 남은 자리 + 1 건만 조회하므로, 구간 전체가 남은 자리에 들어가면 추가 조회 없이 포함한다.
+     * 남은 자리를 넘기는 경계 구간만 (matchingId, memberId)를 페이지 단위로 조회하면서
+     * 크기 제한 힙으로 신뢰도/구독 순 상위 후보를 선별하고, 선별된 후보만 전체 컬럼을 조회한다.
+     * 따라서 카테고리 규모와 관계없이 메모리는 O(limit + 페이지 크기)로 유지된다.
+     * <p>
+     * 주의: 유사도 점수가 1차 정렬 기준이 되므로, 1점 이상 전체 후보를 신뢰도 순으로 재정렬하는 기본 모드와 결과가 다를 수 있다.
+     *
+     * @param reference 기준 매칭 쿼리 DTO
+     * @param limit     선별할 최대 인원
+     * @return 점수 내림차순, 경계 구간 내에서는 신뢰도/구독 순으로 정렬된 결과
+     * @see MatchingCandidateRanker#topSelector(int)
+     */
+    public List<MatchingResult> findTopMatchingUsers(MatchingQueryDto reference, int limit) {
+        QMatchingJpaEntity target = QMatchingJpaEntity.matchingJpaEntity;
+        NumberExpression<Integer> score = buildScoreExpression(reference, target);
+
+        List<MatchingResult> selected = new ArrayList<>(limit);
+        for (int tier = 4; tier >= 1 && selected.size() < limit; tier--) {
+            int remaining = limit - selected.size();
+
+            List<MatchingResult> rows = factory
+                    .select(resultProjection(target, score))
+                    .from(target)
+                    .where(candidateConditions(reference, target, score.eq(tier)))
+                    .orderBy(target.matchingId.asc())
+                    .limit(remaining + 1) // 구간이 남은 자리를 넘는지 확인하기 위해 1건 더 조회
+                    .fetch();
+
+            if (rows.size() <= remaining) {
+                selected.addAll(rows);
+                continue;
+            }
+
+            log.info("[Matching-Query] {}점 구간이 남은 {}자리를 초과합니다. 구간 내 신뢰도/구독 순으로 선별합니다.",
+                    tier, remaining);
+            selected.addAll(selectFromBoundaryTier(reference, target, score, tier, remaining));
+        }
+
+        return selected;
+    }
+
+    /**
+     * 경계 점수 구간을 matchingId keyset 페이지로 조회하며 크기 제한 힙으로 상위 후보를 선별한다.
+     *
+     * @param reference 기준 매칭 쿼리 DTO
+     * @param target    Q타입 엔티티
+     * @param score     점수 식
+     * @param tier      경계 구간 점수
+     * @param remaining 남은 자리 수
+     * @return 선별된 후보 (전체 컬럼 포함, 신뢰도/구독 순)
+     */
+    private List<MatchingResult> selectFromBoundaryTier(MatchingQueryDto reference,
+                                                        QMatchingJpaEntity target,
+                                                        NumberExpression<Integer> score,
+                                                        int tier,
+                                                        int remaining) {
+        MatchingCandidateRanker.TopCandidateSelector selector = candidateRanker.topSelector(remaining);
+        long lastId = 0L;
+
+        while (true) {
+            List<Tuple> page = factory
+                    .select(target.matchingId, target.memberId)
+                    .from(target)
+                    .where(candidateConditions(reference, target, score.eq(tier)))
+                    .where(target.matchingId.gt(lastId)) // keyset 페이지네이션
+                    .orderBy(target.matchingId.asc())
+                    .limit(BOUNDARY_PAGE_SIZE)
+                    .fetch();
+
+            selector.offer(page.stream()
+                    .map(row -> narrowResult(row.get(target.matchingId), row.get(target.memberId), reference, tier))
+                    .toList());
+
+            if (page.size() < BOUNDARY_PAGE_SIZE) {
+                break;
+            }
+            lastId = page.getLast().get(target.matchingId);
+        }
+
+        return hydrate(selector.result(), target, score);
+    }
+
+    /**
+     * 선별된 후보의 전체 컬럼을 matchingId IN 조회로 채운다. (선별 순서 유지)
+     * 선별 이후 ACTIVE 가 아니게 된 매칭은 다시 확인하여 제외한다.
+     *
+     * @param chosen 선별된 후보 (matchingId 필수)
+     * @param target Q타입 엔티티
+     * @param score  점수 식
+     * @return 전체 컬럼이 채워진 후보 목록
+     */
+    private List<MatchingResult> hydrate(List<MatchingResult> chosen,
+                                         QMatchingJpaEntity target,
+                                         NumberExpression<Integer> score) {
+        if (chosen.isEmpty()) {
+            return chosen;
         }
 
-        return candidates;
+        Map<Long, MatchingResult> rows = factory
+                .select(resultProjection(target, score))
+                .from(target)
+                .where(
+                        target.matchingId.in(chosen.stream().map(MatchingResult::getMatchingId).toList()),
+                        target.status.eq(MatchingStatus.ACTIVE) // 조회 사이에 비활성화된 매칭 제외
+                )
+                .fetch()
+                .stream()
+                .collect(Collectors.toMap(MatchingResult::getMatchingId, Function.identity()));
+
+        return chosen.stream()
+                .map(candidate -> rows.get(candidate.getMatchingId()))
+                .filter(Objects::nonNull) // 조회 사이에 삭제 · 비활성화된 매칭 제외
+                .toList();
+    }
+
+    /**
+     * 1단계 조회 결과로 정렬용 후보를 생성한다. (introduction 등은 hydrate 단계에서 채움)
+     *
+     * @param matchingId 매칭 ID
+     * @param memberId   회원 ID
+     * @param reference  기준 매칭 쿼리 DTO (카테고리)
+     * @param score      유사도 점수
+     * @return 정렬용 후보
+     */
+    private MatchingResult narrowResult(Long matchingId, Long memberId, MatchingQueryDto reference, Integer score) {
+        return new MatchingResult(
+                matchingId,
+                memberId,
+                reference.getCategory(),
+                null, null, null, null, null, // 최종 후보만 전체 컬럼 조회
+                MatchingStatus.ACTIVE,
+                score
+        );
+    }
+
+    /**
+     * 후보 공통 조건을 생성한다. (본인 제외, 카테고리 일치, age 일치, 활성 상태, 점수 조건)
+     *
+     * @param reference      기준 매칭 쿼리 DTO
+     * @param target         Q타입 엔티티
+     * @param scoreCondition 점수 조건
+     * @return where 절 조건 배열 (null 조건은 무시됨)
+     */
+    private Predicate[] candidateConditions(MatchingQueryDto reference,
+                                            QMatchingJpaEntity target,
+                                            BooleanExpression scoreCondition) {
+        // 동적 age 조건 생성
+        BooleanExpression ageCondition = (reference.getAge() == Age.NONE)
+                ? null // NONE 이면 조건 무시
+                : target.age.eq(reference.getAge()); // NONE이 아니면 같은 age만 필터링
+
+        return new Predicate[]{
+                target.memberId.ne(reference.getMemberId()),    // 본인 제외
+                target.category.eq(reference.getCategory()),    // 카테고리 강제 일치
+                ageCondition,                                   // age 강제 일치
+                scoreCondition,                                 // 점수 조건
+                target.status.eq(MatchingStatus.ACTIVE)         // 활성화된 유저만 조회
+        };
+    }
+
+    /**
+     * {@link MatchingResult} 생성자 프로젝션을 생성한다.
+     *
+     * @param target Q타입 엔티티
+     * @param score  점수 식
+     * @return 생성자 프로젝션
+     */
+    private ConstructorExpression<MatchingResult> resultProjection(QMatchingJpaEntity target,
+                                                                   NumberExpression<Integer> score) {
+        return Projections.constructor(MatchingResult.class,
+                target.matchingId,
+                target.memberId,
+                target.category,
+                target.mostActiveTime,
+                target.level,
+                target.age,
+                target.isAttending,
+                target.introduction,
+                target.status,
+                score
+        );
     }
 
     /**
@@ -125,79 +319,4 @@ public class MatchingQueryRepositoryImpl implements MatchingQueryRepository {
                 .add(new CaseBuilder()
                         .when(target.isAttending.eq(ref.getIsAttending())).then(1).otherwise(0));
     }
-
-    /**
-     * Redis 캐시에서 각 후보의 신뢰도 점수(trust score)와 구독 여부(subscription status)를 조회하여,
-     * 후보 목록을 정렬합니다. 정렬 기준은 다음과 같습니다:
-     * <ul>
-     *     <li>신뢰도 점수 내림차순 (높은 점수가 우선)</li>
-     *     <li>신뢰도 점수가 동일할 경우, 구독 여부 내림차순 (구독한 사용자(true)가 우선)</li>
-     * </ul>
-     * Redis 키는 다음과 같이 가정합니다:
-     * <ul>
-     *     <li>신뢰도 점수 키: "member:trust:score:{memberId}" (값: Double)</li>
-     *     <li>구독 여부 키: "member:subscription:{memberId}" (값: Boolean)</li>
-     * </ul>
-     * 캐시 미스(값이 없을 경우) 신뢰도 점수는 0.0으로, 구독 여부는 false로 기본 처리합니다.
-     *
-     * @param candidates 정렬할 MatchingResult 후보 목록 (각 항목에 memberId가 포함되어 있어야 함)
-     * @return 정렬된 MatchingResult 목록 (원본 목록과 동일한 타입)
-     * @see MatchingResult MatchingResult DTO 클래스
-     * @see CandidateWithScore 내부 헬퍼 클래스 (정렬을 위한 임시 wrapper)
-     */
-    // TODO Redis 연결 실패 또는 조회 오류 시 발생할 수 있음 (try-catch로 변경하는 게 나을지?)
-    private List<MatchingResult> sortCandidatesByTrustAndSubscription(List<MatchingResult> candidates) {
-        return candidates.stream()
-                .map(candidate -> {
-                    Long memberId = candidate.getMemberId();
-
-                    // Redis 에서 신뢰도 점수 가져오기 (없으면 0으로 기본값 설정)
-                    Double trustScore = doubleRedisTemplate
-                            .opsForValue()
-                            .get(TRUST_KEY + memberId);
-                    if (trustScore == null) {
-                        trustScore = 0.0;
-                        log.warn("[Matching-Query] Redis 신뢰도 점수 없음: {}", memberId);
-                    }
-
-                    // Redis 에서 구독 여부 가져오기 (없으면 false)
-                    Boolean isSubscribed = booleanRedisTemplate
-                            .opsForValue()
-                            .get(SUB_KEY + memberId);
-                    if (isSubscribed == null) {
-                        isSubscribed = false;
-                        log.warn("[Matching-Query] Redis 구독 여부 없음: {}", memberId);
-                    }
-
-                    // 임시 CandidateWithScore 객체 생성: 정렬을 위해 신뢰도와 구독 정보를 함께 묶음
-                    return new CandidateWithScore(
-                            candidate,
-                            trustScore,
-                            isSubscribed
-                    );
-                })
-                .sorted(Comparator.comparingDouble(CandidateWithScore::getTrustScore)
-                        .reversed() // 1차 정렬: 신뢰도 점수 내림차순 (높은 점수 우선)
-                        .thenComparing(
-                                CandidateWithScore::isSubscribed,
-                                Comparator.reverseOrder()
-                        ) // 2차 정렬: 구독 여부 내림차순 (true가 false보다 우선)
-                )
-                .map(CandidateWithScore::getCandidate) // 정렬 후 원본 MatchingResult만 추출 (wrapper 제거)
-                .toList(); // 최종 리스트로 변환
-    }
-
-    /**
-     * 정렬을 위한 임시 wrapper 클래스. MatchingResult에 신뢰도 점수와 구독 여부를 추가로 저장합니다.
-     * 이 클래스는 sortCandidatesByTrustAndSubscription 메서드 내에서만 사용되며, 메모리 효율을 위해 static으로 정의.
-     *
-     * @see MatchingResult 원본 DTO
-     */
-    @Getter
-    @AllArgsConstructor
-    private static class CandidateWithScore {
-        private final MatchingResult candidate;
-        private final double trustScore;
-        private final boolean isSubscribed;
-    }
 }
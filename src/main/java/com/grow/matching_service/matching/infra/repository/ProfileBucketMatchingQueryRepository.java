@@ -0,0 +1,43 @@
+package com.grow.matching_service.matching.infra.repository;
+
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.index.MatchingProfileBucketIndex;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.grow.matching_service.matching.infra.repository.MatchingCandidateRanker.RANKING_LIMIT;
+
+/**
+ * <h2>프로필 버킷 기반 매칭 레포지토리</h2>
+ *
+ * <p>{@code matching.query.engine=bucket} 설정 시 사용되는 구현체.
+ * {@link MatchingProfileBucketIndex}에서 4점 → 1점 순서로 버킷을 방문하고 20명을 채운 점수 구간에서 조기 종료합니다.</p>
+ *
+ * <p>주의: 조기 종료를 위해 유사도 점수를 1차 정렬 기준으로 사용합니다.
+ * 20명을 넘기는 경계 점수 구간만 Redis 신뢰도/구독 여부로 재정렬하므로,
+ * 1점 이상 전체 후보를 신뢰도 순으로 재정렬하는 SQL 경로와는 결과가 다를 수 있습니다.</p>
+ *
+ * @see MatchingCandidateRanker#selectTopByScoreTier(List, int)
+ */
+@Primary
+@Repository
+@ConditionalOnProperty(prefix = "matching.query", name = "engine", havingValue = "bucket")
+public class ProfileBucketMatchingQueryRepository extends IndexedMatchingQueryRepository<MatchingProfileBucketIndex> {
+
+    public ProfileBucketMatchingQueryRepository(JPAQueryFactory factory,
+                                                MatchingCandidateRanker candidateRanker,
+                                                MatchingQueryRepositoryImpl sqlRepository) {
+        super(factory, candidateRanker, sqlRepository, new MatchingProfileBucketIndex());
+    }
+
+    @Override
+    protected List<MatchingResult> findCandidates(MatchingQueryDto reference) {
+        List<List<MatchingResult>> tiers = index().searchTiers(reference, RANKING_LIMIT);
+        return candidateRanker.selectTopByScoreTier(tiers, RANKING_LIMIT);
+    }
+}
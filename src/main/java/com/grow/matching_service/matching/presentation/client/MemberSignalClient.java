@@ -0,0 +1,45 @@
+package com.grow.matching_service.matching.presentation.client;
+
+import com.grow.matching_service.matching.application.dto.MemberSignalBulkRequestDto;
+import com.grow.matching_service.matching.application.dto.MemberSignalResponseDto;
+import feign.FeignException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+import java.util.List;
+
+/**
+ * 회원 서비스(member-service)에서 신뢰도 점수와 구독 여부를 일괄 조회하기 위한 Feign 클라이언트 인터페이스.
+ * Redis 캐시 미스가 발생한 회원만 모아 한 번의 요청으로 조회합니다. (read-through 로더 전용)
+ *
+ * <p>주요 설정:</p>
+ * <ul>
+ *   <li>name: "member-service" - 서버 이름 지정.</li>
+ *   <li>url: "${member.service.url}" - 프로퍼티에서 동적으로 URL 설정 (application.yml).</li>
+ *   <li>@CircuitBreaker: "memberSignalCircuitBreaker" - 장애 시 호출 차단.</li>
+ * </ul>
+ *
+ * <p>재정렬은 지연 예산 안에서 수행되므로 재시도 정책은 적용하지 않으며, 실패 시 호출 측에서 캐시 미스로 처리합니다.</p>
+ *
+ * @see com.grow.matching_service.matching.infra.cache.MemberSignalLoader
+ */
+@FeignClient(name = "member-service",
+        url = "${member.service.url}")
+@CircuitBreaker(name = "memberSignalCircuitBreaker")  // circuit breaker 설정 (Resilience4j)
+public interface MemberSignalClient {
+
+    /**
+     * 회원들의 신뢰도 점수와 구독 여부를 일괄 조회합니다.
+     * member-service의 /members/signals/bulk 엔드포인트로 POST 요청을 보냅니다.
+     *
+     * @param request 조회할 회원 ID 목록
+     * @return 회원별 신뢰도 점수 · 구독 여부 (존재하지 않는 회원은 제외)
+     * @throws FeignException Feign 클라이언트 오류 발생 시 (예: HTTP 오류)
+     * @throws CallNotPermittedException Circuit Breaker가 OPEN 상태일 때
+     */
+    @PostMapping("/members/signals/bulk")
+    List<MemberSignalResponseDto> getSignals(@RequestBody MemberSignalBulkRequestDto request);
+}
@@ -1,5 +1,7 @@
 package com.grow.matching_service.matching.presentation.client;
 
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.dto.NotificationResultDto;
 import com.grow.matching_service.matching.application.service.queue.QueueService;
 import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
@@ -8,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.openfeign.FallbackFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -39,25 +42,50 @@ public class NotificationFallbackFactory implements FallbackFactory<Notification
      * Throwable cause에 따라 적절한 예외 처리를 수행한 후, 요청을 큐에 저장합니다.
      *
      * @param cause 발생한 예외 (Circuit Breaker, Feign, Timeout 등)
-     * @return NotificationServiceClient의 대체 구현 (람다 표현식으로 요청 처리)
+     * @return NotificationServiceClient의 대체 구현 (단건은 큐에 저장, 일괄 전송은 전 항목을 FAILED 로 반환)
      */
     @Override
     public NotificationServiceClient create(Throwable cause) {
-        return request -> {
-            switch (cause) {
-                case CallNotPermittedException callNotPermittedException ->
-                        handleExceptions("Circuit Breaker OPEN 상태: {}", cause);  // Circuit Breaker가 열린 상태로 인해 호출 불가
-                case FeignException feignEx -> handleFeignException(feignEx);  // Feign 클라이언트 예외 처리 (Retry 실패 등)
-                case TimeoutException timeoutException ->   // 타임아웃 예외
-                        handleExceptions("타임아웃 오류: {}", cause);  // 요청 시간이 초과된 경우
-                default -> handleExceptions("기타 오류: {}", cause);  // 예상치 못한 다른 예외
+        return new NotificationServiceClient() {
+            @Override
+            public void sendNotification(NotificationRequestDto request) {
+                handleCause(cause);
+                queueService.enqueueNotification(request);  // 별도 큐 서비스로 저장하여 후속 처리 보장
+                log.info("알림을 큐에 저장: 후속 처리 예정");
             }
 
-            queueService.enqueueNotification(request);  // 별도 큐 서비스로 저장하여 후속 처리 보장
-            log.info("알림을 큐에 저장: 후속 처리 예정");
+            @Override
+            public List<NotificationResultDto> sendNotifications(String idempotencyKey,
+                                                                 List<NotificationRequestDto> requests) {
+                handleCause(cause);
+                // 요청 자체가 실패했으므로 전 항목이 실패 항목 (큐 저장은 FAILED 항목을 받은 호출 측에서 수행)
+                return requests.stream()
+                        .map(request -> NotificationResultDto.builder()
+                                .uuid(request.getUuid())
+                                .status(NotificationResultDto.Status.FAILED)
+                                .reason(cause.getMessage())
+                                .build())
+                        .toList();
+            }
         };
     }
 
+    /**
+     * 발생한 예외 유형에 따라 로그를 기록합니다.
+     *
+     * @param cause 발생한 예외 (Circuit Breaker, Feign, Timeout 등)
+     */
+    private void handleCause(Throwable cause) {
+        switch (cause) {
+            case CallNotPermittedException callNotPermittedException ->
+                    handleExceptions("Circuit Breaker OPEN 상태: {}", cause);  // Circuit Breaker가 열린 상태로 인해 호출 불가
+            case FeignException feignEx -> handleFeignException(feignEx);  // Feign 클라이언트 예외 처리 (Retry 실패 등)
+            case TimeoutException timeoutException ->   // 타임아웃 예외
+                    handleExceptions("타임아웃 오류: {}", cause);  // 요청 시간이 초과된 경우
+            default -> handleExceptions("기타 오류: {}", cause);  // 예상치 못한 다른 예외
+        }
+    }
+
     /**
      * FeignException을 처리합니다.
      * HTTP 상태 코드를 로그로 기록하며, 503 (Service Unavailable)인 경우 특별 경고를 추가합니다.
@@ -1,6 +1,7 @@
 package com.grow.matching_service.matching.presentation.client;
 
 import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.dto.NotificationResultDto;
 import feign.FeignException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
@@ -8,6 +9,9 @@ import io.github.resilience4j.retry.annotation.Retry;
 import org.springframework.cloud.openfeign.FeignClient;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+import java.util.List;
 
 /**
  * 알림 서비스(notification-service)와 통신하기 위한 Feign 클라이언트 인터페이스.
@@ -18,7 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
  *   <li>name: "notification-service" - 서버 이름 지정.</li>
  *   <li>url: "${notification.service.url}" - 프로퍼티에서 동적으로 URL 설정 (application.yml).</li>
  *   <li>fallback: NotificationFallbackFactory.class - 장애 시 fallback 로직 실행 (큐 저장).</li>
- *   <li>@Retry: "notificationRetry" - 재시도 정책 적용 (Resilience4j).</li>
+ *   <li>@Retry: "notificationRetry" - 재시도 정책 적용 (Resilience4j). 일괄 전송은 멱등 키 헤더로 재시도 시 중복 처리를 막습니다.</li>
  *   <li>@CircuitBreaker: "notificationCircuitBreaker" - 서킷 브레이커 적용 (장애 시 호출 차단).</li>
  * </ul>
  *
@@ -27,6 +31,8 @@ import org.springframework.web.bind.annotation.RequestBody;
  *   <li>이 인터페이스를 @Autowired로 주입합니다.</li>
  *   <li>sendNotification 메서드를 호출하여 NotificationRequestDto를 전송합니다.</li>
  *   <li>자동으로 notification-service의 /notifications 엔드포인트로 POST 요청을 보냅니다.</li>
+ *   <li>여러 건은 sendNotifications 메서드로 /notifications/batch 에 한 번에 전송하고 항목별 결과를 받습니다.
+ *   (같은 묶음은 같은 멱등 키로 보낼 것)</li>
  * </ol>
  *
  * @see org.springframework.cloud.openfeign.FeignClient
@@ -34,6 +40,7 @@ import org.springframework.web.bind.annotation.RequestBody;
  * @see io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker
  * @see NotificationFallbackFactory  // fallback 구현 클래스
  * @see NotificationRequestDto  // 요청 DTO 클래스
+ * @see NotificationResultDto  // 일괄 전송 항목별 결과 DTO 클래스
  */
 @FeignClient(name = "notification-service",
         url = "${notification.service.url}",
@@ -42,6 +49,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 @CircuitBreaker(name = "notificationCircuitBreaker")  // circuit breaker 설정 (Resilience4j)
 public interface NotificationServiceClient {
 
+    String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key"; // 일괄 전송 멱등 키 헤더
+
     /**
      * 알림을 외부 서비스로 전송합니다.
      * notification-service의 /notifications 엔드포인트로 POST 요청을 보내 알림을 처리합니다.
@@ -54,4 +63,24 @@ public interface NotificationServiceClient {
      */
     @PostMapping("/notifications")
     void sendNotification(@RequestBody NotificationRequestDto request);
-}
\ No newline at end of file
+
+    /**
+     * 여러 알림을 한 번의 요청으로 외부 서비스에 전송합니다.
+     * notification-service의 /notifications/batch 엔드포인트로 POST 요청을 보내며, 항목별 처리 결과를 반환합니다.
+     *
+     * <p>일부 항목만 실패한 경우 요청은 성공하고 해당 항목이 FAILED 로 반환되며,
+     * 요청 자체가 실패하면 예외가 전달되므로 호출 측에서 모든 항목을 큐에 저장합니다.</p>
+     *
+     * <p>POST 는 멱등하지 않으므로 @Retry 로 다시 보낼 때 같은 멱등 키가 전달되며,
+     * 알림 서비스는 이미 처리한 키의 요청에 대해 이전 결과를 반환합니다.</p>
+     *
+     * @param idempotencyKey 멱등 키 (같은 항목 묶음이면 같은 값)
+     * @param requests       알림 요청 목록
+     * @return 항목별 처리 결과 (uuid 로 요청 항목과 대응)
+     * @throws FeignException Feign 클라이언트 오류 발생 시 (예: HTTP 오류)
+     * @throws CallNotPermittedException Circuit Breaker가 OPEN 상태일 때
+     */
+    @PostMapping("/notifications/batch")
+    List<NotificationResultDto> sendNotifications(@RequestHeader(IDEMPOTENCY_KEY_HEADER) String idempotencyKey,
+                                                  @RequestBody List<NotificationRequestDto> requests);
+}
@@ -0,0 +1,37 @@
+package com.grow.matching_service.matching.presentation.controller;
+
+import com.grow.matching_service.matching.application.event.MatchingOutboxRelay;
+import com.grow.matching_service.matching.presentation.dto.rsdata.RsData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/matching-outbox")
+public class MatchingOutboxAdminController {
+
+    private final MatchingOutboxRelay outboxRelay;
+
+    /**
+     * 최대 시도 횟수를 넘겨 FAILED 로 남은 매칭 저장 이벤트를 다시 대기 상태로 되돌립니다.
+     * 시도 횟수가 초기화되며, 다음 릴레이 폴링부터 처리됩니다.
+     *
+     * @return 대기 상태로 되돌린 이벤트 수
+     */
+    @PostMapping("/requeue-failed")
+    public RsData<Integer> requeueFailed() {
+        log.info("[ADMIN] 매칭 아웃박스 FAILED 이벤트 재처리 요청");
+
+        int requeued = outboxRelay.requeueFailed();
+
+        return new RsData<>(
+                "200",
+                "매칭 아웃박스 FAILED 이벤트 재처리 요청 완료",
+                requeued
+        );
+    }
+}
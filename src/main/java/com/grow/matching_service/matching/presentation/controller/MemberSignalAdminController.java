@@ -0,0 +1,38 @@
+package com.grow.matching_service.matching.presentation.controller;
+
+import com.grow.matching_service.matching.infra.cache.MemberSignalMigrator;
+import com.grow.matching_service.matching.infra.cache.MemberSignalMigrator.MigrationResult;
+import com.grow.matching_service.matching.presentation.dto.rsdata.RsData;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/member-signals")
+public class MemberSignalAdminController {
+
+    private final MemberSignalMigrator memberSignalMigrator;
+
+    /**
+     * 회원 신호(신뢰도 점수 · 구독 여부)를 버킷 해시 + 비트맵 구조로 이관합니다.
+     * 기존 키는 유지되므로 여러 번 호출해도 안전합니다.
+     *
+     * @return 이관 결과
+     */
+    @PostMapping("/migrate")
+    public RsData<MigrationResult> migrate() {
+        log.info("[ADMIN] 회원 신호 저장 구조 이관 요청");
+
+        MigrationResult result = memberSignalMigrator.migrate();
+
+        return new RsData<>(
+                "200",
+                "회원 신호 저장 구조 이관 완료",
+                result
+        );
+    }
+}
@@ -0,0 +1,106 @@
+package com.grow.matching_service.matching.presentation.controller;
+
+import com.grow.matching_service.matching.application.service.NotificationDeadLetterService;
+import com.grow.matching_service.matching.application.service.NotificationDeadLetterService.DeadLetterPage;
+import com.grow.matching_service.matching.application.service.NotificationDeadLetterService.ReplayStatus;
+import com.grow.matching_service.matching.presentation.dto.DeadLetterReplayRequest;
+import com.grow.matching_service.matching.presentation.dto.rsdata.RsData;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/notification-dead-letters")
+public class NotificationDeadLetterAdminController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final NotificationDeadLetterService deadLetterService;
+
+    /**
+     * 보관 중인 알림 데드레터를 최근 보관된 순으로 조회합니다.
+     *
+     * @param notificationType 알림 타입 (생략 시 전체)
+     * @param page             페이지 번호 (0부터)
+     * @param size             페이지 크기 (최대 100)
+     * @return 데드레터 페이지
+     */
+    @GetMapping
+    public RsData<DeadLetterPage> getDeadLetters(
+            @RequestParam(value = "notificationType", required = false) String notificationType,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        DeadLetterPage result = deadLetterService.getDeadLetters(
+                notificationType, Math.max(0, page), Math.min(Math.max(1, size), MAX_PAGE_SIZE));
+
+        return new RsData<>(
+                "200",
+                "알림 데드레터 조회 완료",
+                result
+        );
+    }
+
+    /**
+     * 알림 타입별 데드레터 보관 건수를 조회합니다.
+     *
+     * @return 알림 타입 → 보관 건수
+     */
+    @GetMapping("/counts")
+    public RsData<Map<String, Long>> countByType() {
+        return new RsData<>(
+                "200",
+                "알림 데드레터 타입별 건수 조회 완료",
+                deadLetterService.countByType()
+        );
+    }
+
+    /**
+     * 조건에 맞는 데드레터를 지정한 속도 간격의 시도 시각으로 지연 재시도 큐에 예약합니다.
+     * 재처리는 백그라운드에서 진행되며, 진행 상황은 {@code GET /replay}로 확인합니다.
+     *
+     * @param request 재처리 조건
+     * @return 시작한 재처리 상태 (다른 파드를 포함해 이미 진행 중이면 409)
+     */
+    @PostMapping("/replay")
+    public RsData<ReplayStatus> replay(@Valid @RequestBody DeadLetterReplayRequest request) {
+        log.info("[ADMIN] 알림 데드레터 재처리 요청 - 타입: {}, 기간: {} ~ {}, 최대: {}건, 속도: {}건/초",
+                request.getNotificationType(), request.getSince(), request.getUntil(),
+                request.getLimit(), request.getRatePerSecond());
+
+        return deadLetterService.replay(
+                        request.getNotificationType(),
+                        request.getSince(),
+                        request.getUntil(),
+                        request.getLimit(),
+                        request.getRatePerSecond())
+                .map(status -> new RsData<>("202", "알림 데드레터 재처리 시작", status))
+                .orElseGet(() -> new RsData<>(
+                        "409",
+                        "이미 진행 중인 재처리가 있습니다.",
+                        deadLetterService.getReplayStatus().orElse(null)));
+    }
+
+    /**
+     * 마지막(또는 진행 중인) 데드레터 재처리 상태를 조회합니다.
+     *
+     * @return 재처리 상태 (이력이 없으면 null)
+     */
+    @GetMapping("/replay")
+    public RsData<ReplayStatus> getReplayStatus() {
+        return new RsData<>(
+                "200",
+                "알림 데드레터 재처리 상태 조회 완료",
+                deadLetterService.getReplayStatus().orElse(null)
+        );
+    }
+}
@@ -0,0 +1,26 @@
+package com.grow.matching_service.matching.presentation.dto;
+
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.*;
+
+/**
+ * 알림 데드레터 재처리 요청 DTO.
+ * 모든 조건은 선택이며, 지정하지 않으면 전체 타입 · 전체 기간 · 서버 설정 상한이 적용됩니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeadLetterReplayRequest {
+
+    private String notificationType;
+    @PositiveOrZero(message = "시작 시각은 0 이상이어야 합니다.")
+    private Long since;  // 보관 시각 하한 (epoch ms)
+    @PositiveOrZero(message = "종료 시각은 0 이상이어야 합니다.")
+    private Long until;  // 보관 시각 상한 (epoch ms)
+    @Positive(message = "재처리 수는 1 이상이어야 합니다.")
+    private Integer limit;
+    @Positive(message = "초당 재처리 수는 1 이상이어야 합니다.")
+    private Integer ratePerSecond;
+}
@@ -0,0 +1,55 @@
+-- 데드레터 보관 스크립트: 항목을 추가한 뒤 보관 기간이 지난 항목과 최대 개수를 넘는 오래된 항목을 제거
+-- KEYS[1] : notification:{dead}:index (ZSET, member=uuid, score=보관 시각 epoch ms)
+-- KEYS[2] : notification:{dead}:payloads (HASH, uuid → 데드레터 JSON)
+-- KEYS[3] : notification:{dead}:types (SET, 보관 중인 알림 타입)
+-- ARGV[1] : 타입별 인덱스 키 접두사 (notification:{dead}:index:)
+--           타입별 키는 실행 중에 정해져 KEYS 로 넘길 수 없으므로, KEYS[1] 과 같은 해시 태그를 가진 접두사만 허용
+-- ARGV[2] : 최대 보관 개수
+-- ARGV[3] : 보관 기한 (epoch ms, 이보다 먼저 보관된 항목 제거)
+-- ARGV[4..] : [uuid, 보관 시각, 알림 타입, JSON, ...] 평탄화 목록 (없으면 정리만 수행)
+-- 반환     : 제거한 항목 수
+if string.match(ARGV[1], '{[^}]+}') ~= string.match(KEYS[1], '{[^}]+}') then
+    return redis.error_reply('type index prefix must share the hash tag of ' .. KEYS[1])
+end
+local types = redis.call('SMEMBERS', KEYS[3])
+
+local function remove(uuid)
+    redis.call('ZREM', KEYS[1], uuid)
+    redis.call('HDEL', KEYS[2], uuid)
+    for _, notificationType in ipairs(types) do
+        redis.call('ZREM', ARGV[1] .. notificationType, uuid)
+    end
+end
+
+for i = 4, #ARGV, 4 do
+    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 3])
+    redis.call('ZADD', ARGV[1] .. ARGV[i + 2], ARGV[i + 1], ARGV[i])
+    if redis.call('SADD', KEYS[3], ARGV[i + 2]) == 1 then
+        table.insert(types, ARGV[i + 2])
+    end
+end
+
+local evicted = 0
+for _, uuid in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[3])) do
+    remove(uuid)
+    evicted = evicted + 1
+end
+
+local overflow = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[2])
+if overflow > 0 then
+    for _, uuid in ipairs(redis.call('ZRANGE', KEYS[1], 0, overflow - 1)) do
+        remove(uuid)
+        evicted = evicted + 1
+    end
+end
+
+if evicted > 0 then
+    for _, notificationType in ipairs(types) do
+        if redis.call('ZCARD', ARGV[1] .. notificationType) == 0 then
+            redis.call('SREM', KEYS[3], notificationType)
+        end
+    end
+end
+
+return evicted
@@ -0,0 +1,27 @@
+-- 알림 다이제스트 선점 스크립트: 발송 시각이 지난 수신자를 대기열에서 제거하고 누적 항목을 함께 반환
+-- KEYS[1] : notification:{digest}:due (ZSET, member=수신자 ID, score=발송 시각 epoch ms)
+-- ARGV[1] : 현재 시각 (epoch ms)
+-- ARGV[2] : 최대 선점 수신자 수
+-- ARGV[3] : 항목 해시 키 접두사 (notification:{digest}:entries:)
+--           수신자별 키는 선점 후에야 정해져 KEYS 로 넘길 수 없으므로, KEYS[1] 과 같은 해시 태그를 가진 접두사만 허용
+if string.match(ARGV[3], '{[^}]+}') ~= string.match(KEYS[1], '{[^}]+}') then
+    return redis.error_reply('entries prefix must share the hash tag of ' .. KEYS[1])
+end
+
+-- 반환     : [수신자 ID, 항목 수, 상대 ID, 점수, 상대 ID, 점수, ..., 다음 수신자 ID, ...] 평탄화 목록
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local result = {}
+
+for _, recipient in ipairs(due) do
+    redis.call('ZREM', KEYS[1], recipient) -- 여러 노드가 동시에 실행해도 한 노드만 선점
+    local key = ARGV[3] .. recipient
+    local entries = redis.call('HGETALL', key)
+    redis.call('DEL', key)
+    table.insert(result, recipient)
+    table.insert(result, tostring(#entries / 2))
+    for _, value in ipairs(entries) do
+        table.insert(result, value)
+    end
+end
+
+return result
@@ -0,0 +1,23 @@
+-- 재시도 선점 스크립트: 시도 시각이 지난 요청을 임대 만료 시각으로 미뤄 두고 반환 (여러 노드가 동시에 실행해도 한 노드만 선점)
+-- 선점한 노드가 처리를 확정하지 못하고 종료되면 임대가 만료된 뒤 다른 노드가 다시 선점 (최소 한 번 보장)
+-- KEYS[1] : notification:retry:delayed (ZSET, member=uuid, score=다음 시도 시각 epoch ms)
+-- KEYS[2] : {notification:retry:delayed}:payloads (HASH, uuid → 알림 요청 JSON, 해시 태그로 KEYS[1] 과 같은 슬롯)
+-- ARGV[1] : 현재 시각 (epoch ms)
+-- ARGV[2] : 최대 선점 수
+-- ARGV[3] : 임대 만료 시각 (epoch ms)
+-- 반환     : [uuid, 알림 요청 JSON, uuid, 알림 요청 JSON, ...] 평탄화 목록
+local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+local result = {}
+
+for _, uuid in ipairs(due) do
+    local payload = redis.call('HGET', KEYS[2], uuid)
+    if payload then
+        redis.call('ZADD', KEYS[1], ARGV[3], uuid)
+        table.insert(result, uuid)
+        table.insert(result, payload)
+    else
+        redis.call('ZREM', KEYS[1], uuid) -- 내용 없이 남은 항목 정리
+    end
+end
+
+return result
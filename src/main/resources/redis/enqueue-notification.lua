@@ -0,0 +1,10 @@
+-- 재전송 알림 추가 스크립트: uuid 중복 체크와 스트림 추가를 원자적으로 수행
+-- KEYS[1] : notification:stream (STREAM)
+-- KEYS[2] : {notification:stream}:in_queue (SET, 중복 체크용, 해시 태그로 KEYS[1] 과 같은 슬롯)
+-- ARGV[1] : 알림 uuid
+-- ARGV[2] : 알림 요청 JSON
+-- 반환     : 추가된 레코드 ID, 이미 대기 중인 uuid 이면 false
+if redis.call('SADD', KEYS[2], ARGV[1]) == 0 then
+    return false
+end
+return redis.call('XADD', KEYS[1], '*', 'uuid', ARGV[1], 'payload', ARGV[2])
@@ -0,0 +1,9 @@
+-- 기존 LIST 큐에서 꺼낸 재전송 알림을 스트림으로 옮기는 스크립트
+-- KEYS[1] : notification:stream (STREAM)
+-- KEYS[2] : {notification:stream}:in_queue (SET, 중복 체크용, 해시 태그로 KEYS[1] 과 같은 슬롯)
+-- ARGV[1] : 알림 uuid
+-- ARGV[2] : 알림 요청 JSON
+-- 반환     : 추가된 레코드 ID
+-- LIST 에서 이미 꺼낸 요청이므로 enqueue-notification.lua 와 달리 중복 체크 없이 추가
+redis.call('SADD', KEYS[2], ARGV[1])
+return redis.call('XADD', KEYS[1], '*', 'uuid', ARGV[1], 'payload', ARGV[2])
@@ -0,0 +1,54 @@
+-- 후보 재정렬 스크립트: 신뢰도 점수 내림차순 -> 구독 여부 내림차순 -> 입력 순서
+-- 저장 구조(MemberSignalLayout)별 조회 규칙은 MemberSignalStore 와 동일
+-- KEYS[1..n]      : member:trust:score:{memberId}
+-- KEYS[n+1..2n]   : member:subscription:{memberId}
+-- KEYS[2n+1..3n]  : member:trust:bucket:{memberId / N} (BUCKETED · DUAL)
+-- KEYS[3n+1]      : member:subscriptions:bitmap (BUCKETED · DUAL)
+-- KEYS[3n+2]      : member:subscriptions:migrated (DUAL)
+-- ARGV[1]         : 반환할 최대 인원
+-- ARGV[2]         : 저장 구조 (KEY, BUCKETED, DUAL)
+-- ARGV[3]         : 버킷 해시당 회원 수 (N)
+-- ARGV[4..n+3]    : 회원 ID
+-- 반환             : 상위 후보의 입력 위치 목록 (0부터 시작)
+local limit = tonumber(ARGV[1])
+local layout = ARGV[2]
+local bucketSize = tonumber(ARGV[3])
+local n = (#KEYS - 2) / 3
+local bitmapKey = KEYS[3 * n + 1]
+local migratedKey = KEYS[3 * n + 2]
+local ranked = {}
+
+for i = 1, n do
+    local memberId = tonumber(ARGV[3 + i])
+    local trust
+    local subscribed
+    if layout == 'KEY' then
+        trust = tonumber(redis.call('GET', KEYS[i]))
+        subscribed = redis.call('GET', KEYS[n + i]) == 'true'
+    else
+        -- 버킷에 없는 회원은 미이관 또는 로더가 채운 회원 키를 확인
+        trust = tonumber(redis.call('HGET', KEYS[2 * n + i], tostring(memberId % bucketSize)))
+                or tonumber(redis.call('GET', KEYS[i]))
+        subscribed = redis.call('GETBIT', bitmapKey, memberId) == 1
+        if layout == 'DUAL' and not subscribed and redis.call('GETBIT', migratedKey, memberId) == 0 then
+            subscribed = redis.call('GET', KEYS[n + i]) == 'true' -- 미이관 회원만 기존 키 확인
+        end
+    end
+    ranked[i] = { i, trust or 0, subscribed and 1 or 0 } -- 캐시 미스 시 0 / false
+end
+
+table.sort(ranked, function(a, b)
+    if a[2] ~= b[2] then
+        return a[2] > b[2]
+    end
+    if a[3] ~= b[3] then
+        return a[3] > b[3]
+    end
+    return a[1] < b[1]
+end)
+
+local result = {}
+for i = 1, math.min(limit, n) do
+    result[i] = ranked[i][1] - 1
+end
+return result
@@ -0,0 +1,8 @@
+-- 잠금 해제 스크립트: 자신이 획득한 잠금(값이 토큰과 같은 경우)만 삭제
+-- KEYS[1] : 잠금 키
+-- ARGV[1] : 획득 시 저장한 토큰
+-- 반환     : 삭제한 키 수 (다른 노드가 다시 획득했거나 만료되었으면 0)
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+return 0
@@ -0,0 +1,29 @@
+-- 데드레터 제거 스크립트: 재처리한 항목을 전체 · 타입별 인덱스와 본문에서 함께 제거
+-- KEYS[1] : notification:{dead}:index (ZSET, member=uuid, score=보관 시각 epoch ms)
+-- KEYS[2] : notification:{dead}:payloads (HASH, uuid → 데드레터 JSON)
+-- KEYS[3] : notification:{dead}:types (SET, 보관 중인 알림 타입)
+-- ARGV[1] : 타입별 인덱스 키 접두사 (notification:{dead}:index:)
+--           타입별 키는 실행 중에 정해져 KEYS 로 넘길 수 없으므로, KEYS[1] 과 같은 해시 태그를 가진 접두사만 허용
+-- ARGV[2..] : 제거할 uuid 목록
+-- 반환     : 제거한 항목 수
+if string.match(ARGV[1], '{[^}]+}') ~= string.match(KEYS[1], '{[^}]+}') then
+    return redis.error_reply('type index prefix must share the hash tag of ' .. KEYS[1])
+end
+local types = redis.call('SMEMBERS', KEYS[3])
+local removed = 0
+
+for i = 2, #ARGV do
+    removed = removed + redis.call('ZREM', KEYS[1], ARGV[i])
+    redis.call('HDEL', KEYS[2], ARGV[i])
+    for _, notificationType in ipairs(types) do
+        redis.call('ZREM', ARGV[1] .. notificationType, ARGV[i])
+    end
+end
+
+for _, notificationType in ipairs(types) do
+    if redis.call('ZCARD', ARGV[1] .. notificationType) == 0 then
+        redis.call('SREM', KEYS[3], notificationType)
+    end
+end
+
+return removed
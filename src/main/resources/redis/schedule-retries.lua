@@ -0,0 +1,12 @@
+-- 재시도 예약 스크립트: 알림 요청과 다음 시도 시각을 함께 기록 (이미 예약된 uuid 는 시각과 내용을 갱신)
+-- KEYS[1] : notification:retry:delayed (ZSET, member=uuid, score=다음 시도 시각 epoch ms)
+-- KEYS[2] : {notification:retry:delayed}:payloads (HASH, uuid → 알림 요청 JSON, 해시 태그로 KEYS[1] 과 같은 슬롯)
+-- ARGV    : [uuid, 다음 시도 시각, JSON, uuid, 다음 시도 시각, JSON, ...] 평탄화 목록
+-- 반환     : 예약한 건수
+local count = 0
+for i = 1, #ARGV, 3 do
+    redis.call('HSET', KEYS[2], ARGV[i], ARGV[i + 2])
+    redis.call('ZADD', KEYS[1], ARGV[i + 1], ARGV[i])
+    count = count + 1
+end
+return count
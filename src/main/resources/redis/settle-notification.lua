@@ -0,0 +1,23 @@
+-- 재전송 알림 처리 완료 스크립트: 소비 그룹 확인(XACK)과 레코드 삭제, 후속 처리를 원자적으로 수행
+-- KEYS[1] : notification:stream (STREAM)
+-- KEYS[2] : {notification:stream}:in_queue (SET, 중복 체크용, 해시 태그로 KEYS[1] 과 같은 슬롯)
+-- ARGV[1] : 소비 그룹 이름
+-- ARGV[2] : 처리한 레코드 ID
+-- ARGV[3] : 알림 uuid
+-- ARGV[4] : (선택) 다시 추가할 알림 요청 JSON. 없으면 완료 처리하여 uuid 를 중복 체크 Set 에서 제거
+-- 반환     : 다시 추가한 레코드 ID, 완료 처리 시 확인된 레코드 수 (문자열)
+local acked = redis.call('XACK', KEYS[1], ARGV[1], ARGV[2])
+redis.call('XDEL', KEYS[1], ARGV[2])
+
+if acked == 0 then
+    -- 회수해 간 다른 소비자가 이미 확정한 레코드: 재추가 · Set 정리는 그쪽에서 끝났으므로 중복으로 하지 않음
+    return '0'
+end
+
+if ARGV[4] then
+    -- uuid 는 Set 에 남겨 둔 채 같은 uuid 로 다시 추가 (중간에 다른 노드가 같은 알림을 추가하지 못함)
+    return redis.call('XADD', KEYS[1], '*', 'uuid', ARGV[3], 'payload', ARGV[4])
+end
+
+redis.call('SREM', KEYS[2], ARGV[3])
+return tostring(acked)
@@ -0,0 +1,79 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.domain.dto.event.MatchingSavedEvent;
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "matching.event.transport=kafka",
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "matching.event.kafka.partitions=3",
+        "matching.event.outbox.poll-interval-ms=3600000" // 스케줄 실행 대신 직접 호출
+})
+@EmbeddedKafka(partitions = 3, topics = "matching.saved")
+@ActiveProfiles("test")
+class MatchingKafkaTransportTest {
+
+    @Autowired
+    private MatchingKafkaPublisher kafkaPublisher; // 테스트 대상
+
+    @MockitoBean
+    private MatchingEventHandler matchingEventHandler;
+
+    @Test
+    @DisplayName("memberId 를 키로 발행한 이벤트는 컨슈머 그룹에서 회원별 발행 순서대로 처리된다")
+    void publish_preservesPerMemberOrder() {
+        List<Level> levels = List.of(Level.SEED, Level.SEEDLING, Level.SAPLING, Level.BLOOMING, Level.FRUITFUL);
+        for (Level level : levels) {
+            kafkaPublisher.publish(dto(1L, level));
+            kafkaPublisher.publish(dto(2L, level));
+        }
+
+        ArgumentCaptor<MatchingQueryDto> captor = ArgumentCaptor.forClass(MatchingQueryDto.class);
+        verify(matchingEventHandler, timeout(30_000).times(levels.size() * 2)).process(captor.capture());
+
+        for (long memberId : List.of(1L, 2L)) {
+            assertThat(captor.getAllValues())
+                    .filteredOn(dto -> dto.getMemberId() == memberId)
+                    .extracting(MatchingQueryDto::getLevel)
+                    .containsExactlyElementsOf(levels);
+        }
+    }
+
+    @Test
+    @DisplayName("kafka 모드에서는 인메모리 이벤트 리스너가 이벤트를 직접 처리하지 않는다")
+    void handleMatchingSaved_skippedInKafkaMode() {
+        MatchingRecomputeCoalescer coalescer = mock(MatchingRecomputeCoalescer.class);
+        MatchingEventHandler handler = new MatchingEventHandler(null, null, null, null, coalescer, null, null);
+        ReflectionTestUtils.setField(handler, "transport", MatchingKafkaPublisher.TRANSPORT);
+
+        handler.handleMatchingSaved(new MatchingSavedEvent(dto(1L, Level.SEED)));
+
+        verifyNoInteractions(coalescer);
+    }
+
+    private static MatchingQueryDto dto(Long memberId, Level level) {
+        return MatchingQueryDto.builder()
+                .memberId(memberId)
+                .category(Category.STUDY)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(level)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .build();
+    }
+}
@@ -0,0 +1,96 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.infra.cache.NotificationDigestStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class MatchingNotificationDigesterTest {
+
+    private final MatchingNotificationFanout notificationFanout = mock(MatchingNotificationFanout.class);
+    private final NotificationDigestStore digestStore = mock(NotificationDigestStore.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MatchingNotificationDigester digester;
+
+    @BeforeEach
+    void setUp() {
+        digester = new MatchingNotificationDigester(notificationFanout, digestStore, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("모으는 시간 동안 같은 수신자의 알림은 요약 알림 1건으로 발송한다")
+    void flush_sendsOneDigestPerRecipient() {
+        digester.offer(1L, 10L, 80);
+        digester.offer(1L, 11L, 95);
+        digester.offer(1L, 10L, 85); // 같은 상대는 한 번만 집계
+        digester.offer(2L, 10L, 70);
+
+        assertThat(digester.flush()).isZero(); // 아직 모으는 중
+        verifyNoInteractions(notificationFanout);
+
+        ReflectionTestUtils.setField(digester, "windowMillis", 0L);
+        assertThat(digester.flush()).isEqualTo(2);
+
+        List<NotificationRequestDto> sent = sentNotifications();
+        assertThat(sent).extracting(NotificationRequestDto::getMemberId).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(sent).filteredOn(notification -> notification.getMemberId() == 1L)
+                .extracting(NotificationRequestDto::getContent)
+                .containsExactly("새로운 매칭! 2명의 사용자와 매칭되었습니다. 최고 유사도: 95점 (사용자 11)");
+        assertThat(sent).filteredOn(notification -> notification.getMemberId() == 2L)
+                .extracting(NotificationRequestDto::getContent)
+                .containsExactly("새로운 매칭! 사용자 10와 매칭되었습니다. 유사도: 70점");
+        assertThat(meterRegistry.counter("matching.notification.digest", "result", "buffered").count()).isEqualTo(4.0);
+        assertThat(meterRegistry.counter("matching.notification.digest.sent").count()).isEqualTo(2.0);
+        assertThat(digester.flush()).isZero(); // 발송 후 버퍼 비움
+    }
+
+    @Test
+    @DisplayName("버퍼 수신자 수가 상한에 도달하면 새 수신자의 알림은 모으지 않는다")
+    void offer_bypassesWhenBufferFull() {
+        ReflectionTestUtils.setField(digester, "maxBufferedRecipients", 1);
+
+        assertThat(digester.offer(1L, 10L, 80)).isTrue();
+        assertThat(digester.offer(1L, 11L, 80)).isTrue(); // 기존 수신자는 계속 모음
+        assertThat(digester.offer(2L, 10L, 80)).isFalse();
+        assertThat(meterRegistry.counter("matching.notification.digest", "result", "bypassed").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("Redis spill 모드는 버퍼를 Redis 로 넘기고, 선점한 수신자에게만 발송한다")
+    void flush_spillsToRedisAndSendsClaimed() {
+        ReflectionTestUtils.setField(digester, "redisSpill", true);
+        digester.offer(1L, 10L, 80);
+        when(digestStore.claimDue(anyLong(), anyInt())).thenReturn(Map.of(3L, Map.of(20L, 90)));
+
+        assertThat(digester.flush()).isEqualTo(1);
+
+        verify(digestStore).spill(eq(Map.of(1L, Map.of(10L, 80))), anyMap());
+        assertThat(sentNotifications()).extracting(NotificationRequestDto::getMemberId).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("비활성화하면 알림을 모으지 않는다")
+    void offer_returnsFalseWhenDisabled() {
+        ReflectionTestUtils.setField(digester, "enabled", false);
+
+        assertThat(digester.offer(1L, 10L, 80)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<NotificationRequestDto> sentNotifications() {
+        ArgumentCaptor<List<NotificationRequestDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(notificationFanout).send(captor.capture());
+        return captor.getValue();
+    }
+}
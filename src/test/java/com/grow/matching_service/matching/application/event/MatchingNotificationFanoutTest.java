@@ -0,0 +1,129 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.dto.NotificationResultDto;
+import com.grow.matching_service.matching.application.service.queue.QueueService;
+import com.grow.matching_service.matching.presentation.client.NotificationServiceClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MatchingNotificationFanoutTest {
+
+    private static final int CONCURRENCY = 3;
+
+    private final NotificationServiceClient notificationService = mock(NotificationServiceClient.class);
+    private final QueueService queueService = mock(QueueService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MatchingNotificationFanout fanout;
+
+    @BeforeEach
+    void setUp() {
+        fanout = new MatchingNotificationFanout(notificationService, queueService, meterRegistry);
+        ReflectionTestUtils.setField(fanout, "concurrency", CONCURRENCY);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fanout.shutdown();
+    }
+
+    @Test
+    @DisplayName("일괄 전송 결과 중 실패 · 누락 항목만 재시도 큐에 저장한다")
+    void sendBatch_enqueuesOnlyFailedItems() {
+        List<NotificationRequestDto> requests = requests(3);
+        when(notificationService.sendNotifications(anyString(), eq(requests))).thenReturn(List.of(
+                result(requests.get(0), NotificationResultDto.Status.DELIVERED),
+                result(requests.get(1), NotificationResultDto.Status.FAILED)
+                // 2번 항목은 응답 누락
+        ));
+
+        List<MatchingNotificationFanout.Outcome> outcomes = fanout.send(requests);
+
+        assertThat(outcomes).extracting(MatchingNotificationFanout.Outcome::isSuccess)
+                .containsExactly(true, false, false);
+        verify(notificationService, never()).sendNotification(any());
+        verify(queueService).enqueueNotification(requests.get(1));
+        verify(queueService).enqueueNotification(requests.get(2));
+        verifyNoMoreInteractions(queueService);
+    }
+
+    @Test
+    @DisplayName("일괄 전송 요청 자체가 실패하면 모든 항목을 재시도 큐에 저장한다")
+    void sendBatch_enqueuesAllWhenRequestFails() {
+        List<NotificationRequestDto> requests = requests(3);
+        when(notificationService.sendNotifications(anyString(), eq(requests))).thenThrow(new RuntimeException("503"));
+
+        List<MatchingNotificationFanout.Outcome> outcomes = fanout.send(requests);
+
+        assertThat(outcomes).noneMatch(MatchingNotificationFanout.Outcome::isSuccess);
+        requests.forEach(request -> verify(queueService).enqueueNotification(request));
+    }
+
+    @Test
+    @DisplayName("건별 전송 시 실패한 수신자의 알림만 재시도 큐에 저장한다")
+    void send_enqueuesOnlyFailures() {
+        ReflectionTestUtils.setField(fanout, "batchEnabled", false);
+        List<NotificationRequestDto> requests = requests(5);
+        NotificationRequestDto failing = requests.get(2);
+        doThrow(new RuntimeException("503")).when(notificationService).sendNotification(failing);
+
+        List<MatchingNotificationFanout.Outcome> outcomes = fanout.send(requests);
+
+        assertThat(outcomes).extracting(MatchingNotificationFanout.Outcome::request).containsExactlyElementsOf(requests);
+        assertThat(outcomes).filteredOn(outcome -> !outcome.isSuccess())
+                .extracting(MatchingNotificationFanout.Outcome::request)
+                .containsExactly(failing);
+        verify(queueService, times(1)).enqueueNotification(any());
+        verify(queueService).enqueueNotification(failing);
+        assertThat(meterRegistry.counter("matching.notification.fanout", "result", "success").count()).isEqualTo(4.0);
+        assertThat(meterRegistry.counter("matching.notification.fanout", "result", "failure").count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("건별 전송 시 이벤트당 동시 전송 수는 설정한 상한을 넘지 않는다")
+    void send_respectsConcurrencyCap() {
+        ReflectionTestUtils.setField(fanout, "batchEnabled", false);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(notificationService).sendNotification(any());
+
+        List<MatchingNotificationFanout.Outcome> outcomes = fanout.send(requests(21));
+
+        assertThat(outcomes).hasSize(21).allMatch(MatchingNotificationFanout.Outcome::isSuccess);
+        assertThat(maxInFlight.get()).isBetween(2, CONCURRENCY);
+        verifyNoInteractions(queueService);
+    }
+
+    private static NotificationResultDto result(NotificationRequestDto request, NotificationResultDto.Status status) {
+        return NotificationResultDto.builder().uuid(request.getUuid()).status(status).build();
+    }
+
+    private static List<NotificationRequestDto> requests(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(memberId -> NotificationRequestDto.builder()
+                        .memberId(memberId)
+                        .content("매칭 알림")
+                        .notificationType("MATCH_SUCCESS")
+                        .build())
+                .toList();
+    }
+}
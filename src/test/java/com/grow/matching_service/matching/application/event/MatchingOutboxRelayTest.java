@@ -0,0 +1,156 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.entity.MatchingJpaEntity;
+import com.grow.matching_service.matching.infra.repository.MatchingJpaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(properties = {
+        "matching.event.outbox.poll-interval-ms=3600000", // 스케줄 실행 대신 직접 호출
+        "matching.event.coalesce.quiet-window-ms=0"
+})
+@ActiveProfiles("test")
+class MatchingOutboxRelayTest {
+
+    @Autowired
+    private MatchingOutboxRelay outboxRelay; // 테스트 대상
+
+    @Autowired
+    private MatchingJpaRepository matchingJpaRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private MatchingEventHandler matchingEventHandler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM matching_outbox"); // 초기 데이터로 쌓인 이벤트 제거
+    }
+
+    @Test
+    @DisplayName("매칭 저장과 같은 트랜잭션에서 아웃박스에 기록하고, 릴레이가 처리 후 삭제한다")
+    void relay_dispatchesCommittedEvents() {
+        double relayedBefore = meterRegistry.counter("matching.outbox.relayed", "result", "success").count();
+
+        transactionTemplate.executeWithoutResult(status -> matchingJpaRepository.save(entity(101L)));
+        assertThat(outboxCount()).isEqualTo(1);
+
+        int relayed = outboxRelay.relay();
+
+        ArgumentCaptor<MatchingQueryDto> captor = ArgumentCaptor.forClass(MatchingQueryDto.class);
+        verify(matchingEventHandler).process(captor.capture());
+        assertThat(relayed).isEqualTo(1);
+        assertThat(captor.getValue().getMemberId()).isEqualTo(101L);
+        assertThat(captor.getValue().getCategory()).isEqualTo(Category.STUDY);
+        assertThat(outboxCount()).isZero();
+        assertThat(meterRegistry.counter("matching.outbox.relayed", "result", "success").count() - relayedBefore)
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("매칭 저장이 롤백되면 아웃박스 기록도 롤백된다")
+    void append_rolledBackWithMatching() {
+        assertThatThrownBy(() -> transactionTemplate.executeWithoutResult(status -> {
+            matchingJpaRepository.save(entity(102L));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(outboxCount()).isZero();
+        assertThat(outboxRelay.relay()).isZero();
+        verify(matchingEventHandler, never()).process(any());
+    }
+
+    @Test
+    @DisplayName("처리에 실패한 이벤트는 시도 횟수를 늘려 다시 대기 상태로 남고, 백오프 시간이 지나기 전에는 다시 선점되지 않는다")
+    void relay_releasesFailedEvents() {
+        doThrow(new IllegalStateException("notification down")).when(matchingEventHandler).process(any());
+        transactionTemplate.executeWithoutResult(status -> matchingJpaRepository.save(entity(103L)));
+
+        assertThat(outboxRelay.relay()).isZero();
+        assertThat(outboxRelay.relay()).isZero(); // 바로 다시 폴링해도 선점하지 않음
+
+        verify(matchingEventHandler, times(1)).process(any());
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM matching_outbox WHERE member_id = 103", String.class)).isEqualTo("PENDING");
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT attempts FROM matching_outbox WHERE member_id = 103", Integer.class)).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT next_attempt_at FROM matching_outbox WHERE member_id = 103", Timestamp.class))
+                .isAfter(Timestamp.valueOf(LocalDateTime.now().plusSeconds(20))); // 기본 30초 백오프
+    }
+
+    @Test
+    @DisplayName("최대 시도 횟수를 넘긴 FAILED 이벤트는 재처리 요청 시 시도 횟수를 초기화하여 다시 처리된다")
+    void requeueFailed_relaysFailedEventsAgain() {
+        transactionTemplate.executeWithoutResult(status -> matchingJpaRepository.save(entity(105L)));
+        jdbcTemplate.update("UPDATE matching_outbox SET status = 'FAILED', attempts = 5, "
+                + "next_attempt_at = ? WHERE member_id = 105", Timestamp.valueOf(LocalDateTime.now().plusHours(1)));
+        assertThat(outboxRelay.relay()).isZero();
+
+        assertThat(outboxRelay.requeueFailed()).isEqualTo(1);
+
+        assertThat(outboxRelay.relay()).isEqualTo(1);
+        verify(matchingEventHandler).process(any());
+        assertThat(outboxCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 회원 · 카테고리의 연속 저장은 최신 이벤트만 처리하고 이전 이벤트는 함께 삭제한다")
+    void relay_coalescesSameMemberAndCategory() {
+        double coalescedBefore = meterRegistry.counter("matching.recompute.coalesced", "source", "outbox").count();
+        transactionTemplate.executeWithoutResult(status -> matchingJpaRepository.save(entity(104L)));
+        transactionTemplate.executeWithoutResult(status -> matchingJpaRepository.save(entity(104L)));
+        transactionTemplate.executeWithoutResult(status -> matchingJpaRepository.save(entity(104L)));
+
+        assertThat(outboxRelay.relay()).isEqualTo(1);
+
+        verify(matchingEventHandler, times(1)).process(any());
+        assertThat(outboxCount()).isZero();
+        assertThat(meterRegistry.counter("matching.recompute.coalesced", "source", "outbox").count() - coalescedBefore)
+                .isEqualTo(2.0);
+    }
+
+    private int outboxCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM matching_outbox", Integer.class);
+    }
+
+    private MatchingJpaEntity entity(Long memberId) {
+        return MatchingJpaEntity.builder()
+                .memberId(memberId)
+                .category(Category.STUDY)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .introduction("outbox")
+                .status(MatchingStatus.ACTIVE)
+                .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.repository.MatchingOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "matching.event.outbox.enabled=false", // 매칭 저장은 인메모리 이벤트로 처리, 아웃박스는 SHED 대체 경로로만 기록
+        "matching.event.outbox.poll-interval-ms=3600000", // 스케줄 실행 대신 직접 호출
+        "matching.event.coalesce.quiet-window-ms=0"
+})
+@ActiveProfiles("test")
+class MatchingOutboxShedRelayTest {
+
+    @Autowired
+    private MatchingOutboxRelay outboxRelay; // 테스트 대상
+
+    @Autowired
+    private MatchingOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private MatchingEventHandler matchingEventHandler;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM matching_outbox");
+    }
+
+    @Test
+    @DisplayName("아웃박스 기록을 끈 설정에서도 재계산 실행기 포화로 넘겨진 이벤트를 처리한다")
+    void relay_drainsShedEventsWhenOutboxDisabled() {
+        outboxRepository.append(MatchingQueryDto.builder()
+                .memberId(201L)
+                .category(Category.STUDY)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .build());
+
+        assertThat(outboxRelay.relay()).isEqualTo(1);
+
+        ArgumentCaptor<MatchingQueryDto> captor = ArgumentCaptor.forClass(MatchingQueryDto.class);
+        verify(matchingEventHandler).process(captor.capture());
+        assertThat(captor.getValue().getMemberId()).isEqualTo(201L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM matching_outbox", Integer.class)).isZero();
+    }
+}
@@ -0,0 +1,90 @@
+package com.grow.matching_service.matching.application.event;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingRecomputeCoalescerTest {
+
+    private static final long QUIET_WINDOW_MILLIS = 200;
+
+    private MatchingRecomputeCoalescer coalescer;
+    private SimpleMeterRegistry meterRegistry;
+    private final List<MatchingQueryDto> processed = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new MatchingRecomputeCoalescer(meterRegistry);
+        ReflectionTestUtils.setField(coalescer, "quietWindowMillis", QUIET_WINDOW_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 시간 안의 연속 요청은 최신 요청 하나만 처리한다")
+    void submit_processesOnlyLatestWithinQuietWindow() throws InterruptedException {
+        MatchingQueryDto first = dto(1L, Category.STUDY, Level.SEED);
+        MatchingQueryDto second = dto(1L, Category.STUDY, Level.SEEDLING);
+        MatchingQueryDto latest = dto(1L, Category.STUDY, Level.SAPLING);
+
+        coalescer.submit(first, processed::add);
+        coalescer.submit(second, processed::add);
+        coalescer.submit(latest, processed::add);
+        Thread.sleep(QUIET_WINDOW_MILLIS * 3);
+
+        assertThat(processed).containsExactly(latest);
+        assertThat(coalescer.pendingCount()).isZero();
+        assertThat(meterRegistry.counter("matching.recompute.coalesced", "source", "memory").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("회원 또는 카테고리가 다르면 각각 처리한다")
+    void submit_keepsDifferentKeysSeparate() throws InterruptedException {
+        MatchingQueryDto study = dto(1L, Category.STUDY, Level.SEED);
+        MatchingQueryDto hobby = dto(1L, Category.HOBBY, Level.SEED);
+        MatchingQueryDto otherMember = dto(2L, Category.STUDY, Level.SEED);
+
+        coalescer.submit(study, processed::add);
+        coalescer.submit(hobby, processed::add);
+        coalescer.submit(otherMember, processed::add);
+        Thread.sleep(QUIET_WINDOW_MILLIS * 3);
+
+        assertThat(processed).containsExactlyInAnyOrder(study, hobby, otherMember);
+    }
+
+    @Test
+    @DisplayName("대기 시간이 0이면 병합하지 않고 즉시 처리한다")
+    void submit_processesImmediatelyWhenDisabled() {
+        ReflectionTestUtils.setField(coalescer, "quietWindowMillis", 0L);
+        MatchingQueryDto dto = dto(1L, Category.STUDY, Level.SEED);
+
+        coalescer.submit(dto, processed::add);
+
+        assertThat(processed).containsExactly(dto);
+    }
+
+    private MatchingQueryDto dto(Long memberId, Category category, Level level) {
+        return MatchingQueryDto.builder()
+                .memberId(memberId)
+                .category(category)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(level)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .build();
+    }
+}
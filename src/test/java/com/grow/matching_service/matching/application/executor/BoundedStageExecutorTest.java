@@ -0,0 +1,72 @@
+package com.grow.matching_service.matching.application.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedStageExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BoundedStageExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("포화 시 호출 스레드에서 작업을 실행한다")
+    void callerRuns_executesOnCallerThreadWhenSaturated() {
+        executor = new BoundedStageExecutor("test-caller", 1, 1, 1, meterRegistry);
+        saturate();
+
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        assertThat(ranOn.get()).isEqualTo(Thread.currentThread());
+        assertThat(rejected("test-caller", "caller_runs")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("큐 대기 수와 실행 중 스레드 수를 메트릭으로 노출한다")
+    void exposesQueueDepthAndActiveThreads() {
+        executor = new BoundedStageExecutor("test-metrics", 1, 1, 5, meterRegistry);
+        saturate();
+
+        assertThat(meterRegistry.get("executor.queued").tag("name", "test-metrics").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("executor.active").tag("name", "test-metrics").gauge().value()).isEqualTo(1.0);
+        assertThat(executor.getQueueSize()).isEqualTo(1);
+    }
+
+    // 스레드 1개를 막고 큐에 작업 1개를 채움
+    private void saturate() {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        await(started);
+        executor.execute(() -> await(release));
+    }
+
+    private double rejected(String name, String policy) {
+        return meterRegistry.counter("matching.executor.rejected", "name", name, "policy", policy).count();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.grow.matching_service.matching.application.executor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StripedOrderedExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private StripedOrderedExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키의 작업은 같은 레인에서 제출 순서대로 실행된다")
+    void sameKey_runsInSubmissionOrder() throws InterruptedException {
+        executor = new StripedOrderedExecutor("test-order", 4, 100, meterRegistry);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+        List<String> threads = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(50);
+
+        IntStream.range(0, 50).forEach(i -> executor.offer(7L, () -> {
+            executed.add(i);
+            threads.add(Thread.currentThread().getName());
+            done.countDown();
+        }));
+
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 50).boxed().toList());
+        assertThat(threads).containsOnly("test-order-lane-" + executor.laneOf(7L));
+    }
+
+    @Test
+    @DisplayName("다른 레인의 작업은 막힌 레인과 관계없이 실행된다")
+    void otherLanes_runWhileOneLaneIsBlocked() throws InterruptedException {
+        executor = new StripedOrderedExecutor("test-parallel", 2, 10, meterRegistry);
+        long blockedKey = keyOnLane(0);
+        long freeKey = keyOnLane(1);
+        CountDownLatch ran = new CountDownLatch(1);
+
+        executor.offer(blockedKey, () -> await(release));
+        executor.offer(freeKey, ran::countDown);
+
+        assertThat(ran.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    @DisplayName("offer 는 레인이 포화 상태면 대기하지 않고 false 를 반환한다")
+    void offer_returnsFalseWithoutBlockingWhenSaturated() {
+        executor = new StripedOrderedExecutor("test-offer", 1, 1, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        assertThat(executor.offer(1L, () -> {
+            started.countDown();
+            await(release);
+        })).isTrue();
+        await(started);
+        assertThat(executor.offer(1L, () -> await(release))).isTrue(); // 큐 1칸 채움
+
+        assertThat(executor.offer(1L, () -> {
+        })).isFalse(); // 대기하지 않음
+        assertThat(meterRegistry.counter("matching.executor.rejected", "name", "test-offer", "policy", "shed").count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("submit 은 같은 키의 작업과 제출 순서대로 실행하고 결과와 예외를 Future 로 전달한다")
+    void submit_runsInLaneOrderAndReturnsResult() throws Exception {
+        executor = new StripedOrderedExecutor("test-submit", 4, 100, meterRegistry);
+        List<Integer> executed = new CopyOnWriteArrayList<>();
+
+        List<Future<Integer>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> executor.submit(7L, () -> {
+                    executed.add(i);
+                    return i;
+                }))
+                .toList();
+        Future<Object> failed = executor.submit(7L, () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        for (int i = 0; i < futures.size(); i++) {
+            assertThat(futures.get(i).get(5, TimeUnit.SECONDS)).isEqualTo(i);
+        }
+        assertThat(executed).containsExactlyElementsOf(IntStream.range(0, 20).boxed().toList());
+        assertThatThrownBy(() -> failed.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("레인 불균형 지표는 가장 바쁜 레인의 처리 수 / 레인 평균 처리 수이다")
+    void imbalance_reportsBusiestLaneOverMean() throws InterruptedException {
+        executor = new StripedOrderedExecutor("test-imbalance", 2, 100, meterRegistry);
+        CountDownLatch done = new CountDownLatch(4);
+        long hotKey = keyOnLane(0);
+
+        for (int i = 0; i < 3; i++) {
+            executor.offer(hotKey, done::countDown);
+        }
+        executor.offer(keyOnLane(1), done::countDown);
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 레인 0: 3건, 레인 1: 1건 → 3 / 2 = 1.5 (카운터는 작업 종료 직후 증가하므로 잠시 대기)
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.imbalance() != 1.5 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("matching.executor.lane.imbalance").tag("name", "test-imbalance").gauge().value())
+                .isEqualTo(1.5);
+    }
+
+    @Test
+    @DisplayName("단계 메트릭으로 실행 중인 레인 수와 작업 대기 · 실행 시간을 기록한다")
+    void metrics_reportActiveLanesAndTaskLatency() throws InterruptedException {
+        executor = new StripedOrderedExecutor("test-metrics", 2, 10, meterRegistry);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(2);
+        executor.offer(keyOnLane(0), () -> {
+            started.countDown();
+            await(release);
+            done.countDown();
+        });
+        await(started);
+
+        assertThat(meterRegistry.get("executor.active").tag("name", "test-metrics").gauge().value()).isEqualTo(1.0);
+
+        executor.offer(keyOnLane(1), done::countDown);
+        release.countDown();
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+
+        long deadline = System.currentTimeMillis() + 5000; // 타이머는 작업 종료 직후 기록되므로 잠시 대기
+        while (meterRegistry.get("executor").tag("name", "test-metrics").timer().count() < 2
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("executor").tag("name", "test-metrics").timer().count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("executor.idle").tag("name", "test-metrics").timer().count()).isEqualTo(2L);
+    }
+
+    private long keyOnLane(int lane) {
+        return IntStream.range(0, 1000)
+                .mapToLong(i -> i)
+                .filter(key -> executor.laneOf(key) == lane)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.grow.matching_service.matching.application.service;
+
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.service.queue.NotificationDeadLetterStore;
+import com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static com.grow.matching_service.matching.application.service.NotificationDeadLetterService.REPLAY_LOCK_KEY;
+import static com.grow.matching_service.matching.application.service.NotificationDeadLetterService.REPLAY_UNTIL_KEY;
+import static com.grow.matching_service.matching.application.service.queue.NotificationDeadLetterStore.INDEX_KEY;
+import static com.grow.matching_service.matching.application.service.queue.NotificationDeadLetterStore.PAYLOAD_KEY;
+import static com.grow.matching_service.matching.application.service.queue.NotificationDeadLetterStore.TYPES_KEY;
+import static com.grow.matching_service.matching.application.service.queue.NotificationDeadLetterStore.TYPE_INDEX_KEY;
+import static com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue.DELAYED_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationDeadLetterServiceTest {
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Autowired
+    private NotificationDeadLetterStore deadLetterStore;
+
+    @Autowired
+    private NotificationDelayQueue delayQueue;
+
+    private NotificationDeadLetterService deadLetterService;
+
+    @BeforeEach
+    void setUp() {
+        clear();
+        deadLetterService = new NotificationDeadLetterService(deadLetterStore, delayQueue, stringRedisTemplate,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    @DisplayName("재처리는 지정한 속도 간격의 시도 시각으로 지연 재시도 큐에 예약하고 데드레터에서 제거한다")
+    void replay_schedulesAtRateSpacedAttemptTimes() throws InterruptedException {
+        List<NotificationRequestDto> requests = LongStream.rangeClosed(1, 3).mapToObj(this::request).toList();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < requests.size(); i++) { // 오래된 순으로 보관
+            deadLetterStore.add(List.of(requests.get(i)), "재시도 횟수 초과", now - 3_000L + i);
+        }
+
+        assertThat(deadLetterService.replay(null, null, null, null, 1)).isPresent();
+        awaitReplay();
+
+        // 첫 항목은 즉시 시도 대상이라 재시도 폴링이 먼저 선점할 수 있으므로 이후 항목의 간격만 확인
+        Double second = stringRedisTemplate.opsForZSet().score(DELAYED_KEY, requests.get(1).getUuid());
+        Double third = stringRedisTemplate.opsForZSet().score(DELAYED_KEY, requests.get(2).getUuid());
+        assertThat(third - second).isEqualTo(1_000.0);
+        assertThat(deadLetterStore.count(null)).isZero();
+        assertThat(stringRedisTemplate.hasKey(REPLAY_LOCK_KEY)).isFalse();
+    }
+
+    @Test
+    @DisplayName("이어서 시작한 재처리는 이전 재처리가 예약한 마지막 시도 이후부터 예약한다")
+    void replay_continuesAfterPreviousTimeline() throws InterruptedException {
+        List<NotificationRequestDto> first = LongStream.rangeClosed(1, 3).mapToObj(this::request).toList();
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < first.size(); i++) {
+            deadLetterStore.add(List.of(first.get(i)), "재시도 횟수 초과", now - 3_000L + i);
+        }
+        assertThat(deadLetterService.replay(null, null, null, null, 1)).isPresent();
+        awaitReplay();
+
+        NotificationRequestDto next = request(4L);
+        deadLetterStore.add(List.of(next), "재시도 횟수 초과", System.currentTimeMillis());
+        assertThat(deadLetterService.replay(null, null, null, null, 1)).isPresent();
+        awaitReplay();
+
+        Double last = stringRedisTemplate.opsForZSet().score(DELAYED_KEY, first.get(2).getUuid());
+        Double continued = stringRedisTemplate.opsForZSet().score(DELAYED_KEY, next.getUuid());
+        assertThat(continued - last).isEqualTo(1_000.0);
+    }
+
+    @Test
+    @DisplayName("다른 파드가 재처리 잠금을 쥐고 있으면 재처리를 시작하지 않는다")
+    void replay_skipsWhileAnotherPodHoldsLock() {
+        deadLetterStore.add(List.of(request(1L)), "재시도 횟수 초과", System.currentTimeMillis());
+        stringRedisTemplate.opsForValue().set(REPLAY_LOCK_KEY, "other-pod");
+
+        assertThat(deadLetterService.replay(null, null, null, null, 1)).isEmpty();
+        assertThat(deadLetterStore.count(null)).isEqualTo(1L);
+        assertThat(stringRedisTemplate.opsForValue().get(REPLAY_LOCK_KEY)).isEqualTo("other-pod");
+    }
+
+    private void awaitReplay() throws InterruptedException {
+        for (int i = 0; i < 50 && deadLetterService.getReplayStatus().orElseThrow().isRunning(); i++) {
+            Thread.sleep(100);
+        }
+        assertThat(deadLetterService.getReplayStatus().orElseThrow().isRunning()).isFalse();
+    }
+
+    private void clear() {
+        stringRedisTemplate.delete(List.of(INDEX_KEY, TYPES_KEY, PAYLOAD_KEY, TYPE_INDEX_KEY + "MATCH_SUCCESS",
+                DELAYED_KEY, NotificationDelayQueue.PAYLOAD_KEY, REPLAY_LOCK_KEY, REPLAY_UNTIL_KEY));
+    }
+
+    private NotificationRequestDto request(long memberId) {
+        return NotificationRequestDto.builder()
+                .memberId(memberId)
+                .content("알림 " + memberId)
+                .notificationType("MATCH_SUCCESS")
+                .timestamp(LocalDateTime.now().withNano(0))
+                .build();
+    }
+}
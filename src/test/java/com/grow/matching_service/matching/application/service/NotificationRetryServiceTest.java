@@ -0,0 +1,312 @@
+package com.grow.matching_service.matching.application.service;
+
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue;
+import com.grow.matching_service.matching.application.service.queue.QueueService;
+import com.grow.matching_service.matching.presentation.client.NotificationServiceClient;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToLongFunction;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+class NotificationRetryServiceTest {
+
+    private static final int BATCH_SIZE = 4;
+    private static final int CONCURRENCY = 2;
+
+    private final QueueService queueService = mock(QueueService.class);
+    private final NotificationDelayQueue delayQueue = mock(NotificationDelayQueue.class);
+    private final NotificationDeadLetterService deadLetterService = mock(NotificationDeadLetterService.class);
+    private final NotificationRetryThrottle throttle = mock(NotificationRetryThrottle.class);
+    private final NotificationServiceClient notificationServiceClient = mock(NotificationServiceClient.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Deque<NotificationRequestDto> backlog = new ArrayDeque<>();
+    private final Map<NotificationRequestDto, Long> delayed = new HashMap<>();
+    private NotificationRetryService retryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        retryService = new NotificationRetryService(
+                queueService, delayQueue, deadLetterService, throttle, notificationServiceClient, meterRegistry);
+        ReflectionTestUtils.setField(retryService, "batchSize", BATCH_SIZE);
+        ReflectionTestUtils.setField(retryService, "concurrency", CONCURRENCY);
+
+        // 적체 큐 흉내: 요청한 개수만큼 앞에서 꺼냄
+        when(queueService.size()).thenAnswer(invocation -> (long) backlog.size());
+        when(queueService.dequeueNotifications(anyInt())).thenAnswer(invocation -> {
+            int count = invocation.getArgument(0);
+            List<NotificationRequestDto> batch = new ArrayList<>();
+            while (batch.size() < count && !backlog.isEmpty()) {
+                batch.add(backlog.poll());
+            }
+            return batch;
+        });
+        // 지연 재시도 예약 기록
+        doAnswer(invocation -> {
+            List<NotificationRequestDto> requests = invocation.getArgument(0);
+            ToLongFunction<NotificationRequestDto> attemptAt = invocation.getArgument(1);
+            requests.forEach(request -> delayed.put(request, attemptAt.applyAsLong(request)));
+            return null;
+        }).when(delayQueue).schedule(any(), any(ToLongFunction.class));
+        when(deadLetterService.deadLetter(any(), anyString())).thenReturn(true);
+        when(throttle.permits(anyInt())).thenAnswer(invocation -> invocation.getArgument(0)); // 서킷 브레이커 CLOSED
+    }
+
+    @AfterEach
+    void tearDown() {
+        retryService.shutdown();
+    }
+
+    @Test
+    @DisplayName("적체 요청을 배치 단위로 꺼내 성공 건은 확정, 실패 건은 재시도 횟수를 올려 지연 재시도를 예약, 한도 초과 건은 데드레터로 보관한다")
+    void retryNotifications_drainsInBatches() {
+        LongStream.rangeClosed(1, 9).forEach(memberId -> backlog.add(request(memberId, 0)));
+        backlog.add(request(10L, 3)); // 재시도 한도 초과
+        doThrow(new RuntimeException("503")).when(notificationServiceClient)
+                .sendNotification(argThat(request -> request.getMemberId() % 3 == 0));
+
+        retryService.drain();
+
+        verify(queueService, times(3)).dequeueNotifications(anyInt()); // 10건 / 배치 4건
+        verify(notificationServiceClient, times(9)).sendNotification(any());
+        verify(queueService, times(3)).acknowledgeAll(any()); // 실패 건도 예약 후 확정
+        verify(queueService, never()).requeueAll(argThat(requests -> !requests.isEmpty()));
+        assertThat(delayed.keySet()).extracting(NotificationRequestDto::getMemberId).containsExactlyInAnyOrder(3L, 6L, 9L);
+        assertThat(delayed.keySet()).extracting(NotificationRequestDto::getRetryCount).containsOnly(1);
+        verify(deadLetterService).deadLetter(argThat(requests -> requests.size() == 1
+                && requests.get(0).getMemberId() == 10L), anyString());
+
+        assertThat(count("success")).isEqualTo(6.0);
+        assertThat(count("failure")).isEqualTo(3.0);
+        assertThat(count("dropped")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("장애 중 실패한 요청은 같은 회차에 다시 전송하지 않고 지연 재시도로 넘긴다")
+    void retryNotifications_doesNotSpinOnFailures() {
+        LongStream.rangeClosed(1, 5).forEach(memberId -> backlog.add(request(memberId, 0)));
+        doThrow(new RuntimeException("503")).when(notificationServiceClient).sendNotification(any());
+
+        retryService.drain();
+
+        verify(notificationServiceClient, times(5)).sendNotification(any());
+        assertThat(backlog).isEmpty();
+        assertThat(delayed).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("지연 재시도 예약에 실패하면 실패 건을 확정하지 않고 큐에 다시 넣는다")
+    @SuppressWarnings("unchecked")
+    void retryNotifications_requeuesWhenScheduleFails() {
+        backlog.add(request(1L, 0));
+        doThrow(new RuntimeException("503")).when(notificationServiceClient).sendNotification(any());
+        doThrow(new RuntimeException("redis down")).when(delayQueue).schedule(any(), any(ToLongFunction.class));
+
+        retryService.drain();
+
+        verify(queueService).acknowledgeAll(List.of());
+        verify(queueService).requeueAll(argThat(requests -> requests.size() == 1));
+    }
+
+    @Test
+    @DisplayName("데드레터 보관에 실패하면 한도 초과 건을 확정하지 않고 큐에 다시 넣는다")
+    void retryNotifications_requeuesWhenDeadLetterFails() {
+        NotificationRequestDto exhausted = request(1L, 3);
+        backlog.add(exhausted);
+        when(deadLetterService.deadLetter(any(), anyString())).thenReturn(false);
+
+        retryService.drain();
+
+        verify(queueService).requeueAll(List.of(exhausted));
+        verify(queueService).acknowledgeAll(List.of());
+        assertThat(count("dropped")).isZero();
+    }
+
+    @Test
+    @DisplayName("서킷 브레이커가 OPEN 이면 적체 큐와 지연 재시도 큐를 꺼내지 않는다")
+    void retry_pausesWhileCircuitOpen() {
+        LongStream.rangeClosed(1, 5).forEach(memberId -> backlog.add(request(memberId, 0)));
+        when(throttle.permits(anyInt())).thenReturn(0);
+
+        retryService.drain();
+        retryService.drainDue();
+
+        verify(queueService, never()).dequeueNotifications(anyInt());
+        verify(delayQueue, never()).claimDue(anyLong(), anyInt(), anyLong());
+        verifyNoInteractions(notificationServiceClient);
+        assertThat(backlog).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 허용 수만큼만 꺼내 보내고, 배치 도중 차단된 요청은 재시도 횟수를 올리지 않고 큐에 되돌린다")
+    void retryNotifications_probesAndReturnsRejectedRequests() {
+        LongStream.rangeClosed(1, 8).forEach(memberId -> backlog.add(request(memberId, 0)));
+        when(throttle.permits(anyInt())).thenReturn(2, 0);
+        CircuitBreaker circuitBreaker = CircuitBreaker.ofDefaults("test");
+        doThrow(CallNotPermittedException.createCallNotPermittedException(circuitBreaker))
+                .when(notificationServiceClient).sendNotification(argThat(request -> request.getMemberId() == 2L));
+
+        retryService.drain();
+
+        verify(queueService).dequeueNotifications(2);
+        verify(queueService).acknowledgeAll(argThat(requests -> requests.size() == 1 && requests.get(0).getMemberId() == 1L));
+        verify(queueService).requeueAll(argThat(requests -> requests.size() == 1
+                && requests.get(0).getMemberId() == 2L && requests.get(0).getRetryCount() == 0));
+        verify(throttle).record(1, 0);
+        assertThat(delayed).isEmpty();
+        assertThat(count("rejected")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("시각이 지난 지연 재시도 요청을 선점해 재전송하고, 성공 건은 제거 · 실패 건은 다음 시각으로 다시 예약한다")
+    void retryDue_resendsClaimedRequests() {
+        NotificationRequestDto recovered = request(1L, 1);
+        NotificationRequestDto stillFailing = request(2L, 1);
+        when(delayQueue.claimDue(anyLong(), eq(BATCH_SIZE), anyLong())).thenReturn(List.of(recovered, stillFailing));
+        doThrow(new RuntimeException("503")).when(notificationServiceClient).sendNotification(stillFailing);
+
+        long before = System.currentTimeMillis();
+        retryService.drainDue();
+
+        verify(delayQueue).remove(List.of(recovered));
+        verifyNoInteractions(queueService);
+        assertThat(delayed).containsOnlyKeys(stillFailing);
+        assertThat(stillFailing.getRetryCount()).isEqualTo(2);
+        assertThat(delayed.get(stillFailing)).isBetween(before + 30_000, before + 60_000 + 1_000); // 2회차: 60초 × (0.5 ~ 1.0)
+    }
+
+    @Test
+    @DisplayName("다음 시도 간격은 재시도 횟수마다 두 배로 늘고 최대값에서 멈추며, 지터 구간 안에서 분산된다")
+    void nextAttemptAt_exponentialBackoffWithJitter() {
+        for (int retryCount = 1; retryCount <= 10; retryCount++) {
+            long delay = Math.min(1_800_000L, 30_000L << (retryCount - 1));
+            NotificationRequestDto request = request(1L, retryCount);
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < 200; i++) {
+                long attemptIn = retryService.nextAttemptAt(request, 0L);
+                min = Math.min(min, attemptIn);
+                max = Math.max(max, attemptIn);
+            }
+            assertThat(min).isGreaterThanOrEqualTo(delay / 2);
+            assertThat(max).isLessThanOrEqualTo(delay);
+            assertThat(max - min).isGreaterThan(delay / 4); // 같은 횟수의 요청도 서로 다른 시각에 재시도
+        }
+    }
+
+    @Test
+    @DisplayName("배치 내 재전송은 동시에 수행하되 동시 전송 수는 설정값을 넘지 않는다")
+    void retryNotifications_boundsConcurrency() {
+        LongStream.rangeClosed(1, 8).forEach(memberId -> backlog.add(request(memberId, 0)));
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+        doAnswer(invocation -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            inFlight.decrementAndGet();
+            return null;
+        }).when(notificationServiceClient).sendNotification(any());
+
+        retryService.drain();
+
+        assertThat(maxInFlight.get()).isEqualTo(CONCURRENCY);
+        verify(queueService, times(2)).acknowledgeAll(argThat(requests -> requests.size() == BATCH_SIZE));
+    }
+
+    @Test
+    @DisplayName("스케줄 메서드는 소진을 전용 스레드에 넘기고 곧바로 반환하며, 진행 중이면 다음 회차를 건너뛴다")
+    void retryNotifications_drainsOffSchedulerThread() throws InterruptedException {
+        backlog.add(request(1L, 0));
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> drainThread = new AtomicReference<>();
+        when(queueService.size()).thenAnswer(invocation -> {
+            drainThread.set(Thread.currentThread().getName());
+            return (long) backlog.size();
+        });
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(notificationServiceClient).sendNotification(any());
+
+        retryService.retryNotifications();
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        retryService.retryNotifications(); // 진행 중: 건너뜀
+        release.countDown();
+
+        verify(queueService, timeout(5000)).acknowledgeAll(argThat(requests -> requests.size() == 1));
+        verify(queueService, times(1)).dequeueNotifications(anyInt());
+        assertThat(drainThread.get()).isEqualTo("notification-retry-drain");
+    }
+
+    @Test
+    @DisplayName("지연 재시도 스케줄 메서드는 재전송을 전용 스레드에 넘기고 곧바로 반환하며, 진행 중이면 다음 회차를 건너뛴다")
+    void retryDue_resendsOffSchedulerThread() throws InterruptedException {
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicReference<String> claimThread = new AtomicReference<>();
+        when(delayQueue.claimDue(anyLong(), anyInt(), anyLong())).thenAnswer(invocation -> {
+            claimThread.set(Thread.currentThread().getName());
+            return List.of(request(1L, 1));
+        });
+        doAnswer(invocation -> {
+            sending.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        }).when(notificationServiceClient).sendNotification(any());
+
+        retryService.retryDue();
+        assertThat(sending.await(5, TimeUnit.SECONDS)).isTrue();
+        retryService.retryDue(); // 진행 중: 건너뜀
+        release.countDown();
+
+        verify(delayQueue, timeout(5000)).remove(argThat(requests -> requests.size() == 1));
+        verify(delayQueue, times(1)).claimDue(anyLong(), anyInt(), anyLong());
+        assertThat(claimThread.get()).isEqualTo("notification-retry-due");
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("matching.notification.retry", "result", result).count();
+    }
+
+    private NotificationRequestDto request(long memberId, int retryCount) {
+        NotificationRequestDto request = NotificationRequestDto.builder()
+                .memberId(memberId)
+                .content("알림 " + memberId)
+                .notificationType("MATCH_SUCCESS")
+                .timestamp(LocalDateTime.now())
+                .build();
+        for (int i = 0; i < retryCount; i++) {
+            request.increaseRetryCount();
+        }
+        return request;
+    }
+}
@@ -0,0 +1,69 @@
+package com.grow.matching_service.matching.application.service;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.grow.matching_service.matching.application.service.NotificationRetryThrottle.CIRCUIT_BREAKER_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationRetryThrottleTest {
+
+    private static final int BATCH_SIZE = 100;
+    private static final int PROBE_SIZE = 5;
+
+    private CircuitBreaker circuitBreaker;
+    private NotificationRetryThrottle throttle; // 테스트 대상
+
+    @BeforeEach
+    void setUp() {
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .permittedNumberOfCallsInHalfOpenState(PROBE_SIZE)
+                .build());
+        circuitBreaker = registry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        throttle = new NotificationRetryThrottle(registry, new SimpleMeterRegistry(), BATCH_SIZE);
+    }
+
+    @Test
+    @DisplayName("CLOSED 상태로 시작하면 배치 크기만큼 허용한다")
+    void permits_fullBatchWhenClosed() {
+        assertThat(throttle.permits(BATCH_SIZE)).isEqualTo(BATCH_SIZE);
+        assertThat(throttle.permits(10)).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("OPEN 이면 소진을 멈추고, HALF_OPEN 이면 시험 호출 수만큼만 허용한다")
+    void permits_pauseWhenOpenAndProbeWhenHalfOpen() {
+        circuitBreaker.transitionToOpenState();
+        assertThat(throttle.permits(BATCH_SIZE)).isZero();
+
+        circuitBreaker.transitionToHalfOpenState();
+        assertThat(throttle.permits(BATCH_SIZE)).isEqualTo(PROBE_SIZE);
+    }
+
+    @Test
+    @DisplayName("CLOSED 로 돌아오면 시험 호출 수부터 성공 회차마다 두 배씩 늘리고, 실패가 섞이면 절반으로 줄인다")
+    void record_rampsUpAfterRecovery() {
+        circuitBreaker.transitionToOpenState();
+        circuitBreaker.transitionToHalfOpenState();
+        circuitBreaker.transitionToClosedState();
+        assertThat(throttle.permits(BATCH_SIZE)).isEqualTo(PROBE_SIZE);
+
+        throttle.record(PROBE_SIZE, 0);
+        assertThat(throttle.permits(BATCH_SIZE)).isEqualTo(PROBE_SIZE * 2);
+        throttle.record(PROBE_SIZE * 2, 0);
+        assertThat(throttle.permits(BATCH_SIZE)).isEqualTo(PROBE_SIZE * 4);
+
+        throttle.record(PROBE_SIZE * 3, PROBE_SIZE);
+        assertThat(throttle.permits(BATCH_SIZE)).isEqualTo(PROBE_SIZE * 2);
+
+        for (int i = 0; i < 10; i++) {
+            throttle.record(BATCH_SIZE, 0);
+        }
+        assertThat(throttle.permits(BATCH_SIZE * 2)).isEqualTo(BATCH_SIZE); // 배치 크기에서 멈춤
+    }
+}
@@ -0,0 +1,111 @@
+package com.grow.matching_service.matching.application.service.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.matching_service.matching.application.dto.NotificationDeadLetterDto;
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.grow.matching_service.matching.application.service.queue.NotificationDeadLetterStore.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationDeadLetterStoreTest {
+
+    private static final long MAX_AGE_MILLIS = 10_000L;
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private NotificationDeadLetterStore deadLetterStore; // 테스트 대상 (최대 3건, 10초 보관)
+
+    @BeforeEach
+    void setUp() {
+        deadLetterStore = new NotificationDeadLetterStore(stringRedisTemplate, objectMapper, 3, MAX_AGE_MILLIS);
+        clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clear();
+    }
+
+    @Test
+    @DisplayName("최대 개수를 넘으면 가장 오래된 데드레터부터 제거한다")
+    void add_evictsOldestBeyondMaxSize() {
+        deadLetterStore.add(List.of(request(1L, "MATCH_SUCCESS"), request(2L, "MATCH_SUCCESS")), "재시도 횟수 초과", 1_000L);
+        long evicted = deadLetterStore.add(List.of(request(3L, "MATCH_SUCCESS"), request(4L, "MATCH_SUCCESS")), "재시도 횟수 초과", 2_000L);
+
+        assertThat(evicted).isEqualTo(1L);
+        assertThat(deadLetterStore.count(null)).isEqualTo(3L);
+        assertThat(deadLetterStore.page(null, 0, 10))
+                .extracting(deadLetter -> deadLetter.getRequest().getMemberId())
+                .doesNotContain(1L)
+                .hasSize(3);
+        assertThat(stringRedisTemplate.opsForHash().size(PAYLOAD_KEY)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("보관 기한이 지난 데드레터는 정리 시 타입 인덱스와 함께 제거된다")
+    void trim_evictsExpiredDeadLetters() {
+        deadLetterStore.add(List.of(request(1L, "MATCH_SUCCESS")), "재시도 횟수 초과", 1_000L);
+        deadLetterStore.add(List.of(request(2L, "MATCH_FAILURE")), "재시도 횟수 초과", 8_000L);
+
+        long evicted = deadLetterStore.trim(1_000L + MAX_AGE_MILLIS + 1);
+
+        assertThat(evicted).isEqualTo(1L);
+        assertThat(deadLetterStore.countByType()).containsExactly(Map.entry("MATCH_FAILURE", 1L));
+        assertThat(stringRedisTemplate.opsForSet().members(TYPES_KEY)).containsExactly("MATCH_FAILURE");
+    }
+
+    @Test
+    @DisplayName("타입별로 건수를 집계하고, 타입 · 기간 조건으로 오래된 순 조회한 뒤 제거할 수 있다")
+    void findByTypeAndRemove() {
+        NotificationRequestDto first = request(1L, "MATCH_SUCCESS");
+        NotificationRequestDto other = request(2L, "MATCH_FAILURE");
+        NotificationRequestDto second = request(3L, "MATCH_SUCCESS");
+        deadLetterStore.add(List.of(first, other), "재시도 횟수 초과", 1_000L);
+        deadLetterStore.add(List.of(second), "재시도 횟수 초과", 2_000L);
+
+        assertThat(deadLetterStore.countByType())
+                .containsExactly(Map.entry("MATCH_FAILURE", 1L), Map.entry("MATCH_SUCCESS", 2L));
+
+        List<NotificationDeadLetterDto> found = deadLetterStore.find("MATCH_SUCCESS", 0L, 2_000L, 10);
+        assertThat(found).extracting(deadLetter -> deadLetter.getRequest().getUuid())
+                .containsExactly(first.getUuid(), second.getUuid());
+        assertThat(found.get(0).getReason()).isEqualTo("재시도 횟수 초과");
+        assertThat(deadLetterStore.find("MATCH_SUCCESS", 1_500L, 2_000L, 10)).hasSize(1);
+
+        assertThat(deadLetterStore.remove(List.of(first.getUuid(), second.getUuid()))).isEqualTo(2L);
+        assertThat(deadLetterStore.countByType()).containsExactly(Map.entry("MATCH_FAILURE", 1L));
+        assertThat(deadLetterStore.count(null)).isEqualTo(1L);
+    }
+
+    private void clear() {
+        stringRedisTemplate.delete(List.of(INDEX_KEY, TYPES_KEY, PAYLOAD_KEY,
+                TYPE_INDEX_KEY + "MATCH_SUCCESS", TYPE_INDEX_KEY + "MATCH_FAILURE"));
+    }
+
+    private NotificationRequestDto request(long memberId, String notificationType) {
+        return NotificationRequestDto.builder()
+                .memberId(memberId)
+                .content("알림 " + memberId)
+                .notificationType(notificationType)
+                .timestamp(LocalDateTime.now().withNano(0))
+                .build();
+    }
+}
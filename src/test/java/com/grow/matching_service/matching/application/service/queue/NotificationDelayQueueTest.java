@@ -0,0 +1,135 @@
+package com.grow.matching_service.matching.application.service.queue;
+
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue.DELAYED_KEY;
+import static com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue.LEGACY_PAYLOAD_KEY;
+import static com.grow.matching_service.matching.application.service.queue.NotificationDelayQueue.PAYLOAD_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationDelayQueueTest {
+
+    @Autowired
+    private NotificationDelayQueue delayQueue; // 테스트 대상
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(DELAYED_KEY, PAYLOAD_KEY, LEGACY_PAYLOAD_KEY));
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(DELAYED_KEY, PAYLOAD_KEY, LEGACY_PAYLOAD_KEY));
+    }
+
+    @Test
+    @DisplayName("시도 시각이 지난 요청만 시각 순으로 선점한다")
+    void claimDue_returnsOnlyDueRequestsInOrder() {
+        NotificationRequestDto first = request(1L);
+        NotificationRequestDto second = request(2L);
+        NotificationRequestDto later = request(3L);
+        Map<String, Long> attempts = Map.of(first.getUuid(), 1_000L, second.getUuid(), 2_000L, later.getUuid(), 9_000L);
+        delayQueue.schedule(List.of(later, second, first), request -> attempts.get(request.getUuid()));
+
+        List<NotificationRequestDto> claimed = delayQueue.claimDue(5_000L, 10, 60_000L);
+
+        assertThat(claimed).containsExactly(first, second);
+        assertThat(delayQueue.size()).isEqualTo(3L); // 선점된 요청도 확정 전까지 남아 있음
+    }
+
+    @Test
+    @DisplayName("선점한 요청은 임대 시간 동안 다시 선점되지 않고, 임대가 만료되면 다시 선점된다")
+    void claimDue_leasesClaimedRequests() {
+        NotificationRequestDto request = request(1L);
+        delayQueue.schedule(List.of(request), r -> 1_000L);
+
+        assertThat(delayQueue.claimDue(1_000L, 10, 60_000L)).containsExactly(request); // 노드 A
+        assertThat(delayQueue.claimDue(30_000L, 10, 60_000L)).isEmpty();                // 노드 B: 임대 중
+        assertThat(delayQueue.claimDue(61_000L, 10, 60_000L)).containsExactly(request); // 노드 A 가 확정하지 못함
+    }
+
+    @Test
+    @DisplayName("확정한 요청은 제거되고, 다시 예약한 요청은 변경된 내용과 새 시각으로 갱신된다")
+    void removeAndReschedule_settleClaimedRequests() {
+        NotificationRequestDto delivered = request(1L);
+        NotificationRequestDto failed = request(2L);
+        delayQueue.schedule(List.of(delivered, failed), r -> 1_000L);
+        delayQueue.claimDue(1_000L, 10, 60_000L);
+
+        delayQueue.remove(List.of(delivered));
+        failed.increaseRetryCount();
+        delayQueue.schedule(List.of(failed), r -> 5_000L);
+
+        assertThat(delayQueue.size()).isEqualTo(1L);
+        assertThat(stringRedisTemplate.opsForHash().hasKey(PAYLOAD_KEY, delivered.getUuid())).isFalse();
+        assertThat(delayQueue.claimDue(4_999L, 10, 60_000L)).isEmpty();
+        assertThat(delayQueue.claimDue(5_000L, 10, 60_000L))
+                .singleElement()
+                .extracting(NotificationRequestDto::getRetryCount)
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("역직렬화할 수 없는 항목은 선점 시 제거되어 임대 만료 후 다시 선점되지 않는다")
+    void claimDue_removesUndeserializablePayload() {
+        // given
+        NotificationRequestDto request = request(1L);
+        delayQueue.schedule(List.of(request), r -> 1_000L);
+        stringRedisTemplate.opsForZSet().add(DELAYED_KEY, "broken", 1_000L);
+        stringRedisTemplate.opsForHash().put(PAYLOAD_KEY, "broken", "{not-json");
+
+        // when
+        List<NotificationRequestDto> claimed = delayQueue.claimDue(1_000L, 10, 60_000L);
+
+        // then
+        assertThat(claimed).containsExactly(request);
+        assertThat(stringRedisTemplate.opsForZSet().score(DELAYED_KEY, "broken")).isNull();
+        assertThat(stringRedisTemplate.opsForHash().hasKey(PAYLOAD_KEY, "broken")).isFalse();
+        assertThat(delayQueue.size()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("해시 태그 적용 전 내용 키에 남은 항목을 옮겨 선점할 수 있다")
+    void drainLegacyPayloads_movesPayloadsIntoTaggedKey() {
+        // given: 이전 버전이 예약한 항목
+        NotificationRequestDto request = request(1L);
+        delayQueue.schedule(List.of(request), r -> 1_000L);
+        Object payload = stringRedisTemplate.opsForHash().get(PAYLOAD_KEY, request.getUuid());
+        stringRedisTemplate.delete(PAYLOAD_KEY);
+        stringRedisTemplate.opsForHash().put(LEGACY_PAYLOAD_KEY, request.getUuid(), String.valueOf(payload));
+
+        // when
+        int moved = delayQueue.drainLegacyPayloads();
+
+        // then
+        assertThat(moved).isEqualTo(1);
+        assertThat(stringRedisTemplate.hasKey(LEGACY_PAYLOAD_KEY)).isFalse();
+        assertThat(delayQueue.claimDue(1_000L, 10, 60_000L)).containsExactly(request);
+    }
+
+    private NotificationRequestDto request(long memberId) {
+        return NotificationRequestDto.builder()
+                .memberId(memberId)
+                .content("알림 " + memberId)
+                .notificationType("MATCH_SUCCESS")
+                .timestamp(LocalDateTime.now().withNano(0))
+                .build();
+    }
+}
@@ -21,7 +21,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 
 @Slf4j
-@SpringBootTest
+@SpringBootTest(properties = "notification.retry-queue.type=list")
 @ActiveProfiles("test")
 class QueueServiceImplTest {
 
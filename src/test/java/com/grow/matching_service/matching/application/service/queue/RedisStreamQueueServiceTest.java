@@ -0,0 +1,171 @@
+package com.grow.matching_service.matching.application.service.queue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.grow.matching_service.matching.application.service.queue.RedisStreamQueueService.GROUP;
+import static com.grow.matching_service.matching.application.service.queue.RedisStreamQueueService.LEGACY_QUEUE_KEY;
+import static com.grow.matching_service.matching.application.service.queue.RedisStreamQueueService.LEGACY_SET_KEY;
+import static com.grow.matching_service.matching.application.service.queue.RedisStreamQueueService.SET_KEY;
+import static com.grow.matching_service.matching.application.service.queue.RedisStreamQueueService.STREAM_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RedisStreamQueueServiceTest {
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Autowired
+    private RedisTemplate<String, NotificationRequestDto> dtoRedisTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private RedisStreamQueueService podA;
+    private RedisStreamQueueService podB;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(List.of(STREAM_KEY, SET_KEY, LEGACY_QUEUE_KEY, LEGACY_SET_KEY));
+        // 비동기 프록시 없이 직접 생성 (두 파드를 흉내내기 위해 소비자 이름만 다르게)
+        podA = new RedisStreamQueueService(stringRedisTemplate, dtoRedisTemplate, objectMapper, "pod-a", 60_000);
+        podB = new RedisStreamQueueService(stringRedisTemplate, dtoRedisTemplate, objectMapper, "pod-b", 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stringRedisTemplate.delete(List.of(STREAM_KEY, SET_KEY, LEGACY_QUEUE_KEY, LEGACY_SET_KEY));
+    }
+
+    @Test
+    @DisplayName("같은 uuid 는 한 번만 스트림에 추가된다")
+    void enqueue_keepsUuidDedupe() {
+        NotificationRequestDto dto = dto("알림");
+
+        podA.enqueueNotification(dto);
+        podA.enqueueNotification(dto);
+        podB.enqueueNotification(dto);
+
+        assertThat(stringRedisTemplate.opsForStream().size(STREAM_KEY)).isEqualTo(1L);
+        assertThat(stringRedisTemplate.opsForSet().size(SET_KEY)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("여러 소비자는 새 레코드를 나누어 꺼내고, 확정하면 스트림과 Set 에서 제거된다")
+    void dequeue_splitsRecordsAcrossConsumers() {
+        for (int i = 0; i < 4; i++) {
+            podA.enqueueNotification(dto("알림 " + i));
+        }
+
+        List<NotificationRequestDto> first = podA.dequeueNotifications(2);
+        List<NotificationRequestDto> second = podB.dequeueNotifications(10);
+
+        assertThat(first).extracting(NotificationRequestDto::getContent).containsExactly("알림 0", "알림 1");
+        assertThat(second).extracting(NotificationRequestDto::getContent).containsExactly("알림 2", "알림 3");
+
+        first.forEach(podA::acknowledge);
+        second.forEach(podB::acknowledge);
+
+        assertThat(stringRedisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+        assertThat(stringRedisTemplate.opsForSet().size(SET_KEY)).isZero();
+        assertThat(stringRedisTemplate.opsForStream().pending(STREAM_KEY, GROUP).getTotalPendingMessages()).isZero();
+    }
+
+    @Test
+    @DisplayName("확정되지 않은 레코드는 다른 소비자가 회수하여 다시 처리한다")
+    void dequeue_reclaimsUnacknowledgedRecords() {
+        NotificationRequestDto dto = dto("알림");
+        podA.enqueueNotification(dto);
+
+        NotificationRequestDto taken = podA.dequeueNotification(); // pod-a 가 꺼낸 뒤 확정 전에 종료되었다고 가정
+        assertThat(podB.dequeueNotification()).isNull(); // 회수 대기 시간 전에는 가져가지 않음
+
+        RedisStreamQueueService podC = new RedisStreamQueueService(stringRedisTemplate, dtoRedisTemplate, objectMapper, "pod-c", 0);
+        NotificationRequestDto reclaimed = podC.dequeueNotification();
+
+        assertThat(taken).isEqualTo(dto);
+        assertThat(reclaimed).isEqualTo(dto);
+
+        podC.acknowledge(reclaimed);
+        assertThat(stringRedisTemplate.opsForStream().size(STREAM_KEY)).isZero();
+        assertThat(stringRedisTemplate.opsForSet().size(SET_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("다시 넣은 요청은 변경된 재시도 횟수와 함께 한 건만 남고, uuid 중복 체크도 유지된다")
+    void requeue_replacesRecordAndKeepsDedupe() {
+        NotificationRequestDto dto = dto("알림");
+        podA.enqueueNotification(dto);
+
+        NotificationRequestDto taken = podA.dequeueNotification();
+        taken.increaseRetryCount();
+        podA.requeue(taken);
+        podB.enqueueNotification(dto); // 대기 중인 uuid 는 다시 추가되지 않음
+
+        assertThat(stringRedisTemplate.opsForStream().size(STREAM_KEY)).isEqualTo(1L);
+        NotificationRequestDto again = podB.dequeueNotification();
+        assertThat(again.getUuid()).isEqualTo(dto.getUuid());
+        assertThat(again.getRetryCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 소비자가 회수해 이미 확정한 레코드는 다시 넣어도 중복으로 추가되지 않는다")
+    void requeue_skipsRecordAlreadySettledByReclaimer() {
+        NotificationRequestDto dto = dto("알림");
+        podA.enqueueNotification(dto);
+
+        NotificationRequestDto taken = podA.dequeueNotification();
+        RedisStreamQueueService podC = new RedisStreamQueueService(stringRedisTemplate, dtoRedisTemplate, objectMapper, "pod-c", 0);
+        NotificationRequestDto reclaimed = podC.dequeueNotification();
+        reclaimed.increaseRetryCount();
+        podC.requeue(reclaimed);
+
+        podA.requeue(taken); // 뒤늦게 처리를 마친 pod-a 의 재추가
+
+        assertThat(stringRedisTemplate.opsForStream().size(STREAM_KEY)).isEqualTo(1L);
+        assertThat(stringRedisTemplate.opsForSet().isMember(SET_KEY, dto.getUuid())).isTrue();
+    }
+
+    @Test
+    @DisplayName("이전 LIST 큐에 남은 요청은 오래된 순으로 스트림에 옮겨져 다시 꺼낼 수 있다")
+    void drainLegacyQueue_movesListEntriesIntoStream() {
+        // 이전 LIST 구현과 같은 방식으로 저장 (uuid 는 LIST 구현의 Set 에 있음)
+        List<NotificationRequestDto> legacy = List.of(dto("알림 0"), dto("알림 1"), dto("알림 2"));
+        legacy.forEach(request -> {
+            stringRedisTemplate.opsForSet().add(LEGACY_SET_KEY, request.getUuid());
+            dtoRedisTemplate.opsForList().leftPush(LEGACY_QUEUE_KEY, request);
+        });
+
+        assertThat(podA.drainLegacyQueue()).isEqualTo(3);
+
+        assertThat(stringRedisTemplate.hasKey(LEGACY_QUEUE_KEY)).isFalse();
+        assertThat(stringRedisTemplate.hasKey(LEGACY_SET_KEY)).isFalse();
+        List<NotificationRequestDto> taken = podA.dequeueNotifications(10);
+        assertThat(taken).extracting(NotificationRequestDto::getContent).containsExactly("알림 0", "알림 1", "알림 2");
+
+        podA.acknowledgeAll(taken);
+        assertThat(stringRedisTemplate.opsForSet().size(SET_KEY)).isZero();
+    }
+
+    private NotificationRequestDto dto(String content) {
+        return NotificationRequestDto.builder()
+                .memberId(1L)
+                .content(content)
+                .notificationType("MATCH_SUCCESS")
+                .timestamp(LocalDateTime.now().withNano(0))
+                .build();
+    }
+}
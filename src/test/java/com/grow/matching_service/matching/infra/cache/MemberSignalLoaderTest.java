@@ -0,0 +1,123 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberSignalLoaderTest {
+
+    private static final WireMockServer memberService = startMemberService();
+
+    @Autowired
+    private MemberSignalLoader memberSignalLoader; // 테스트 대상
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private RedisTemplate<String, Boolean> booleanRedisTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Double> doubleRedisTemplate;
+
+    private static WireMockServer startMemberService() {
+        WireMockServer server = new WireMockServer(options().dynamicPort());
+        server.start();
+        return server;
+    }
+
+    @DynamicPropertySource
+    static void memberServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("member.service.url", memberService::baseUrl);
+    }
+
+    @AfterAll
+    static void stopMemberService() {
+        memberService.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        doubleRedisTemplate.getConnectionFactory().getConnection().flushDb();
+        memberService.resetAll();
+
+        // 1번 회원만 Redis 에 존재, 2·3번은 회원 서비스에 존재, 4번은 어디에도 없음
+        doubleRedisTemplate.opsForValue().set(TRUST_KEY + 1, 10.0);
+        booleanRedisTemplate.opsForValue().set(SUB_KEY + 1, true);
+        memberService.stubFor(post(urlEqualTo("/members/signals/bulk"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withHeader("Content-Type", "application/json")
+                        .withBody("""
+                                [
+                                  {"memberId": 2, "trustScore": 20.0, "subscribed": true},
+                                  {"memberId": 3, "trustScore": 30.0, "subscribed": false}
+                                ]
+                                """)));
+    }
+
+    @Test
+    @DisplayName("캐시 미스 회원은 회원 서비스 일괄 요청 1회로 채우고 Redis 에 기록한다")
+    void load_fetchesMissesInSingleBulkRequest() {
+        double missesBefore = meterRegistry.counter("matching.signal.cache.miss").count();
+
+        MemberSignalLoader.MemberSignals signals = memberSignalLoader.load(List.of(1L, 2L, 3L, 4L));
+
+        assertThat(signals.getTrustScores()).isEqualTo(Map.of(1L, 10.0, 2L, 20.0, 3L, 30.0));
+        assertThat(signals.getSubscriptions()).isEqualTo(Map.of(1L, true, 2L, true, 3L, false));
+
+        // Redis 에 없는 회원만 한 번에 요청
+        memberService.verify(1, postRequestedFor(urlEqualTo("/members/signals/bulk"))
+                .withRequestBody(equalToJson("{\"memberIds\": [2, 3, 4]}")));
+        assertThat(meterRegistry.counter("matching.signal.cache.miss").count() - missesBefore).isEqualTo(3.0);
+
+        // 다음 조회부터는 Redis 에서 조회
+        assertThat(doubleRedisTemplate.opsForValue().get(TRUST_KEY + 2)).isEqualTo(20.0);
+        assertThat(booleanRedisTemplate.opsForValue().get(SUB_KEY + 3)).isFalse();
+    }
+
+    @Test
+    @DisplayName("회원 서비스에도 없는 회원은 음수 캐싱되어 다시 요청하지 않는다")
+    void load_negativelyCachesUnknownMembers() {
+        memberSignalLoader.load(List.of(5L));
+        double negativeHitsBefore = meterRegistry.counter("matching.signal.negative.hit").count();
+
+        MemberSignalLoader.MemberSignals signals = memberSignalLoader.load(List.of(5L));
+
+        assertThat(signals.getTrustScores()).isEmpty();
+        memberService.verify(1, postRequestedFor(urlEqualTo("/members/signals/bulk")));
+        assertThat(meterRegistry.counter("matching.signal.negative.hit").count() - negativeHitsBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("회원 서비스 오류 시 예외 없이 Redis 조회 결과만 반환한다")
+    void load_returnsCachedSignalsWhenUpstreamFails() {
+        memberService.stubFor(post(urlEqualTo("/members/signals/bulk"))
+                .willReturn(aResponse().withStatus(500)));
+
+        MemberSignalLoader.MemberSignals signals = memberSignalLoader.load(List.of(1L, 6L));
+
+        assertThat(signals.getTrustScores()).isEqualTo(Map.of(1L, 10.0));
+        assertThat(signals.getSubscriptions()).isEqualTo(Map.of(1L, true));
+    }
+}
@@ -0,0 +1,222 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import com.grow.matching_service.matching.infra.cache.MemberSignalMigrator.MigrationResult;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.LongStream;
+
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_BITMAP_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberSignalMigratorTest {
+
+    private static final int MEMBER_COUNT = 20_000;
+
+    @Autowired
+    private MemberSignalMigrator memberSignalMigrator; // 테스트 대상
+
+    @Autowired
+    private MemberSignalStore memberSignalStore;
+
+    @Autowired
+    private MemberRankingScript memberRankingScript;
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Boolean> booleanRedisTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Double> doubleRedisTemplate;
+
+    private final List<Long> memberIds = LongStream.rangeClosed(1, MEMBER_COUNT).boxed().toList();
+
+    @BeforeEach
+    void setUp() {
+        flushDb();
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(memberSignalStore, "layout", MemberSignalLayout.KEY);
+    }
+
+    @Test
+    @DisplayName("이관 후 BUCKETED · DUAL 조회 결과는 기존 KEY 조회 결과와 같다")
+    void migrate_preservesSignals() {
+        // given: 짝수 회원만 신뢰도, 3의 배수 회원만 구독 여부 저장
+        writeLegacySignals();
+        Map<Long, Double> expectedTrust = read(MemberSignalLayout.KEY).trustScores();
+        Map<Long, Boolean> expectedSubscriptions = read(MemberSignalLayout.KEY).subscriptions();
+
+        // when
+        MigrationResult result = memberSignalMigrator.migrate();
+
+        // then
+        assertThat(result.getTrustScores()).isEqualTo(MEMBER_COUNT / 2);
+        assertThat(result.getSubscriptions()).isEqualTo(MEMBER_COUNT / 3);
+
+        assertThat(read(MemberSignalLayout.BUCKETED).trustScores()).isEqualTo(expectedTrust);
+        assertThat(read(MemberSignalLayout.DUAL).trustScores()).isEqualTo(expectedTrust);
+        assertThat(read(MemberSignalLayout.DUAL).subscriptions()).isEqualTo(expectedSubscriptions);
+
+        // 비트맵은 미설정과 false 를 구분하지 않으므로 구독 회원만 true
+        Map<Long, Boolean> bitmap = read(MemberSignalLayout.BUCKETED).subscriptions();
+        memberIds.forEach(memberId ->
+                assertThat(bitmap.get(memberId)).isEqualTo(expectedSubscriptions.getOrDefault(memberId, false)));
+    }
+
+    @Test
+    @DisplayName("DUAL 조회는 아직 이관되지 않은 회원을 기존 키에서 읽는다")
+    void dualRead_fallsBackToLegacyKeys() {
+        // given: 이관 이후 기존 키 구조로만 추가된 회원
+        writeLegacySignals();
+        memberSignalMigrator.migrate();
+        long lateMemberId = MEMBER_COUNT + 1L;
+        doubleRedisTemplate.opsForValue().set(TRUST_KEY + lateMemberId, 42.5);
+        booleanRedisTemplate.opsForValue().set(SUB_KEY + lateMemberId, true);
+
+        // when
+        Signals dual = read(MemberSignalLayout.DUAL, List.of(2L, lateMemberId));
+
+        // then
+        assertThat(dual.trustScores()).containsEntry(2L, 0.2).containsEntry(lateMemberId, 42.5);
+        assertThat(dual.subscriptions()).containsEntry(lateMemberId, true);
+    }
+
+    @Test
+    @DisplayName("DUAL 조회는 이관된 회원의 구독 해지를 기존 키의 true 보다 우선한다")
+    void dualRead_prefersBitmapForMigratedMembers() {
+        // given: 이관 후 비트맵에서만 구독 해지된 회원 (기존 키에는 true 가 남아 있음)
+        writeLegacySignals();
+        memberSignalMigrator.migrate();
+        stringRedisTemplate.opsForValue().setBit(SUB_BITMAP_KEY, 6L, false);
+
+        // when
+        Signals dual = read(MemberSignalLayout.DUAL, List.of(6L, 12L));
+
+        // then
+        assertThat(booleanRedisTemplate.opsForValue().get(SUB_KEY + 6L)).isTrue();
+        assertThat(dual.subscriptions()).containsEntry(6L, false).containsEntry(12L, true);
+    }
+
+    @Test
+    @DisplayName("서버 측 재정렬 스크립트는 이관 후 BUCKETED · DUAL 구조에서도 KEY 구조와 같은 순위를 반환한다")
+    void rankingScript_readsCurrentLayout() {
+        // given: 동일 회원 중복 + 신뢰도 0 동점을 포함한 후보 300명
+        writeLegacySignals();
+        List<Long> candidates = LongStream.rangeClosed(1, 300).map(i -> (i * 7) % 120 + 1).boxed().toList();
+        List<Integer> expected = memberRankingScript.rankTop(candidates, 20);
+
+        // when: 이관 후 DUAL, 기존 키 삭제 후 BUCKETED
+        memberSignalMigrator.migrate();
+        ReflectionTestUtils.setField(memberSignalStore, "layout", MemberSignalLayout.DUAL);
+        List<Integer> dual = memberRankingScript.rankTop(candidates, 20);
+        deleteLegacySignals();
+        ReflectionTestUtils.setField(memberSignalStore, "layout", MemberSignalLayout.BUCKETED);
+        List<Integer> bucketed = memberRankingScript.rankTop(candidates, 20);
+
+        // then
+        assertThat(dual).isEqualTo(expected);
+        assertThat(bucketed).isEqualTo(expected);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[비교] 회원 2만 명 기준 KEY 구조와 BUCKETED 구조의 메모리 · 조회 지연 비교")
+    void compare_memoryAndLatency() {
+        // KEY 구조 메모리
+        writeLegacySignals();
+        long keyMemory = usedMemory();
+
+        // BUCKETED 구조 메모리 (이관 후 기존 키 삭제)
+        memberSignalMigrator.migrate();
+        deleteLegacySignals();
+        long bucketedMemory = usedMemory();
+
+        // 조회 지연 (후보 2,000명, 각 구조 5회 평균)
+        writeLegacySignals();
+        List<Long> candidates = memberIds.subList(0, 2000);
+        long keyNanos = measure(MemberSignalLayout.KEY, candidates);
+        long bucketedNanos = measure(MemberSignalLayout.BUCKETED, candidates);
+
+        log.info("[비교] 회원 {}명 - 메모리 KEY: {}KB, BUCKETED: {}KB / 후보 2,000명 조회 KEY: {}us, BUCKETED: {}us",
+                MEMBER_COUNT, keyMemory / 1024, bucketedMemory / 1024, keyNanos / 1000, bucketedNanos / 1000);
+        assertThat(bucketedMemory).isLessThan(keyMemory);
+    }
+
+    private void writeLegacySignals() {
+        Map<String, Double> trustScores = new HashMap<>();
+        Map<String, Boolean> subscriptions = new HashMap<>();
+        for (Long memberId : memberIds) {
+            if (memberId % 2 == 0) {
+                trustScores.put(TRUST_KEY + memberId, memberId / 10.0);
+            }
+            if (memberId % 3 == 0) {
+                subscriptions.put(SUB_KEY + memberId, memberId % 6 == 0);
+            }
+        }
+        doubleRedisTemplate.opsForValue().multiSet(trustScores);
+        booleanRedisTemplate.opsForValue().multiSet(subscriptions);
+    }
+
+    private void deleteLegacySignals() {
+        stringRedisTemplate.delete(memberIds.stream().map(id -> TRUST_KEY + id).toList());
+        stringRedisTemplate.delete(memberIds.stream().map(id -> SUB_KEY + id).toList());
+    }
+
+    private long measure(MemberSignalLayout layout, List<Long> candidates) {
+        read(layout, candidates); // 워밍업
+        long start = System.nanoTime();
+        for (int i = 0; i < 5; i++) {
+            read(layout, candidates);
+        }
+        return (System.nanoTime() - start) / 5;
+    }
+
+    private Signals read(MemberSignalLayout layout) {
+        return read(layout, memberIds);
+    }
+
+    private Signals read(MemberSignalLayout layout, List<Long> ids) {
+        ReflectionTestUtils.setField(memberSignalStore, "layout", layout);
+        return new Signals(memberSignalStore.getTrustScores(ids), memberSignalStore.getSubscriptions(ids));
+    }
+
+    private long usedMemory() {
+        Properties info = stringRedisTemplate.execute((RedisCallback<Properties>) connection ->
+                connection.serverCommands().info("memory"));
+        return Long.parseLong(info.getProperty("used_memory"));
+    }
+
+    private void flushDb() {
+        stringRedisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+    }
+
+    private record Signals(Map<Long, Double> trustScores, Map<Long, Boolean> subscriptions) {
+    }
+}
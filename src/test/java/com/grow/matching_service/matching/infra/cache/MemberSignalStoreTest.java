@@ -0,0 +1,154 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.repository.MatchingCandidateRanker;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class MemberSignalStoreTest {
+
+    private static final int CANDIDATE_COUNT = 2000;
+
+    @Autowired
+    private MemberSignalStore memberSignalStore; // 테스트 대상
+
+    @Autowired
+    private MemberRankingScript memberRankingScript; // 테스트 대상
+
+    @Autowired
+    private MatchingCandidateRanker candidateRanker;
+
+    @Autowired
+    private RedisTemplate<String, Boolean> booleanRedisTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Double> doubleRedisTemplate;
+
+    private List<Long> memberIds;
+
+    @BeforeEach
+    void setUp() {
+        doubleRedisTemplate.getConnectionFactory().getConnection().flushDb();
+
+        // 짝수 회원만 신뢰도 점수, 3의 배수 회원만 구독 여부 저장 (나머지는 캐시 미스)
+        memberIds = LongStream.rangeClosed(1, CANDIDATE_COUNT).boxed().toList();
+        Map<String, Double> trustScores = new HashMap<>();
+        Map<String, Boolean> subscriptions = new HashMap<>();
+        for (Long memberId : memberIds) {
+            if (memberId % 2 == 0) {
+                trustScores.put(TRUST_KEY + memberId, memberId / 10.0);
+            }
+            if (memberId % 3 == 0) {
+                subscriptions.put(SUB_KEY + memberId, memberId % 6 == 0);
+            }
+        }
+        doubleRedisTemplate.opsForValue().multiSet(trustScores);
+        booleanRedisTemplate.opsForValue().multiSet(subscriptions);
+    }
+
+    @Test
+    @DisplayName("일괄 조회 결과는 회원별 GET 결과와 같고, 값이 없는 회원은 제외된다")
+    void bulkLookup_equalsPerKeyLookup() {
+        // when
+        Map<Long, Double> trustScores = memberSignalStore.getTrustScores(memberIds);
+        Map<Long, Boolean> subscriptions = memberSignalStore.getSubscriptions(memberIds);
+
+        // then
+        assertThat(trustScores).hasSize(CANDIDATE_COUNT / 2);
+        assertThat(subscriptions).hasSize(CANDIDATE_COUNT / 3);
+        for (Long memberId : memberIds) {
+            assertThat(trustScores.get(memberId)).isEqualTo(doubleRedisTemplate.opsForValue().get(TRUST_KEY + memberId));
+            assertThat(subscriptions.get(memberId)).isEqualTo(booleanRedisTemplate.opsForValue().get(SUB_KEY + memberId));
+        }
+    }
+
+    @Test
+    @DisplayName("서버 측 재정렬 스크립트 결과는 JVM 정렬 후 상위 20명과 같다")
+    void rankingScript_equalsJvmSort() {
+        // given: 동일 회원 중복 + 캐시 미스(신뢰도 0) 동점을 포함한 후보 300명
+        List<MatchingResult> candidates = LongStream.rangeClosed(1, 300)
+                .map(i -> (i * 7) % 120 + 1)
+                .mapToObj(memberId -> new MatchingResult(memberId, memberId, Category.STUDY, MostActiveTime.MORNING,
+                        Level.SEED, Age.TWENTIES, true, null, MatchingStatus.ACTIVE, 2))
+                .toList();
+
+        // when
+        List<Integer> positions = memberRankingScript.rankTop(
+                candidates.stream().map(MatchingResult::getMemberId).toList(), 20);
+
+        // then
+        assertThat(positions.stream().map(candidates::get).toList())
+                .containsExactlyElementsOf(candidateRanker.sortCandidatesByTrustAndSubscription(candidates).subList(0, 20));
+    }
+
+    @Test
+    @DisplayName("read-through 로더가 채운 신호는 TTL 과 함께 기록된다")
+    void putSignals_writesWithTtl() {
+        // when
+        memberSignalStore.putSignals(Map.of(5001L, 4.5), Map.of(5001L, true));
+
+        // then
+        assertThat(doubleRedisTemplate.opsForValue().get(TRUST_KEY + 5001L)).isEqualTo(4.5);
+        assertThat(booleanRedisTemplate.opsForValue().get(SUB_KEY + 5001L)).isTrue();
+        assertThat(doubleRedisTemplate.getExpire(TRUST_KEY + 5001L)).isPositive();
+        assertThat(booleanRedisTemplate.getExpire(SUB_KEY + 5001L)).isPositive();
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("[벤치마크] 후보 2,000명 기준 회원별 GET 과 MGET 일괄 조회 비교")
+    void benchmark_perKeyVsBulk() {
+        int rounds = 5;
+        perKeyLookup(); // 워밍업
+        bulkLookup();
+
+        long perKeyNanos = 0;
+        long bulkNanos = 0;
+        for (int i = 0; i < rounds; i++) {
+            long start = System.nanoTime();
+            perKeyLookup();
+            perKeyNanos += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            bulkLookup();
+            bulkNanos += System.nanoTime() - start;
+        }
+
+        log.info("[벤치마크] 후보 {}명 - 회원별 GET: {}ms, MGET 일괄 조회: {}ms (평균, {}회)",
+                CANDIDATE_COUNT, perKeyNanos / rounds / 1_000_000, bulkNanos / rounds / 1_000_000, rounds);
+    }
+
+    // 기존 방식: 후보마다 GET 2회 (왕복 4,000회)
+    private void perKeyLookup() {
+        for (Long memberId : memberIds) {
+            doubleRedisTemplate.opsForValue().get(TRUST_KEY + memberId);
+            booleanRedisTemplate.opsForValue().get(SUB_KEY + memberId);
+        }
+    }
+
+    // 일괄 조회: 신호 종류당 MGET 1회 (왕복 2회)
+    private void bulkLookup() {
+        memberSignalStore.getTrustScores(memberIds);
+        memberSignalStore.getSubscriptions(memberIds);
+    }
+}
@@ -0,0 +1,72 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemberSignalTableTest {
+
+    @Test
+    @DisplayName("확장과 덮어쓰기, 삭제 이후에도 HashMap 과 동일한 값을 반환한다")
+    void matchesHashMap() {
+        // given: 초기 용량보다 훨씬 많은 회원을 무작위로 추가 · 수정 · 삭제
+        MemberSignalTable table = new MemberSignalTable(0);
+        Map<Long, Double> trustScores = new HashMap<>();
+        Map<Long, Boolean> subscriptions = new HashMap<>();
+        Random random = new Random(11);
+
+        for (int i = 0; i < 50_000; i++) {
+            long memberId = 1 + random.nextInt(20_000);
+            switch (random.nextInt(4)) {
+                case 0 -> {
+                    double trustScore = random.nextInt(10_000) / 100.0;
+                    table.putTrustScore(memberId, trustScore);
+                    trustScores.put(memberId, trustScore);
+                }
+                case 1 -> {
+                    boolean subscribed = random.nextBoolean();
+                    table.putSubscription(memberId, subscribed);
+                    subscriptions.put(memberId, subscribed);
+                }
+                case 2 -> {
+                    table.removeTrustScore(memberId);
+                    trustScores.remove(memberId);
+                }
+                default -> {
+                    table.removeSubscription(memberId);
+                    subscriptions.remove(memberId);
+                }
+            }
+        }
+
+        // then
+        for (long memberId = 0; memberId <= 20_001; memberId++) {
+            Double trustScore = trustScores.get(memberId);
+            if (trustScore == null) {
+                assertThat(table.trustScore(memberId)).isNaN();
+            } else {
+                assertThat(table.trustScore(memberId)).isEqualTo(trustScore);
+            }
+
+            Boolean subscribed = subscriptions.get(memberId);
+            assertThat(table.subscription(memberId))
+                    .isEqualTo(subscribed == null ? MemberSignalTable.UNKNOWN : (subscribed ? 1 : 0));
+        }
+    }
+
+    @Test
+    @DisplayName("float 로는 같아지는 신뢰도 점수도 Redis 값 그대로 구분한다")
+    void keepsFullPrecision() {
+        MemberSignalTable table = new MemberSignalTable(0);
+        table.putTrustScore(1L, 87.12345671);
+        table.putTrustScore(2L, 87.12345674);
+
+        assertThat(table.trustScore(1L)).isEqualTo(87.12345671);
+        assertThat(table.trustScore(2L)).isGreaterThan(table.trustScore(1L));
+    }
+}
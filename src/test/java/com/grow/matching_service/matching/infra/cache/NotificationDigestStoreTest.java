@@ -0,0 +1,55 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static com.grow.matching_service.matching.infra.cache.NotificationDigestStore.DUE_KEY;
+import static com.grow.matching_service.matching.infra.cache.NotificationDigestStore.ENTRIES_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationDigestStoreTest {
+
+    @Autowired
+    private NotificationDigestStore digestStore; // 테스트 대상
+
+    @Autowired
+    private RedisTemplate<String, String> stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(DUE_KEY);
+        stringRedisTemplate.delete(ENTRIES_KEY + 1);
+        stringRedisTemplate.delete(ENTRIES_KEY + 2);
+    }
+
+    @Test
+    @DisplayName("여러 노드에서 넘긴 항목은 수신자별로 합쳐지고, 첫 발송 시각을 유지한다")
+    void spill_mergesEntriesAndKeepsFirstDueTime() {
+        digestStore.spill(Map.of(1L, Map.of(10L, 80)), Map.of(1L, 1_000L)); // 노드 A
+        digestStore.spill(Map.of(1L, Map.of(11L, 90), 2L, Map.of(10L, 70)), Map.of(1L, 5_000L, 2L, 5_000L)); // 노드 B
+
+        assertThat(digestStore.claimDue(4_999L, 100)).containsOnlyKeys(1L); // 1번은 노드 A 의 발송 시각 유지
+        assertThat(digestStore.claimDue(5_000L, 100)).isEqualTo(Map.of(2L, Map.of(10L, 70)));
+    }
+
+    @Test
+    @DisplayName("선점한 수신자는 Redis 에서 제거되어 다시 선점되지 않는다")
+    void claimDue_removesClaimedRecipients() {
+        digestStore.spill(Map.of(1L, Map.of(10L, 80, 11L, 90)), Map.of(1L, 1_000L));
+
+        Map<Long, Map<Long, Integer>> claimed = digestStore.claimDue(1_000L, 100);
+
+        assertThat(claimed).isEqualTo(Map.of(1L, Map.of(10L, 80, 11L, 90)));
+        assertThat(digestStore.claimDue(1_000L, 100)).isEmpty();
+        assertThat(stringRedisTemplate.hasKey(ENTRIES_KEY + 1)).isFalse();
+    }
+}
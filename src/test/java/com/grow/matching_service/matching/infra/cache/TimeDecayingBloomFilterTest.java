@@ -0,0 +1,76 @@
+package com.grow.matching_service.matching.infra.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeDecayingBloomFilterTest {
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    @DisplayName("horizon 이내에 다시 기록한 키는 중복으로 판정한다")
+    void putIfAbsent_detectsRepeatWithinHorizon() {
+        TimeDecayingBloomFilter filter = filter(1000, 0.01, 4);
+
+        assertThat(filter.putIfAbsent(1L, 2L, 0L)).isTrue();
+        now.set(999);
+        assertThat(filter.putIfAbsent(1L, 2L, 0L)).isFalse();
+        assertThat(filter.putIfAbsent(2L, 1L, 0L)).isTrue(); // 순서가 다르면 다른 키
+    }
+
+    @Test
+    @DisplayName("horizon 이후 세대가 회전하면 키를 잊는다")
+    void putIfAbsent_forgetsAfterHorizon() {
+        TimeDecayingBloomFilter filter = filter(1000, 0.01, 4); // 회전 간격 1000 / 3 = 333ms
+
+        assertThat(filter.putIfAbsent(1L, 2L, 0L)).isTrue();
+        now.set(1000); // 3회 회전: 아직 마지막 세대에 남아 있음
+        assertThat(filter.putIfAbsent(1L, 2L, 0L)).isFalse();
+        now.set(1400); // 4회 회전 (horizon × G / (G - 1) ≈ 1332ms 경과): 마지막 세대에서 제거
+        assertThat(filter.mightContain(1L, 2L, 0L)).isFalse();
+        assertThat(filter.putIfAbsent(1L, 2L, 0L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("horizon 당 예상 삽입 수를 꾸준히 넣어도 오탐률은 설정값 수준으로 유지된다")
+    void falsePositiveRate_staysNearTarget() {
+        int expected = 30_000; // horizon(1000ms) 당 예상 삽입 수 → 회전 간격(333ms)당 10,000건
+        TimeDecayingBloomFilter filter = filter(expected, 0.01, 4);
+        long key = 0;
+        for (int interval = 0; interval < 6; interval++) { // 세대가 모두 채워진 정상 상태까지 진행
+            for (int i = 0; i < expected / 3; i++, key++) {
+                filter.putIfAbsent(key, key + 1, 0L);
+            }
+            now.addAndGet(334);
+        }
+
+        int falsePositives = 0;
+        int probes = 100_000;
+        for (long i = 0; i < probes; i++) {
+            if (filter.mightContain(10_000_000 + i, i, 1L)) {
+                falsePositives++;
+            }
+        }
+
+        assertThat((double) falsePositives / probes).isLessThan(0.02);
+    }
+
+    @Test
+    @DisplayName("메모리는 예상 삽입 수와 오탐률로 고정된다")
+    void memoryBytes_boundedByConfiguration() {
+        TimeDecayingBloomFilter filter = filter(1_000_000, 0.01, 4);
+
+        // 세대당 약 333,334건 × 오탐률 0.25% → 약 4.2M 비트 (520KB) × 4세대
+        assertThat(filter.memoryBytes()).isBetween(1_500_000L, 2_500_000L);
+        assertThat(filter.getHashCount()).isBetween(7, 10);
+    }
+
+    private TimeDecayingBloomFilter filter(long expected, double fpp, int generations) {
+        return new TimeDecayingBloomFilter(expected, fpp, Duration.ofMillis(1000), generations, now::get);
+    }
+}
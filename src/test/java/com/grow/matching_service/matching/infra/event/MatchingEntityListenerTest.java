@@ -0,0 +1,100 @@
+package com.grow.matching_service.matching.infra.event;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.domain.model.Matching;
+import com.grow.matching_service.matching.domain.repository.MatchingRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "matching.event.outbox.poll-interval-ms=3600000") // 아웃박스 기록 확인을 위해 릴레이 정지
+@ActiveProfiles("test")
+class MatchingEntityListenerTest {
+
+    private static final Long MEMBER_ID = 201L;
+
+    @Autowired
+    private MatchingRepository matchingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long matchingId;
+
+    @BeforeEach
+    void setUp() {
+        Matching saved = transactionTemplate.execute(status -> matchingRepository.save(Matching.createNew(
+                MEMBER_ID, Category.STUDY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true,
+                "처음 소개글", List.of())));
+        matchingId = saved.getMatchingId();
+        jdbcTemplate.update("DELETE FROM matching_outbox");
+    }
+
+    @Test
+    @DisplayName("소개글만 수정하면 매칭 저장 이벤트를 생략한다")
+    void introductionOnlyUpdate_suppressesEvent() {
+        double suppressedBefore = count("suppressed");
+
+        update(matching -> matching.updateIntroduction("수정한 소개글"));
+
+        assertThat(outboxCount()).isZero();
+        assertThat(count("suppressed") - suppressedBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("점수 계산 속성을 수정하면 매칭 저장 이벤트를 발행한다")
+    void scoringAttributeUpdate_publishesEvent() {
+        double publishedBefore = count("published");
+
+        update(matching -> matching.updateLevel(Level.SEEDLING));
+
+        assertThat(outboxCount()).isEqualTo(1);
+        assertThat(count("published") - publishedBefore).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비활성 매칭을 다시 활성화하면 속성이 같아도 매칭 저장 이벤트를 발행한다")
+    void reactivation_publishesEvent() {
+        update(matching -> matching.updateStatus(MatchingStatus.INACTIVE));
+        double publishedBefore = count("published");
+
+        update(matching -> matching.updateStatus(MatchingStatus.ACTIVE));
+
+        assertThat(outboxCount()).isEqualTo(1);
+        assertThat(count("published") - publishedBefore).isEqualTo(1.0);
+    }
+
+    private void update(Consumer<Matching> change) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Matching matching = matchingRepository.findByMatchingId(matchingId).orElseThrow();
+            change.accept(matching);
+            matchingRepository.save(matching);
+        });
+    }
+
+    private double count(String result) {
+        return meterRegistry.counter("matching.event.saved", "result", result).count();
+    }
+
+    private int outboxCount() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM matching_outbox WHERE member_id = ?", Integer.class, MEMBER_ID);
+    }
+}
@@ -0,0 +1,188 @@
+package com.grow.matching_service.matching.infra.index;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingBitsetIndexTest {
+
+    private MatchingBitsetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new MatchingBitsetIndex();
+    }
+
+    @Test
+    @DisplayName("점수 내림차순 정렬 및 본인, 다른 카테고리 제외")
+    void search_orderedByScore() {
+        // given
+        index.apply(snapshot(1L, 1L, Category.STUDY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 0L));
+        index.apply(snapshot(2L, 2L, Category.STUDY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 0L)); // 4점
+        index.apply(snapshot(3L, 3L, Category.STUDY, MostActiveTime.MORNING, Level.BLOOMING, Age.TWENTIES, true, 0L)); // 3점
+        index.apply(snapshot(4L, 4L, Category.HOBBY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 0L)); // 카테고리 불일치
+
+        // when
+        List<MatchingResult> results = index.search(reference(1L, Category.STUDY, Age.TWENTIES));
+
+        // then
+        assertThat(results).extracting(MatchingResult::getMemberId).containsExactly(2L, 3L);
+        assertThat(results).extracting(MatchingResult::getScore).containsExactly(4, 3);
+    }
+
+    @Test
+    @DisplayName("ACTIVE 가 아닌 스냅샷은 인덱스에서 제거되고, 오래된 버전은 무시된다")
+    void apply_removesInactiveAndIgnoresStaleVersion() {
+        // given
+        index.apply(snapshot(2L, 2L, Category.STUDY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 1L));
+        index.apply(snapshot(2L, 2L, Category.STUDY, MostActiveTime.DAWN, Level.SEED, Age.TWENTIES, true, 0L)); // 오래된 버전
+        index.load(snapshot(2L, 2L, Category.STUDY, MostActiveTime.DAWN, Level.SEED, Age.TWENTIES, true, 2L)); // 적재는 덮어쓰지 않음
+
+        // when & then
+        assertThat(index.search(reference(1L, Category.STUDY, Age.TWENTIES)))
+                .extracting(MatchingResult::getScore)
+                .containsExactly(4);
+
+        MatchingSnapshotDto deleted = MatchingSnapshotDto.builder()
+                .matchingId(2L)
+                .memberId(2L)
+                .category(Category.STUDY)
+                .status(MatchingStatus.DELETED)
+                .version(1L) // 물리 삭제는 마지막 수정과 같은 버전
+                .build();
+        index.apply(deleted);
+
+        assertThat(index.search(reference(1L, Category.STUDY, Age.TWENTIES))).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("오래된 제거 스냅샷은 무시되고, 제거된 매칭은 제거 버전 이하의 스냅샷으로 되살아나지 않는다")
+    void apply_keepsTombstoneForRemovedMatching() {
+        // given
+        index.apply(snapshot(2L, 2L, Category.STUDY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 2L));
+        index.apply(status(2L, MatchingStatus.INACTIVE, 1L)); // 오래된 비활성화
+        assertThat(index.size()).isEqualTo(1);
+
+        // when: 비활성화(버전 3) 후 적재 · 지연 이벤트로 같은 버전 이하의 ACTIVE 스냅샷이 도착
+        index.apply(status(2L, MatchingStatus.INACTIVE, 3L));
+        index.load(snapshot(2L, 2L, Category.STUDY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 2L));
+        index.apply(snapshot(2L, 2L, Category.STUDY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 3L));
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.search(reference(1L, Category.STUDY, Age.TWENTIES))).isEmpty();
+
+        // 다시 활성화된(더 최신 버전) 매칭은 반영
+        index.apply(snapshot(2L, 2L, Category.HOBBY, MostActiveTime.MORNING, Level.SEED, Age.TWENTIES, true, 4L));
+        assertThat(index.search(reference(1L, Category.HOBBY, Age.TWENTIES)))
+                .extracting(MatchingResult::getMatchingId)
+                .containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("무작위 데이터에서 SQL 점수 규칙(전수 계산)과 동일한 결과를 반환한다")
+    void search_matchesBruteForce() {
+        // given: 슬롯 재사용과 비트셋 확장이 일어나도록 5,000건 추가 후 일부 삭제
+        Random random = new Random(42);
+        List<MatchingSnapshotDto> active = new ArrayList<>();
+        for (long id = 1; id <= 5000; id++) {
+            MatchingSnapshotDto snapshot = snapshot(id, 1 + random.nextInt(800),
+                    Category.values()[random.nextInt(Category.values().length)],
+                    MostActiveTime.values()[random.nextInt(MostActiveTime.values().length)],
+                    Level.values()[random.nextInt(Level.values().length)],
+                    Age.values()[random.nextInt(Age.values().length)],
+                    random.nextBoolean(), 0L);
+            index.apply(snapshot);
+            active.add(snapshot);
+        }
+        for (int i = 0; i < 1000; i++) {
+            index.remove(active.remove(random.nextInt(active.size())).getMatchingId());
+        }
+
+        for (int i = 0; i < 50; i++) {
+            MatchingQueryDto ref = MatchingQueryDto.builder()
+                    .memberId((long) (1 + random.nextInt(800)))
+                    .category(Category.values()[random.nextInt(Category.values().length)])
+                    .mostActiveTime(MostActiveTime.values()[random.nextInt(MostActiveTime.values().length)])
+                    .level(Level.values()[random.nextInt(Level.values().length)])
+                    .age(Age.values()[random.nextInt(Age.values().length)])
+                    .isAttending(random.nextBoolean())
+                    .build();
+
+            // when
+            List<MatchingResult> results = index.search(ref);
+
+            // then: (matchingId, score) 집합과 점수 내림차순이 동일
+            List<String> expected = active.stream()
+                    .filter(s -> s.getCategory() == ref.getCategory())
+                    .filter(s -> !s.getMemberId().equals(ref.getMemberId()))
+                    .filter(s -> ref.getAge() == Age.NONE || s.getAge() == ref.getAge())
+                    .filter(s -> score(ref, s) >= 1)
+                    .map(s -> s.getMatchingId() + ":" + score(ref, s))
+                    .toList();
+
+            assertThat(results)
+                    .extracting(r -> r.getMatchingId() + ":" + r.getScore())
+                    .containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(results)
+                    .extracting(MatchingResult::getScore)
+                    .isSortedAccordingTo(Comparator.reverseOrder());
+        }
+    }
+
+    private int score(MatchingQueryDto ref, MatchingSnapshotDto s) {
+        return (s.getMostActiveTime() == ref.getMostActiveTime() ? 1 : 0)
+                + (s.getLevel() == ref.getLevel() ? 1 : 0)
+                + (s.getAge() == ref.getAge() ? 1 : 0)
+                + (s.getIsAttending().equals(ref.getIsAttending()) ? 1 : 0);
+    }
+
+    private MatchingQueryDto reference(Long memberId, Category category, Age age) {
+        return MatchingQueryDto.builder()
+                .memberId(memberId)
+                .category(category)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(age)
+                .isAttending(true)
+                .build();
+    }
+
+    private MatchingSnapshotDto status(Long matchingId, MatchingStatus status, long version) {
+        return MatchingSnapshotDto.builder()
+                .matchingId(matchingId)
+                .memberId(matchingId)
+                .category(Category.STUDY)
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    private MatchingSnapshotDto snapshot(Long matchingId, long memberId, Category category,
+                                         MostActiveTime time, Level level, Age age,
+                                         boolean attending, Long version) {
+        return MatchingSnapshotDto.builder()
+                .matchingId(matchingId)
+                .memberId(memberId)
+                .category(category)
+                .mostActiveTime(time)
+                .level(level)
+                .age(age)
+                .isAttending(attending)
+                .status(MatchingStatus.ACTIVE)
+                .version(version)
+                .build();
+    }
+}
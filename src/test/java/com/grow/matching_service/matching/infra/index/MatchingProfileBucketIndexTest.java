@@ -0,0 +1,172 @@
+package com.grow.matching_service.matching.infra.index;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.dto.MatchingSnapshotDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingProfileBucketIndexTest {
+
+    @Test
+    @DisplayName("비트셋 인덱스와 동일한 (matchingId, 점수) 후보를 반환한다")
+    void search_matchesBitsetIndex() {
+        // given: 동일한 변경 이력을 두 인덱스에 반영 (추가, 수정, 삭제)
+        MatchingProfileBucketIndex bucketIndex = new MatchingProfileBucketIndex();
+        MatchingBitsetIndex bitsetIndex = new MatchingBitsetIndex();
+        Random random = new Random(7);
+
+        for (int i = 0; i < 6000; i++) {
+            long matchingId = 1 + random.nextInt(3000);
+            MatchingSnapshotDto snapshot = randomSnapshot(random, matchingId,
+                    random.nextInt(10) == 0 ? MatchingStatus.DELETED : MatchingStatus.ACTIVE, i);
+            bucketIndex.apply(snapshot);
+            bitsetIndex.apply(snapshot);
+        }
+
+        assertThat(bucketIndex.size()).isEqualTo(bitsetIndex.size());
+
+        for (int i = 0; i < 50; i++) {
+            MatchingQueryDto ref = randomReference(random);
+
+            // when
+            List<MatchingResult> bucketResults = bucketIndex.search(ref);
+            List<MatchingResult> bitsetResults = bitsetIndex.search(ref);
+
+            // then
+            assertThat(bucketResults)
+                    .extracting(r -> r.getMatchingId() + ":" + r.getScore())
+                    .containsExactlyInAnyOrderElementsOf(bitsetResults.stream()
+                            .map(r -> r.getMatchingId() + ":" + r.getScore())
+                            .toList());
+        }
+    }
+
+    @Test
+    @DisplayName("필요 인원을 채운 점수 구간에서 방문을 종료한다")
+    void searchTiers_stopsAtBoundaryTier() {
+        // given: 4점 5명, 3점 30명, 2점 30명
+        MatchingProfileBucketIndex index = new MatchingProfileBucketIndex();
+        long id = 1;
+        for (int i = 0; i < 5; i++, id++) {
+            index.apply(snapshot(id, MostActiveTime.MORNING, Level.SEED));
+        }
+        for (int i = 0; i < 30; i++, id++) {
+            index.apply(snapshot(id, MostActiveTime.MORNING, Level.BLOOMING));
+        }
+        for (int i = 0; i < 30; i++, id++) {
+            index.apply(snapshot(id, MostActiveTime.DAWN, Level.BLOOMING));
+        }
+
+        MatchingQueryDto ref = MatchingQueryDto.builder()
+                .memberId(9999L)
+                .category(Category.STUDY)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .build();
+
+        // when
+        List<List<MatchingResult>> tiers = index.searchTiers(ref, 20);
+
+        // then: 4점, 3점 구간만 방문 (2점 구간은 방문하지 않음)
+        assertThat(tiers).hasSize(2);
+        assertThat(tiers.get(0)).hasSize(5).allMatch(r -> r.getScore() == 4);
+        assertThat(tiers.get(1)).hasSize(30).allMatch(r -> r.getScore() == 3);
+    }
+
+    @Test
+    @DisplayName("오래된 스냅샷은 카테고리 매핑과 버킷을 바꾸지 않고, 제거된 매칭을 되살리지 않는다")
+    void apply_checksVersionBeforeChangingEitherStructure() {
+        // given
+        MatchingProfileBucketIndex index = new MatchingProfileBucketIndex();
+        index.apply(versioned(Category.STUDY, MatchingStatus.ACTIVE, 2L));
+
+        // when: 다른 카테고리로 옮기는 오래된 스냅샷과 오래된 삭제
+        index.apply(versioned(Category.HOBBY, MatchingStatus.ACTIVE, 1L));
+        index.apply(versioned(Category.STUDY, MatchingStatus.DELETED, 1L));
+
+        // then: STUDY 버킷에 그대로 남음
+        assertThat(index.search(reference(Category.STUDY))).extracting(MatchingResult::getMatchingId).containsExactly(1L);
+        assertThat(index.search(reference(Category.HOBBY))).isEmpty();
+
+        // when: 삭제(버전 2) 후 같은 버전의 적재 스냅샷
+        index.apply(versioned(Category.STUDY, MatchingStatus.DELETED, 2L));
+        index.load(versioned(Category.STUDY, MatchingStatus.ACTIVE, 2L));
+
+        // then
+        assertThat(index.size()).isZero();
+        assertThat(index.search(reference(Category.STUDY))).isEmpty();
+    }
+
+    private MatchingSnapshotDto versioned(Category category, MatchingStatus status, long version) {
+        return MatchingSnapshotDto.builder()
+                .matchingId(1L)
+                .memberId(1L)
+                .category(category)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    private MatchingQueryDto reference(Category category) {
+        return MatchingQueryDto.builder()
+                .memberId(9999L)
+                .category(category)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .build();
+    }
+
+    private MatchingSnapshotDto snapshot(long matchingId, MostActiveTime time, Level level) {
+        return MatchingSnapshotDto.builder()
+                .matchingId(matchingId)
+                .memberId(matchingId)
+                .category(Category.STUDY)
+                .mostActiveTime(time)
+                .level(level)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .status(MatchingStatus.ACTIVE)
+                .version(0L)
+                .build();
+    }
+
+    private MatchingSnapshotDto randomSnapshot(Random random, long matchingId, MatchingStatus status, long version) {
+        return MatchingSnapshotDto.builder()
+                .matchingId(matchingId)
+                .memberId(matchingId % 700 + 1)
+                .category(Category.values()[(int) (matchingId % Category.values().length)])
+                .mostActiveTime(MostActiveTime.values()[random.nextInt(MostActiveTime.values().length)])
+                .level(Level.values()[random.nextInt(Level.values().length)])
+                .age(Age.values()[random.nextInt(Age.values().length)])
+                .isAttending(random.nextBoolean())
+                .status(status)
+                .version(version)
+                .build();
+    }
+
+    private MatchingQueryDto randomReference(Random random) {
+        return MatchingQueryDto.builder()
+                .memberId((long) (1 + random.nextInt(700)))
+                .category(Category.values()[random.nextInt(Category.values().length)])
+                .mostActiveTime(MostActiveTime.values()[random.nextInt(MostActiveTime.values().length)])
+                .level(Level.values()[random.nextInt(Level.values().length)])
+                .age(Age.values()[random.nextInt(Age.values().length)])
+                .isAttending(random.nextBoolean())
+                .build();
+    }
+}
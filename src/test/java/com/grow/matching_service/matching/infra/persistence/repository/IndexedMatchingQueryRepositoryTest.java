@@ -0,0 +1,121 @@
+package com.grow.matching_service.matching.infra.persistence.repository;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.entity.MatchingJpaEntity;
+import com.grow.matching_service.matching.infra.repository.BitsetMatchingQueryRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 인메모리 인덱스 경로의 재동기화와 introduction 조회 테스트.
+ * 테스트 트랜잭션은 커밋되지 않아 변경 이벤트가 전달되지 않으므로, 다른 인스턴스에서 변경된 상황과 같다.
+ */
+@Transactional
+@SpringBootTest(properties = "matching.query.engine=bitset")
+@ActiveProfiles("test")
+class IndexedMatchingQueryRepositoryTest {
+
+    @Autowired
+    private BitsetMatchingQueryRepository repository;
+
+    @Autowired
+    private EntityManager em;
+
+    private MatchingQueryDto dto;
+    private Long keptId;
+    private Long changedId;
+
+    @BeforeEach
+    void setUp() {
+        keptId = persist(21_001L);
+        changedId = persist(21_002L);
+        em.flush();
+        em.clear();
+
+        dto = MatchingQueryDto.builder()
+                .memberId(21_000L)
+                .category(Category.STUDY)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("resyncIndex: 이벤트로 전달되지 않은 추가 · 비활성화를 DB 기준으로 반영한다")
+    void resyncIndex_reconcilesWithDatabase() {
+        // given: 이벤트 없이 저장된 매칭은 인덱스에 없음
+        assertThat(memberIds()).doesNotContain(21_001L, 21_002L);
+
+        // when: 재동기화로 추가
+        repository.resyncIndex();
+
+        // then
+        assertThat(memberIds()).contains(21_001L, 21_002L);
+
+        // when: 이벤트 없이 비활성화 후 재동기화
+        deactivate(changedId);
+        repository.resyncIndex();
+
+        // then: 비활성화된 매칭은 인덱스에서 제거됨
+        assertThat(memberIds()).contains(21_001L).doesNotContain(21_002L);
+    }
+
+    @Test
+    @DisplayName("findMatchingUsers: 인덱스에 남아 있어도 DB 에서 비활성화된 후보는 제외된다")
+    void findMatchingUsers_dropsCandidateNotActiveInDatabase() {
+        // given: 인덱스 반영 후 재동기화 전에 비활성화
+        repository.resyncIndex();
+        deactivate(changedId);
+
+        // when
+        List<MatchingResult> results = repository.findMatchingUsers(dto);
+
+        // then
+        assertThat(results).extracting(MatchingResult::getMatchingId).contains(keptId).doesNotContain(changedId);
+        assertThat(results).filteredOn(result -> result.getMatchingId().equals(keptId))
+                .extracting(MatchingResult::getIntroduction)
+                .containsExactly("member 21001");
+    }
+
+    private List<Long> memberIds() {
+        return repository.findMatchingUsers(dto).stream()
+                .map(MatchingResult::getMemberId)
+                .toList();
+    }
+
+    private Long persist(Long memberId) {
+        MatchingJpaEntity entity = MatchingJpaEntity.builder()
+                .memberId(memberId)
+                .category(Category.STUDY)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .introduction("member " + memberId)
+                .status(MatchingStatus.ACTIVE)
+                .build();
+        em.persist(entity);
+        return entity.getMatchingId();
+    }
+
+    private void deactivate(Long matchingId) {
+        em.createQuery("update MatchingJpaEntity m set m.status = :status where m.matchingId = :matchingId")
+                .setParameter("status", MatchingStatus.INACTIVE)
+                .setParameter("matchingId", matchingId)
+                .executeUpdate();
+    }
+}
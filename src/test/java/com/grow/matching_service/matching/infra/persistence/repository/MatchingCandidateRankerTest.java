@@ -0,0 +1,182 @@
+package com.grow.matching_service.matching.infra.persistence.repository;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.cache.MemberRankingScript;
+import com.grow.matching_service.matching.infra.cache.MemberSignalLoader;
+import com.grow.matching_service.matching.infra.cache.MemberSignalSnapshot;
+import com.grow.matching_service.matching.infra.cache.MemberSignalStore;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.repository.MatchingCandidateRanker;
+import com.grow.matching_service.matching.presentation.client.MemberSignalClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@SuppressWarnings("unchecked")
+class MatchingCandidateRankerTest {
+
+    private MatchingCandidateRanker ranker;
+    private MemberRankingScript rankingScript;
+    private ValueOperations<String, Double> doubleOps;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        RedisTemplate<String, Boolean> booleanRedisTemplate = mock(RedisTemplate.class);
+        RedisTemplate<String, Double> doubleRedisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, Boolean> booleanOps = mock(ValueOperations.class);
+        doubleOps = mock(ValueOperations.class);
+        when(booleanRedisTemplate.opsForValue()).thenReturn(booleanOps);
+        when(doubleRedisTemplate.opsForValue()).thenReturn(doubleOps);
+
+        // 신뢰도: memberId % 7 (동점 다수), 구독: 짝수 memberId
+        when(doubleOps.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> (double) (memberIdOf(key) % 7)).toList();
+        });
+        when(booleanOps.multiGet(anyList())).thenAnswer(invocation -> {
+            List<String> keys = invocation.getArgument(0);
+            return keys.stream().map(key -> memberIdOf(key) % 2 == 0).toList();
+        });
+
+        rankingScript = mock(MemberRankingScript.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ranker = new MatchingCandidateRanker(
+                new MemberSignalLoader(
+                        new MemberSignalStore(booleanRedisTemplate, doubleRedisTemplate, mock(RedisTemplate.class)),
+                        mock(MemberSignalClient.class), // 모든 회원이 Redis 에 존재 (회원 서비스 호출 없음)
+                        meterRegistry
+                ),
+                rankingScript,
+                mock(MemberSignalSnapshot.class), // 스냅샷 미사용 (Redis 조회)
+                meterRegistry
+        );
+    }
+
+    @Test
+    @DisplayName("크기 제한 힙 선별 결과는 전체 정렬 후 상위 N명과 같다 (여러 번 나눠 전달해도 동일)")
+    void topSelector_equalsSortedPrefix() {
+        // given
+        List<MatchingResult> candidates = candidates(1, 200, 2);
+
+        // when
+        MatchingCandidateRanker.TopCandidateSelector selector = ranker.topSelector(20);
+        selector.offer(candidates.subList(0, 70));
+        selector.offer(candidates.subList(70, 200));
+
+        // then
+        assertThat(selector.result())
+                .extracting(MatchingResult::getMemberId)
+                .containsExactlyElementsOf(ranker.sortCandidatesByTrustAndSubscription(candidates).subList(0, 20)
+                        .stream()
+                        .map(MatchingResult::getMemberId)
+                        .toList());
+    }
+
+    @Test
+    @DisplayName("점수 구간 선별: 상위 구간은 모두 포함하고 경계 구간만 신뢰도 순으로 잘라낸다")
+    void selectTopByScoreTier() {
+        // given: 4점 5명 (신뢰도 낮음), 3점 50명
+        List<MatchingResult> tier4 = candidates(7, 5, 4).stream()
+                .map(c -> result(c.getMemberId() * 7, 4)) // 신뢰도 0
+                .toList();
+        List<MatchingResult> tier3 = candidates(100, 50, 3);
+
+        // when
+        List<MatchingResult> selected = ranker.selectTopByScoreTier(List.of(tier4, tier3), 20);
+
+        // then
+        assertThat(selected).hasSize(20);
+        assertThat(selected.subList(0, 5)).containsExactlyElementsOf(tier4);
+        assertThat(selected.subList(5, 20))
+                .containsExactlyElementsOf(ranker.sortCandidatesByTrustAndSubscription(tier3).subList(0, 15));
+    }
+
+    @Test
+    @DisplayName("서버 측 재정렬 스크립트 실패 시 JVM 정렬 결과로 대체한다")
+    void selectTop_fallsBackToJvmSort() {
+        // given
+        ReflectionTestUtils.setField(ranker, "serverSideRankingEnabled", true);
+        when(rankingScript.rankTop(anyList(), anyInt())).thenThrow(new RedisConnectionFailureException("down"));
+        List<MatchingResult> candidates = candidates(1, 50, 2);
+
+        // when
+        List<MatchingResult> selected = ranker.selectTop(candidates, 20);
+
+        // then
+        assertThat(selected).containsExactlyElementsOf(
+                ranker.sortCandidatesByTrustAndSubscription(candidates).subList(0, 20));
+    }
+
+    @Test
+    @DisplayName("서버 측 재정렬 스크립트가 반환한 위치 순서대로 후보를 선별한다")
+    void selectTop_usesScriptPositions() {
+        // given
+        ReflectionTestUtils.setField(ranker, "serverSideRankingEnabled", true);
+        when(rankingScript.rankTop(anyList(), anyInt())).thenReturn(List.of(3, 0, 2));
+        List<MatchingResult> candidates = candidates(1, 5, 2);
+
+        // when
+        List<MatchingResult> selected = ranker.selectTop(candidates, 3);
+
+        // then
+        assertThat(selected).containsExactly(candidates.get(3), candidates.get(0), candidates.get(2));
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 지연 예산을 넘기면 유사도 점수 순 상위 후보를 반환하고 메트릭을 기록한다")
+    void selectTop_degradesToScoreOrderWhenBudgetExceeded() {
+        // given: 신뢰도 조회가 1초 걸리는 Redis, 예산 50ms
+        ReflectionTestUtils.setField(ranker, "budgetMillis", 50L);
+        when(doubleOps.multiGet(anyList())).thenAnswer(invocation -> {
+            Thread.sleep(1000);
+            return List.of();
+        });
+        List<MatchingResult> candidates = candidates(1, 50, 2);
+
+        // when
+        long start = System.nanoTime();
+        List<MatchingResult> selected = ranker.selectTop(candidates, 20);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then: 점수 순(입력 순) 상위 20명, 예산 근처에서 반환
+        assertThat(selected).containsExactlyElementsOf(candidates.subList(0, 20));
+        assertThat(elapsedMillis).isLessThan(500);
+        assertThat(meterRegistry.counter("matching.ranking.degraded", "reason", "timeout").count()).isEqualTo(1);
+
+        // 실패 직후에는 Redis 조회를 건너뜀
+        assertThat(ranker.sortCandidatesByTrustAndSubscription(candidates)).containsExactlyElementsOf(candidates);
+        assertThat(meterRegistry.counter("matching.ranking.degraded", "reason", "cooldown").count()).isEqualTo(1);
+    }
+
+    private List<MatchingResult> candidates(long firstMemberId, int count, int score) {
+        List<MatchingResult> candidates = new ArrayList<>();
+        for (long memberId = firstMemberId; memberId < firstMemberId + count; memberId++) {
+            candidates.add(result(memberId, score));
+        }
+        return candidates;
+    }
+
+    private MatchingResult result(long memberId, int score) {
+        return new MatchingResult(memberId, memberId, Category.STUDY, MostActiveTime.MORNING, Level.SEED,
+                Age.TWENTIES, true, "intro", MatchingStatus.ACTIVE, score);
+    }
+
+    private static long memberIdOf(String key) {
+        return Long.parseLong(key.substring(key.lastIndexOf(':') + 1));
+    }
+}
@@ -7,6 +7,7 @@ import com.grow.matching_service.matching.domain.enums.Age;
 import com.grow.matching_service.matching.domain.enums.Category;
 import com.grow.matching_service.matching.domain.enums.Level;
 import com.grow.matching_service.matching.infra.entity.MatchingJpaEntity;
+import com.grow.matching_service.matching.infra.repository.MatchingCandidateRanker;
 import com.grow.matching_service.matching.infra.repository.MatchingQueryRepositoryImpl;
 import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
@@ -17,12 +18,16 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 
 import java.util.List;
 
 import static com.grow.matching_service.matching.domain.enums.Age.TWENTIES;
 import static com.grow.matching_service.matching.domain.enums.MostActiveTime.*;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
 
 @Slf4j
 @Transactional
@@ -36,6 +41,9 @@ class MatchingQueryRepositoryImplTest {
     @Autowired
     private MatchingQueryRepositoryImpl repository;
 
+    @MockitoSpyBean
+    private MatchingCandidateRanker candidateRanker; // 1단계 조회와 hydrate 사이 시점 재현용
+
     private MatchingJpaEntity baseEntity;
     MatchingQueryDto dto;
 
@@ -120,4 +128,46 @@ class MatchingQueryRepositoryImplTest {
         assertThat(results.get(0).getScore()).isEqualTo(4);
         assertThat(results.get(1).getScore()).isEqualTo(3);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("findMatchingUsers: 1단계 조회 이후 비활성화된 후보는 hydrate 단계에서 제외된다")
+    void testFindMatchingUsers_dropsCandidateDeactivatedBeforeHydrate() {
+        // given: 20명 초과 후보 (재정렬 단계를 거치도록)
+        for (long memberId = 2; memberId <= 22; memberId++) {
+            em.persist(MatchingJpaEntity.builder()
+                    .memberId(memberId)
+                    .category(baseEntity.getCategory())
+                    .mostActiveTime(baseEntity.getMostActiveTime())
+                    .level(baseEntity.getLevel())
+                    .age(baseEntity.getAge())
+                    .isAttending(baseEntity.getIsAttending())
+                    .introduction("match" + memberId)
+                    .status(MatchingStatus.ACTIVE)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        // 재정렬 시점(1단계 조회 이후, hydrate 이전)에 첫 번째 후보를 비활성화하고 앞의 20명을 선별
+        Long[] deactivated = new Long[1];
+        doAnswer(invocation -> {
+            List<MatchingResult> candidates = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            deactivated[0] = candidates.getFirst().getMatchingId();
+            em.createQuery("update MatchingJpaEntity m set m.status = :status where m.matchingId = :matchingId")
+                    .setParameter("status", MatchingStatus.INACTIVE)
+                    .setParameter("matchingId", deactivated[0])
+                    .executeUpdate();
+            return candidates.subList(0, limit);
+        }).when(candidateRanker).selectTop(anyList(), anyInt());
+
+        // when
+        List<MatchingResult> results = repository.findMatchingUsers(dto);
+
+        // then: 선별된 20명 중 비활성화된 후보만 제외됨
+        assertThat(deactivated[0]).isNotNull();
+        assertThat(results).hasSize(19);
+        assertThat(results).extracting(MatchingResult::getMatchingId).doesNotContain(deactivated[0]);
+        assertThat(results).allMatch(result -> result.getStatus() == MatchingStatus.ACTIVE);
+    }
+}
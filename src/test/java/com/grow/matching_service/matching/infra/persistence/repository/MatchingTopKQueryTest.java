@@ -0,0 +1,178 @@
+package com.grow.matching_service.matching.infra.persistence.repository;
+
+import com.grow.matching_service.matching.domain.enums.*;
+import com.grow.matching_service.matching.infra.dto.MatchingQueryDto;
+import com.grow.matching_service.matching.infra.dto.MatchingResult;
+import com.grow.matching_service.matching.infra.entity.MatchingJpaEntity;
+import com.grow.matching_service.matching.infra.repository.MatchingQueryRepositoryImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.transaction.Transactional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongFunction;
+import java.util.stream.LongStream;
+
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.SUB_KEY;
+import static com.grow.matching_service.matching.infra.cache.MemberSignalStore.TRUST_KEY;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 점수 구간별 LIMIT 조회({@link MatchingQueryRepositoryImpl#findTopMatchingUsers(MatchingQueryDto, int)}) 테스트.
+ * 경계 구간 선별은 Redis 신뢰도 점수를 사용하므로 후보 전원의 신뢰도/구독 여부를 미리 저장해 회원 서비스 조회를 막는다.
+ * 스냅샷에 남은 값과 섞이지 않도록 테스트마다 다른 memberId 범위를 사용한다.
+ */
+@Transactional
+@SpringBootTest
+@ActiveProfiles("test")
+class MatchingTopKQueryTest {
+
+    private static final int LIMIT = 20;
+
+    @Autowired
+    private MatchingQueryRepositoryImpl repository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private RedisTemplate<String, Double> doubleRedisTemplate;
+
+    @Autowired
+    private RedisTemplate<String, Boolean> booleanRedisTemplate;
+
+    private MatchingQueryDto dto;
+
+    @BeforeEach
+    void setUp() {
+        doubleRedisTemplate.getConnectionFactory().getConnection().flushDb();
+
+        dto = MatchingQueryDto.builder()
+                .memberId(1L)
+                .category(Category.STUDY)
+                .mostActiveTime(MostActiveTime.MORNING)
+                .level(Level.SEED)
+                .age(Age.TWENTIES)
+                .isAttending(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("findTopMatchingUsers: 남은 자리에 들어가는 구간은 신뢰도 조회 없이 점수 · matchingId 순으로 모두 포함된다")
+    void tiersThatFit_areIncludedInScoreOrder() {
+        // given: 4점 3명, 3점 5명 (신뢰도 미저장 - 경계 구간이 없으므로 조회하지 않음)
+        persistAll(11_001, 11_003, 4);
+        persistAll(11_101, 11_105, 3);
+
+        // when
+        List<MatchingResult> results = repository.findTopMatchingUsers(dto, LIMIT);
+
+        // then
+        assertThat(results).extracting(MatchingResult::getMemberId)
+                .containsExactly(11_001L, 11_002L, 11_003L, 11_101L, 11_102L, 11_103L, 11_104L, 11_105L);
+        assertThat(results).extracting(MatchingResult::getScore)
+                .containsExactly(4, 4, 4, 3, 3, 3, 3, 3);
+        assertThat(results).allMatch(result -> result.getIntroduction() != null); // 전체 컬럼 조회
+    }
+
+    @Test
+    @DisplayName("findTopMatchingUsers: 남은 자리와 같은 크기의 구간은 경계 구간으로 보지 않는다")
+    void tierOfExactlyRemaining_fitsWithoutBoundarySelection() {
+        // given: 4점 20명, 3점 1명 (신뢰도 미저장)
+        persistAll(12_001, 12_020, 4);
+        persistAll(12_101, 12_101, 3);
+
+        // when
+        List<MatchingResult> results = repository.findTopMatchingUsers(dto, LIMIT);
+
+        // then: 4점 구간 전체가 matchingId 순으로 포함되고, 3점 구간은 조회되지 않음
+        assertThat(results).extracting(MatchingResult::getMemberId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(12_001, 12_020).boxed().toList());
+    }
+
+    @Test
+    @DisplayName("findTopMatchingUsers: 20명 경계를 넘는 구간은 신뢰도 순 상위 후보만 남은 자리만큼 선별된다")
+    void tierCrossingLimit_isSelectedByTrust() {
+        // given: 4점 15명, 3점 10명 (3점 구간에서 5자리 선별)
+        persistAll(13_001, 13_015, 4);
+        persistAll(13_101, 13_110, 3);
+        seedSignals(13_001, 13_015, memberId -> 0.0);
+        seedSignals(13_101, 13_110, memberId -> (double) (memberId - 13_100)); // 13_110 이 가장 높음
+
+        // when
+        List<MatchingResult> results = repository.findTopMatchingUsers(dto, LIMIT);
+
+        // then
+        assertThat(results).hasSize(LIMIT);
+        assertThat(results.subList(0, 15)).extracting(MatchingResult::getMemberId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(13_001, 13_015).boxed().toList());
+        assertThat(results.subList(15, LIMIT)).extracting(MatchingResult::getMemberId)
+                .containsExactly(13_110L, 13_109L, 13_108L, 13_107L, 13_106L);
+        assertThat(results.subList(15, LIMIT)).allMatch(result -> result.getScore() == 3);
+    }
+
+    @Test
+    @DisplayName("findTopMatchingUsers: 경계 구간이 페이지 크기(500)보다 크면 다음 페이지 후보까지 선별 대상이 된다")
+    void boundaryTierLargerThanPage_readsEveryPage() {
+        // given: 4점 520명, 가장 높은 신뢰도는 마지막(두 번째 페이지) 후보
+        persistAll(14_001, 14_520, 4);
+        seedSignals(14_001, 14_520, memberId -> {
+            if (memberId == 14_520) {
+                return 1000.0;
+            }
+            return memberId < 14_020 ? 100.0 - (memberId - 14_000) : 0.0; // 14_001 ~ 14_019: 99 ~ 81
+        });
+
+        // when
+        List<MatchingResult> results = repository.findTopMatchingUsers(dto, LIMIT);
+
+        // then
+        assertThat(results).hasSize(LIMIT);
+        assertThat(results.getFirst().getMemberId()).isEqualTo(14_520L);
+        assertThat(results.subList(1, LIMIT)).extracting(MatchingResult::getMemberId)
+                .containsExactlyElementsOf(LongStream.rangeClosed(14_001, 14_019).boxed().toList());
+    }
+
+    /**
+     * memberId 범위의 후보를 저장한다. (memberId 순으로 저장하므로 matchingId 순서와 같음)
+     *
+     * @param from  시작 memberId (포함)
+     * @param to    끝 memberId (포함)
+     * @param score 유사도 점수 (4: 전부 일치, 3: level 불일치)
+     */
+    private void persistAll(long from, long to, int score) {
+        for (long memberId = from; memberId <= to; memberId++) {
+            em.persist(MatchingJpaEntity.builder()
+                    .memberId(memberId)
+                    .category(Category.STUDY)
+                    .mostActiveTime(MostActiveTime.MORNING)
+                    .level(score == 4 ? Level.SEED : Level.BLOOMING)
+                    .age(Age.TWENTIES)
+                    .isAttending(true)
+                    .introduction("member " + memberId)
+                    .status(MatchingStatus.ACTIVE)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+    }
+
+    private void seedSignals(long from, long to, LongFunction<Double> trustScore) {
+        Map<String, Double> trustScores = new HashMap<>();
+        Map<String, Boolean> subscriptions = new HashMap<>();
+        for (long memberId = from; memberId <= to; memberId++) {
+            trustScores.put(TRUST_KEY + memberId, trustScore.apply(memberId));
+            subscriptions.put(SUB_KEY + memberId, false);
+        }
+        doubleRedisTemplate.opsForValue().multiSet(trustScores);
+        booleanRedisTemplate.opsForValue().multiSet(subscriptions);
+    }
+}
@@ -0,0 +1,180 @@
+package com.grow.matching_service.matching.presentation.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.grow.matching_service.matching.application.dto.NotificationRequestDto;
+import com.grow.matching_service.matching.application.dto.NotificationResultDto;
+import com.grow.matching_service.matching.application.event.MatchingNotificationFanout;
+import com.grow.matching_service.matching.application.service.queue.QueueService;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+class NotificationBatchClientTest {
+
+    private static final long FAILING_MEMBER_ID = 3L;
+    private static final int RECIPIENTS_PER_EVENT = 21; // 본인 1 + 상대방 20
+    private static final WireMockServer notificationService = startNotificationService();
+
+    @Autowired
+    private NotificationServiceClient notificationServiceClient;
+
+    @Autowired
+    private MatchingNotificationFanout notificationFanout;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @MockitoBean
+    private QueueService queueService;
+
+    private static WireMockServer startNotificationService() {
+        WireMockServer server = new WireMockServer(options()
+                .dynamicPort()
+                .extensions(new NotificationBatchStandIn(Set.of(FAILING_MEMBER_ID))));
+        server.start();
+        return server;
+    }
+
+    @DynamicPropertySource
+    static void notificationServiceUrl(DynamicPropertyRegistry registry) {
+        registry.add("notification.service.url", notificationService::baseUrl);
+    }
+
+    @AfterAll
+    static void stopNotificationService() {
+        notificationService.stop();
+    }
+
+    @BeforeEach
+    void setUp() {
+        notificationService.resetAll();
+        circuitBreakerRegistry.circuitBreaker("notificationCircuitBreaker").reset();
+        stubNotificationService(0);
+    }
+
+    @Test
+    @DisplayName("일괄 전송은 요청 1회로 항목별 결과를 uuid 와 함께 반환한다")
+    void sendNotifications_returnsPerItemResults() {
+        List<NotificationRequestDto> requests = requests(5);
+
+        List<NotificationResultDto> results = notificationServiceClient.sendNotifications("batch-1", requests);
+
+        assertThat(results).extracting(NotificationResultDto::getUuid)
+                .containsExactlyElementsOf(requests.stream().map(NotificationRequestDto::getUuid).toList());
+        assertThat(results).filteredOn(result -> result.getStatus() == NotificationResultDto.Status.FAILED)
+                .extracting(NotificationResultDto::getUuid)
+                .containsExactly(requests.get((int) FAILING_MEMBER_ID - 1).getUuid());
+        notificationService.verify(1, postRequestedFor(urlEqualTo("/notifications/batch"))
+                .withHeader(NotificationServiceClient.IDEMPOTENCY_KEY_HEADER, equalTo("batch-1")));
+    }
+
+    @Test
+    @DisplayName("일괄 요청이 실패해 재시도되면 같은 멱등 키로 다시 보낸다")
+    void sendNotifications_retriesWithSameIdempotencyKey() {
+        notificationService.stubFor(post(urlEqualTo("/notifications/batch"))
+                .inScenario("retry").whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("recovered"));
+        notificationService.stubFor(post(urlEqualTo("/notifications/batch"))
+                .inScenario("retry").whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(200).withTransformers(NotificationBatchStandIn.NAME)));
+
+        notificationFanout.send(requests(RECIPIENTS_PER_EVENT));
+
+        List<String> keys = notificationService.findAll(postRequestedFor(urlEqualTo("/notifications/batch"))).stream()
+                .map(request -> request.getHeader(NotificationServiceClient.IDEMPOTENCY_KEY_HEADER))
+                .toList();
+        assertThat(keys).hasSize(2).doesNotContainNull();
+        assertThat(keys.get(1)).isEqualTo(keys.get(0));
+        verify(queueService, times(1)).enqueueNotification(any()); // 재시도가 성공하여 실패 항목만 저장
+    }
+
+    @Test
+    @DisplayName("이벤트당 일괄 요청 1회로 전송하고 실패 항목만 재시도 큐에 저장한다")
+    void fanout_sendsOneBatchPerEventAndEnqueuesOnlyFailures() {
+        List<NotificationRequestDto> requests = requests(RECIPIENTS_PER_EVENT);
+
+        notificationFanout.send(requests);
+
+        notificationService.verify(1, postRequestedFor(urlEqualTo("/notifications/batch")));
+        notificationService.verify(0, postRequestedFor(urlEqualTo("/notifications")));
+        verify(queueService).enqueueNotification(requests.get((int) FAILING_MEMBER_ID - 1));
+        verify(queueService, times(1)).enqueueNotification(any());
+    }
+
+    @Test
+    @DisplayName("처리량 비교: 일괄 전송은 이벤트당 요청 1회로 건별 전송보다 요청 수가 적다")
+    void throughput_batchVersusPerItem() {
+        int events = 5;
+        stubNotificationService(20); // 요청당 20ms 지연
+
+        long perItemMillis;
+        long batchMillis;
+        try {
+            ReflectionTestUtils.setField(notificationFanout, "batchEnabled", false);
+            perItemMillis = timeEvents(events);
+            ReflectionTestUtils.setField(notificationFanout, "batchEnabled", true);
+            batchMillis = timeEvents(events);
+        } finally {
+            ReflectionTestUtils.setField(notificationFanout, "batchEnabled", true);
+        }
+
+        // 소요 시간은 실행 환경에 따라 달라지므로 참고용으로만 기록
+        log.info("[throughput] 이벤트 {}건 x 수신자 {}명 - 건별: {}ms, 일괄: {}ms",
+                events, RECIPIENTS_PER_EVENT, perItemMillis, batchMillis);
+        notificationService.verify(events * RECIPIENTS_PER_EVENT, postRequestedFor(urlEqualTo("/notifications")));
+        notificationService.verify(events, postRequestedFor(urlEqualTo("/notifications/batch")));
+    }
+
+    private long timeEvents(int events) {
+        long start = System.nanoTime();
+        for (int i = 0; i < events; i++) {
+            notificationFanout.send(requests(RECIPIENTS_PER_EVENT));
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private void stubNotificationService(int delayMillis) {
+        notificationService.stubFor(post(urlEqualTo("/notifications"))
+                .willReturn(aResponse().withStatus(200).withFixedDelay(delayMillis)));
+        notificationService.stubFor(post(urlEqualTo("/notifications/batch"))
+                .willReturn(aResponse()
+                        .withStatus(200)
+                        .withFixedDelay(delayMillis)
+                        .withTransformers(NotificationBatchStandIn.NAME)));
+    }
+
+    private static List<NotificationRequestDto> requests(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(memberId -> NotificationRequestDto.builder()
+                        .memberId(memberId)
+                        .content("매칭 알림")
+                        .notificationType("MATCH_SUCCESS")
+                        .build())
+                .toList();
+    }
+}
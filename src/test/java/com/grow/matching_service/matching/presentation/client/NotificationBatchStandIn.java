@@ -0,0 +1,62 @@
+package com.grow.matching_service.matching.presentation.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.grow.matching_service.matching.application.dto.NotificationResultDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알림 서비스 일괄 전송(/notifications/batch) 계약의 WireMock 대역.
+ * 요청 본문의 항목마다 uuid 로 결과를 만들어 반환하며, 지정한 회원 ID 는 FAILED 로 응답합니다.
+ * 스텁에 {@code withTransformers(NotificationBatchStandIn.NAME)}을 지정한 경우에만 적용됩니다.
+ */
+class NotificationBatchStandIn implements ResponseDefinitionTransformerV2 {
+
+    static final String NAME = "notification-batch-stand-in";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Set<Long> failingMemberIds;
+
+    NotificationBatchStandIn(Set<Long> failingMemberIds) {
+        this.failingMemberIds = failingMemberIds;
+    }
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        try {
+            List<NotificationResultDto> results = new ArrayList<>();
+            for (JsonNode item : objectMapper.readTree(serveEvent.getRequest().getBodyAsString())) {
+                boolean failing = failingMemberIds.contains(item.path("memberId").asLong());
+                results.add(NotificationResultDto.builder()
+                        .uuid(item.path("uuid").asText())
+                        .status(failing ? NotificationResultDto.Status.FAILED : NotificationResultDto.Status.DELIVERED)
+                        .reason(failing ? "수신 거부" : null)
+                        .build());
+            }
+            return ResponseDefinitionBuilder.like(serveEvent.getResponseDefinition()).but()
+                    .withHeader("Content-Type", "application/json")
+                    .withBody(objectMapper.writeValueAsString(results))
+                    .build();
+        } catch (JsonProcessingException e) {
+            return ResponseDefinitionBuilder.responseDefinition().withStatus(400).withBody(e.getMessage()).build();
+        }
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+}